@@ -77,8 +77,7 @@ public class BitcoinListener {
 			}
 		});
 
-		c.connect();
-		Thread.sleep(1000);
+		c.connect().get();
 		System.out.println("Press [enter] to exit");
 		System.in.read();
 		c.disconnect();
@@ -9,12 +9,10 @@
 package bitcoinlistener;
 
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
-import bitcoinlistener.util.ByteUtil;
 import bitcoinlistener.util.MyBuffer;
 
 /**
@@ -23,6 +21,9 @@ import bitcoinlistener.util.MyBuffer;
  */
 public class BitcoinBuffer extends MyBuffer {
 
+	/** Maximum length accepted for data read from the wire (same limit used by Bitcoin Core) */
+	public static final int MAX_SIZE = 0x02000000;
+
 	// =============================================================================================
 	// CONSTRUCTORS                                                                                
 	// =============================================================================================
@@ -43,52 +44,121 @@ public class BitcoinBuffer extends MyBuffer {
 		data.writeToBuffer(this);
 	}
 
-	public <T extends ProtocolData> T getData(Class<T> clazz) {
-		try {
-			T obj = clazz.newInstance();
-			obj.loadFromBuffer(this);
-			return obj;
-		} catch (InstantiationException e) {
-			throw new RuntimeException(e);
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException(e);
-		}
+	public <T extends ProtocolData> T getData(Supplier<T> factory) {
+		T obj = factory.get();
+		obj.loadFromBuffer(this);
+		return obj;
 	}
 	
-	public void putVarInt(BigInteger v) {
-		byte[] varIntBytes = BitcoinBuffer.getVarInt(v);
-		buf.put(varIntBytes);
+	/**
+	 * Writes a CompactSize unsigned integer (var_int).
+	 *
+	 * @param v value (interpreted as unsigned)
+	 */
+	public void putVarInt(long v) {
+		if (v >= 0 && v < 0xFD) {
+			putByte((byte) v);
+		} else if (v >= 0 && v <= 0xFFFF) {
+			ensureCapacityFor(3);
+			buf.put((byte) 0xFD);
+			putLittleEndian(v, 2);
+		} else if (v >= 0 && v <= 0xFFFFFFFFL) {
+			ensureCapacityFor(5);
+			buf.put((byte) 0xFE);
+			putLittleEndian(v, 4);
+		} else {
+			ensureCapacityFor(9);
+			buf.put((byte) 0xFF);
+			putLittleEndian(v, 8);
+		}
 	}
-	
-	public void putVarInt(int v) {
-		putVarInt(BigInteger.valueOf(v));
+
+	/**
+	 * @deprecated use {@link #putVarInt(long)}
+	 */
+	@Deprecated
+	public void putVarInt(BigInteger v) {
+		putVarInt(v.longValue());
 	}
-	
+
+	/**
+	 * @deprecated use {@link #getVarIntAsLong()}
+	 */
+	@Deprecated
 	public BigInteger getVarInt() {
-		return readVarInt(buf);
+		return BigInteger.valueOf(getVarIntAsLong());
 	}
-	
+
+	/**
+	 * Reads a CompactSize unsigned integer (var_int).
+	 *
+	 * @return the value read
+	 * @throws BitcoinListenerException if the value is not minimally encoded or does not fit in a
+	 *                                  signed long
+	 */
 	public long getVarIntAsLong() {
-		return getVarInt().longValue();
+		int first = Byte.toUnsignedInt(buf.get());
+		long value;
+		long min;
+		if (first < 0xFD) {
+			return first;
+		} else if (first == 0xFD) {
+			// 0xFD followed by the length as uint16_t
+			value = getLittleEndian(2);
+			min = 0xFD;
+		} else if (first == 0xFE) {
+			// 0xFE followed by the length as uint32_t
+			value = getLittleEndian(4);
+			min = 0x10000L;
+		} else {
+			// 0xFF followed by the length as uint64_t
+			value = getLittleEndian(8);
+			min = 0x100000000L;
+			if (value < 0) {
+				throw new BitcoinListenerException("CompactSize too large: " +
+												   Long.toUnsignedString(value));
+			}
+		}
+		if (value < min) {
+			throw new BitcoinListenerException("Non-canonical CompactSize: " + value);
+		}
+		return value;
 	}
-	
+
+	/**
+	 * Reads a CompactSize that must fit in an int no bigger than {@link #MAX_SIZE}.
+	 */
 	public int getVarIntAsInt() {
-		return (int) getVarInt().longValue();
+		long value = getVarIntAsLong();
+		if (value > MAX_SIZE) {
+			throw new BitcoinListenerException("CompactSize too large: " + value);
+		}
+		return (int) value;
 	}
-	
-	public <T extends ProtocolData> List<T> getVector(Class<T> clazz) {
-		try {
-			List<T> result = new ArrayList<T>();
-			long size = getVarIntAsLong();
-			for (long x = 0; x < size; x++) {
-				T obj = clazz.newInstance();
-				obj.loadFromBuffer(this);
-				result.add(obj);
-			}
-			return result;
-		} catch (Exception e) {
-			throw new RuntimeException(e);
+
+	/**
+	 * Reads a CompactSize used as the length of the data that follows (number of bytes or number
+	 * of elements of a vector). As every element takes at least one byte, a length larger than the
+	 * remaining bytes is rejected before anything is allocated for it.
+	 */
+	public int getVarIntAsLength() {
+		int value = getVarIntAsInt();
+		if (value > remaining()) {
+			throw new BitcoinListenerException("Length " + value + " exceeds remaining " +
+											   remaining() + " bytes");
 		}
+		return value;
+	}
+
+	public <T extends ProtocolData> List<T> getVector(Supplier<T> factory) {
+		int size = getVarIntAsLength();
+		List<T> result = new ArrayList<T>(size);
+		for (int x = 0; x < size; x++) {
+			T obj = factory.get();
+			obj.loadFromBuffer(this);
+			result.add(obj);
+		}
+		return result;
 	}
 	
 	public <T extends ProtocolData> void putVector(List<T> list) {
@@ -106,69 +176,17 @@ public class BitcoinBuffer extends MyBuffer {
 	// AUXILIARY METHODS
 	// =============================================================================================
 	
-	private static BigInteger readVarInt(ByteBuffer buf) {
-		ByteOrder old = buf.order();
-		
-		buf.order(ByteOrder.LITTLE_ENDIAN);
-		
-		int vli = Byte.toUnsignedInt(buf.get());
-		
-		BigInteger result = null;
-		
-		if (vli < 0xFD) {
-			return BigInteger.valueOf(vli);
-
-		} else if (vli == 0xFD) {
-			// 0xFD followed by the length as uint16_t
-			char len = buf.getChar();
-			return BigInteger.valueOf((long) len);
-
-		} else if (vli == 0xFE) {
-			// 0xFE followed by the length as uint32_t
-			byte[] arr = new byte[4];
-			buf.get(arr);
-			ByteUtil.invertArray(arr); // BigInteger requires big endian
-			result = new BigInteger(arr);
-
-		} else if (vli == 0xFF) {
-			// 0xFF followed by the length as uint64_t
-			byte[] arr = new byte[8];
-			buf.get(arr);
-			ByteUtil.invertArray(arr); // BigInteger requires big endian
-			result = new BigInteger(arr);
-
-		} else {
-			throw new RuntimeException();
+	private long getLittleEndian(int numBytes) {
+		long value = 0;
+		for (int x = 0; x < numBytes; x++) {
+			value |= (buf.get() & 0xFFL) << (8 * x);
 		}
-		
-		buf.order(old);
-		return result;
+		return value;
 	}
-	
-	private static byte[] getVarInt(BigInteger v) {
-		if (v.compareTo(BigInteger.valueOf(0xFD)) < 0) {
-			return new byte[] { (byte) v.longValue() };
-			
-		} else if (v.compareTo(BigInteger.valueOf(0xFFFF)) <= 0) {
-			ByteBuffer buf = ByteBuffer.allocate(Character.BYTES + 1);
-			buf.order(ByteOrder.LITTLE_ENDIAN);
-			buf.put((byte) 0xFD);
-			buf.putChar((char) v.longValue());
-			return buf.array();
-
-		} else if (v.compareTo(BigInteger.valueOf(0xFFFFFFFFL)) <= 0) {
-			ByteBuffer buf = ByteBuffer.allocate(5);
-			buf.order(ByteOrder.LITTLE_ENDIAN);
-			buf.put((byte) 0xFE);
-			buf.put(ByteUtil.slice(v.toByteArray(), 1, 4));
-			return buf.array();
 
-		} else {
-			ByteBuffer buf = ByteBuffer.allocate(9);
-			buf.order(ByteOrder.LITTLE_ENDIAN);
-			buf.put((byte) 0xFF);
-			buf.put(ByteUtil.slice(v.toByteArray(), 1, 8));
-			return buf.array();
+	private void putLittleEndian(long value, int numBytes) {
+		for (int x = 0; x < numBytes; x++) {
+			buf.put((byte) (value >>> (8 * x)));
 		}
 	}
 }
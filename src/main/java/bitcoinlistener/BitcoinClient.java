@@ -9,7 +9,9 @@
 package bitcoinlistener;
 
 import bitcoinlistener.ConnectionListener.ConnectionEvent;
+import bitcoinlistener.datatypes.BlockHeader;
 import bitcoinlistener.datatypes.InvObject;
+import bitcoinlistener.datatypes.SHA256Hash;
 import bitcoinlistener.datatypes.TxIn;
 import bitcoinlistener.datatypes.TxOut;
 import bitcoinlistener.messages.*;
@@ -17,16 +19,16 @@ import bitcoinlistener.util.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.Socket;
-import java.net.SocketException;
-import java.nio.ByteOrder;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -38,28 +40,93 @@ public class BitcoinClient implements BitcoinConnection {
 	public static final int MY_VERSION = 70015; // Bitcoin Core 0.13.2 (Jan 2017)
 	private static final String MY_SUBVERSION = "/bitcoinlistener:0.0.1/";
 	public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.0001;
-	private static final int HEADER_SIZE = 4 + 12 + 4 + 4; // magic + cmd + payloadSize + checkcum
-	private static Map<String, Class<? extends ProtocolMessage>> protocolMessages;
+	public static final int DEFAULT_WIRE_TRACE_MAX_BYTES = 256;
+	public static final long DEFAULT_SEND_QUEUE_MAX_BYTES = 4 * 1024 * 1024;
+	public static final long DEFAULT_SEND_BLOCK_TIMEOUT_MILLIS = 30_000;
+	public static final long DEFAULT_CONNECT_TIMEOUT_MILLIS = 10_000;
+	public static final long DEFAULT_HANDSHAKE_TIMEOUT_MILLIS = 20_000;
+	public static final int DEFAULT_KNOWN_INVENTORY_ENTRIES = 20_000;
+	public static final double DEFAULT_KNOWN_INVENTORY_FALSE_POSITIVE_RATE = 0.00001;
 
-	static {
-		// Defines supported protocol messages
-		protocolMessages = new HashMap<>();
-		protocolMessages.put("version", VersionMessage.class);
-		protocolMessages.put("inv", InvMessage.class);
-		protocolMessages.put("ping", PingMessage.class);
-		protocolMessages.put("tx", TxMessage.class);
-		protocolMessages.put("verack", VerackMessage.class);
-		protocolMessages.put("block", BlockMessage.class);
-		protocolMessages.put("merkleblock", MerkleBlockMessage.class);
+	/** Compact block version supported: short ids of transaction ids without witness data */
+	public static final long COMPACT_BLOCKS_VERSION = 1;
+	private static final int MIN_COMPACT_BLOCKS_PROTOVER = 70014;
+
+	/** Compact blocks waiting for missing transactions */
+	private static final int MAX_PARTIAL_BLOCKS = 8;
+
+	private static final int MIN_SEND_HEADERS_PROTOVER = 70012;
+
+	/** Block hashes whose header was passed to the header listeners */
+	private static final int MAX_RECENT_HEADERS = 256;
+
+	/** Expires the connection attempts of all clients (and the requests of peer groups) */
+	static final ScheduledThreadPoolExecutor TIMER = newTimer();
+
+	/** Checks rebuilt blocks when verification of received blocks is disabled */
+	private static final BlockVerifier DEFAULT_VERIFIER = new BlockVerifier();
+
+	/**
+	 * Stages of a connection. The handshake advances as messages are received and
+	 * {@link #connect()} completes when {@link #READY} is reached.
+	 */
+	public enum ConnectionState {
+		/** No connection */
+		DISCONNECTED,
+		/** Establishing the TCP connection */
+		CONNECTING,
+		/** TCP connection established */
+		CONNECTED,
+		/** Our version sent */
+		VERSION_SENT,
+		/** Version of the peer received and acknowledged */
+		VERSION_RECEIVED,
+		/** Our version acknowledged by the peer */
+		VERACK_RECEIVED,
+		/** Bloom filter sent to the peer (only when filtering) */
+		FILTER_LOADED,
+		/** Handshake done */
+		READY
+	}
+
+	/**
+	 * What is logged (at DEBUG) about each message sent or received.
+	 */
+	public enum WireTraceMode {
+		/** Nothing */
+		OFF,
+		/** Command and payload size */
+		HEADERS,
+		/** Command, payload size and the payload in hex, up to a maximum number of bytes */
+		FULL
+	}
+
+	/**
+	 * What happens to a message sent when the outbound queue of the connection is full, i.e. the
+	 * peer is not reading as fast as we send. Control messages (pong, verack) are always queued.
+	 */
+	public enum SendOverflowPolicy {
+		/**
+		 * The sender waits for space, up to a timeout, after which the connection is closed.
+		 * A sender that cannot wait (a loop thread of a {@link NioEventLoopGroup}, e.g. replying
+		 * to a ping) is treated as with {@link #FAIL}: the message is discarded and the
+		 * connection kept.
+		 */
+		BLOCK,
+		/** The message is discarded and the sender gets an exception */
+		FAIL,
+		/** The message is discarded and the connection is closed */
+		DISCONNECT
 	}
 
 	// =============================================================================================
 
-	private BitcoinBuffer buffer = new BitcoinBuffer(1000);
-	private int protover = 209;
+	private volatile int protover = 209;
 	private NetworkParameters params;
-	private OutputStream out;
-	private Socket sock;
+	private final MessageEncoder encoder;
+	private volatile Transport transport;
+	private NioEventLoopGroup eventLoopGroup;
+	private final MessageRegistry registry = new MessageRegistry();
 	private String ip;
 	private int port;
 	private BloomFilter filter;
@@ -67,7 +134,59 @@ public class BitcoinClient implements BitcoinConnection {
 	private FilterConfig filterConfig;
 	private List<TransactionListener> txListeners = new CopyOnWriteArrayList<>();
 	private List<BlockListener> blockListeners = new CopyOnWriteArrayList<>();
+	private List<HeaderListener> headerListeners = new CopyOnWriteArrayList<>();
+	private List<BlockVisitor> blockVisitors = new CopyOnWriteArrayList<>();
+	private volatile BlockVerifier blockVerifier = new BlockVerifier();
+	private volatile Executor blockHashExecutor;
+	private volatile EventRing eventRing;
+	private boolean ownsEventRing;
+	private volatile PeerGroup peerGroup;
+	private final RequestScheduler requestScheduler = new RequestScheduler(this);
+	private volatile TxPool txPool = new TxPool();
+	private volatile boolean compactBlocks = true;
+	private volatile boolean compactHighBandwidth = true;
+	private volatile boolean peerCompactBlocks;
+	private volatile boolean sendHeaders = true;
+
+	/** Guarded by itself (request timeouts are handled on the timer) */
+	private final Map<SHA256Hash, PartialBlock> partialBlocks =
+			new LinkedHashMap<SHA256Hash, PartialBlock>(16, 0.75f, false) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<SHA256Hash, PartialBlock> eldest) {
+					if (size() <= MAX_PARTIAL_BLOCKS) {
+						return false;
+					}
+					log.warn("Too many compact blocks incomplete, requesting {}", eldest.getKey());
+					requestFullBlock(eldest.getKey());
+					return true;
+				}
+			};
+
+	/** Only used by the thread reading the connection */
+	private final Map<SHA256Hash, Boolean> recentHeaders =
+			new LinkedHashMap<SHA256Hash, Boolean>(16, 0.75f, false) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<SHA256Hash, Boolean> eldest) {
+					return size() > MAX_RECENT_HEADERS;
+				}
+			};
+
+	/** Objects already received, which are not requested again */
+	private volatile RollingBloomFilter knownInventory = new RollingBloomFilter(
+			DEFAULT_KNOWN_INVENTORY_ENTRIES, DEFAULT_KNOWN_INVENTORY_FALSE_POSITIVE_RATE);
 	private List<ConnectionListener> connListeners = new CopyOnWriteArrayList<>();
+	private volatile WireTraceMode wireTraceMode = WireTraceMode.HEADERS;
+	private volatile int wireTraceMaxBytes = DEFAULT_WIRE_TRACE_MAX_BYTES;
+	private volatile long sendQueueMaxBytes = DEFAULT_SEND_QUEUE_MAX_BYTES;
+	private volatile SendOverflowPolicy sendOverflowPolicy = SendOverflowPolicy.BLOCK;
+	private volatile long sendBlockTimeoutMillis = DEFAULT_SEND_BLOCK_TIMEOUT_MILLIS;
+	private volatile long connectTimeoutMillis = DEFAULT_CONNECT_TIMEOUT_MILLIS;
+	private volatile long handshakeTimeoutMillis = DEFAULT_HANDSHAKE_TIMEOUT_MILLIS;
+	private volatile ConnectionState state = ConnectionState.DISCONNECTED;
+
+	/** Completed when the current connection is ready */
+	private volatile CompletableFuture<BitcoinClient> handshake;
+	private volatile ScheduledFuture<?> timeout;
 
 	/**
 	 * The services supported by the transmitting node encoded as a bitfield
@@ -75,7 +194,12 @@ public class BitcoinClient implements BitcoinConnection {
 	private long services;
 
 	/**
-	 * Indicates whether both peers have exchanged their version
+	 * Indicates whether the peer has sent its version
+	 */
+	private volatile boolean versionReceived = false;
+
+	/**
+	 * Indicates whether the peer has acknowledged our version
 	 */
 	private volatile boolean verackReceived = false;
 
@@ -96,129 +220,309 @@ public class BitcoinClient implements BitcoinConnection {
 		this.ip = ip;
 		this.port = port;
 		this.params = net;
+		this.encoder = new MessageEncoder(net.getMagicValue());
 
 		this.filterConfig = new FilterConfig();
 		this.filterConfig.setFalsePositiveRate(DEFAULT_FALSE_POSITIVE_RATE);
+		registerDefaultMessages();
+	}
+
+	/**
+	 * Creates a client whose connection is served by one of the threads of the given group
+	 * instead of a dedicated reader thread.
+	 *
+	 * @param eventLoopGroup group of non-blocking event loops shared by several clients
+	 */
+	public BitcoinClient(String ip, int port, NetworkParameters net,
+						 NioEventLoopGroup eventLoopGroup) {
+		this(ip, port, net);
+		this.eventLoopGroup = eventLoopGroup;
 	}
 
 	// =============================================================================================
 	// OPERATIONS
 	// =============================================================================================
 
-	public void connect() throws Exception {
-		this.shutdownRequested = false;
-		this.verackReceived = false;
+	/**
+	 * Starts connecting to the node and returns at once. The version is sent as soon as the TCP
+	 * connection is established, and the handshake advances as the peer answers.
+	 *
+	 * @return future completed with this client when the connection is {@link
+	 * ConnectionState#READY}, or exceptionally if it fails, times out or is closed before. If a
+	 * connection is already open or in progress, its future is returned.
+	 */
+	public CompletableFuture<BitcoinClient> connect() {
 		lock.lock();
 		try {
+			if (state != ConnectionState.DISCONNECTED) {
+				return handshake;
+			}
+			this.shutdownRequested = false;
+			this.versionReceived = false;
+			this.verackReceived = false;
+			this.handshake = new CompletableFuture<>();
+			if (this.eventRing == null) {
+				this.eventRing = new EventRing();
+				this.ownsEventRing = true;
+			}
 			log.info("Connecting to node {}:{} ...", ip, port);
 			log.info("Network: {}", params.getName());
-			this.sock = new Socket(ip, port);
-			log.info("Connected successfully!");
-			fireConnectionEvent(ConnectionListener.ConnectionEvent.Connected);
-			this.out = sock.getOutputStream();
-		} finally {
-			lock.unlock();
-		}
-
-		// Start reading loop on another thread
-		new Thread(() -> {
+			this.transport = newTransport();
+			setState(ConnectionState.CONNECTING);
+			scheduleTimeout(connectTimeoutMillis, "connecting");
 			try {
-				readData();
-			} catch (SocketException e) {
-				if (!shutdownRequested) {
-					log.error("Error reading data", e);
-				}
-			} catch (Exception e) {
-				log.error("Error reading data", e);
-			} finally {
-				try {  out.close(); } catch (IOException e) { }
-				try { this.sock.close(); } catch (IOException e1) { }
-				log.info("Disconnected from {}:{}", ip, port);
-				fireConnectionEvent(ConnectionEvent.Disconnected);
+				this.transport.open();
+			} catch (IOException | RuntimeException e) {
+				cancelTimeout();
+				setState(ConnectionState.DISCONNECTED);
+				handshake.completeExceptionally(
+						new BitcoinListenerException("Error connecting to " + ip + ":" + port, e));
 			}
-		}).start();
-
-		Thread.sleep(500L);
-
-		filterLock.lock();
-		try {
-			// Send relay=false when filtering
-			boolean filtering = hasFilter();
-			log.info("Sending version message ...");
-			sendMessage(new VersionMessage(MY_VERSION, MY_SUBVERSION, !filtering));
-		} catch (Exception e) {
-			throw new BitcoinListenerException("Error sending version", e);
+			return handshake;
 		} finally {
-			filterLock.unlock();
+			lock.unlock();
 		}
 	}
 
 
+	/**
+	 * Sends a message to the peer. May be called from any thread.
+	 * <p>
+	 * The message is queued and written by the transport. Control messages are sent ahead of
+	 * the others. When the queue is full the {@link SendOverflowPolicy} applies.
+	 */
 	public void sendMessage(ProtocolMessage msg) {
-		/*
-		 * Message structure
-		 * Field Size 	Description 	Data type
-		 * 4             magic          uint32_t
-		 * 12            command        char[12]
-		 * 4             length         uint32_t
-		 * 4             checksum       uint32_t
-		 * ?             payload        uchar[]
-		 */
+		Transport transport = this.transport;
+		if (transport == null) {
+			throw new BitcoinListenerException("Not connected");
+		}
+		MessageEncoder.Frame frame = encoder.encode(msg, this.protover >= 209);
+		traceMessage("Sending", msg.getCommand(), frame.getData(), frame.getPayloadOffset(),
+					 frame.getLength() - frame.getPayloadOffset());
+		transport.write(frame.getData(), 0, frame.getLength(), isControl(msg.getCommand()),
+						frame::release);
+	}
 
-		String command = msg.getCommand();
-		buffer.clear();
+	/**
+	 * Queues a message only if the outbound queue has room, so the caller never waits (e.g. on
+	 * the timer shared by all the clients).
+	 *
+	 * @return false if the queue is full or the connection closed (the message is discarded)
+	 */
+	boolean offerMessage(ProtocolMessage msg) {
+		Transport transport = this.transport;
+		if (transport == null) {
+			return false;
+		}
+		MessageEncoder.Frame frame = encoder.encode(msg, this.protover >= 209);
+		traceMessage("Sending", msg.getCommand(), frame.getData(), frame.getPayloadOffset(),
+					 frame.getLength() - frame.getPayloadOffset());
+		return transport.offer(frame.getData(), 0, frame.getLength(), frame::release);
+	}
 
-		buffer.setEndianness(ByteOrder.BIG_ENDIAN);
+	/**
+	 * Registers a protocol message so that it is deserialized and passed to the given handler
+	 * when received. A registration for a command already supported replaces the built-in one.
+	 *
+	 * @param command command of the message (at most 12 ASCII characters)
+	 * @param factory creates an empty message to be loaded from the payload
+	 * @param handler invoked with each message received
+	 */
+	public <T extends ProtocolMessage> void registerMessage(String command, Supplier<T> factory,
+															MessageHandler<? super T> handler) {
+		registry.register(command, factory, handler);
+	}
 
-		buffer.putBytes(params.getMagicValue());
-		buffer.putBytes(command.getBytes());
-		int zeros = 12 - command.length();
-		for (int x = 0; x < zeros; x++) {
-			buffer.putByte((byte) 0);
-		}
+	public void addTransactionListener(TransactionListener txListener) {
+		txListeners.add(txListener);
+	}
 
-		byte[] buf = msg.getBytes();
+	public void addBlockListener(BlockListener blockListener) {
+		blockListeners.add(blockListener);
+	}
 
-		buffer.setEndianness(ByteOrder.LITTLE_ENDIAN);
-		buffer.putUint32(buf.length);
-		buffer.setEndianness(ByteOrder.BIG_ENDIAN);
+	/**
+	 * Adds a listener that receives the header of each new block before the block itself. It is
+	 * invoked on the thread that reads the connection, so it must return quickly.
+	 */
+	public void addHeaderListener(HeaderListener headerListener) {
+		headerListeners.add(headerListener);
+	}
 
-		if (this.protover >= 209) {
-			byte[] checksum = new byte[4];
-			System.arraycopy(HashUtil.sha256(HashUtil.sha256(buf)), 0, checksum, 0, 4);
-			buffer.putBytes(checksum);
-		}
+	/**
+	 * Sets whether the peer is asked to announce new blocks with their headers (sendheaders)
+	 * instead of an inv, which passes the header to the header listeners one round trip earlier.
+	 * Enabled by default. Applies to connections opened afterwards.
+	 */
+	public void setSendHeaders(boolean sendHeaders) {
+		this.sendHeaders = sendHeaders;
+	}
 
-		buffer.putBytes(buf);
+	/**
+	 * Adds a visitor that receives the contents of every full block straight from the payload,
+	 * without building the list of transactions. Visitors are invoked before block listeners.
+	 */
+	public void addBlockVisitor(BlockVisitor blockVisitor) {
+		blockVisitors.add(blockVisitor);
+	}
+
+	/**
+	 * Sets the verifier that checks the merkle root of full blocks before they are passed to
+	 * visitors and listeners. Blocks that don't match are dropped. Null disables verification.
+	 */
+	public void setBlockVerifier(BlockVerifier blockVerifier) {
+		this.blockVerifier = blockVerifier;
+	}
 
-		byte[] arr = buffer.toArrayExactSize();
+	/**
+	 * Sets an executor that hashes the transactions of full blocks in batches while the payload
+	 * is parsed. By default they are hashed on the thread that reads the connection.
+	 */
+	public void setBlockHashExecutor(Executor blockHashExecutor) {
+		this.blockHashExecutor = blockHashExecutor;
+	}
 
+	/**
+	 * Sets the ring through which received transactions and blocks are passed to listeners and
+	 * visitors, off the thread that reads the connection. A ring may be shared by several
+	 * clients. By default each client creates its own ring (with one consumer thread) when it
+	 * connects, and shuts it down on {@link #disconnect()}.
+	 */
+	public void setEventRing(EventRing eventRing) {
 		lock.lock();
 		try {
-			log.debug("+++ Sending message '{}': {}", command, ByteUtil.toHexString(arr));
-			try {
-				this.out.write(arr);
-				this.out.flush();
-			} catch (IOException e) {
-				throw new BitcoinListenerException("Error sending message to socket", e);
+			if (ownsEventRing) {
+				this.eventRing.shutdown();
 			}
+			this.eventRing = eventRing;
+			this.ownsEventRing = false;
 		} finally {
 			lock.unlock();
 		}
 	}
 
-	public void addTransactionListener(TransactionListener txListener) {
-		txListeners.add(txListener);
+	/**
+	 * Returns the ring dispatching the events of this client (null before the first connection
+	 * if none was set).
+	 */
+	public EventRing getEventRing() {
+		return this.eventRing;
 	}
 
-	public void addBlockListener(BlockListener blockListener) {
-		blockListeners.add(blockListener);
+	/**
+	 * Sets the size of the filter of objects already received, which are not requested again
+	 * when announced (e.g. after a reconnection). The filter uses a fixed amount of memory and
+	 * remembers at least the given number of most recent objects.
+	 */
+	public void setKnownInventory(int maxEntries, double falsePositiveRate) {
+		this.knownInventory = new RollingBloomFilter(maxEntries, falsePositiveRate);
+	}
+
+	/**
+	 * Returns the filter of objects already received. Its hits are the
+	 * announcements ignored because the object was known.
+	 */
+	public RollingBloomFilter getKnownInventory() {
+		return this.knownInventory;
+	}
+
+	/**
+	 * Enables compact blocks (BIP 152): new blocks are received as a header and short
+	 * transaction ids, and rebuilt from the {@link TxPool} requesting only the transactions
+	 * missing. Used only without a bloom filter and with peers that support version
+	 * {@value #COMPACT_BLOCKS_VERSION}; otherwise full blocks are requested. Enabled by default,
+	 * in high-bandwidth mode. Applies to connections opened afterwards.
+	 *
+	 * @param enabled       whether compact blocks are requested
+	 * @param highBandwidth whether the peer is asked to send new blocks as compact blocks right
+	 *                      away, without announcing them first (lower latency). In a
+	 *                      {@link PeerGroup}, only the first
+	 *                      {@value PeerGroup#MAX_HIGH_BANDWIDTH_PEERS} peers connected are.
+	 */
+	public void setCompactBlocks(boolean enabled, boolean highBandwidth) {
+		this.compactBlocks = enabled;
+		this.compactHighBandwidth = highBandwidth;
+	}
+
+	/**
+	 * Sets the pool of recent transactions used to rebuild compact blocks (e.g. one shared by
+	 * the clients connected to several peers).
+	 */
+	public void setTxPool(TxPool txPool) {
+		this.txPool = txPool;
+	}
+
+	public TxPool getTxPool() {
+		return this.txPool;
+	}
+
+	/**
+	 * Sets how announced objects are requested.
+	 *
+	 * @param coalesceMillis       time announcements are collected before a getdata is sent
+	 * @param maxWindow            maximum number of transactions requested and not received
+	 * @param requestTimeoutMillis time the peer has to answer a request
+	 * @see RequestScheduler
+	 */
+	public void setRequestScheduling(long coalesceMillis, int maxWindow,
+									 long requestTimeoutMillis) {
+		requestScheduler.configure(coalesceMillis, maxWindow, requestTimeoutMillis);
+	}
+
+	/**
+	 * Returns the scheduler of the getdata requests, whose counters and window can be monitored.
+	 */
+	public RequestScheduler getRequestScheduler() {
+		return this.requestScheduler;
+	}
+
+	/**
+	 * Makes this client a member of a group, which decides which announced objects it requests.
+	 */
+	void setPeerGroup(PeerGroup peerGroup) {
+		this.peerGroup = peerGroup;
+	}
+
+	/**
+	 * Sets the maximum time to establish the TCP connection and then to complete the handshake.
+	 * When exceeded the connection is closed. Applies to connections opened afterwards.
+	 */
+	public void setTimeouts(long connectTimeoutMillis, long handshakeTimeoutMillis) {
+		this.connectTimeoutMillis = connectTimeoutMillis;
+		this.handshakeTimeoutMillis = handshakeTimeoutMillis;
 	}
 
 	public void addConnectionListener(ConnectionListener connListener) {
 		connListeners.add(connListener);
 	}
 
+	/**
+	 * Sets what is logged about each message sent or received. Messages are only traced when
+	 * DEBUG is enabled for this class.
+	 *
+	 * @param mode     what is logged
+	 * @param maxBytes maximum number of payload bytes dumped in {@link WireTraceMode#FULL} mode
+	 */
+	public void setWireTrace(WireTraceMode mode, int maxBytes) {
+		this.wireTraceMode = mode;
+		this.wireTraceMaxBytes = maxBytes;
+	}
+
+	/**
+	 * Sets the maximum number of bytes waiting to be sent to the peer and what happens when it
+	 * is reached. Applies to connections opened afterwards.
+	 *
+	 * @param maxBytes           maximum number of bytes queued
+	 * @param policy             what happens to a message that doesn't fit
+	 * @param blockTimeoutMillis maximum time a sender waits with {@link SendOverflowPolicy#BLOCK}
+	 */
+	public void setSendQueueLimit(long maxBytes, SendOverflowPolicy policy,
+								  long blockTimeoutMillis) {
+		this.sendQueueMaxBytes = maxBytes;
+		this.sendOverflowPolicy = policy;
+		this.sendBlockTimeoutMillis = blockTimeoutMillis;
+	}
+
 	@Override
 	public void setFilterList(Collection<String> addresses) {
 		// FIXME implement message filterclear !!!
@@ -268,7 +572,13 @@ public class BitcoinClient implements BitcoinConnection {
 		lock.lock();
 		try {
 			this.shutdownRequested = true;
-			this.sock.close();
+			this.transport.close();
+			if (ownsEventRing) {
+				// events already queued are still dispatched
+				this.eventRing.shutdown();
+				this.eventRing = null;
+				this.ownsEventRing = false;
+			}
 		} finally {
 			lock.unlock();
 		}
@@ -278,7 +588,7 @@ public class BitcoinClient implements BitcoinConnection {
 	public boolean isConnected() {
 		lock.lock();
 		try {
-			return this.sock.isConnected();
+			return this.transport != null && this.transport.isOpen();
 		} finally {
 			lock.unlock();
 		}
@@ -309,176 +619,553 @@ public class BitcoinClient implements BitcoinConnection {
 		return this.services;
 	}
 
+	public ConnectionState getState() {
+		return this.state;
+	}
+
 	// =============================================================================================
 	// AUXILIARY METHODS
 	// =============================================================================================
 
-	private void readData() throws Exception {
-		ByteArrayOutputStream recvBuf = new ByteArrayOutputStream(1024);
-		byte[] buf = new byte[1024];
-		InputStream in = sock.getInputStream();
-		int i = 0;
+	/**
+	 * Whether the message keeps the connection alive and is sent ahead of bulk traffic.
+	 */
+	private static boolean isControl(String command) {
+		return command.equals("pong") || command.equals("verack") || command.equals("version");
+	}
 
-		log.info("Starting to read data ...");
+	private static ScheduledThreadPoolExecutor newTimer() {
+		ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+			Thread t = new Thread(r, "bitcoinlistener-timer");
+			t.setDaemon(true);
+			return t;
+		});
+		timer.setRemoveOnCancelPolicy(true);
+		return timer;
+	}
 
-		moredata:
-		while ((i = in.read(buf)) != -1 && !shutdownRequested) {
+	private Transport newTransport() {
+		FrameDecoder decoder = new FrameDecoder(params.getMagicValue(), this::onMessageReceived);
+		Transport[] owner = new Transport[1];
+		Transport.Handler handler = new Transport.Handler() {
+			@Override
+			public void onConnected() {
+				if (owner[0] == transport) {
+					BitcoinClient.this.onConnected();
+				}
+			}
 
-			log.debug("Bytes read: {}", i);
-			log.debug("Data read ({} bytes): {}", i,
-					  ByteUtil.toHexString(ByteUtil.slice(buf, 0, i)));
+			@Override
+			public void onData(byte[] data, int offset, int length) throws Exception {
+				if (log.isTraceEnabled()) {
+					log.trace("Data read ({} bytes): {}", length,
+							  LazyHex.of(data, offset, length, wireTraceMaxBytes));
+				}
+				decoder.feed(data, offset, length);
+			}
 
-			recvBuf.write(buf, 0, i);
+			@Override
+			public void onClosed(Throwable cause) {
+				// ignores a transport replaced by a new connection
+				if (owner[0] == transport) {
+					BitcoinClient.this.onClosed(cause);
+				}
+			}
+		};
+
+		OutboundQueue queue = new OutboundQueue(sendQueueMaxBytes, sendOverflowPolicy,
+												sendBlockTimeoutMillis);
+		if (eventLoopGroup != null) {
+			owner[0] = eventLoopGroup.newTransport(ip, port, handler, queue);
+		} else {
+			owner[0] = new SocketTransport(ip, port, handler, queue);
+		}
+		return owner[0];
+	}
 
-			while (!shutdownRequested) {
-				int pos = 0;
+	// =============================================================================================
 
-				if (recvBuf.size() < HEADER_SIZE) {
-					log.debug("Awaiting more data ...");
-					continue moredata;
-				}
+	private void setState(ConnectionState newState) {
+		if (log.isDebugEnabled()) {
+			log.debug("Connection {}:{} {} -> {}", ip, port, state, newState);
+		}
+		this.state = newState;
+	}
 
-				byte[] arr = recvBuf.toByteArray();
+	/**
+	 * Closes the current connection if it is not ready within the given time.
+	 */
+	private void scheduleTimeout(long millis, String stage) {
+		cancelTimeout();
+		CompletableFuture<BitcoinClient> future = this.handshake;
+		Transport t = this.transport;
+		this.timeout = TIMER.schedule(() -> {
+			BitcoinListenerException ex = new BitcoinListenerException(
+					"Timeout " + stage + " to " + ip + ":" + port + " (" + millis + " ms)");
+			if (future.completeExceptionally(ex)) {
+				log.warn(ex.getMessage());
+				t.close();
+			}
+		}, millis, TimeUnit.MILLISECONDS);
+	}
 
-				// MAGIC BYTES (4)
-				byte[] magicValue = params.getMagicValue();
-				if (!ByteUtil.compareArray(arr, 0, magicValue, magicValue.length)) {
-					log.error("MAGIC BYTES ERROR: {}", ByteUtil.toHexString(arr));
-					throw new RuntimeException("Magic bytes doens't match!");
-				}
-				pos += params.getMagicValue().length; // 4
+	private void cancelTimeout() {
+		ScheduledFuture<?> t = this.timeout;
+		if (t != null) {
+			t.cancel(false);
+		}
+	}
 
-				byte[] command = ByteUtil.slice(arr, pos, 12); // COMMAND (12)
+	private void onConnected() {
+		log.info("Connected successfully!");
+		setState(ConnectionState.CONNECTED);
+		scheduleTimeout(handshakeTimeoutMillis, "waiting for handshake");
+		requestScheduler.start();
+		peerCompactBlocks = false;
+		synchronized (partialBlocks) {
+			partialBlocks.clear();
+		}
+		fireConnectionEvent(ConnectionEvent.Connected);
 
-				String cmd = new String(command, 0, ByteUtil.findByte(command, (byte) 0));
-				log.debug("Command received: {}", cmd);
-				pos += 12;
+		filterLock.lock();
+		try {
+			// Send relay=false when filtering
+			boolean filtering = hasFilter();
+			log.info("Sending version message ...");
+			setState(ConnectionState.VERSION_SENT);
+			sendMessage(new VersionMessage(MY_VERSION, MY_SUBVERSION, !filtering));
+		} finally {
+			filterLock.unlock();
+		}
+	}
 
-				// PAYLOAD SIZE (4)
-				int payloadSize = ByteUtil.intFromBytes(ByteUtil.slice(arr, pos, 4));
-				log.debug("Payload size: {} ", payloadSize);
-				pos += 4;
+	private void onClosed(Throwable cause) {
+		ConnectionState last = this.state;
+		cancelTimeout();
+		requestScheduler.reset();
+		setState(ConnectionState.DISCONNECTED);
+		if (cause != null && !shutdownRequested) {
+			log.error(last == ConnectionState.CONNECTING ? "Error connecting" : "Error reading data",
+					  cause);
+		}
+		handshake.completeExceptionally(cause != null ?
+				new BitcoinListenerException("Connection to " + ip + ":" + port + " failed", cause) :
+				new BitcoinListenerException("Connection to " + ip + ":" + port + " closed"));
+		if (last != ConnectionState.CONNECTING) {
+			log.info("Disconnected from {}:{}", ip, port);
+			fireConnectionEvent(ConnectionEvent.Disconnected);
+		}
+	}
 
-				// CHECKSUM (4)
-				// FIXME verify checksum
-				pos += 4;
+	/**
+	 * Invoked once both versions were exchanged: loads the bloom filter and completes the
+	 * future returned by {@link #connect()}.
+	 */
+	private void completeHandshake() {
+		if (hasFilter()) {
+			sendBloomFilter();
+			setState(ConnectionState.FILTER_LOADED);
+		}
+		if (sendHeaders && protover >= MIN_SEND_HEADERS_PROTOVER) {
+			sendMessage(new SendHeadersMessage());
+		}
+		if (compactBlocks && !hasFilter() && protover >= MIN_COMPACT_BLOCKS_PROTOVER) {
+			// in a group, only a few peers may push blocks unannounced
+			PeerGroup group = this.peerGroup;
+			boolean highBandwidth = compactHighBandwidth
+									&& (group == null || group.claimHighBandwidth(this));
+			sendMessage(new SendCmpctMessage(highBandwidth, COMPACT_BLOCKS_VERSION));
+		}
+		cancelTimeout();
+		setState(ConnectionState.READY);
+		log.info("Connection to {}:{} ready", ip, port);
+		fireConnectionEvent(ConnectionEvent.Ready);
+		handshake.complete(this);
+	}
 
-				if (pos + payloadSize > arr.length) {
-					log.debug("Awaiting more data ...");
-					continue moredata;
-				}
+	private void registerDefaultMessages() {
+		registry.register("version", VersionMessage::new, (m, conn) -> onVersion(m));
+		registry.register("verack", VerackMessage::new, (m, conn) -> onVerack());
+		registry.register("inv", InvMessage::new, (m, conn) -> onInv(m));
+		registry.register("ping", PingMessage::new, (m, conn) -> onPing(m));
+		registry.register("tx", TxMessage::new, (m, conn) -> onTx(m));
+		registry.register("block", () -> new BlockMessage(blockHashExecutor), (m, conn) -> onBlock(m));
+		registry.register("merkleblock", MerkleBlockMessage::new, (m, conn) -> onMerkleBlock(m));
+		registry.register("notfound", NotFoundMessage::new, (m, conn) -> onNotFound(m));
+		registry.register("headers", HeadersMessage::new, (m, conn) -> onHeaders(m));
+		registry.register("sendcmpct", SendCmpctMessage::new, (m, conn) -> onSendCmpct(m));
+		registry.register("cmpctblock", CmpctBlockMessage::new, (m, conn) -> onCmpctBlock(m));
+		registry.register("blocktxn", BlockTxnMessage::new, (m, conn) -> onBlockTxn(m));
+	}
 
-				byte[] message = ByteUtil.slice(arr, pos, payloadSize);
-				onMessageReceived(cmd, message);
-				pos += payloadSize;
+	private void onMessageReceived(byte[] header, byte[] message) throws Exception {
+		if (log.isDebugEnabled()) {
+			traceMessage("Received", FrameDecoder.getCommand(header), message, 0, message.length);
+		}
 
-				// put the remaining bytes on recvBuf
-				recvBuf.reset();
-				recvBuf.write(arr, pos, arr.length - pos);
-				log.debug("Remaining bytes to be read: {}",
-						  ByteUtil.toHexString(recvBuf.toByteArray()));
+		MessageRegistry.Entry<?> entry = registry.lookup(header, FrameDecoder.COMMAND_OFFSET);
+		if (entry == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("Message '{}' not supported", FrameDecoder.getCommand(header));
 			}
+			return;
 		}
-	}
 
-	private void onMessageReceived(String cmd, byte[] message) throws Exception {
-		BitcoinBuffer messageBuffer = new BitcoinBuffer(message);
-		log.debug("Message '{}' received ({}): {}", cmd, message.length,
-				  ByteUtil.toHexString(message));
+		entry.dispatch(new BitcoinBuffer(message), this);
+	}
 
-		Class<? extends ProtocolMessage> clazz = protocolMessages.get(cmd);
-		if (clazz == null) {
-			log.debug("Message '{}' not supported", cmd);
+	private void onVerack() {
+		if (verackReceived) {
 			return;
 		}
+		verackReceived = true;
+		fireConnectionEvent(ConnectionEvent.Verack);
+		setState(ConnectionState.VERACK_RECEIVED);
+		if (versionReceived) {
+			completeHandshake();
+		}
+	}
 
-		ProtocolMessage m = clazz.newInstance();
-		m.loadFromBuffer(messageBuffer);
+	private void onVersion(VersionMessage v) {
+		if (versionReceived) {
+			return;
+		}
+		this.services = v.getServices();
+		log.info("Peer: {}", this.getIp());
+		log.info("Peer services: {}", this.services);
+		log.info("Peer last block received: {}",  v.getStartHeight());
+		log.info("Peer Bloom filtering supported: {}", isBloomFilteringSupported());
+		this.protover = Math.min(v.getVersion(), MY_VERSION);
+		versionReceived = true;
+		if (this.protover < 209) {
+			// older peers don't acknowledge the version
+			completeHandshake();
+			return;
+		}
+		if (!verackReceived) {
+			setState(ConnectionState.VERSION_RECEIVED);
+		}
+		sendMessage(new VerackMessage());
+		if (verackReceived) {
+			completeHandshake();
+		}
+	}
 
-		if (m instanceof VerackMessage) {
-			verackReceived = true;
-			fireConnectionEvent(ConnectionEvent.Verack);
-			sendBloomFilter();
+	private void onInv(InvMessage inv) {
+		if (log.isDebugEnabled()) {
+			for (InvObject invObj : inv.getInvObjs()) {
+				log.debug("Inv object received: {}", invObj);
+			}
+		}
+		requestAnnounced(inv.getInvObjs());
+	}
 
-		} else if (m instanceof VersionMessage) {
-			VersionMessage v = (VersionMessage) m;
-			this.services = v.getServices();
-			log.info("Peer: {}", this.getIp());
-			log.info("Peer services: {}", this.services);
-			log.info("Peer last block received: {}",  v.getStartHeight());
-			log.info("Peer Bloom filtering supported: {}", isBloomFilteringSupported());
-			this.protover = Math.min(v.getVersion(), MY_VERSION);
-			if (this.protover >= 209) {
-				sendMessage(new VerackMessage());
+	private void onHeaders(HeadersMessage headers) {
+		List<InvObject> announced = new ArrayList<>(headers.getHeaders().size());
+		for (BlockHeader header : headers.getHeaders()) {
+			if (!announceHeader(header)) {
+				continue; // not requested either
 			}
+			announced.add(new InvObject(InvObject.InventoryType.MSG_BLOCK, header.getHash()));
+		}
+		requestAnnounced(announced);
+	}
 
-		} else if (m instanceof InvMessage) {
-			List<InvObject> list = ((InvMessage) m).getInvObjs();
-			GetDataMessage getdata = new GetDataMessage();
-			for (InvObject invObj : list) {
-				log.debug("Inv object received: {}", invObj);
-				if (invObj.getType() == InvObject.InventoryType.MSG_TX) {
-					getdata.addObject(invObj);
-				} else if (invObj.getType() == InvObject.InventoryType.MSG_BLOCK) {
-					if (hasFilter()) {
-						invObj.setType(InvObject.InventoryType.MSG_FILTERED_BLOCK);
-					}
-					getdata.addObject(invObj);
+	/**
+	 * Requests the announced transactions and blocks not requested or received yet.
+	 */
+	private void requestAnnounced(List<InvObject> list) {
+		List<InvObject> requested = new ArrayList<>(list.size());
+		PeerGroup group = this.peerGroup;
+		RollingBloomFilter known = this.knownInventory;
+		for (InvObject invObj : list) {
+			if (invObj.getType() == InvObject.InventoryType.MSG_BLOCK) {
+				if (hasFilter()) {
+					invObj.setType(InvObject.InventoryType.MSG_FILTERED_BLOCK);
+				} else if (compactBlocks && peerCompactBlocks) {
+					invObj.setType(InvObject.InventoryType.MSG_CMPCT_BLOCK);
 				}
+			} else if (invObj.getType() != InvObject.InventoryType.MSG_TX) {
+				continue;
 			}
-			if (getdata.hasObjects()) {
-				sendMessage(getdata);
+			if (known.contains(invObj.getHash())) {
+				continue; // already received
 			}
-
-		} else if (m instanceof PingMessage) {
-			PingMessage ping = (PingMessage) m;
-			if (ping.hasNonce()) {
-				sendMessage(new PongMessage(ping.getNonce()));
+			// already requested: skipped by the scheduler (or the group, which requests each
+			// object from only one of the peers that announced it)
+			if (group == null || group.claim(this, invObj)) {
+				requested.add(invObj);
 			}
+		}
+		if (!requested.isEmpty()) {
+			requestScheduler.request(requested);
+		}
+	}
+
+	private void onNotFound(NotFoundMessage notFound) {
+		if (log.isDebugEnabled()) {
+			log.debug("Objects not found: {}", notFound.getInvObjs());
+		}
+		requestScheduler.onNotFound(notFound.getInvObjs());
+	}
+
+	/**
+	 * Invoked by the scheduler when a request timed out or was answered with notfound, and when
+	 * the block received is invalid.
+	 */
+	void onRequestFailed(InvObject inv) {
+		PartialBlock partial;
+		synchronized (partialBlocks) {
+			partial = partialBlocks.remove(inv.getHash());
+		}
+		if (partial != null) {
+			// getblocktxn not answered
+			log.warn("Missing transactions of block {} not received", inv.getHash());
+			requestFullBlock(inv.getHash());
+			return;
+		}
+		PeerGroup group = this.peerGroup;
+		if (group != null) {
+			group.onRequestFailed(this, inv);
+		}
+	}
+
+	private void onPing(PingMessage ping) {
+		if (ping.hasNonce()) {
+			sendMessage(new PongMessage(ping.getNonce()));
+		}
+	}
+
+	/**
+	 * Passes a header to the header listeners, the first time it is received.
+	 *
+	 * @return false if its proof of work is invalid (it is not passed)
+	 */
+	private boolean announceHeader(BlockHeader header) {
+		if (!header.hasValidProofOfWork()) {
+			log.warn("Header with invalid proof of work received: {}", header);
+			return false;
+		}
+		if (recentHeaders.put(header.getHash(), Boolean.TRUE) == null) {
+			log.info("New block header {}", header.getHash().getHashAsStr());
+			// not through the event ring: never delayed by other events nor dropped
+			fireHeaderEvent(header);
+		}
+		return true;
+	}
+
+	private void onSendCmpct(SendCmpctMessage m) {
+		if (m.getVersion() == COMPACT_BLOCKS_VERSION) {
+			peerCompactBlocks = true;
+		}
+	}
 
-		} else if (m instanceof TxMessage) {
-			TxMessage tx = (TxMessage) m;
-			log.info("---------------------------------------------------------------------------");
-			log.info("Transaction received {}", tx.getHash());
-			log.info(tx.toString());
-			for (TxIn in : tx.getTxInList()) {
-				log.info(in.toString());
+	private void onCmpctBlock(CmpctBlockMessage compact) {
+		SHA256Hash hash = compact.getHash();
+		if (!announceHeader(compact.getHeader())) {
+			rejectBlock(hash);
+			return;
+		}
+		// sent unsolicited in high-bandwidth mode, possibly for a block already received
+		if (knownInventory.contains(hash)) {
+			requestScheduler.forget(hash);
+			return;
+		}
+		synchronized (partialBlocks) {
+			if (partialBlocks.containsKey(hash)) {
+				return;
 			}
-			for (TxOut out : tx.getTxOutList()) {
-				log.info(out.toString());
+		}
+		PartialBlock partial = new PartialBlock(compact);
+		int[] missing = partial.fill(txPool);
+		log.info("Compact block received {}: {} of {} transactions missing", compact.getHashAsStr(),
+				 missing.length, partial.getTxCount());
+		if (missing.length == 0) {
+			completeBlock(partial);
+			return;
+		}
+		// in flight until rebuilt: the full block is requested if getblocktxn times out
+		requestScheduler.expect(new InvObject(InvObject.InventoryType.MSG_CMPCT_BLOCK, hash));
+		synchronized (partialBlocks) {
+			partialBlocks.put(hash, partial);
+		}
+		sendMessage(new GetBlockTxnMessage(hash, missing));
+	}
+
+	private void onBlockTxn(BlockTxnMessage blockTxn) {
+		PartialBlock partial;
+		synchronized (partialBlocks) {
+			partial = partialBlocks.remove(blockTxn.getBlockHash());
+		}
+		if (partial == null) {
+			return; // not requested
+		}
+		if (!partial.fillMissing(blockTxn.getTxs())) {
+			log.warn("Wrong transactions received for block {}", blockTxn.getBlockHash());
+			requestFullBlock(partial.getHash());
+			return;
+		}
+		completeBlock(partial);
+	}
+
+	/**
+	 * Checks the merkle root of a rebuilt block (a short id may have matched the wrong
+	 * transaction) and passes it to the listeners, or requests the full block.
+	 */
+	private void completeBlock(PartialBlock partial) {
+		BlockMessage block = partial.toBlock(blockHashExecutor);
+		BlockVerifier verifier = this.blockVerifier;
+		try {
+			(verifier != null ? verifier : DEFAULT_VERIFIER).verify(block);
+		} catch (BitcoinListenerException ex) {
+			log.warn("Block rebuilt from compact block is invalid: " + ex.getMessage());
+			requestFullBlock(partial.getHash());
+			return;
+		}
+		log.info("Block {} rebuilt: {} transactions, {} from the pool", block.getHashAsStr(),
+				 block.getTxCount(), partial.getFromPool());
+		requestScheduler.onReceived(block.getHash());
+		knownInventory.insert(block.getHash());
+		dispatch(block);
+	}
+
+	/**
+	 * Discards a block whose header is invalid, reporting the request (if any) as failed.
+	 */
+	private void rejectBlock(SHA256Hash hash) {
+		requestScheduler.forget(hash);
+		onRequestFailed(new InvObject(InvObject.InventoryType.MSG_BLOCK, hash));
+	}
+
+	private void requestFullBlock(SHA256Hash hash) {
+		requestScheduler.forget(hash);
+		InvObject inv = new InvObject(InvObject.InventoryType.MSG_BLOCK, hash);
+		requestScheduler.request(Collections.singletonList(inv));
+	}
+
+	private void onTx(TxMessage tx) {
+		// e.g. sent after a merkleblock without being announced
+		knownInventory.insert(tx.getTxId());
+		requestScheduler.onReceived(tx.getTxId());
+		txPool.add(tx);
+		if (log.isDebugEnabled()) {
+			log.debug("Transaction received {}: {}", tx.getHash(), tx);
+			// decodes the inputs and outputs, which are otherwise only read by listeners
+			if (log.isTraceEnabled()) {
+				for (TxIn in : tx.getTxInList()) {
+					log.trace(in.toString());
+				}
+				for (TxOut out : tx.getTxOutList()) {
+					log.trace(out.toString());
+				}
 			}
-			log.info("---------------------------------------------------------------------------");
-			fireTransactionEvent(tx);
-
-		} else if (m instanceof BlockMessage) {
-			BlockMessage block = (BlockMessage) m;
-			log.info("---------------------------------------------------------------------------");
-			log.info("Block received {}", block.getHashAsStr());
-			log.info(block.toString());
-			log.info("---------------------------------------------------------------------------");
-			fireBlockEvent(block);
-
-		} else if (m instanceof MerkleBlockMessage) {
-			MerkleBlockMessage block = (MerkleBlockMessage) m;
-			log.info("---------------------------------------------------------------------------");
-			log.info("Merkle Block received {}", block.getHashAsStr());
-			log.info(block.toString());
-			log.info("---------------------------------------------------------------------------");
-			PartialMerkleTree pmt = new PartialMerkleTree(block.getHashes(),
-														  block.getTotalTransactions(),
-														  ByteUtil.getFlagList(block.getFlags()));
+		}
+		dispatch(tx);
+	}
+
+	private void onBlock(BlockMessage block) {
+		log.info("---------------------------------------------------------------------------");
+		if (!announceHeader(block.getHeader())) {
+			rejectBlock(block.getHash());
+			return;
+		}
+		requestScheduler.onReceived(block.getHash());
+		log.info("Block received {}", block.getHashAsStr());
+		log.info(block.toString());
+		log.info("---------------------------------------------------------------------------");
+		BlockVerifier verifier = this.blockVerifier;
+		if (verifier != null) {
+			long start = System.nanoTime();
 			try {
-				pmt.build();
-				if (!pmt.getMerkleRoot().equals(block.getMerkleRoot())) {
-					throw new RuntimeException("Computed merkle root not equals to block header");
-				}
-				log.info("Matched txns: " + pmt.getMatchedTxIds());
-			} catch (Exception ex) {
-				ex.printStackTrace();
-				log.warn("MerkleBlock is invalid: " + ex.getMessage());
+				verifier.verify(block);
+			} catch (BitcoinListenerException ex) {
+				// e.g. a mutated block, with the hash of the real one: not known yet
+				log.warn("Block is invalid: " + ex.getMessage());
+				onRequestFailed(new InvObject(InvObject.InventoryType.MSG_BLOCK, block.getHash()));
+				return;
 			}
-			block.setPartialMerkleTree(pmt);
-			fireBlockEvent(block);
+			log.info("Block verified in {} us ({} transactions)",
+					 (System.nanoTime() - start) / 1000, block.getTxCount());
+		}
+		knownInventory.insert(block.getHash());
+		dispatch(block);
+	}
+
+	private void onMerkleBlock(MerkleBlockMessage block) {
+		log.info("---------------------------------------------------------------------------");
+		if (!announceHeader(block.getHeader())) {
+			rejectBlock(block.getHash());
+			return;
+		}
+		knownInventory.insert(block.getHash());
+		requestScheduler.onReceived(block.getHash());
+		log.info("Merkle Block received {}", block.getHashAsStr());
+		log.info(block.toString());
+		log.info("---------------------------------------------------------------------------");
+		PartialMerkleTree pmt = new PartialMerkleTree(block.getHashes(),
+													  block.getTotalTransactions(),
+													  block.getFlags());
+		try {
+			pmt.build();
+			if (!pmt.getMerkleRoot().equals(block.getMerkleRoot())) {
+				throw new RuntimeException("Computed merkle root not equals to block header");
+			}
+			log.info("Matched txns: " + pmt.getMatchedTxIds());
+		} catch (Exception ex) {
+			ex.printStackTrace();
+			log.warn("MerkleBlock is invalid: " + ex.getMessage());
+		}
+		block.setPartialMerkleTree(pmt);
+		dispatch(block);
+	}
+
+	// =============================================================================================
+
+	/**
+	 * Passes a message to the listeners through the event ring. Protocol housekeeping (pong,
+	 * getdata) is done before, on the thread that reads the connection.
+	 */
+	private void dispatch(ProtocolMessage msg) {
+		EventRing ring = this.eventRing;
+		if (ring != null) {
+			ring.publish(this, msg);
+		} else {
+			dispatchEvent(msg);
+		}
+	}
+
+	/**
+	 * Invokes the listeners of a message (on a consumer thread of the event ring).
+	 */
+	void dispatchEvent(ProtocolMessage msg) {
+		if (msg instanceof TxMessage) {
+			fireTransactionEvent((TxMessage) msg);
+		} else if (msg instanceof BlockMessage) {
+			fireBlockVisitors((BlockMessage) msg);
+			fireBlockEvent((BlockMessage) msg);
+		} else if (msg instanceof AbstractBlockMessage) {
+			fireBlockEvent((AbstractBlockMessage) msg);
+		}
+	}
+
+	// =============================================================================================
+
+	/**
+	 * Logs a message according to the wire trace mode.
+	 *
+	 * @param payloadOffset position of the payload in the array
+	 */
+	private void traceMessage(String direction, String command, byte[] arr, int payloadOffset,
+							  int payloadSize) {
+		WireTraceMode mode = this.wireTraceMode;
+		if (mode == WireTraceMode.OFF || !log.isDebugEnabled()) {
+			return;
+		}
+		if (mode == WireTraceMode.HEADERS) {
+			log.debug("{} '{}' ({} bytes)", direction, command, payloadSize);
+		} else {
+			log.debug("{} '{}' ({} bytes): {}", direction, command, payloadSize,
+					  LazyHex.of(arr, payloadOffset, payloadSize, wireTraceMaxBytes));
 		}
 	}
 
@@ -504,6 +1191,26 @@ public class BitcoinClient implements BitcoinConnection {
 		}
 	}
 
+	private void fireHeaderEvent(BlockHeader header) {
+		for (HeaderListener headerListener : headerListeners) {
+			try {
+				headerListener.onHeader(header, this);
+			} catch (Throwable t) {
+				log.warn("Error calling header listener", t);
+			}
+		}
+	}
+
+	private void fireBlockVisitors(BlockMessage block) {
+		for (BlockVisitor blockVisitor : blockVisitors) {
+			try {
+				block.accept(blockVisitor);
+			} catch (Throwable t) {
+				log.warn("Error calling block visitor", t);
+			}
+		}
+	}
+
 	private void fireTransactionEvent(TxMessage tx) {
 		for (TransactionListener txListener : txListeners) {
 			try {
@@ -551,7 +1258,7 @@ public class BitcoinClient implements BitcoinConnection {
 			byte[] bytes = AddressUtil.getAddrHash(addr);
 
 			this.filter.insert(bytes);
-			log.debug("Inserting {} to bloom filter", Arrays.toString(bytes));
+			log.debug("Inserting {} to bloom filter", LazyHex.of(bytes));
 		}
 
 
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.datatypes.SHA256Hash;
+import bitcoinlistener.messages.BlockMessage;
+import bitcoinlistener.messages.TxIdTable;
+import bitcoinlistener.util.ByteUtil;
+import bitcoinlistener.util.HashUtil;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Checks that the transactions of a full block hash to the merkle root of its header.
+ * <p>
+ * The tree is built from the transaction ids computed when the block was loaded (see
+ * {@link BlockMessage#getTxIds()}). Levels with at least {@link #getParallelThreshold()} nodes are
+ * hashed in a {@link ForkJoinPool}; smaller ones on the calling thread.
+ */
+public class BlockVerifier {
+
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 512;
+
+	/** Minimum number of hashes computed by a task */
+	private static final int HASHES_PER_TASK = 64;
+
+	private static final int HASH_SIZE = HashUtil.SHA256_LENGTH;
+
+	private final ForkJoinPool pool;
+	private final int parallelThreshold;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	/**
+	 * Creates a verifier that uses the common pool for levels with at least
+	 * {@link #DEFAULT_PARALLEL_THRESHOLD} nodes.
+	 */
+	public BlockVerifier() {
+		this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * @param pool              pool used for large levels
+	 * @param parallelThreshold minimum number of nodes for a level to be hashed in the pool
+	 */
+	public BlockVerifier(ForkJoinPool pool, int parallelThreshold) {
+		this.pool = pool;
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Verifies the merkle root of a block.
+	 *
+	 * @param block block loaded from a payload
+	 * @throws BitcoinListenerException if the transactions do not match the header
+	 */
+	public void verify(BlockMessage block) {
+		TxIdTable txIds = block.getTxIds();
+		if (txIds.size() == 0) {
+			throw new BitcoinListenerException("Block has no transactions");
+		}
+		byte[] root = computeMerkleRoot(txIds.getBytes(), txIds.size());
+		if (!block.getMerkleRoot().equals(root, 0)) {
+			throw new BitcoinListenerException("Merkle root doesn't match for block " +
+											   block.getHashAsStr() + ": " +
+											   SHA256Hash.read(root, 0).getHashAsStr());
+		}
+	}
+
+	/**
+	 * Computes the merkle root of a list of hashes.
+	 *
+	 * @param hashes leaf hashes, 32 bytes each, packed (not modified)
+	 * @param count  number of leaves
+	 * @return the root, in internal byte order
+	 * @throws BitcoinListenerException if two sibling nodes are equal (a mutated tree, which
+	 *                                  would match the root of a different list of leaves)
+	 */
+	public byte[] computeMerkleRoot(byte[] hashes, int count) {
+		// levels alternate between two buffers, sized for the first two levels
+		byte[] first = new byte[((count + 1) / 2) * HASH_SIZE];
+		byte[] second = new byte[Math.max(1, (count + 3) / 4) * HASH_SIZE];
+		byte[] src = hashes;
+		byte[] dst = first;
+		int n = count;
+		while (n > 1) {
+			int parents = (n + 1) / 2;
+			if (n >= parallelThreshold) {
+				pool.invoke(new HashLevel(src, n, dst, 0, parents));
+			} else {
+				hashLevel(src, n, dst, 0, parents);
+			}
+			src = dst;
+			dst = (dst == first) ? second : first;
+			n = parents;
+		}
+		return ByteUtil.slice(src, 0, HASH_SIZE);
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	/**
+	 * Hashes the children of parents [from, to) of a level with n nodes.
+	 */
+	private static void hashLevel(byte[] src, int n, byte[] dst, int from, int to) {
+		for (int x = from; x < to; x++) {
+			int left = 2 * x * HASH_SIZE;
+			int right = left;
+			if (2 * x + 1 < n) {
+				right = left + HASH_SIZE;
+				if (ByteUtil.compareArray(src, left, src, right, HASH_SIZE)) {
+					throw new BitcoinListenerException("Merkle tree is mutated (duplicate hashes)");
+				}
+			}
+			HashUtil.doubleSha256(src, left, HASH_SIZE, src, right, HASH_SIZE, dst, x * HASH_SIZE);
+		}
+	}
+
+	private static class HashLevel extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final byte[] src;
+		private final int n;
+		private final byte[] dst;
+		private final int from;
+		private final int to;
+
+		HashLevel(byte[] src, int n, byte[] dst, int from, int to) {
+			this.src = src;
+			this.n = n;
+			this.dst = dst;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= HASHES_PER_TASK) {
+				hashLevel(src, n, dst, from, to);
+			} else {
+				int mid = (from + to) >>> 1;
+				invokeAll(new HashLevel(src, n, dst, from, mid), new HashLevel(src, n, dst, mid, to));
+			}
+		}
+	}
+}
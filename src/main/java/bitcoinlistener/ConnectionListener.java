@@ -25,6 +25,9 @@ public interface ConnectionListener {
 		 * other messages
 		 */
 		Verack,
+
+		/** Handshake done (version exchanged and bloom filter loaded) */
+		Ready,
 	}
 
 	/**
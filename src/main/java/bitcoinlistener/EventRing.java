@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded ring of received messages between the threads that read connections and the threads
+ * that invoke transaction and block listeners, so a slow listener doesn't stall reading (and
+ * the replies to pings).
+ * <p>
+ * The slots are allocated once. Any number of connections may publish to the same ring; the
+ * messages are dispatched by one or more consumer threads. With a single consumer, the messages
+ * of a connection are dispatched in the order they were received.
+ */
+public class EventRing {
+
+	private static final Logger log = LoggerFactory.getLogger(EventRing.class);
+
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	/**
+	 * How a thread waits for the ring: consumers for a message, publishers for a free slot.
+	 */
+	public enum WaitStrategy {
+		/** Parks the thread until signaled (lowest CPU usage) */
+		BLOCK,
+		/** Spins calling {@link Thread#yield()} */
+		YIELD,
+		/** Spins without releasing the CPU (lowest latency, burns a core per waiting thread) */
+		BUSY_SPIN
+	}
+
+	/**
+	 * What happens to a message published when the ring is full.
+	 */
+	public enum OverflowPolicy {
+		/** The publisher waits for a free slot (reading from the connection stops meanwhile) */
+		BLOCK,
+		/** The oldest message waiting is discarded */
+		DROP_OLDEST,
+		/** The message published is discarded */
+		DROP_NEWEST
+	}
+
+	/**
+	 * A preallocated cell. The sequence tells whether it is free to be written or holds a
+	 * message to be taken (bounded MPMC queue by D. Vyukov).
+	 */
+	private static final class Slot {
+		final AtomicLong sequence;
+		BitcoinClient client;
+		ProtocolMessage message;
+
+		Slot(long sequence) {
+			this.sequence = new AtomicLong(sequence);
+		}
+	}
+
+	// =============================================================================================
+
+	private final Slot[] slots;
+	private final int mask;
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong tail = new AtomicLong();
+	private final WaitStrategy waitStrategy;
+	private final OverflowPolicy overflowPolicy;
+	private final Thread[] consumers;
+	private volatile boolean running = true;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+	private final AtomicInteger waitingConsumers = new AtomicInteger();
+	private final AtomicInteger waitingPublishers = new AtomicInteger();
+
+	private final LongAdder published = new LongAdder();
+	private final LongAdder dispatched = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder publisherWaits = new LongAdder();
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	/**
+	 * Creates a ring with one consumer that blocks when the ring is full.
+	 */
+	public EventRing() {
+		this(DEFAULT_CAPACITY, 1, WaitStrategy.BLOCK, OverflowPolicy.BLOCK);
+	}
+
+	/**
+	 * Creates a ring and starts its consumer threads (daemon).
+	 *
+	 * @param capacity       number of slots, rounded up to a power of two
+	 * @param consumers      number of threads invoking the listeners
+	 * @param waitStrategy   how threads wait for the ring
+	 * @param overflowPolicy what happens to a message published when the ring is full
+	 */
+	public EventRing(int capacity, int consumers, WaitStrategy waitStrategy,
+					 OverflowPolicy overflowPolicy) {
+		if (capacity < 1 || capacity > (1 << 30) || consumers < 1) {
+			throw new IllegalArgumentException("Invalid capacity or number of consumers");
+		}
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) {
+			size <<= 1;
+		}
+		this.slots = new Slot[size];
+		for (int x = 0; x < size; x++) {
+			slots[x] = new Slot(x);
+		}
+		this.mask = size - 1;
+		this.waitStrategy = waitStrategy;
+		this.overflowPolicy = overflowPolicy;
+
+		this.consumers = new Thread[consumers];
+		for (int x = 0; x < consumers; x++) {
+			Thread t = new Thread(this::consume, "bitcoinlistener-events-" + x);
+			t.setDaemon(true);
+			this.consumers[x] = t;
+			t.start();
+		}
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Queues a message to be dispatched to the listeners of a client.
+	 *
+	 * @return whether the message was queued (false if it was dropped)
+	 */
+	boolean publish(BitcoinClient client, ProtocolMessage message) {
+		if (!running) {
+			dropped.increment();
+			return false;
+		}
+		int spins = 0;
+		while (!offer(client, message)) {
+			switch (overflowPolicy) {
+				case DROP_NEWEST:
+					dropped.increment();
+					return false;
+				case DROP_OLDEST:
+					Slot oldest = poll();
+					if (oldest != null) {
+						release(oldest);
+						dropped.increment();
+					}
+					break;
+				default:
+					if (spins++ == 0) {
+						publisherWaits.increment();
+					}
+					if (!running) {
+						dropped.increment();
+						return false;
+					}
+					awaitNotFull();
+			}
+		}
+		published.increment();
+		signalConsumers();
+		return true;
+	}
+
+	/**
+	 * Stops the consumers once the messages already queued are dispatched. Messages published
+	 * afterwards are dropped.
+	 */
+	public void shutdown() {
+		running = false;
+		lock.lock();
+		try {
+			notEmpty.signalAll();
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits for the consumers to finish after {@link #shutdown()}.
+	 */
+	public void awaitTermination() throws InterruptedException {
+		for (Thread consumer : consumers) {
+			consumer.join();
+		}
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	/** Number of slots */
+	public int getCapacity() {
+		return slots.length;
+	}
+
+	/** Approximate number of messages waiting to be dispatched */
+	public int getSize() {
+		long size = tail.get() - head.get();
+		return (int) Math.max(0, Math.min(size, slots.length));
+	}
+
+	/** Number of messages queued since the ring was created */
+	public long getPublished() {
+		return published.sum();
+	}
+
+	/** Number of messages passed to the listeners */
+	public long getDispatched() {
+		return dispatched.sum();
+	}
+
+	/** Number of messages discarded by the overflow policy or after shutdown */
+	public long getDropped() {
+		return dropped.sum();
+	}
+
+	/** Number of times a publisher had to wait for a free slot */
+	public long getPublisherWaits() {
+		return publisherWaits.sum();
+	}
+
+	public WaitStrategy getWaitStrategy() {
+		return waitStrategy;
+	}
+
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private boolean offer(BitcoinClient client, ProtocolMessage message) {
+		while (true) {
+			long pos = tail.get();
+			Slot slot = slots[(int) pos & mask];
+			long diff = slot.sequence.get() - pos;
+			if (diff == 0) {
+				if (tail.compareAndSet(pos, pos + 1)) {
+					slot.client = client;
+					slot.message = message;
+					slot.sequence.set(pos + 1); // published
+					return true;
+				}
+			} else if (diff < 0) {
+				return false; // full
+			}
+			// else another publisher took the slot: retry
+		}
+	}
+
+	/**
+	 * Takes the oldest slot and frees it.
+	 *
+	 * @return the message or null if the ring is empty
+	 */
+	private Slot poll() {
+		while (true) {
+			long pos = head.get();
+			Slot slot = slots[(int) pos & mask];
+			long diff = slot.sequence.get() - (pos + 1);
+			if (diff == 0) {
+				if (head.compareAndSet(pos, pos + 1)) {
+					return slot;
+				}
+			} else if (diff < 0) {
+				return null; // empty
+			}
+		}
+	}
+
+	private void consume() {
+		while (true) {
+			// read before polling: messages published before shutdown are still dispatched
+			boolean stopping = !running;
+			Slot slot = poll();
+			if (slot == null) {
+				if (stopping) {
+					return;
+				}
+				awaitNotEmpty();
+				continue;
+			}
+			BitcoinClient client = slot.client;
+			ProtocolMessage message = slot.message;
+			release(slot);
+			try {
+				client.dispatchEvent(message);
+			} catch (Throwable t) {
+				log.warn("Error dispatching event", t);
+			}
+			dispatched.increment();
+		}
+	}
+
+	/** Frees a slot taken by {@link #poll()} */
+	private void release(Slot slot) {
+		long pos = slot.sequence.get() - 1;
+		slot.client = null;
+		slot.message = null;
+		slot.sequence.set(pos + slots.length);
+		signalPublishers();
+	}
+
+	private void awaitNotEmpty() {
+		if (waitStrategy != WaitStrategy.BLOCK) {
+			pause();
+			return;
+		}
+		lock.lock();
+		try {
+			// registered before checking again, so a publisher either sees it or is seen
+			waitingConsumers.incrementAndGet();
+			try {
+				if (running && tail.get() == head.get()) {
+					notEmpty.await();
+				}
+			} finally {
+				waitingConsumers.decrementAndGet();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void awaitNotFull() {
+		if (waitStrategy != WaitStrategy.BLOCK) {
+			pause();
+			return;
+		}
+		lock.lock();
+		try {
+			waitingPublishers.incrementAndGet();
+			try {
+				if (running && tail.get() - head.get() >= slots.length) {
+					notFull.await();
+				}
+			} finally {
+				waitingPublishers.decrementAndGet();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BitcoinListenerException("Interrupted while publishing event", e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void signalConsumers() {
+		if (waitingConsumers.get() > 0) {
+			lock.lock();
+			try {
+				notEmpty.signal();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void signalPublishers() {
+		if (waitingPublishers.get() > 0) {
+			lock.lock();
+			try {
+				notFull.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private void pause() {
+		if (waitStrategy == WaitStrategy.YIELD) {
+			Thread.yield();
+		}
+	}
+}
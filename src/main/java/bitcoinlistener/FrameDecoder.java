@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.util.ByteUtil;
+import bitcoinlistener.util.HashUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Incremental decoder that splits a stream of bytes received from a peer into protocol messages.
+ * <p>
+ * Message structure
+ * <pre>
+ * Field Size 	Description 	Data type
+ * 4             magic          uint32_t
+ * 12            command        char[12]
+ * 4             length         uint32_t
+ * 4             checksum       uint32_t
+ * ?             payload        uchar[]
+ * </pre>
+ * The 24-byte header is accumulated in a fixed array and parsed in place. Once the payload length
+ * is known, an array of exactly that size is allocated and filled as data arrives, so every byte
+ * received is copied only once regardless of how the stream is fragmented.
+ */
+public class FrameDecoder {
+
+	private static final Logger log = LoggerFactory.getLogger(FrameDecoder.class);
+
+	public static final int HEADER_SIZE = 4 + 12 + 4 + 4; // magic + cmd + payloadSize + checksum
+	public static final int COMMAND_OFFSET = 4;
+	public static final int COMMAND_SIZE = 12;
+
+	/**
+	 * Maximum payload size accepted from a peer (MAX_PROTOCOL_MESSAGE_LENGTH of Bitcoin Core).
+	 * It also bounds the array allocated from the length of a header not yet verified.
+	 */
+	public static final int MAX_PAYLOAD_SIZE = 4_000_000;
+
+	/**
+	 * Callback invoked for each complete message.
+	 */
+	public interface FrameHandler {
+
+		/**
+		 * Invoked when a complete message has been received.
+		 *
+		 * @param header  the 24-byte message header. The array is reused for the next message,
+		 *                use {@link #getCommand(byte[])} to obtain the command as a String.
+		 * @param payload message payload (exact size)
+		 */
+		void onFrame(byte[] header, byte[] payload) throws Exception;
+	}
+
+	// =============================================================================================
+
+	private final byte[] magic;
+	private final FrameHandler handler;
+	private final byte[] header = new byte[HEADER_SIZE];
+	private final byte[] checksum = new byte[HashUtil.SHA256_LENGTH];
+	private int headerPos;
+
+	private byte[] payload;
+	private int payloadPos;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	public FrameDecoder(byte[] magic, FrameHandler handler) {
+		this.magic = magic;
+		this.handler = handler;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Consumes bytes received from the peer, invoking the handler for every message completed.
+	 *
+	 * @param data   array containing the bytes received
+	 * @param offset position of the first byte
+	 * @param length number of bytes
+	 */
+	public void feed(byte[] data, int offset, int length) throws Exception {
+		int end = offset + length;
+		while (offset < end) {
+			if (payload == null) {
+				int n = Math.min(HEADER_SIZE - headerPos, end - offset);
+				System.arraycopy(data, offset, header, headerPos, n);
+				headerPos += n;
+				offset += n;
+				if (headerPos < HEADER_SIZE) {
+					log.debug("Awaiting more data ...");
+					return;
+				}
+				parseHeader();
+			}
+
+			// a zero-length payload is completed right after its header
+			int n = Math.min(payload.length - payloadPos, end - offset);
+			System.arraycopy(data, offset, payload, payloadPos, n);
+			payloadPos += n;
+			offset += n;
+
+			if (payloadPos == payload.length) {
+				completeFrame();
+			}
+		}
+	}
+
+	/**
+	 * Returns whether a message is partially received.
+	 */
+	public boolean hasPartialFrame() {
+		return headerPos > 0;
+	}
+
+	/**
+	 * Decodes the command of a message header.
+	 *
+	 * @param header array containing the message header
+	 * @return command without the trailing zeros
+	 */
+	public static String getCommand(byte[] header) {
+		int length = 0;
+		while (length < COMMAND_SIZE && header[COMMAND_OFFSET + length] != 0) {
+			length++;
+		}
+		return new String(header, COMMAND_OFFSET, length);
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private void parseHeader() throws Exception {
+		if (!ByteUtil.compareArray(header, 0, magic, magic.length)) {
+			log.error("MAGIC BYTES ERROR: {}", ByteUtil.toHexString(header));
+			throw new BitcoinListenerException("Magic bytes doesn't match!");
+		}
+
+		int payloadSize = ByteUtil.getInt32LE(header, COMMAND_OFFSET + COMMAND_SIZE);
+		if (log.isDebugEnabled()) {
+			log.debug("Command received: {}", getCommand(header));
+			log.debug("Payload size: {} ", payloadSize);
+		}
+		if (payloadSize < 0 || payloadSize > MAX_PAYLOAD_SIZE) {
+			throw new BitcoinListenerException("Invalid payload size for '" + getCommand(header) +
+			                                   "': " + Integer.toUnsignedLong(payloadSize));
+		}
+
+		this.payload = new byte[payloadSize];
+		this.payloadPos = 0;
+	}
+
+	private void completeFrame() throws Exception {
+		byte[] message = this.payload;
+
+		int checksumPos = COMMAND_OFFSET + COMMAND_SIZE + 4;
+		HashUtil.doubleSha256(message, 0, message.length, checksum, 0);
+		if (!ByteUtil.compareArray(header, checksumPos, checksum, 4)) {
+			throw new BitcoinListenerException("Checksum doesn't match for message '" +
+			                                   getCommand(header) + "'");
+		}
+
+		this.payload = null;
+		this.payloadPos = 0;
+		this.headerPos = 0;
+
+		handler.onFrame(header, message);
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.datatypes.BlockHeader;
+
+/**
+ * The listener interface for receiving the headers of new blocks.
+ * <p>
+ * Unlike the other listeners, it is not invoked through the {@link EventRing} but directly on
+ * the thread that reads the connection (a loop thread with {@link NioEventLoopGroup}), so that
+ * headers are neither delayed by other events nor dropped when the ring overflows. It must
+ * return quickly: reading from the peer waits for it.
+ */
+public interface HeaderListener {
+
+	/**
+	 * Invoked once per block, as soon as a message carrying its header is received (headers,
+	 * cmpctblock, or the block itself if it was announced otherwise), before the block is
+	 * passed to the event ring.
+	 *
+	 * @param header header of the new block
+	 * @param conn   {@link BitcoinConnection}
+	 */
+	void onHeader(BlockHeader header, BitcoinConnection conn);
+}
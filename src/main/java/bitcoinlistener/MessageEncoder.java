@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.util.ByteUtil;
+import bitcoinlistener.util.HashUtil;
+
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Encodes protocol messages into frames (header + payload) to be sent to a peer.
+ * <p>
+ * The header is reserved and the payload is written right after it by the message itself, into
+ * a buffer taken from a pool; the length and checksum are then patched into the header. So a
+ * message is serialized once, straight into the array handed to the transport, which returns the
+ * buffer to the pool when done with it.
+ * <p>
+ * An encoder may be used by several threads at the same time: every frame has its own buffer.
+ */
+public class MessageEncoder {
+
+	public static final int DEFAULT_POOL_SIZE = 16;
+
+	/** Buffers that grew beyond this size (e.g. to send a block) are not kept in the pool */
+	public static final int MAX_POOLED_CAPACITY = 256 * 1024;
+
+	private static final int INITIAL_CAPACITY = 1024;
+	private static final int LENGTH_OFFSET = FrameDecoder.COMMAND_OFFSET + FrameDecoder.COMMAND_SIZE;
+	private static final int CHECKSUM_OFFSET = LENGTH_OFFSET + 4;
+	private static final int CHECKSUM_SIZE = 4;
+
+	private static final ThreadLocal<byte[]> CHECKSUM = ThreadLocal.withInitial(
+			() -> new byte[HashUtil.SHA256_LENGTH]);
+
+	/**
+	 * An encoded message. {@link #release()} must be called once it has been sent.
+	 */
+	public final class Frame {
+		private BitcoinBuffer buffer;
+		private final int length;
+		private final int payloadOffset;
+
+		private Frame(BitcoinBuffer buffer, int length, int payloadOffset) {
+			this.buffer = buffer;
+			this.length = length;
+			this.payloadOffset = payloadOffset;
+		}
+
+		/** Array containing the frame, starting at position 0 */
+		public byte[] getData() {
+			return buffer.toArray();
+		}
+
+		/** Size of the frame (header + payload) */
+		public int getLength() {
+			return length;
+		}
+
+		/** Position of the payload (the size of the header) */
+		public int getPayloadOffset() {
+			return payloadOffset;
+		}
+
+		/**
+		 * Returns the buffer to the pool. The frame must not be used afterwards.
+		 */
+		public void release() {
+			BitcoinBuffer buf = this.buffer;
+			if (buf != null) {
+				this.buffer = null;
+				MessageEncoder.this.release(buf);
+			}
+		}
+	}
+
+	// =============================================================================================
+
+	private final byte[] magic;
+	private final int poolSize;
+	private final Queue<BitcoinBuffer> pool = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pooled = new AtomicInteger();
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	public MessageEncoder(byte[] magic) {
+		this(magic, DEFAULT_POOL_SIZE);
+	}
+
+	/**
+	 * @param poolSize maximum number of idle buffers kept for reuse
+	 */
+	public MessageEncoder(byte[] magic, int poolSize) {
+		this.magic = magic;
+		this.poolSize = poolSize;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Encodes a message.
+	 *
+	 * @param msg      message to be encoded
+	 * @param checksum whether the header has the checksum field (protocol version 209 and later)
+	 * @return the frame, which must be released after it is sent
+	 */
+	public Frame encode(ProtocolMessage msg, boolean checksum) {
+		BitcoinBuffer buf = acquire();
+		try {
+			buf.putBytes(magic);
+			byte[] command = msg.getCommand().getBytes(StandardCharsets.US_ASCII);
+			if (command.length > FrameDecoder.COMMAND_SIZE) {
+				throw new BitcoinListenerException("Command too long: " + msg.getCommand());
+			}
+			buf.putBytes(command);
+			for (int x = command.length; x < FrameDecoder.COMMAND_SIZE; x++) {
+				buf.putByte((byte) 0);
+			}
+			buf.putInt32LE(0); // length, patched below
+			if (checksum) {
+				buf.putInt32LE(0); // checksum, patched below
+			}
+
+			int payloadOffset = buf.getPosition();
+			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
+			msg.writeToBuffer(buf);
+			int end = buf.getPosition();
+			int payloadSize = end - payloadOffset;
+			if (payloadSize > FrameDecoder.MAX_PAYLOAD_SIZE) {
+				throw new BitcoinListenerException("Payload too large for '" + msg.getCommand() +
+												   "': " + payloadSize);
+			}
+
+			// the array may have been replaced while the payload was written
+			byte[] arr = buf.toArray();
+			ByteUtil.putInt32LE(arr, LENGTH_OFFSET, payloadSize);
+			if (checksum) {
+				byte[] hash = CHECKSUM.get();
+				HashUtil.doubleSha256(arr, payloadOffset, payloadSize, hash, 0);
+				System.arraycopy(hash, 0, arr, CHECKSUM_OFFSET, CHECKSUM_SIZE);
+			}
+			return new Frame(buf, end, payloadOffset);
+		} catch (RuntimeException e) {
+			release(buf);
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the number of idle buffers in the pool.
+	 */
+	public int getPooledBuffers() {
+		return pooled.get();
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private BitcoinBuffer acquire() {
+		BitcoinBuffer buf = pool.poll();
+		if (buf == null) {
+			buf = new BitcoinBuffer(INITIAL_CAPACITY);
+		} else {
+			pooled.decrementAndGet();
+			buf.clear();
+		}
+		buf.setEndianness(ByteOrder.BIG_ENDIAN);
+		return buf;
+	}
+
+	private void release(BitcoinBuffer buf) {
+		if (buf.toArray().length > MAX_POOLED_CAPACITY) {
+			return;
+		}
+		if (pooled.incrementAndGet() <= poolSize) {
+			pool.offer(buf);
+		} else {
+			pooled.decrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+/**
+ * Handler invoked when a protocol message of a given command is received.
+ *
+ * @param <T> type of the message
+ * @see BitcoinClient#registerMessage(String, java.util.function.Supplier, MessageHandler)
+ */
+@FunctionalInterface
+public interface MessageHandler<T extends ProtocolMessage> {
+
+	/**
+	 * Invoked when a message is received and deserialized.
+	 *
+	 * @param msg  the message
+	 * @param conn {@link BitcoinConnection} that received the message
+	 */
+	void onMessage(T msg, BitcoinConnection conn) throws Exception;
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.util.ByteUtil;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Dispatch table of protocol messages keyed on the raw 12-byte command of the message header.
+ * <p>
+ * Each command is packed into a long and an int, so looking up the command of a received
+ * message does not allocate nor decode a String.
+ */
+class MessageRegistry {
+
+	/**
+	 * A registered message: how to create it and who handles it.
+	 */
+	static final class Entry<T extends ProtocolMessage> {
+		final String command;
+		final long key0;
+		final int key1;
+		final Supplier<T> factory;
+		final MessageHandler<? super T> handler;
+
+		Entry(String command, Supplier<T> factory, MessageHandler<? super T> handler) {
+			byte[] cmd = toCommandBytes(command);
+			this.command = command;
+			this.key0 = ByteUtil.getInt64LE(cmd, 0);
+			this.key1 = ByteUtil.getInt32LE(cmd, 8);
+			this.factory = factory;
+			this.handler = handler;
+		}
+
+		/**
+		 * Deserializes the message from the buffer and invokes the handler.
+		 */
+		void dispatch(BitcoinBuffer buf, BitcoinConnection conn) throws Exception {
+			T msg = factory.get();
+			msg.loadFromBuffer(buf);
+			handler.onMessage(msg, conn);
+		}
+	}
+
+	// =============================================================================================
+
+	private volatile Entry<?>[] entries = new Entry<?>[0];
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Registers a message, replacing a previous registration for the same command.
+	 */
+	synchronized <T extends ProtocolMessage> void register(String command, Supplier<T> factory,
+														   MessageHandler<? super T> handler) {
+		Entry<T> entry = new Entry<>(command, factory, handler);
+		Entry<?>[] current = this.entries;
+		for (int x = 0; x < current.length; x++) {
+			if (current[x].key0 == entry.key0 && current[x].key1 == entry.key1) {
+				Entry<?>[] copy = current.clone();
+				copy[x] = entry;
+				this.entries = copy;
+				return;
+			}
+		}
+		Entry<?>[] copy = Arrays.copyOf(current, current.length + 1);
+		copy[current.length] = entry;
+		this.entries = copy;
+	}
+
+	/**
+	 * Finds the entry of a command.
+	 *
+	 * @param arr    array containing the command
+	 * @param offset position of the 12-byte command in the array
+	 * @return the registered entry or null if the command is not supported
+	 */
+	Entry<?> lookup(byte[] arr, int offset) {
+		long key0 = ByteUtil.getInt64LE(arr, offset);
+		int key1 = ByteUtil.getInt32LE(arr, offset + 8);
+		for (Entry<?> entry : entries) {
+			if (entry.key0 == key0 && entry.key1 == key1) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private static byte[] toCommandBytes(String command) {
+		byte[] bytes = command.getBytes();
+		if (bytes.length > FrameDecoder.COMMAND_SIZE) {
+			throw new IllegalArgumentException("Command too long: " + command);
+		}
+		return Arrays.copyOf(bytes, FrameDecoder.COMMAND_SIZE);
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A single thread multiplexing several {@link NioTransport} through a {@link Selector}.
+ */
+class NioEventLoop implements Runnable {
+
+	private static final Logger log = LoggerFactory.getLogger(NioEventLoop.class);
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	private final Selector selector;
+	private final Thread thread;
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+	/** Shared by all connections of this loop: data is consumed before the next read */
+	private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+	private volatile boolean running = true;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	NioEventLoop(String name) throws IOException {
+		this.selector = Selector.open();
+		this.thread = new Thread(this, name);
+		this.thread.setDaemon(true);
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	void start() {
+		thread.start();
+	}
+
+	void shutdown() {
+		running = false;
+		selector.wakeup();
+	}
+
+	/**
+	 * Closes the selector of a loop that was never started (its thread closes it otherwise).
+	 */
+	void closeUnstarted() {
+		try { selector.close(); } catch (IOException e) { }
+	}
+
+	/**
+	 * Runs a task on this loop thread.
+	 */
+	void execute(Runnable task) {
+		if (inEventLoop()) {
+			task.run();
+		} else {
+			tasks.add(task);
+			selector.wakeup();
+		}
+	}
+
+	boolean inEventLoop() {
+		return Thread.currentThread() == thread;
+	}
+
+	Selector getSelector() {
+		return selector;
+	}
+
+	@Override
+	public void run() {
+		while (running) {
+			try {
+				selector.select();
+				runTasks();
+
+				Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+				while (it.hasNext()) {
+					SelectionKey key = it.next();
+					it.remove();
+					NioTransport transport = (NioTransport) key.attachment();
+					if (!key.isValid()) {
+						transport.closeWith(null);
+						continue;
+					}
+					if (key.isConnectable()) {
+						transport.onConnectable();
+					}
+					if (key.isValid() && key.isReadable()) {
+						transport.onReadable(readBuffer);
+					}
+					if (key.isValid() && key.isWritable()) {
+						transport.flush();
+					}
+				}
+			} catch (Throwable t) {
+				log.error("Error in event loop " + thread.getName(), t);
+			}
+		}
+
+		runTasks();
+		for (SelectionKey key : new ArrayList<>(selector.keys())) {
+			((NioTransport) key.attachment()).closeWith(null);
+		}
+		try {
+			selector.close();
+		} catch (IOException e) {
+			log.warn("Error closing selector", e);
+		}
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private void runTasks() {
+		Runnable task;
+		while ((task = tasks.poll()) != null) {
+			try {
+				task.run();
+			} catch (Throwable t) {
+				log.error("Error running task on event loop", t);
+			}
+		}
+	}
+}
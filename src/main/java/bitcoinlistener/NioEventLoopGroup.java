@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A group of threads, each one running a {@link java.nio.channels.Selector} loop, that serves
+ * the connections of many {@link BitcoinClient} instances.
+ * <p>
+ * Connections are assigned to the loops in round-robin order. The loop threads read, write and
+ * handle the protocol (e.g. pong and getdata replies); listeners are invoked by the consumer
+ * threads of the client's {@link EventRing}, except header listeners, which run on the loop
+ * threads.
+ */
+public class NioEventLoopGroup {
+
+	private final NioEventLoop[] loops;
+	private final AtomicInteger next = new AtomicInteger();
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	/**
+	 * Creates a group with one event loop per available processor.
+	 */
+	public NioEventLoopGroup() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a group with the given number of event loops.
+	 *
+	 * @param numberOfThreads number of event loop threads
+	 */
+	public NioEventLoopGroup(int numberOfThreads) {
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("numberOfThreads must be positive");
+		}
+		this.loops = new NioEventLoop[numberOfThreads];
+		try {
+			for (int x = 0; x < numberOfThreads; x++) {
+				loops[x] = new NioEventLoop("bitcoinlistener-nio-" + x);
+			}
+		} catch (IOException e) {
+			// not started yet: their threads would never close the selectors
+			for (NioEventLoop loop : loops) {
+				if (loop != null) {
+					loop.closeUnstarted();
+				}
+			}
+			throw new BitcoinListenerException("Error opening selector", e);
+		}
+		for (NioEventLoop loop : loops) {
+			loop.start();
+		}
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Stops all event loops, closing every connection served by this group.
+	 */
+	public void shutdown() {
+		for (NioEventLoop loop : loops) {
+			if (loop != null) {
+				loop.shutdown();
+			}
+		}
+	}
+
+	/** Returns the number of event loop threads */
+	public int getNumberOfThreads() {
+		return loops.length;
+	}
+
+	Transport newTransport(String ip, int port, Transport.Handler handler, OutboundQueue queue) {
+		NioEventLoop loop = loops[Math.floorMod(next.getAndIncrement(), loops.length)];
+		return new NioTransport(loop, ip, port, handler, queue);
+	}
+}
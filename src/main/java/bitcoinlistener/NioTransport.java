@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-blocking transport served by a {@link NioEventLoop}.
+ * <p>
+ * Reads, writes and the {@link Transport.Handler} callbacks always run on the loop thread.
+ * Bytes written from other threads are queued in an {@link OutboundQueue} and flushed by the
+ * loop, several frames per gathering write.
+ */
+class NioTransport implements Transport {
+
+	/** Maximum number of frames passed to a single gathering write */
+	private static final int MAX_BATCH = 64;
+
+	private final NioEventLoop loop;
+	private final String ip;
+	private final int port;
+	private final Handler handler;
+	private final OutboundQueue queue;
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+	private volatile SocketChannel channel;
+	private SelectionKey key;
+
+	/** Frames taken from the queue and not completely written yet (loop thread only) */
+	private final OutboundQueue.Entry[] batch = new OutboundQueue.Entry[MAX_BATCH];
+	private final ByteBuffer[] batchBuffers = new ByteBuffer[MAX_BATCH];
+	private int batchStart;
+	private int batchEnd;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	NioTransport(NioEventLoop loop, String ip, int port, Handler handler, OutboundQueue queue) {
+		this.loop = loop;
+		this.ip = ip;
+		this.port = port;
+		this.handler = handler;
+		this.queue = queue;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public void open() throws IOException {
+		// resolved on the caller thread: a DNS lookup would stall every connection of the loop
+		InetSocketAddress address = new InetSocketAddress(ip, port);
+		if (address.isUnresolved()) {
+			throw new UnknownHostException(ip);
+		}
+		this.channel = SocketChannel.open();
+		this.channel.configureBlocking(false);
+		loop.execute(() -> {
+			try {
+				if (channel.connect(address)) {
+					this.key = channel.register(loop.getSelector(), SelectionKey.OP_READ, this);
+					onConnected();
+				} else {
+					this.key = channel.register(loop.getSelector(), SelectionKey.OP_CONNECT, this);
+				}
+			} catch (Throwable t) {
+				closeWith(t);
+			}
+		});
+	}
+
+	@Override
+	public void write(byte[] data, int offset, int length, boolean urgent, Runnable onWritten) {
+		boolean queued;
+		try {
+			// the loop drains the queue, so it must never wait for room
+			queued = queue.add(new OutboundQueue.Entry(data, offset, length, onWritten), urgent,
+							   !loop.inEventLoop());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BitcoinListenerException("Interrupted while sending message", e);
+		}
+		if (!queued) {
+			close();
+			throw new BitcoinListenerException("Error sending message to socket: connection " +
+											   "closed or peer not reading");
+		}
+		loop.execute(this::flush);
+	}
+
+	@Override
+	public boolean offer(byte[] data, int offset, int length, Runnable onWritten) {
+		if (!queue.offer(new OutboundQueue.Entry(data, offset, length, onWritten))) {
+			return false;
+		}
+		loop.execute(this::flush);
+		return true;
+	}
+
+	@Override
+	public void close() {
+		loop.execute(() -> closeWith(null));
+	}
+
+	@Override
+	public boolean isOpen() {
+		SocketChannel ch = this.channel;
+		return !closed.get() && ch != null && ch.isConnected();
+	}
+
+	// =============================================================================================
+	// EVENT LOOP CALLBACKS
+	// =============================================================================================
+
+	void onConnectable() {
+		try {
+			if (channel.finishConnect()) {
+				key.interestOps(SelectionKey.OP_READ);
+				onConnected();
+			}
+		} catch (Throwable t) {
+			closeWith(t);
+		}
+	}
+
+	void onReadable(ByteBuffer readBuffer) {
+		try {
+			readBuffer.clear();
+			int n = channel.read(readBuffer);
+			if (n == -1) {
+				closeWith(null);
+			} else if (n > 0) {
+				handler.onData(readBuffer.array(), readBuffer.arrayOffset(), n);
+			}
+		} catch (Throwable t) {
+			closeWith(t);
+		}
+	}
+
+	void flush() {
+		if (key == null || closed.get() || !channel.isConnected()) {
+			return; // not connected yet: flushed when connected
+		}
+		try {
+			while (true) {
+				if (batchStart == batchEnd && !fillBatch()) {
+					break;
+				}
+				channel.write(batchBuffers, batchStart, batchEnd - batchStart);
+				while (batchStart < batchEnd && !batchBuffers[batchStart].hasRemaining()) {
+					completeFirst();
+				}
+				if (batchStart < batchEnd) {
+					// socket buffer is full: wait to be writable
+					key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+					return;
+				}
+			}
+			key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+		} catch (Throwable t) {
+			closeWith(t);
+		}
+	}
+
+	void closeWith(Throwable cause) {
+		if (!closed.compareAndSet(false, true)) {
+			return;
+		}
+		if (key != null) {
+			key.cancel();
+		}
+		if (channel != null) {
+			try { channel.close(); } catch (IOException e) { }
+		}
+		queue.close();
+		while (batchStart < batchEnd) {
+			completeFirst();
+		}
+		handler.onClosed(cause);
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private void onConnected() {
+		handler.onConnected();
+		flush();
+	}
+
+	/**
+	 * Takes the frames queued, up to the size of the batch.
+	 *
+	 * @return whether any frame was taken
+	 */
+	private boolean fillBatch() {
+		batchStart = 0;
+		batchEnd = 0;
+		OutboundQueue.Entry entry;
+		while (batchEnd < MAX_BATCH && (entry = queue.poll()) != null) {
+			batch[batchEnd] = entry;
+			batchBuffers[batchEnd] = ByteBuffer.wrap(entry.data, entry.offset, entry.length);
+			batchEnd++;
+		}
+		return batchEnd > 0;
+	}
+
+	private void completeFirst() {
+		OutboundQueue.Entry entry = batch[batchStart];
+		batch[batchStart] = null;
+		batchBuffers[batchStart] = null;
+		batchStart++;
+		entry.complete();
+	}
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.BitcoinClient.SendOverflowPolicy;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Frames waiting to be written to a peer, drained by the transport.
+ * <p>
+ * There are two lanes: priority frames (control messages such as pong and verack) are always
+ * taken before the others. The number of bytes queued is bounded; when a frame doesn't fit (the
+ * peer is not reading fast enough) the {@link SendOverflowPolicy} decides what happens. Priority
+ * frames are small and keep the connection alive, so they are always accepted.
+ */
+class OutboundQueue {
+
+	/**
+	 * A queued range of bytes and the callback invoked when it is no longer needed.
+	 */
+	static final class Entry {
+		final byte[] data;
+		final int offset;
+		final int length;
+		final Runnable onWritten;
+
+		Entry(byte[] data, int offset, int length, Runnable onWritten) {
+			this.data = data;
+			this.offset = offset;
+			this.length = length;
+			this.onWritten = onWritten;
+		}
+
+		/** Invokes the callback (once the bytes were sent or discarded) */
+		void complete() {
+			if (onWritten != null) {
+				onWritten.run();
+			}
+		}
+	}
+
+	// =============================================================================================
+
+	private final ArrayDeque<Entry> priority = new ArrayDeque<>();
+	private final ArrayDeque<Entry> normal = new ArrayDeque<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+	private final long maxBytes;
+	private final SendOverflowPolicy policy;
+	private final long blockTimeoutMillis;
+	private long queuedBytes;
+	private boolean closed;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	/**
+	 * @param maxBytes           maximum number of bytes queued (a single frame larger than this
+	 *                           is accepted when the queue is empty)
+	 * @param policy             what happens to a frame that doesn't fit
+	 * @param blockTimeoutMillis maximum time a sender waits with {@link SendOverflowPolicy#BLOCK}
+	 */
+	OutboundQueue(long maxBytes, SendOverflowPolicy policy, long blockTimeoutMillis) {
+		this.maxBytes = maxBytes;
+		this.policy = policy;
+		this.blockTimeoutMillis = blockTimeoutMillis;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Queues a frame.
+	 *
+	 * @param urgent   whether the frame goes to the priority lane
+	 * @param mayBlock whether the caller may wait for space (false on the thread that drains
+	 *                 the queue, where {@link SendOverflowPolicy#BLOCK} acts as
+	 *                 {@link SendOverflowPolicy#FAIL})
+	 * @return false if the frame was not queued and the connection must be closed (the queue
+	 * is closed, or the peer is not reading). The callback of the entry was invoked.
+	 * @throws BitcoinListenerException if the queue is full and the policy is
+	 *                                  {@link SendOverflowPolicy#FAIL}, or
+	 *                                  {@link SendOverflowPolicy#BLOCK} and the caller may
+	 *                                  not wait
+	 * @throws InterruptedException     if interrupted while waiting for space (the frame is
+	 *                                  discarded)
+	 */
+	boolean add(Entry entry, boolean urgent, boolean mayBlock) throws InterruptedException {
+		lock.lock();
+		try {
+			if (!urgent) {
+				long timeout = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+				long deadline = System.nanoTime() + timeout;
+				while (!closed && queuedBytes > 0 && queuedBytes + entry.length > maxBytes) {
+					if (policy == SendOverflowPolicy.FAIL
+						|| (policy == SendOverflowPolicy.BLOCK && !mayBlock)) {
+						entry.complete();
+						throw new BitcoinListenerException("Outbound queue full (" + queuedBytes +
+														   " bytes)");
+					}
+					long remaining = deadline - System.nanoTime();
+					if (policy == SendOverflowPolicy.DISCONNECT || !mayBlock || remaining <= 0) {
+						entry.complete();
+						return false;
+					}
+					try {
+						notFull.awaitNanos(remaining);
+					} catch (InterruptedException e) {
+						entry.complete();
+						throw e;
+					}
+				}
+			}
+			if (closed) {
+				entry.complete();
+				return false;
+			}
+			(urgent ? priority : normal).add(entry);
+			queuedBytes += entry.length;
+			notEmpty.signal();
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Queues a frame in the normal lane if it fits, without waiting. The policy doesn't apply:
+	 * the caller is expected to try again later.
+	 *
+	 * @return false if the frame was not queued (the queue is full or closed). The callback of
+	 * the entry was invoked.
+	 */
+	boolean offer(Entry entry) {
+		lock.lock();
+		try {
+			if (closed || (queuedBytes > 0 && queuedBytes + entry.length > maxBytes)) {
+				entry.complete();
+				return false;
+			}
+			normal.add(entry);
+			queuedBytes += entry.length;
+			notEmpty.signal();
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes the next frame, priority lane first.
+	 *
+	 * @return the frame or null if the queue is empty
+	 */
+	Entry poll() {
+		lock.lock();
+		try {
+			return next();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes the next frame, waiting for one to be queued.
+	 *
+	 * @return the frame or null if the queue was closed
+	 */
+	Entry take() throws InterruptedException {
+		lock.lock();
+		try {
+			Entry entry;
+			while ((entry = next()) == null) {
+				if (closed) {
+					return null;
+				}
+				notEmpty.await();
+			}
+			return entry;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Closes the queue, discarding the frames not taken yet. Senders waiting for space are
+	 * released.
+	 */
+	void close() {
+		ArrayDeque<Entry> discarded = new ArrayDeque<>();
+		lock.lock();
+		try {
+			closed = true;
+			discarded.addAll(priority);
+			discarded.addAll(normal);
+			priority.clear();
+			normal.clear();
+			queuedBytes = 0;
+			notEmpty.signalAll();
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		for (Entry entry : discarded) {
+			entry.complete();
+		}
+	}
+
+	/**
+	 * Returns the number of bytes queued.
+	 */
+	long getQueuedBytes() {
+		lock.lock();
+		try {
+			return queuedBytes;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private Entry next() {
+		Entry entry = priority.poll();
+		if (entry == null) {
+			entry = normal.poll();
+		}
+		if (entry != null) {
+			queuedBytes -= entry.length;
+			notFull.signalAll();
+		}
+		return entry;
+	}
+}
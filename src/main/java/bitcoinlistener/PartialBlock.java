@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.datatypes.SHA256Hash;
+import bitcoinlistener.messages.BlockMessage;
+import bitcoinlistener.messages.CmpctBlockMessage;
+import bitcoinlistener.messages.TxMessage;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * A block being rebuilt from a compact block: the prefilled transactions, those found in the
+ * {@link TxPool} by short id and, once received, those requested with getblocktxn.
+ */
+class PartialBlock {
+
+	private final CmpctBlockMessage compact;
+	private final TxMessage[] txs;
+	private int[] missing;
+	private int fromPool;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	PartialBlock(CmpctBlockMessage compact) {
+		this.compact = compact;
+		this.txs = new TxMessage[compact.getTxCount()];
+		int[] indexes = compact.getPrefilledIndexes();
+		for (int x = 0; x < indexes.length; x++) {
+			txs[indexes[x]] = compact.getPrefilledTxs().get(x);
+		}
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Fills the transactions whose short id matches one of the pool. A short id that appears
+	 * twice in the block, or matches two transactions, is left to be requested.
+	 *
+	 * @return positions of the transactions still missing, in ascending order
+	 */
+	int[] fill(TxPool pool) {
+		// position in the block of each short id (those not prefilled, in order)
+		long[] shortIds = compact.getShortIds();
+		Map<Long, Integer> positions = new HashMap<>(shortIds.length * 2);
+		boolean[] ambiguous = new boolean[txs.length];
+		int position = 0;
+		for (long shortId : shortIds) {
+			while (txs[position] != null) {
+				position++;
+			}
+			Integer previous = positions.putIfAbsent(shortId, position);
+			if (previous != null) {
+				ambiguous[previous] = true;
+				ambiguous[position] = true;
+			}
+			position++;
+		}
+
+		byte[] id = new byte[SHA256Hash.LENGTH];
+		for (TxMessage tx : pool.getTxs()) {
+			tx.getTxId().writeTo(id, 0);
+			Integer index = positions.get(compact.getShortId(id, 0));
+			if (index == null || ambiguous[index]) {
+				continue;
+			}
+			if (txs[index] != null) {
+				// two transactions with the same short id
+				ambiguous[index] = true;
+				txs[index] = null;
+				fromPool--;
+				continue;
+			}
+			txs[index] = tx;
+			fromPool++;
+		}
+
+		int count = 0;
+		for (TxMessage tx : txs) {
+			if (tx == null) {
+				count++;
+			}
+		}
+		this.missing = new int[count];
+		for (int x = 0, m = 0; x < txs.length; x++) {
+			if (txs[x] == null) {
+				missing[m++] = x;
+			}
+		}
+		return missing;
+	}
+
+	/**
+	 * Fills the transactions received in a blocktxn.
+	 *
+	 * @return false if they are not the ones missing
+	 */
+	boolean fillMissing(List<TxMessage> received) {
+		if (received.size() != missing.length) {
+			return false;
+		}
+		for (int x = 0; x < missing.length; x++) {
+			txs[missing[x]] = received.get(x);
+		}
+		return true;
+	}
+
+	/**
+	 * Serializes the block and loads it as if it had been received in a block message.
+	 */
+	BlockMessage toBlock(Executor hashExecutor) {
+		BitcoinBuffer buf = new BitcoinBuffer(80 + 9 + 400 * txs.length);
+		compact.writeHeader(buf);
+		buf.putVarInt(txs.length);
+		for (TxMessage tx : txs) {
+			tx.writeToBuffer(buf);
+		}
+		BlockMessage block = new BlockMessage(hashExecutor);
+		block.loadFromBuffer(new BitcoinBuffer(buf.toArrayExactSize()));
+		return block;
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	SHA256Hash getHash() {
+		return compact.getHash();
+	}
+
+	/** Number of transactions taken from the pool */
+	int getFromPool() {
+		return fromPool;
+	}
+
+	int getTxCount() {
+		return txs.length;
+	}
+}
@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.ConnectionListener.ConnectionEvent;
+import bitcoinlistener.datatypes.BlockHeader;
+import bitcoinlistener.datatypes.InvObject;
+import bitcoinlistener.datatypes.SHA256Hash;
+import bitcoinlistener.messages.AbstractBlockMessage;
+import bitcoinlistener.messages.BlockMessage;
+import bitcoinlistener.messages.BlockVisitor;
+import bitcoinlistener.messages.TxMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Connections to several nodes behind a single set of listeners.
+ * <p>
+ * Each object announced is requested from only one of the peers that announced it, and each
+ * transaction and block is passed to the listeners once, whichever peer sent it. A request not
+ * answered in time, answered with notfound or whose peer disconnects, is sent to another peer
+ * that announced the object.
+ * So the bandwidth and parsing cost stay the same as peers are added for resilience. Likewise,
+ * at most {@value #MAX_HIGH_BANDWIDTH_PEERS} peers push compact blocks unannounced
+ * (high-bandwidth mode, BIP 152); the others announce them first.
+ * <p>
+ * The listeners are invoked by the consumer threads of the {@link EventRing} shared by the peers.
+ */
+public class PeerGroup {
+
+	private static final Logger log = LoggerFactory.getLogger(PeerGroup.class);
+
+	/** Number of objects delivered remembered, so they are not requested or delivered again */
+	public static final int DEFAULT_RECENT_OBJECTS = 50_000;
+
+	/** Peers asked to send compact blocks without announcing them first (BIP 152) */
+	public static final int MAX_HIGH_BANDWIDTH_PEERS = 3;
+
+	/** Number of block headers delivered remembered, so they are not delivered again */
+	private static final int RECENT_HEADERS = 1_000;
+
+	/**
+	 * An object requested from a peer.
+	 */
+	private static final class Request {
+		final InvObject inv;
+		BitcoinClient peer;
+
+		/** Other peers that announced the object */
+		final List<BitcoinClient> announcers = new ArrayList<>(2);
+
+		Request(InvObject inv) {
+			this.inv = inv;
+		}
+	}
+
+	// =============================================================================================
+
+	private final NetworkParameters params;
+	private final NioEventLoopGroup eventLoopGroup;
+	private final EventRing eventRing;
+	private final TxPool txPool = new TxPool();
+	private final List<BitcoinClient> peers = new CopyOnWriteArrayList<>();
+	private final List<TransactionListener> txListeners = new CopyOnWriteArrayList<>();
+	private final List<BlockListener> blockListeners = new CopyOnWriteArrayList<>();
+	private final List<HeaderListener> headerListeners = new CopyOnWriteArrayList<>();
+	private final List<BlockVisitor> blockVisitors = new CopyOnWriteArrayList<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Map<SHA256Hash, Request> requests = new HashMap<>();
+	private final Map<SHA256Hash, Boolean> delivered;
+	private final Map<SHA256Hash, Boolean> deliveredHeaders;
+	private final Set<BitcoinClient> highBandwidthPeers = new HashSet<>();
+	private volatile long requestTimeoutMillis = RequestScheduler.DEFAULT_REQUEST_TIMEOUT_MILLIS;
+	private long reassigned;
+	private long duplicates;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	/**
+	 * Creates a group whose peers use blocking sockets.
+	 */
+	public PeerGroup(NetworkParameters params) {
+		this(params, null, new EventRing());
+	}
+
+	/**
+	 * @param eventLoopGroup event loops serving the connections (null for blocking sockets)
+	 * @param eventRing      ring through which the listeners of the group are invoked
+	 */
+	public PeerGroup(NetworkParameters params, NioEventLoopGroup eventLoopGroup,
+					 EventRing eventRing) {
+		this.params = params;
+		this.eventLoopGroup = eventLoopGroup;
+		this.eventRing = eventRing;
+		this.delivered = new LinkedHashMap<SHA256Hash, Boolean>(16, 0.75f, false) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<SHA256Hash, Boolean> eldest) {
+				return size() > DEFAULT_RECENT_OBJECTS;
+			}
+		};
+		this.deliveredHeaders = new LinkedHashMap<SHA256Hash, Boolean>(16, 0.75f, false) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<SHA256Hash, Boolean> eldest) {
+				return size() > RECENT_HEADERS;
+			}
+		};
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Adds a node to the group. It is connected by {@link #connect()}, or by
+	 * {@link BitcoinClient#connect()} if the group is already connected.
+	 *
+	 * @return the client of the node, whose listeners must not be used directly
+	 */
+	public BitcoinClient addPeer(String ip, int port) {
+		BitcoinClient peer = eventLoopGroup != null ?
+				new BitcoinClient(ip, port, params, eventLoopGroup) :
+				new BitcoinClient(ip, port, params);
+		peer.setEventRing(eventRing);
+		peer.setTxPool(txPool);
+		peer.setPeerGroup(this);
+		peer.getRequestScheduler().setRequestTimeout(requestTimeoutMillis);
+		peer.addTransactionListener(this::onTransaction);
+		peer.addBlockListener(this::onBlock);
+		peer.addHeaderListener(this::onHeader);
+		peer.addConnectionListener((event, conn) -> {
+			if (event == ConnectionEvent.Disconnected) {
+				onDisconnected(peer);
+			}
+		});
+		peers.add(peer);
+		return peer;
+	}
+
+	/**
+	 * Connects to all the peers.
+	 *
+	 * @return future completed when one of the peers is ready, or exceptionally if none of
+	 * them could connect
+	 */
+	public CompletableFuture<PeerGroup> connect() {
+		CompletableFuture<PeerGroup> ready = new CompletableFuture<>();
+		AtomicInteger failed = new AtomicInteger();
+		List<BitcoinClient> list = new ArrayList<>(peers);
+		for (BitcoinClient peer : list) {
+			peer.connect().whenComplete((client, ex) -> {
+				if (ex == null) {
+					ready.complete(this);
+				} else if (failed.incrementAndGet() == list.size()) {
+					ready.completeExceptionally(ex);
+				}
+			});
+		}
+		if (list.isEmpty()) {
+			ready.completeExceptionally(new BitcoinListenerException("No peers"));
+		}
+		return ready;
+	}
+
+	/**
+	 * Disconnects all the peers.
+	 */
+	public void disconnect() throws Exception {
+		for (BitcoinClient peer : peers) {
+			if (peer.isConnected()) {
+				peer.disconnect();
+			}
+		}
+	}
+
+	/**
+	 * Sets the bloom filter of all the peers.
+	 */
+	public void setFilterList(Collection<String> addresses) {
+		for (BitcoinClient peer : peers) {
+			peer.setFilterList(addresses);
+		}
+	}
+
+	public void addTransactionListener(TransactionListener txListener) {
+		txListeners.add(txListener);
+	}
+
+	public void addBlockListener(BlockListener blockListener) {
+		blockListeners.add(blockListener);
+	}
+
+	/**
+	 * Adds a listener that receives the header of each new block once, from the first peer
+	 * that announces it. It is invoked on the thread that reads that peer.
+	 */
+	public void addHeaderListener(HeaderListener headerListener) {
+		headerListeners.add(headerListener);
+	}
+
+	/**
+	 * Adds a visitor that receives the contents of every full block, once.
+	 */
+	public void addBlockVisitor(BlockVisitor blockVisitor) {
+		blockVisitors.add(blockVisitor);
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	public List<BitcoinClient> getPeers() {
+		return Collections.unmodifiableList(peers);
+	}
+
+	public EventRing getEventRing() {
+		return eventRing;
+	}
+
+	/**
+	 * Sets the time a peer has to answer a request before it is sent to another peer.
+	 */
+	public void setRequestTimeout(long requestTimeoutMillis) {
+		this.requestTimeoutMillis = requestTimeoutMillis;
+		for (BitcoinClient peer : peers) {
+			peer.getRequestScheduler().setRequestTimeout(requestTimeoutMillis);
+		}
+	}
+
+	/** Returns the number of objects requested and not received yet */
+	public int getPendingRequests() {
+		lock.lock();
+		try {
+			return requests.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of requests sent to another peer after a timeout, notfound or
+	 * disconnection
+	 */
+	public long getReassignedRequests() {
+		lock.lock();
+		try {
+			return reassigned;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** Returns the number of transactions and blocks received more than once (not delivered) */
+	public long getDuplicates() {
+		lock.lock();
+		try {
+			return duplicates;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// =============================================================================================
+	// PEER CALLBACKS
+	// =============================================================================================
+
+	/**
+	 * Invoked by a peer for each object announced that it would request.
+	 *
+	 * @return whether the peer must request it (false if it was already received or requested
+	 * from another peer)
+	 */
+	boolean claim(BitcoinClient peer, InvObject inv) {
+		SHA256Hash hash = inv.getHash();
+		lock.lock();
+		try {
+			if (delivered.containsKey(hash)) {
+				return false;
+			}
+			Request request = requests.get(hash);
+			if (request != null) {
+				if (request.peer != peer && !request.announcers.contains(peer)) {
+					request.announcers.add(peer);
+				}
+				return false;
+			}
+			request = new Request(inv);
+			request.peer = peer;
+			requests.put(hash, request);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Invoked by a peer that would ask for compact blocks in high-bandwidth mode.
+	 *
+	 * @return whether it may (false if {@value #MAX_HIGH_BANDWIDTH_PEERS} other peers do)
+	 */
+	boolean claimHighBandwidth(BitcoinClient peer) {
+		lock.lock();
+		try {
+			if (highBandwidthPeers.contains(peer)) {
+				return true;
+			}
+			if (highBandwidthPeers.size() >= MAX_HIGH_BANDWIDTH_PEERS) {
+				return false;
+			}
+			return highBandwidthPeers.add(peer);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Invoked by a peer when a request it claimed timed out, was answered with notfound or
+	 * with a block that failed verification.
+	 */
+	void onRequestFailed(BitcoinClient peer, InvObject inv) {
+		List<Map.Entry<BitcoinClient, InvObject>> moved = new ArrayList<>(1);
+		lock.lock();
+		try {
+			Request request = requests.get(inv.getHash());
+			if (request == null || request.peer != peer) {
+				return;
+			}
+			log.debug("Request to {} failed: {}", peer.getIp(), inv);
+			if (!reassign(request, moved)) {
+				// forgotten: requested again if announced by another peer
+				requests.remove(inv.getHash());
+			}
+		} finally {
+			lock.unlock();
+		}
+		send(moved);
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private void onTransaction(TxMessage tx, BitcoinConnection conn) {
+		if (!markDelivered(tx.getTxId())) {
+			return;
+		}
+		for (TransactionListener txListener : txListeners) {
+			try {
+				txListener.onTransaction(tx, conn);
+			} catch (Throwable t) {
+				log.warn("Error calling transaction listener", t);
+			}
+		}
+	}
+
+	private void onBlock(AbstractBlockMessage block, BitcoinConnection conn) {
+		if (!markDelivered(block.getHash())) {
+			return;
+		}
+		if (block instanceof BlockMessage) {
+			for (BlockVisitor blockVisitor : blockVisitors) {
+				try {
+					((BlockMessage) block).accept(blockVisitor);
+				} catch (Throwable t) {
+					log.warn("Error calling block visitor", t);
+				}
+			}
+		}
+		for (BlockListener blockListener : blockListeners) {
+			try {
+				blockListener.onBlock(block, conn);
+			} catch (Throwable t) {
+				log.warn("Error calling block listener", t);
+			}
+		}
+	}
+
+	private void onHeader(BlockHeader header, BitcoinConnection conn) {
+		lock.lock();
+		try {
+			if (deliveredHeaders.put(header.getHash(), Boolean.TRUE) != null) {
+				return;
+			}
+		} finally {
+			lock.unlock();
+		}
+		for (HeaderListener headerListener : headerListeners) {
+			try {
+				headerListener.onHeader(header, conn);
+			} catch (Throwable t) {
+				log.warn("Error calling header listener", t);
+			}
+		}
+	}
+
+	/**
+	 * Records an object received.
+	 *
+	 * @return whether it was received for the first time
+	 */
+	private boolean markDelivered(SHA256Hash hash) {
+		lock.lock();
+		try {
+			requests.remove(hash);
+			if (delivered.put(hash, Boolean.TRUE) != null) {
+				duplicates++;
+				return false;
+			}
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void onDisconnected(BitcoinClient peer) {
+		List<Map.Entry<BitcoinClient, InvObject>> moved = new ArrayList<>();
+		lock.lock();
+		try {
+			highBandwidthPeers.remove(peer);
+			for (Iterator<Request> it = requests.values().iterator(); it.hasNext(); ) {
+				Request request = it.next();
+				request.announcers.remove(peer);
+				if (request.peer == peer && !reassign(request, moved)) {
+					it.remove();
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+		send(moved);
+	}
+
+	/**
+	 * Moves a request to another peer that announced the object.
+	 *
+	 * @param moved requests to be sent by peer, where the request is added
+	 * @return false if there is no other peer
+	 */
+	private boolean reassign(Request request, List<Map.Entry<BitcoinClient, InvObject>> moved) {
+		while (!request.announcers.isEmpty()) {
+			BitcoinClient next = request.announcers.remove(0);
+			if (next.isConnected()) {
+				request.peer = next;
+				moved.add(new AbstractMap.SimpleImmutableEntry<>(next, request.inv));
+				reassigned++;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Queues the requests moved in the schedulers of their new peers (outside the lock).
+	 */
+	private void send(List<Map.Entry<BitcoinClient, InvObject>> moved) {
+		for (Map.Entry<BitcoinClient, InvObject> e : moved) {
+			e.getKey().getRequestScheduler().request(Collections.singletonList(e.getValue()));
+		}
+	}
+}
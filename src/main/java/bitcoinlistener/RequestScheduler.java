@@ -0,0 +1,553 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.datatypes.InvObject;
+import bitcoinlistener.datatypes.InvObject.InventoryType;
+import bitcoinlistener.datatypes.SHA256Hash;
+import bitcoinlistener.messages.GetDataMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sends the getdata requests of a connection.
+ * <p>
+ * Objects announced within a short interval are requested in a single getdata, and the number of
+ * requests not answered yet is limited by a window, so a burst of announcements becomes a steady
+ * stream of downloads. The window grows while the round trip time stays close to the lowest one
+ * measured, and shrinks when it rises (requests queue up at the peer) or requests time out.
+ * Blocks are requested at once, ahead of transactions and regardless of the window.
+ * <p>
+ * Requests answered with notfound or not answered in time are reported to the client, so that a
+ * {@link PeerGroup} can send them to another peer.
+ */
+public class RequestScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(RequestScheduler.class);
+
+	public static final long DEFAULT_COALESCE_MILLIS = 20;
+	public static final int DEFAULT_MAX_WINDOW = 2048;
+	public static final long DEFAULT_REQUEST_TIMEOUT_MILLIS = 20_000;
+	public static final int INITIAL_WINDOW = 32;
+	public static final int MIN_WINDOW = 4;
+
+	/** Maximum number of entries of a getdata (MAX_INV_SZ) */
+	private static final int MAX_GETDATA_ENTRIES = 50_000;
+
+	/** Round trip time above the lowest one that is not taken as queuing */
+	private static final long RTT_TOLERANCE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private static final long CHECK_INTERVAL_MILLIS = 250;
+
+	/** Time before a getdata that didn't fit in the outbound queue is sent again */
+	private static final long RETRY_MILLIS = 50;
+
+	/**
+	 * An object requested and not received yet.
+	 */
+	private static final class Request {
+		final InvObject inv;
+		final long sentNanos;
+
+		Request(InvObject inv, long sentNanos) {
+			this.inv = inv;
+			this.sentNanos = sentNanos;
+		}
+	}
+
+	// =============================================================================================
+
+	private final BitcoinClient client;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final ArrayDeque<InvObject> blocks = new ArrayDeque<>();
+	private final ArrayDeque<InvObject> txs = new ArrayDeque<>();
+
+	/** Hashes of the objects in the queues */
+	private final HashSet<SHA256Hash> queued = new HashSet<>();
+
+	/** In the order they were sent, so the oldest are checked first for timeouts */
+	private final LinkedHashMap<SHA256Hash, Request> inFlight = new LinkedHashMap<>();
+	private int blocksInFlight;
+
+	private long coalesceMillis = DEFAULT_COALESCE_MILLIS;
+	private int maxWindow = DEFAULT_MAX_WINDOW;
+	private long requestTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_REQUEST_TIMEOUT_MILLIS);
+
+	private int window = INITIAL_WINDOW;
+	private boolean slowStart = true;
+	private int credit;
+	private long smoothedRttNanos;
+	private long minRttNanos = Long.MAX_VALUE;
+	private long lastDecreaseNanos;
+
+	private ScheduledFuture<?> flushTask;
+	private ScheduledFuture<?> checkTask;
+
+	private long requested;
+	private long received;
+	private long notFound;
+	private long timedOut;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	RequestScheduler(BitcoinClient client) {
+		this.client = client;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Sets how requests are sent.
+	 *
+	 * @param coalesceMillis       time announcements are collected before being requested
+	 * @param maxWindow            maximum number of transactions requested and not received
+	 * @param requestTimeoutMillis time a request may take
+	 */
+	void configure(long coalesceMillis, int maxWindow, long requestTimeoutMillis) {
+		lock.lock();
+		try {
+			this.coalesceMillis = coalesceMillis;
+			this.maxWindow = Math.max(MIN_WINDOW, maxWindow);
+			this.window = Math.min(window, this.maxWindow);
+			this.requestTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(requestTimeoutMillis);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Sets the time a request may take before it is reported as failed.
+	 */
+	void setRequestTimeout(long requestTimeoutMillis) {
+		lock.lock();
+		try {
+			this.requestTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(requestTimeoutMillis);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Starts checking timeouts (when the connection is established).
+	 */
+	void start() {
+		lock.lock();
+		try {
+			if (checkTask == null) {
+				checkTask = BitcoinClient.TIMER.scheduleWithFixedDelay(
+						this::checkTimeouts, CHECK_INTERVAL_MILLIS, CHECK_INTERVAL_MILLIS,
+						TimeUnit.MILLISECONDS);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Discards the requests queued and sent (when the connection is closed). They are not
+	 * reported as failed.
+	 */
+	void reset() {
+		lock.lock();
+		try {
+			cancel(flushTask);
+			cancel(checkTask);
+			flushTask = null;
+			checkTask = null;
+			blocks.clear();
+			txs.clear();
+			queued.clear();
+			inFlight.clear();
+			blocksInFlight = 0;
+			window = Math.min(INITIAL_WINDOW, maxWindow);
+			slowStart = true;
+			credit = 0;
+			smoothedRttNanos = 0;
+			minRttNanos = Long.MAX_VALUE;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Queues objects to be requested. Objects already queued or in flight are skipped.
+	 */
+	void request(List<InvObject> list) {
+		boolean block = false;
+		lock.lock();
+		try {
+			for (InvObject inv : list) {
+				if (inFlight.containsKey(inv.getHash()) || !queued.add(inv.getHash())) {
+					continue;
+				}
+				if (inv.getType() == InventoryType.MSG_TX) {
+					txs.add(inv);
+				} else {
+					blocks.add(inv);
+					block = true;
+				}
+			}
+			if (!txs.isEmpty() && flushTask == null) {
+				flushTask = BitcoinClient.TIMER.schedule(() -> flush(true), coalesceMillis,
+														 TimeUnit.MILLISECONDS);
+			}
+		} finally {
+			lock.unlock();
+		}
+		if (block) {
+			flush(false);
+		}
+	}
+
+	/**
+	 * Invoked when an object is received.
+	 */
+	void onReceived(SHA256Hash hash) {
+		boolean refill;
+		lock.lock();
+		try {
+			Request request = remove(hash);
+			if (request == null) {
+				return; // not requested (or timed out)
+			}
+			received++;
+			if (request.inv.getType() == InventoryType.MSG_TX) {
+				// blocks take longer to transfer: they would be taken as queuing
+				updateWindow(System.nanoTime() - request.sentNanos);
+			}
+			refill = needsRefill();
+		} finally {
+			lock.unlock();
+		}
+		if (refill) {
+			flush(true);
+		}
+	}
+
+	/**
+	 * Keeps an object in flight, with its time restarted, while the rest of it is awaited (a
+	 * compact block waiting for its missing transactions). It times out like a request, even if
+	 * it was sent without one.
+	 */
+	void expect(InvObject inv) {
+		lock.lock();
+		try {
+			remove(inv.getHash());
+			inFlight.put(inv.getHash(), new Request(inv, System.nanoTime()));
+			if (inv.getType() != InventoryType.MSG_TX) {
+				blocksInFlight++;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops waiting for an object, without counting it as received or failed (e.g. before it
+	 * is requested again in another form).
+	 */
+	void forget(SHA256Hash hash) {
+		lock.lock();
+		try {
+			remove(hash);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Invoked when the peer reports it doesn't have objects requested.
+	 */
+	void onNotFound(List<InvObject> list) {
+		List<InvObject> failed = new ArrayList<>();
+		boolean refill;
+		lock.lock();
+		try {
+			for (InvObject inv : list) {
+				Request request = remove(inv.getHash());
+				if (request != null) {
+					notFound++;
+					failed.add(request.inv);
+				}
+			}
+			refill = needsRefill();
+		} finally {
+			lock.unlock();
+		}
+		for (InvObject inv : failed) {
+			client.onRequestFailed(inv);
+		}
+		if (refill) {
+			flush(true);
+		}
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	/** Number of objects requested and not received */
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** Number of objects waiting to be requested */
+	public int getQueued() {
+		lock.lock();
+		try {
+			return blocks.size() + txs.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** Current maximum number of transactions in flight */
+	public int getWindow() {
+		lock.lock();
+		try {
+			return window;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** Smoothed round trip time of the requests, in microseconds (0 before the first one) */
+	public long getSmoothedRttMicros() {
+		lock.lock();
+		try {
+			return smoothedRttNanos / 1000;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getRequested() {
+		lock.lock();
+		try {
+			return requested;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getReceived() {
+		lock.lock();
+		try {
+			return received;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getNotFound() {
+		lock.lock();
+		try {
+			return notFound;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getTimedOut() {
+		lock.lock();
+		try {
+			return timedOut;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	/**
+	 * Sends the queued blocks and, if requested, as many queued transactions as the window
+	 * allows.
+	 * <p>
+	 * Runs on the timer shared by all the clients, so the getdata is only queued if there is
+	 * room: a full outbound queue puts the objects back and the flush is tried again later.
+	 */
+	private void flush(boolean includeTxs) {
+		GetDataMessage getdata = new GetDataMessage();
+		lock.lock();
+		try {
+			if (includeTxs) {
+				cancel(flushTask);
+				flushTask = null;
+			}
+			long now = System.nanoTime();
+			int entries = 0;
+			while (!blocks.isEmpty() && entries < MAX_GETDATA_ENTRIES) {
+				entries += send(blocks.poll(), now, getdata);
+			}
+			while (includeTxs && !txs.isEmpty() && inFlight.size() - blocksInFlight < window
+				   && entries < MAX_GETDATA_ENTRIES) {
+				entries += send(txs.poll(), now, getdata);
+			}
+			if (!txs.isEmpty() && entries == MAX_GETDATA_ENTRIES && flushTask == null) {
+				flushTask = BitcoinClient.TIMER.schedule(() -> flush(true), 0,
+														 TimeUnit.MILLISECONDS);
+			}
+		} finally {
+			lock.unlock();
+		}
+		if (getdata.hasObjects() && !client.offerMessage(getdata)) {
+			if (client.isConnected()) {
+				log.debug("Outbound queue full, getdata delayed");
+				requeue(getdata.getList());
+			}
+		}
+	}
+
+	/**
+	 * Puts back the objects of a getdata that was not sent, ahead of the queued ones.
+	 */
+	private void requeue(List<InvObject> list) {
+		lock.lock();
+		try {
+			for (int x = list.size() - 1; x >= 0; x--) {
+				InvObject inv = list.get(x);
+				if (remove(inv.getHash()) == null || !queued.add(inv.getHash())) {
+					continue; // e.g. the connection was reset
+				}
+				requested--;
+				if (inv.getType() == InventoryType.MSG_TX) {
+					txs.addFirst(inv);
+				} else {
+					blocks.addFirst(inv);
+				}
+			}
+			if (flushTask == null) {
+				flushTask = BitcoinClient.TIMER.schedule(() -> flush(true), RETRY_MILLIS,
+														 TimeUnit.MILLISECONDS);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private int send(InvObject inv, long now, GetDataMessage getdata) {
+		queued.remove(inv.getHash());
+		if (inFlight.putIfAbsent(inv.getHash(), new Request(inv, now)) != null) {
+			return 0;
+		}
+		if (inv.getType() != InventoryType.MSG_TX) {
+			blocksInFlight++;
+		}
+		getdata.addObject(inv);
+		requested++;
+		return 1;
+	}
+
+	private Request remove(SHA256Hash hash) {
+		Request request = inFlight.remove(hash);
+		if (request != null && request.inv.getType() != InventoryType.MSG_TX) {
+			blocksInFlight--;
+		}
+		return request;
+	}
+
+	/**
+	 * Whether transactions are waiting and half of the window is free, so they are requested in
+	 * batches as the answers arrive.
+	 */
+	private boolean needsRefill() {
+		return !txs.isEmpty() && flushTask == null
+			   && inFlight.size() - blocksInFlight <= window / 2;
+	}
+
+	private void updateWindow(long rttNanos) {
+		smoothedRttNanos = smoothedRttNanos == 0 ? rttNanos :
+						   smoothedRttNanos + (rttNanos - smoothedRttNanos) / 8;
+		minRttNanos = Math.min(minRttNanos, rttNanos);
+
+		long now = System.nanoTime();
+		if (smoothedRttNanos > 2 * minRttNanos + RTT_TOLERANCE_NANOS) {
+			// requests wait at the peer: at most one decrease per round trip
+			if (now - lastDecreaseNanos > smoothedRttNanos) {
+				decreaseWindow(now);
+			}
+		} else if (slowStart) {
+			// doubles every round trip
+			window = Math.min(maxWindow, window + 1);
+		} else if (++credit >= window) {
+			credit = 0;
+			window = Math.min(maxWindow, window + 1);
+		}
+	}
+
+	private void decreaseWindow(long now) {
+		window = Math.max(MIN_WINDOW, window * 3 / 4);
+		slowStart = false;
+		credit = 0;
+		lastDecreaseNanos = now;
+	}
+
+	private void checkTimeouts() {
+		List<InvObject> failed = new ArrayList<>();
+		boolean refill;
+		lock.lock();
+		try {
+			long now = System.nanoTime();
+			for (Iterator<Map.Entry<SHA256Hash, Request>> it = inFlight.entrySet().iterator();
+				 it.hasNext(); ) {
+				Request request = it.next().getValue();
+				if (now - request.sentNanos < requestTimeoutNanos) {
+					break;
+				}
+				it.remove();
+				if (request.inv.getType() != InventoryType.MSG_TX) {
+					blocksInFlight--;
+				}
+				timedOut++;
+				failed.add(request.inv);
+			}
+			if (!failed.isEmpty()) {
+				log.debug("{} requests to {} timed out", failed.size(), client.getIp());
+				decreaseWindow(now);
+			}
+			refill = needsRefill();
+		} finally {
+			lock.unlock();
+		}
+		for (InvObject inv : failed) {
+			client.onRequestFailed(inv);
+		}
+		if (refill) {
+			flush(true);
+		}
+	}
+
+	private static void cancel(ScheduledFuture<?> task) {
+		if (task != null) {
+			task.cancel(false);
+		}
+	}
+}
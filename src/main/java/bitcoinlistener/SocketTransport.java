@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Transport using a blocking {@link Socket} with a dedicated reader thread and a dedicated
+ * writer thread.
+ * <p>
+ * Senders only queue their bytes, so a slow peer never blocks them (up to the limit of the
+ * {@link OutboundQueue}). The writer copies consecutive small frames into one buffer, so a
+ * burst of messages (e.g. getdata and pong) takes a single write.
+ */
+class SocketTransport implements Transport {
+
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+	private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+	private final String ip;
+	private final int port;
+	private final Handler handler;
+	private final OutboundQueue queue;
+	private final Socket sock = new Socket();
+	private volatile OutputStream out;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	SocketTransport(String ip, int port, Handler handler, OutboundQueue queue) {
+		this.ip = ip;
+		this.port = port;
+		this.handler = handler;
+		this.queue = queue;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public void open() {
+		// Connects and reads on another thread
+		new Thread(this::readLoop, "bitcoinlistener-reader-" + ip + ":" + port).start();
+	}
+
+	@Override
+	public void write(byte[] data, int offset, int length, boolean urgent, Runnable onWritten) {
+		boolean queued;
+		try {
+			// the writer never sends, so callers may wait for it to make room
+			queued = queue.add(new OutboundQueue.Entry(data, offset, length, onWritten), urgent,
+							   true);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BitcoinListenerException("Interrupted while sending message", e);
+		}
+		if (!queued) {
+			close();
+			throw new BitcoinListenerException("Error sending message to socket: connection " +
+											   "closed or peer not reading");
+		}
+	}
+
+	@Override
+	public boolean offer(byte[] data, int offset, int length, Runnable onWritten) {
+		return queue.offer(new OutboundQueue.Entry(data, offset, length, onWritten));
+	}
+
+	@Override
+	public void close() {
+		queue.close();
+		try { sock.close(); } catch (IOException e) { }
+	}
+
+	@Override
+	public boolean isOpen() {
+		return sock.isConnected() && !sock.isClosed();
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private void readLoop() {
+		Throwable cause = null;
+		try {
+			// a timeout is applied by the client, which closes the socket
+			sock.connect(new InetSocketAddress(ip, port));
+			this.out = sock.getOutputStream();
+			Thread writer = new Thread(this::writeLoop, "bitcoinlistener-writer-" + ip + ":" + port);
+			writer.setDaemon(true);
+			writer.start();
+			handler.onConnected();
+
+			byte[] buf = new byte[READ_BUFFER_SIZE];
+			InputStream in = sock.getInputStream();
+			int i;
+			while ((i = in.read(buf)) != -1) {
+				handler.onData(buf, 0, i);
+			}
+		} catch (Throwable t) {
+			cause = t;
+		} finally {
+			queue.close();
+			try { sock.close(); } catch (IOException e) { }
+			handler.onClosed(cause);
+		}
+	}
+
+	private void writeLoop() {
+		byte[] buf = new byte[WRITE_BUFFER_SIZE];
+		OutboundQueue.Entry next = null;
+		try {
+			next = queue.take();
+			while (next != null) {
+				if (next.length > buf.length / 2) {
+					// large frame: written as is
+					out.write(next.data, next.offset, next.length);
+					out.flush();
+					next.complete();
+					next = null;
+					next = queue.take();
+					continue;
+				}
+
+				// coalesce the small frames already queued
+				int size = 0;
+				while (next != null && next.length <= buf.length - size) {
+					System.arraycopy(next.data, next.offset, buf, size, next.length);
+					size += next.length;
+					next.complete();
+					next = queue.poll();
+				}
+				out.write(buf, 0, size);
+				out.flush();
+				if (next == null) {
+					next = queue.take();
+				}
+			}
+		} catch (IOException | InterruptedException e) {
+			if (next != null) {
+				next.complete();
+			}
+			// the reader is notified when the socket is closed
+			close();
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import java.io.IOException;
+
+/**
+ * Byte stream to a bitcoin node used by {@link BitcoinClient}.
+ * <p>
+ * A transport only moves bytes: framing and protocol handling are done by the client.
+ */
+interface Transport {
+
+	/**
+	 * Receives the events of a transport.
+	 */
+	interface Handler {
+
+		/**
+		 * Invoked once when the connection is established. Bytes written before are sent
+		 * afterwards.
+		 */
+		void onConnected();
+
+		/**
+		 * Invoked when bytes are received from the peer. The array may be reused after this
+		 * method returns.
+		 */
+		void onData(byte[] data, int offset, int length) throws Exception;
+
+		/**
+		 * Invoked once when the transport is closed, or when the connection could not be
+		 * established.
+		 *
+		 * @param cause error that caused the transport to be closed or null
+		 */
+		void onClosed(Throwable cause);
+	}
+
+	/**
+	 * Starts connecting to the peer. Returns once the address is resolved (which may block the
+	 * caller): {@link Handler#onConnected()} is invoked when connected, then data is received
+	 * until the transport is closed.
+	 */
+	void open() throws IOException;
+
+	/**
+	 * Queues bytes to be sent to the peer. May be called from any thread.
+	 *
+	 * @param data      array containing the bytes to be sent. The range must not be modified
+	 *                  until the callback is invoked.
+	 * @param offset    position of the first byte
+	 * @param length    number of bytes
+	 * @param urgent    whether the bytes are sent ahead of the ones already queued (control
+	 *                  messages)
+	 * @param onWritten invoked exactly once when the range is no longer used by the transport,
+	 *                  whether it was sent or discarded (it may be null)
+	 * @throws BitcoinListenerException if the bytes could not be queued
+	 */
+	void write(byte[] data, int offset, int length, boolean urgent, Runnable onWritten);
+
+	/**
+	 * Queues bytes to be sent to the peer if there is room, without waiting and regardless of
+	 * the overflow policy. May be called from any thread.
+	 *
+	 * @return false if the bytes were not queued (the queue is full or the transport closed).
+	 * The callback was invoked.
+	 */
+	boolean offer(byte[] data, int offset, int length, Runnable onWritten);
+
+	/** Closes the connection */
+	void close();
+
+	/** Returns whether this transport is connected */
+	boolean isOpen();
+}
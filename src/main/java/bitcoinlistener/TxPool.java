@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.datatypes.SHA256Hash;
+import bitcoinlistener.messages.TxMessage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The transactions received most recently, from which blocks announced as compact blocks are
+ * rebuilt. Bounded: the oldest transactions are discarded first.
+ */
+public class TxPool {
+
+	public static final int DEFAULT_MAX_SIZE = 50_000;
+
+	// =============================================================================================
+
+	private final int maxSize;
+	private final LinkedHashMap<SHA256Hash, TxMessage> txs;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	public TxPool() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param maxSize number of transactions kept
+	 */
+	public TxPool(int maxSize) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("Invalid size: " + maxSize);
+		}
+		this.maxSize = maxSize;
+		this.txs = new LinkedHashMap<SHA256Hash, TxMessage>(16, 0.75f, false) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<SHA256Hash, TxMessage> eldest) {
+				return size() > TxPool.this.maxSize;
+			}
+		};
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	public synchronized void add(TxMessage tx) {
+		txs.put(tx.getTxId(), tx);
+	}
+
+	public synchronized TxMessage get(SHA256Hash txId) {
+		return txs.get(txId);
+	}
+
+	/**
+	 * Returns a copy of the transactions, so they can be matched without holding the pool.
+	 */
+	public synchronized List<TxMessage> getTxs() {
+		return new ArrayList<>(txs.values());
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	public synchronized int size() {
+		return txs.size();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.datatypes;
+
+import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.ProtocolData;
+import bitcoinlistener.util.HashUtil;
+
+import java.math.BigInteger;
+
+/**
+ * The 80-byte header of a block, whose hash identifies the block. Part of block, merkleblock and
+ * cmpctblock messages, and sent alone in headers messages.
+ */
+public class BlockHeader implements ProtocolData {
+
+	public static final int SIZE = 80;
+
+	/**
+	 * Block version information (note, this is signed)
+	 */
+	private int version;                // int32_t
+
+	/**
+	 * The hash value of the previous block this particular block references
+	 */
+	private SHA256Hash prevBlock;       // char[32]
+
+	/**
+	 * The reference to a Merkle tree collection which is a hash of all transactions related to this
+	 * block
+	 */
+	private SHA256Hash merkleRoot;      // char[32]
+
+	/**
+	 * A Unix timestamp recording when this block was created (Currently limited to dates before the
+	 * year 2106!)
+	 */
+	private long timestamp;              // uint32_t
+
+	/**
+	 * The calculated difficulty target being used for this block
+	 */
+	private long bits;                    // uint32_t
+
+	/**
+	 * The nonce used to generate this block… to allow variations of the header and compute
+	 * different hashes
+	 */
+	private long nonce;                    // uint32_t
+
+	/**
+	 * Raw data of the header, when loaded from a buffer (cleared when a field is changed)
+	 */
+	private byte[] data;
+
+	/**
+	 * Hash of the header, computed on the first request
+	 */
+	private volatile SHA256Hash hash;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	public BlockHeader() {
+
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public void loadFromBuffer(BitcoinBuffer buf) {
+		int start = buf.getPosition();
+		this.version = buf.getInt32LE();
+		this.prevBlock = SHA256Hash.read(buf);
+		this.merkleRoot = SHA256Hash.read(buf);
+		this.timestamp = buf.getUint32LE();
+		this.bits = buf.getUint32LE();
+		this.nonce = buf.getUint32LE();
+		int end = buf.getPosition();
+
+		buf.setPosition(start);
+		this.data = buf.getBytes(end - start);
+		this.hash = null;
+	}
+
+	/**
+	 * Writes the header: the bytes it was loaded from, or the fields if it was built or changed.
+	 */
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
+		if (data != null) {
+			buf.putBytes(data);
+			return;
+		}
+		buf.putInt32LE(version);
+		prevBlock.writeToBuffer(buf);
+		merkleRoot.writeToBuffer(buf);
+		buf.putUint32LE(timestamp);
+		buf.putUint32LE(bits);
+		buf.putUint32LE(nonce);
+	}
+
+	public byte[] getBytes() {
+		if (data != null) {
+			return data.clone();
+		}
+		BitcoinBuffer buf = new BitcoinBuffer(SIZE);
+		writeToBuffer(buf);
+		return buf.toArrayExactSize();
+	}
+
+	/**
+	 * Checks the proof of work: the hash, as a number, must not exceed the target encoded in
+	 * the bits. Whether the target is the one required by the chain is not checked.
+	 */
+	public boolean hasValidProofOfWork() {
+		BigInteger target = decodeTarget(bits);
+		return target != null &&
+			   new BigInteger(1, getHash().getReversedBytes()).compareTo(target) <= 0;
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	/**
+	 * Returns the hash of the header (the block hash). It is computed once and cached.
+	 */
+	public SHA256Hash getHash() {
+		SHA256Hash h = hash;
+		if (h == null) {
+			byte[] bytes = data != null ? data : getBytes();
+			h = SHA256Hash.fromBytes(HashUtil.doubleSha256(bytes, 0, bytes.length));
+			hash = h;
+		}
+		return h;
+	}
+
+	public int getVersion() {
+		return version;
+	}
+
+	public void setVersion(int version) {
+		this.version = version;
+		changed();
+	}
+
+	public SHA256Hash getPrevBlock() {
+		return prevBlock;
+	}
+
+	public void setPrevBlock(SHA256Hash prevBlock) {
+		this.prevBlock = prevBlock;
+		changed();
+	}
+
+	public SHA256Hash getMerkleRoot() {
+		return merkleRoot;
+	}
+
+	public void setMerkleRoot(SHA256Hash merkleRoot) {
+		this.merkleRoot = merkleRoot;
+		changed();
+	}
+
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	public void setTimestamp(long timestamp) {
+		this.timestamp = timestamp;
+		changed();
+	}
+
+	public long getBits() {
+		return bits;
+	}
+
+	public void setBits(long bits) {
+		this.bits = bits;
+		changed();
+	}
+
+	public long getNonce() {
+		return nonce;
+	}
+
+	public void setNonce(long nonce) {
+		this.nonce = nonce;
+		changed();
+	}
+
+	// =============================================================================================
+	// OBJECT OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [hash=" + getHash() + ", version=" + version +
+			   ", prevBlock=" + prevBlock + ", merkleRoot=" + merkleRoot + ", timestamp=" +
+			   timestamp + ", bits=" + bits + ", nonce=" + nonce + "]";
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	/**
+	 * Decodes the compact form of a target (size in bytes, then a 3-byte mantissa).
+	 *
+	 * @return the target or null if it is zero, negative or above 256 bits
+	 */
+	private static BigInteger decodeTarget(long bits) {
+		int size = (int) (bits >>> 24);
+		long word = bits & 0x007FFFFFL;
+		if (word == 0 || (bits & 0x00800000L) != 0) {
+			return null;
+		}
+		if (size > 34 || (word > 0xFF && size > 33) || (word > 0xFFFF && size > 32)) {
+			return null;
+		}
+		return size <= 3 ? BigInteger.valueOf(word >>> (8 * (3 - size))) :
+			   BigInteger.valueOf(word).shiftLeft(8 * (size - 3));
+	}
+
+	private void changed() {
+		this.data = null;
+		this.hash = null;
+	}
+}
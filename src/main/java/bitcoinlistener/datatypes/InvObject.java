@@ -10,9 +10,6 @@ package bitcoinlistener.datatypes;
 
 import bitcoinlistener.BitcoinBuffer;
 import bitcoinlistener.ProtocolData;
-import bitcoinlistener.util.ByteUtil;
-
-import java.nio.ByteOrder;
 
 /**
  * Inventory Object for {@link bitcoinlistener.messages.InvMessage}
@@ -40,7 +37,13 @@ public class InvObject implements ProtocolData {
 		 * Indicates the reply should be a merkleblock message rather than a block message; this
 		 * only works if a bloom filter has been set. See BIP 37 for more info.
 		 */
-		MSG_FILTERED_BLOCK(3);
+		MSG_FILTERED_BLOCK(3),
+
+		/**
+		 * Hash of a block header; identical to MSG_BLOCK. Only to be used in getdata message.
+		 * Indicates the reply should be a cmpctblock message. See BIP 152 for more info.
+		 */
+		MSG_CMPCT_BLOCK(4);
 
 		private final int value;
 
@@ -70,8 +73,7 @@ public class InvObject implements ProtocolData {
 	// =============================================================================================
 
 	private InventoryType type;  // uint32_t
-	private byte[] hash;          // char[32]
-	private String hashAsStr;
+	private SHA256Hash hash;      // char[32]
 	
 	// =============================================================================================
 	// CONSTRUCTORS                                                                                
@@ -81,9 +83,9 @@ public class InvObject implements ProtocolData {
 		
 	}
 	
-	public InvObject(InventoryType type, byte[] hashObjArr) {
+	public InvObject(InventoryType type, SHA256Hash hash) {
 		this.type = type;
-		this.hash = hashObjArr;
+		this.hash = hash;
 	}
 
 	// =============================================================================================
@@ -92,31 +94,15 @@ public class InvObject implements ProtocolData {
 	
 	@Override
 	public void loadFromBuffer(BitcoinBuffer buf) {
-		ByteOrder o = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			int type = buf.getInt32();
-			byte[] hashObjArr = buf.getBytes(32);
-
-			this.type = InventoryType.fromValue(type);
-			this.hash = hashObjArr;
-
-		} finally {
-			buf.setEndianness(o);
-		}
+		int type = buf.getInt32LE();
+		this.type = InventoryType.fromValue(type);
+		this.hash = SHA256Hash.read(buf);
 	}
 
 	@Override
 	public void writeToBuffer(BitcoinBuffer buf) {
-		ByteOrder o = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			buf.putInt32(this.type.getValue());
-			buf.putBytes(hash);
-		} finally {
-			buf.setEndianness(o);
-		}
-		
+		buf.putInt32LE(this.type.getValue());
+		hash.writeToBuffer(buf);
 	}
 	
 	// =============================================================================================
@@ -131,23 +117,19 @@ public class InvObject implements ProtocolData {
 		this.type = type;
 	}
 
-	public byte[] getHash() {
+	public SHA256Hash getHash() {
 		return hash;
 	}
 
-	public void setHash(byte[] hash) {
+	public void setHash(SHA256Hash hash) {
 		this.hash = hash;
 	}
 
+	/**
+	 * Returns the hash in hex (reversed, as displayed by bitcoin nodes).
+	 */
 	public String getHashAsStr() {
-		byte[] arr = new byte[hash.length];
-		int i = 0;
-		for (int x = hash.length-1; x >= 0; x--) {
-			arr[i++] = hash[x];
-		}
-	
-		this.hashAsStr = ByteUtil.byteArrayToStr(arr);
-		return this.hashAsStr;
+		return hash.getHashAsStr();
 	}
 	
 	// =============================================================================================
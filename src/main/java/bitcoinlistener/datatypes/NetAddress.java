@@ -10,7 +10,6 @@ package bitcoinlistener.datatypes;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
-import java.nio.ByteOrder;
 
 import bitcoinlistener.BitcoinBuffer;
 import bitcoinlistener.ProtocolData;
@@ -49,17 +48,14 @@ public class NetAddress implements ProtocolData {
 
 	@Override
 	public void loadFromBuffer(BitcoinBuffer buf) {
-		ByteOrder old = buf.getEndianness();
-		try {			
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			
-			long services = buf.getUint64().longValue(); // 8
+		try {
+			long services = buf.getUint64LE(); // 8
 			
 			buf.setPosition(buf.getPosition() + 12);
 			byte[] addr = buf.getBytes(4);
 			String ip = InetAddress.getByAddress(addr).getHostAddress();
 			
-			int port = buf.getUint16();
+			int port = buf.getUint16BE(); // network byte order
 			
 			this.ip = ip;
 			this.port = port;
@@ -67,27 +63,19 @@ public class NetAddress implements ProtocolData {
 			
 		} catch (UnknownHostException e) {
 			throw new RuntimeException(e);
-		} finally {
-			buf.setEndianness(old);
 		}
 	}
 
 	@Override
 	public void writeToBuffer(BitcoinBuffer buf) {
-		ByteOrder old = buf.getEndianness();
 		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			buf.putUint64(services); // uint64_t
+			buf.putUint64LE(services); // uint64_t
 			buf.putBytes(ipv6);
 			buf.putBytes(InetAddress.getByName(ip).getAddress());
-
-			buf.setEndianness(ByteOrder.BIG_ENDIAN);
-			buf.putUint16(port);
+			buf.putUint16BE(port); // network byte order
 
 		} catch (UnknownHostException e) {
 			throw new RuntimeException(e);
-		} finally {
-			buf.setEndianness(old);
 		}
 	}
 	
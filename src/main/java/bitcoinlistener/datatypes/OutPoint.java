@@ -8,11 +8,8 @@
 
 package bitcoinlistener.datatypes;
 
-import java.nio.ByteOrder;
-
 import bitcoinlistener.BitcoinBuffer;
 import bitcoinlistener.ProtocolData;
-import bitcoinlistener.util.ByteUtil;
 
 /**
  * It points to a specific output in a transaction.
@@ -20,7 +17,7 @@ import bitcoinlistener.util.ByteUtil;
 public class OutPoint implements ProtocolData {
 
 	/** The hash of the referenced transaction. */
-	private byte[] hash; // char[32]
+	private SHA256Hash hash; // char[32]
 	
 	/** The index of the specific output in the transaction. The first output is 0, etc. */
 	private long index;  // UINT32 (4)
@@ -40,38 +37,25 @@ public class OutPoint implements ProtocolData {
 
 	@Override
 	public void loadFromBuffer(BitcoinBuffer buf) {
-		ByteOrder o = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			this.hash = buf.getBytes(32);
-			ByteUtil.invertArray(this.hash);
-			this.index = buf.getUint32();
-		} finally {
-			buf.setEndianness(o);
-		}
+		this.hash = SHA256Hash.read(buf);
+		this.index = buf.getUint32LE();
 	}
 
 	@Override
 	public void writeToBuffer(BitcoinBuffer buf) {
-		ByteOrder old = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			buf.putBytes(ByteUtil.getInvertedArray(this.hash));
-			buf.putUint32(this.index);
-		} finally {
-			buf.setEndianness(old);
-		}
+		hash.writeToBuffer(buf);
+		buf.putUint32LE(this.index);
 	}
 
 	// =============================================================================================
 	// ACCESSORS (GETTERS AND SETTERS)                                                              
 	// =============================================================================================
 	
-	public byte[] getHash() {
+	public SHA256Hash getHash() {
 		return hash;
 	}
 
-	public void setHash(byte[] hash) {
+	public void setHash(SHA256Hash hash) {
 		this.hash = hash;
 	}
 
@@ -89,7 +73,7 @@ public class OutPoint implements ProtocolData {
 	
 	@Override
 	public String toString() {
-		return getClass().getSimpleName() + " [hash=" + ByteUtil.byteArrayToStr(hash) +
+		return getClass().getSimpleName() + " [hash=" + hash.getHashAsStr() +
 				", index=" + index + "]";
 	}
 }
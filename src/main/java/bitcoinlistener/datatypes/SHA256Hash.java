@@ -9,79 +9,235 @@
 package bitcoinlistener.datatypes;
 
 import bitcoinlistener.BitcoinBuffer;
-import bitcoinlistener.ProtocolData;
 import bitcoinlistener.util.ByteUtil;
 
-import java.nio.ByteOrder;
-import java.util.Arrays;
+import java.nio.BufferUnderflowException;
 
 /**
- * Wrapper for array of bytes containing a sha-256 hash.
+ * Immutable sha-256 hash (e.g. a transaction id or a block hash).
+ * <p>
+ * The 32 bytes are kept in internal byte order (the order they are serialized on the wire and
+ * hashed in merkle trees) as four longs, and the hash code is computed once, so instances are
+ * cheap map keys. Bitcoin nodes display hashes in the reverse order: that is the order used by
+ * {@link #getHashAsStr()} and {@link #getReversedBytes()}.
  */
-public class SHA256Hash implements ProtocolData {
+public final class SHA256Hash implements Comparable<SHA256Hash> {
 
-	private static int LENGTH = 32;
+	public static final int LENGTH = 32;
 
-	private byte[] hash;
+	/** Hash whose bytes are all zero (e.g. the previous block of the genesis block) */
+	public static final SHA256Hash ZERO = new SHA256Hash(0, 0, 0, 0);
 
-	public SHA256Hash() {
+	/** Bytes 0-7, 8-15, 16-23 and 24-31 in internal order, each read as big-endian */
+	private final long w0;
+	private final long w1;
+	private final long w2;
+	private final long w3;
+	private final int hashCode;
 
+	private String hashAsStr;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	private SHA256Hash(long w0, long w1, long w2, long w3) {
+		this.w0 = w0;
+		this.w1 = w1;
+		this.w2 = w2;
+		this.w3 = w3;
+		// the bytes of a hash are already uniformly distributed
+		this.hashCode = (int) (w0 ^ (w0 >>> 32) ^ w3);
+	}
+
+	/**
+	 * Creates a hash from 32 bytes in internal (wire) byte order.
+	 *
+	 * @param arr    array containing the hash
+	 * @param offset position of the hash in the array
+	 */
+	public static SHA256Hash read(byte[] arr, int offset) {
+		if (offset < 0 || arr.length - offset < LENGTH) {
+			throw new IllegalArgumentException("Array range too small for hash: " + arr.length +
+											   "/" + offset);
+		}
+		return new SHA256Hash(getLongBE(arr, offset), getLongBE(arr, offset + 8),
+							  getLongBE(arr, offset + 16), getLongBE(arr, offset + 24));
+	}
+
+	/**
+	 * Reads a hash from the current position of the buffer.
+	 */
+	public static SHA256Hash read(BitcoinBuffer buf) {
+		if (buf.remaining() < LENGTH) {
+			throw new BufferUnderflowException();
+		}
+		int pos = buf.getPosition();
+		SHA256Hash hash = read(buf.toArray(), pos);
+		buf.setPosition(pos + LENGTH);
+		return hash;
+	}
+
+	/**
+	 * Creates a hash from 32 bytes in internal (wire) byte order.
+	 */
+	public static SHA256Hash fromBytes(byte[] arr) {
+		checkLength(arr);
+		return read(arr, 0);
+	}
+
+	/**
+	 * Creates a hash from 32 bytes in display byte order (reversed).
+	 */
+	public static SHA256Hash fromReversedBytes(byte[] arr) {
+		checkLength(arr);
+		return read(ByteUtil.getInvertedArray(arr), 0);
+	}
+
+	/**
+	 * Creates a hash from its hex representation, as displayed by bitcoin nodes.
+	 */
+	public static SHA256Hash fromHex(String hex) {
+		byte[] arr = ByteUtil.fromHex(hex, true);
+		checkLength(arr);
+		return read(arr, 0);
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Writes the hash in internal (wire) byte order.
+	 */
+	public void writeToBuffer(BitcoinBuffer buf) {
+		byte[] arr = new byte[LENGTH];
+		writeTo(arr, 0);
+		buf.putBytes(arr);
 	}
-	public SHA256Hash(byte[] hash) {
-		this.hash = hash;
+
+	/**
+	 * Copies the hash in internal (wire) byte order into an array.
+	 *
+	 * @param dest   destination array
+	 * @param offset position of the first byte in the destination
+	 */
+	public void writeTo(byte[] dest, int offset) {
+		putLongBE(dest, offset, w0);
+		putLongBE(dest, offset + 8, w1);
+		putLongBE(dest, offset + 16, w2);
+		putLongBE(dest, offset + 24, w3);
 	}
 
+	/**
+	 * Compares the hash against 32 bytes in internal (wire) byte order, without allocating.
+	 *
+	 * @param arr    array containing the other hash
+	 * @param offset position of the other hash in the array
+	 */
+	public boolean equals(byte[] arr, int offset) {
+		return w0 == getLongBE(arr, offset) && w1 == getLongBE(arr, offset + 8) &&
+			   w2 == getLongBE(arr, offset + 16) && w3 == getLongBE(arr, offset + 24);
+	}
 
 	// =============================================================================================
 	// ACCESSORS (GETTERS AND SETTERS)
 	// =============================================================================================
 
-	public String getHashAsStr() {
-		return ByteUtil.byteArrayToStr(hash);
+	/**
+	 * Returns a copy of the hash in internal (wire) byte order.
+	 */
+	public byte[] getBytes() {
+		byte[] arr = new byte[LENGTH];
+		writeTo(arr, 0);
+		return arr;
 	}
 
-	public byte[] getHash() {
-		return hash;
+	/**
+	 * Returns a copy of the hash in display byte order (reversed).
+	 */
+	public byte[] getReversedBytes() {
+		byte[] arr = getBytes();
+		ByteUtil.invertArray(arr);
+		return arr;
 	}
 
-	public SHA256Hash getInverted() {
-		return new SHA256Hash(ByteUtil.getInvertedArray(this.hash));
+	/**
+	 * Returns the hash in hex (reversed, as displayed by bitcoin nodes), encoded on the first
+	 * call.
+	 */
+	public String getHashAsStr() {
+		String str = hashAsStr;
+		if (str == null) {
+			str = ByteUtil.toHex(getBytes(), 0, LENGTH, true);
+			hashAsStr = str;
+		}
+		return str;
 	}
 
 	// =============================================================================================
-	// OPERATIONS
+	// AUXILIARY METHODS
 	// =============================================================================================
 
-	@Override
-	public void loadFromBuffer(BitcoinBuffer buf) {
-		ByteOrder o = buf.getEndianness();
-		buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-		try {
-			this.hash = buf.getBytes(LENGTH);
-			ByteUtil.invertArray(this.hash);
-		} finally {
-			buf.setEndianness(o);
+	private static void checkLength(byte[] arr) {
+		if (arr.length != LENGTH) {
+			throw new IllegalArgumentException("Invalid hash length: " + arr.length);
 		}
 	}
 
-	@Override
-	public void writeToBuffer(BitcoinBuffer buf) {
-		throw new RuntimeException("not implemented");
+	private static long getLongBE(byte[] arr, int pos) {
+		return ((long) (arr[pos] & 0xFF) << 56) |
+			   ((long) (arr[pos + 1] & 0xFF) << 48) |
+			   ((long) (arr[pos + 2] & 0xFF) << 40) |
+			   ((long) (arr[pos + 3] & 0xFF) << 32) |
+			   ((long) (arr[pos + 4] & 0xFF) << 24) |
+			   ((arr[pos + 5] & 0xFF) << 16) |
+			   ((arr[pos + 6] & 0xFF) << 8) |
+			   (arr[pos + 7] & 0xFF);
+	}
+
+	private static void putLongBE(byte[] arr, int pos, long value) {
+		for (int x = 7; x >= 0; x--) {
+			arr[pos + x] = (byte) value;
+			value >>>= 8;
+		}
 	}
 
 	// =============================================================================================
 	// OBJECT OPERATIONS
 	// =============================================================================================
 
-
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
-		if (o == null || getClass() != o.getClass()) return false;
+		if (!(o instanceof SHA256Hash)) return false;
 		SHA256Hash that = (SHA256Hash) o;
-		return Arrays.equals(hash, that.hash);
+		return hashCode == that.hashCode && w0 == that.w0 && w1 == that.w1 && w2 == that.w2 &&
+			   w3 == that.w3;
 	}
 
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	/**
+	 * Orders hashes by their bytes in internal byte order (unsigned).
+	 */
+	@Override
+	public int compareTo(SHA256Hash o) {
+		int cmp = Long.compareUnsigned(w0, o.w0);
+		if (cmp == 0) {
+			cmp = Long.compareUnsigned(w1, o.w1);
+			if (cmp == 0) {
+				cmp = Long.compareUnsigned(w2, o.w2);
+				if (cmp == 0) {
+					cmp = Long.compareUnsigned(w3, o.w3);
+				}
+			}
+		}
+		return cmp;
+	}
 
 	@Override
 	public String toString() {
@@ -8,8 +8,6 @@
 
 package bitcoinlistener.datatypes;
 
-import java.nio.ByteOrder;
-
 import bitcoinlistener.BitcoinBuffer;
 import bitcoinlistener.ProtocolData;
 import bitcoinlistener.util.ByteUtil;
@@ -37,33 +35,20 @@ public class TxIn implements ProtocolData {
 
 	@Override
 	public void loadFromBuffer(BitcoinBuffer buf) {
-		ByteOrder o = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			OutPoint prev = new OutPoint();
-			prev.loadFromBuffer(buf);
-			int scriptLength = buf.getVarIntAsInt();
-			this.signatureScript = buf.getBytes(scriptLength);
-			this.sequence = buf.getUint32();
-			this.previousOutput = prev;
-		} finally {
-			buf.setEndianness(o);
-		}
+		OutPoint prev = new OutPoint();
+		prev.loadFromBuffer(buf);
+		int scriptLength = buf.getVarIntAsLength();
+		this.signatureScript = buf.getBytes(scriptLength);
+		this.sequence = buf.getUint32LE();
+		this.previousOutput = prev;
 	}
 	
 	@Override
 	public void writeToBuffer(BitcoinBuffer buf) {
-		ByteOrder old = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			previousOutput.writeToBuffer(buf);
-			
-			buf.putVarInt(this.signatureScript.length);
-			buf.putBytes(this.signatureScript);
-			buf.putUint32(this.sequence);
-		} finally {
-			buf.setEndianness(old);
-		}
+		previousOutput.writeToBuffer(buf);
+		buf.putVarInt(this.signatureScript.length);
+		buf.putBytes(this.signatureScript);
+		buf.putUint32LE(this.sequence);
 	}
 
 	// =============================================================================================
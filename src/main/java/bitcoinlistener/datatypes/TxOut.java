@@ -8,9 +8,6 @@
 
 package bitcoinlistener.datatypes;
 
-import java.math.BigInteger;
-import java.nio.ByteOrder;
-
 import bitcoinlistener.BitcoinBuffer;
 import bitcoinlistener.ProtocolData;
 import bitcoinlistener.util.ByteUtil;
@@ -38,29 +35,16 @@ public class TxOut implements ProtocolData {
 	
 	@Override
 	public void loadFromBuffer(BitcoinBuffer buf) {
-		ByteOrder o = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			this.value = buf.getInt64();
-			BigInteger pkScriptLength = buf.getVarInt();
-			this.pkScript = buf.getBytes(pkScriptLength.intValue());
-
-		} finally {
-			buf.setEndianness(o);
-		}
+		this.value = buf.getInt64LE();
+		int pkScriptLength = buf.getVarIntAsLength();
+		this.pkScript = buf.getBytes(pkScriptLength);
 	}
 
 	@Override
 	public void writeToBuffer(BitcoinBuffer buf) {
-		ByteOrder old = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			buf.putInt64(this.value);
-			buf.putVarInt(pkScript.length);
-			buf.putBytes(pkScript);
-		} finally {
-			buf.setEndianness(old);
-		}
+		buf.putInt64LE(this.value);
+		buf.putVarInt(pkScript.length);
+		buf.putBytes(pkScript);
 	}
 	
 	// =============================================================================================
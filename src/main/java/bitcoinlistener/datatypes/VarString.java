@@ -8,8 +8,6 @@
 
 package bitcoinlistener.datatypes;
 
-import java.nio.ByteOrder;
-
 import bitcoinlistener.BitcoinBuffer;
 import bitcoinlistener.ProtocolData;
 
@@ -37,29 +35,16 @@ public class VarString implements ProtocolData {
 	
 	@Override
 	public void loadFromBuffer(BitcoinBuffer buf) {
-		ByteOrder o = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			
-			int length = buf.getVarIntAsInt();
-			byte[] bStr = buf.getBytes(length);
-			this.string = new String(bStr);
-
-		} finally {
-			buf.setEndianness(o);
-		}
+		int length = buf.getVarIntAsLength();
+		byte[] bStr = buf.getBytes(length);
+		this.string = new String(bStr);
 	}
 
 	@Override
 	public void writeToBuffer(BitcoinBuffer buf) {
-		ByteOrder o = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			buf.putVarInt(string.length());
-			buf.putBytes(string.getBytes());
-		} finally {
-			buf.setEndianness(o);
-		}
+		byte[] bStr = string.getBytes();
+		buf.putVarInt(bStr.length);
+		buf.putBytes(bStr);
 	}
 
 	// =============================================================================================
@@ -10,11 +10,8 @@ package bitcoinlistener.messages;
 
 import bitcoinlistener.BitcoinBuffer;
 import bitcoinlistener.ProtocolMessage;
+import bitcoinlistener.datatypes.BlockHeader;
 import bitcoinlistener.datatypes.SHA256Hash;
-import bitcoinlistener.util.ByteUtil;
-import bitcoinlistener.util.HashUtil;
-
-import java.nio.ByteOrder;
 
 /**
  * Base class for {@link BlockMessage} and @{link {@link MerkleBlockMessage}
@@ -22,124 +19,95 @@ import java.nio.ByteOrder;
 public abstract class AbstractBlockMessage implements ProtocolMessage {
 
 	/**
-	 * Block version information (note, this is signed)
+	 * The 80-byte header, at the start of the message
 	 */
-	private int version;                // int32_t
+	private BlockHeader header = new BlockHeader();
 
-	/**
-	 * The hash value of the previous block this particular block references
-	 */
-	private SHA256Hash prevBlock;       // char[32]
-
-	/**
-	 * The reference to a Merkle tree collection which is a hash of all transactions related to this
-	 * block
-	 */
-	private SHA256Hash merkleRoot;      // char[32]
+	@Override
+	public void loadFromBuffer(BitcoinBuffer buf) {
+		BlockHeader h = new BlockHeader();
+		h.loadFromBuffer(buf);
+		this.header = h;
+	}
 
 	/**
-	 * A Unix timestamp recording when this block was created (Currently limited to dates before the
-	 * year 2106!)
+	 * Shares the header of another block (e.g. the block a compact block is built from).
 	 */
-	private long timestamp;              // uint32_t
+	protected void copyHeader(AbstractBlockMessage other) {
+		this.header = other.header;
+	}
 
 	/**
-	 * The calculated difficulty target being used for this block
+	 * Writes the 80-byte header: the bytes it was loaded from, or the fields if it was built.
 	 */
-	private long bits;                    // uint32_t
+	public void writeHeader(BitcoinBuffer buf) {
+		header.writeToBuffer(buf);
+	}
 
 	/**
-	 * The nonce used to generate this block… to allow variations of the header and compute
-	 * different hashes
+	 * Returns the header, e.g. to be kept without the transactions of the block.
 	 */
-	private long nonce;                    // uint32_t
-
+	public BlockHeader getHeader() {
+		return header;
+	}
 
 	/**
-	 * Raw data of block header
+	 * Returns the hash of the block header. It is computed once and cached.
 	 */
-	private byte[] headerBlockData;
-
-	@Override
-	public void loadFromBuffer(BitcoinBuffer buf) {
-		ByteOrder o = buf.getEndianness();
-		try {
-			int startPosHeader = buf.getPosition();
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			this.version = buf.getInt32();
-			this.prevBlock = buf.getData(SHA256Hash.class);
-			this.merkleRoot = buf.getData(SHA256Hash.class);
-			this.timestamp = buf.getUint32();
-			this.bits = buf.getUint32();
-			this.nonce = buf.getUint32();
-			int endPosHeader = buf.getPosition();
-			int endPos = buf.getPosition();
-
-			buf.setPosition(startPosHeader);
-			headerBlockData = buf.getBytes(endPosHeader - startPosHeader);
-
-			buf.setPosition(endPos);
-
-		} finally {
-			buf.setEndianness(o);
-		}
+	public SHA256Hash getHash() {
+		return header.getHash();
 	}
 
 	public String getHashAsStr() {
-		byte[] data = new byte[headerBlockData.length];
-		System.arraycopy(headerBlockData, 0, data, 0, data.length);
-
-		data = HashUtil.sha256(HashUtil.sha256(data));
-		ByteUtil.invertArray(data);
-		return ByteUtil.bytesToHex(data);
+		return getHash().getHashAsStr();
 	}
 
 	public int getVersion() {
-		return version;
+		return header.getVersion();
 	}
 
 	public void setVersion(int version) {
-		this.version = version;
+		header.setVersion(version);
 	}
 
 	public SHA256Hash getPrevBlock() {
-		return prevBlock;
+		return header.getPrevBlock();
 	}
 
 
 	public void setPrevBlock(SHA256Hash prevBlock) {
-		this.prevBlock = prevBlock;
+		header.setPrevBlock(prevBlock);
 	}
 
 	public SHA256Hash getMerkleRoot() {
-		return merkleRoot;
+		return header.getMerkleRoot();
 	}
 
 	public void setMerkleRoot(SHA256Hash merkleRoot) {
-		this.merkleRoot = merkleRoot;
+		header.setMerkleRoot(merkleRoot);
 	}
 
 	public long getTimestamp() {
-		return timestamp;
+		return header.getTimestamp();
 	}
 
 	public void setTimestamp(long timestamp) {
-		this.timestamp = timestamp;
+		header.setTimestamp(timestamp);
 	}
 
 	public long getBits() {
-		return bits;
+		return header.getBits();
 	}
 
 	public void setBits(long bits) {
-		this.bits = bits;
+		header.setBits(bits);
 	}
 
 	public long getNonce() {
-		return nonce;
+		return header.getNonce();
 	}
 
 	public void setNonce(long nonce) {
-		this.nonce = nonce;
+		header.setNonce(nonce);
 	}
 }
@@ -9,29 +9,69 @@
 package bitcoinlistener.messages;
 
 import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.BitcoinListenerException;
+import bitcoinlistener.util.HashUtil;
 
-import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * This object describes a bitcoin block.
  * <p>
  * The block message is sent in response to a getdata message which requests transaction information
  * from a block hash.
+ * <p>
+ * Loading a block walks the payload once, recording where each transaction starts and hashing
+ * it in place to build the {@link TxIdTable}; nothing else is decoded. The transactions can then
+ * be streamed with {@link #accept(BlockVisitor)}, and {@link #getTxList()} builds the list of
+ * transactions the first time it is called. The block is expected to extend to the end of the
+ * buffer it is loaded from.
+ * <p>
+ * When created with an {@link Executor}, the transactions are hashed in batches by the executor
+ * while the walk goes on; loading returns once all batches are done.
  */
 public class BlockMessage extends AbstractBlockMessage {
 
+	/** Number of transactions hashed by each task given to the executor */
+	private static final int HASH_BATCH_SIZE = 256;
+
+	/** Size of the smallest transaction, which bounds the count read before allocating */
+	private static final int MIN_TX_SIZE = 60;
+
 	/**
 	 * Block transactions
 	 */
-	private List<TxMessage> txList; // tx[]
+	private volatile List<TxMessage> txList; // tx[]
+
+	private int txCount;
+
+	/** Payload the block was loaded from */
+	private byte[] data;
+
+	/** Position of each transaction in the payload, plus the end of the last one */
+	private int[] txOffsets;
+
+	private TxIdTable txIds;
+
+	/** Hashes transactions while the payload is walked (null to hash on the loading thread) */
+	private final Executor hashExecutor;
 
 	// =============================================================================================
 	// CONSTRUCTORS
 	// =============================================================================================
 
 	public BlockMessage() {
+		this(null);
+	}
 
+	/**
+	 * @param hashExecutor hashes transactions in batches while the block is loaded
+	 */
+	public BlockMessage(Executor hashExecutor) {
+		this.hashExecutor = hashExecutor;
 	}
 
 	// =============================================================================================
@@ -41,12 +81,72 @@ public class BlockMessage extends AbstractBlockMessage {
 	@Override
 	public void loadFromBuffer(BitcoinBuffer buf) {
 		super.loadFromBuffer(buf);
-		ByteOrder o = buf.getEndianness();
-		try {
-			txList = buf.getVector(TxMessage.class);
-		} finally {
-			buf.setEndianness(o);
+		int count = buf.getVarIntAsInt();
+		if (count < 0 || count > buf.remaining() / MIN_TX_SIZE) {
+			throw new BitcoinListenerException("Invalid number of transactions: " + count);
+		}
+		this.txCount = count;
+		this.data = buf.toArray();
+		this.txList = null;
+
+		int[] offsets = new int[txCount + 1];
+		byte[] ids = new byte[txCount * TxIdTable.ID_SIZE];
+		CountDownLatch pending = null;
+		if (hashExecutor != null) {
+			pending = new CountDownLatch((txCount + HASH_BATCH_SIZE - 1) / HASH_BATCH_SIZE);
+		}
+
+		int batchStart = 0;
+		offsets[0] = buf.getPosition();
+		for (int x = 0; x < txCount; x++) {
+			TxView.skip(buf);
+			offsets[x + 1] = buf.getPosition();
+			if (pending == null) {
+				HashUtil.doubleSha256(data, offsets[x], offsets[x + 1] - offsets[x], ids,
+									  x * TxIdTable.ID_SIZE);
+			} else if (x + 1 - batchStart == HASH_BATCH_SIZE || x + 1 == txCount) {
+				submitHashing(data, offsets, ids, batchStart, x + 1, pending);
+				batchStart = x + 1;
+			}
+		}
+		this.txOffsets = offsets;
+
+		if (pending != null) {
+			try {
+				pending.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new BitcoinListenerException("Interrupted while hashing transactions", e);
+			}
+		}
+		this.txIds = new TxIdTable(ids, txCount);
+		buf.setPosition(buf.getPosition() + buf.remaining());
+	}
+
+	/**
+	 * Reads the transactions of the block from the payload, passing them to the visitor.
+	 *
+	 * @param visitor receives the contents of the block
+	 */
+	public void accept(BlockVisitor visitor) {
+		if (data == null) {
+			throw new BitcoinListenerException("Block was not loaded from a payload");
+		}
+		BitcoinBuffer buf = new BitcoinBuffer(data);
+		buf.setPosition(txOffsets[0]);
+
+		visitor.onHeader(this, txCount);
+		for (int x = 0; x < txCount; x++) {
+			TxView tx = TxView.parse(buf);
+			visitor.onTx(tx, x);
+			for (int i = 0; i < tx.getInputCount(); i++) {
+				visitor.onTxIn(tx, i);
+			}
+			for (int i = 0; i < tx.getOutputCount(); i++) {
+				visitor.onTxOut(tx, i);
+			}
 		}
+		visitor.onEnd();
 	}
 
 	@Override
@@ -65,11 +165,46 @@ public class BlockMessage extends AbstractBlockMessage {
 
 
 	public List<TxMessage> getTxList() {
-		return txList;
+		List<TxMessage> list = txList;
+		if (list == null && data != null) {
+			TxListBuilder builder = new TxListBuilder();
+			accept(builder);
+			list = builder.list;
+			txList = list;
+		}
+		return list;
 	}
 
 	public void setTxList(List<TxMessage> txList) {
 		this.txList = txList;
+		this.txCount = txList.size();
+		this.data = null;
+		this.txOffsets = null;
+		this.txIds = null;
+	}
+
+	/**
+	 * Returns the ids of the transactions. For a block that was not loaded from a payload they
+	 * are computed on every call.
+	 */
+	public TxIdTable getTxIds() {
+		TxIdTable table = txIds;
+		if (table == null) {
+			List<TxMessage> list = getTxList();
+			byte[] ids = new byte[list.size() * TxIdTable.ID_SIZE];
+			for (int x = 0; x < list.size(); x++) {
+				list.get(x).getTxId().writeTo(ids, x * TxIdTable.ID_SIZE);
+			}
+			table = new TxIdTable(ids, list.size());
+		}
+		return table;
+	}
+
+	/**
+	 * Returns the number of transactions in the block.
+	 */
+	public int getTxCount() {
+		return txCount;
 	}
 
 	// =============================================================================================
@@ -80,6 +215,47 @@ public class BlockMessage extends AbstractBlockMessage {
 	public String toString() {
 		return getClass().getSimpleName() + " [hash=" + getHashAsStr() + ", version=" + getVersion() +
 			   ", prevBlock=" + getPrevBlock() + ", merkleRoot=" + getMerkleRoot() +
-			   ", timestamp=" + getTimestamp() + ", bits=" + getBits() + ", nonce=" + getNonce() + "]";
+			   ", timestamp=" + getTimestamp() + ", bits=" + getBits() + ", nonce=" + getNonce() +
+			   ", txCount=" + txCount + "]";
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private void submitHashing(byte[] data, int[] offsets, byte[] ids, int from, int to,
+							   CountDownLatch pending) {
+		Runnable task = () -> {
+			try {
+				for (int x = from; x < to; x++) {
+					HashUtil.doubleSha256(data, offsets[x], offsets[x + 1] - offsets[x], ids,
+										  x * TxIdTable.ID_SIZE);
+				}
+			} finally {
+				pending.countDown();
+			}
+		};
+		try {
+			hashExecutor.execute(task);
+		} catch (RejectedExecutionException e) {
+			task.run();
+		}
+	}
+
+	/**
+	 * Builds the object model of the transactions.
+	 */
+	private static class TxListBuilder implements BlockVisitor {
+		private List<TxMessage> list;
+
+		@Override
+		public void onHeader(AbstractBlockMessage header, int txCount) {
+			list = new ArrayList<>(txCount);
+		}
+
+		@Override
+		public void onTx(TxView tx, int index) {
+			list.add(new TxMessage(tx));
+		}
 	}
 }
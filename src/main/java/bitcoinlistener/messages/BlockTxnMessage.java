@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.messages;
+
+import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.ProtocolMessage;
+import bitcoinlistener.datatypes.SHA256Hash;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The transactions of a block requested with getblocktxn (BIP 152), in the order they were
+ * requested.
+ */
+public class BlockTxnMessage implements ProtocolMessage {
+
+	private SHA256Hash blockHash;
+	private List<TxMessage> txs = new ArrayList<>();
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	public BlockTxnMessage() {
+
+	}
+
+	public BlockTxnMessage(SHA256Hash blockHash, List<TxMessage> txs) {
+		this.blockHash = blockHash;
+		this.txs = txs;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public String getCommand() {
+		return "blocktxn";
+	}
+
+	@Override
+	public byte[] getBytes() {
+		BitcoinBuffer buf = new BitcoinBuffer(SHA256Hash.LENGTH + 9 + 250 * txs.size());
+		writeToBuffer(buf);
+		return buf.toArrayExactSize();
+	}
+
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
+		blockHash.writeToBuffer(buf);
+		buf.putVector(txs);
+	}
+
+	@Override
+	public void loadFromBuffer(BitcoinBuffer buf) {
+		this.blockHash = SHA256Hash.read(buf);
+		this.txs = buf.getVector(TxMessage::new);
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	public SHA256Hash getBlockHash() {
+		return blockHash;
+	}
+
+	public List<TxMessage> getTxs() {
+		return txs;
+	}
+
+	// =============================================================================================
+	// OBJECT OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [blockHash=" + blockHash + ", txs=" + txs.size() + "]";
+	}
+}
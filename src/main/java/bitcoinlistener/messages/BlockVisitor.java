@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.messages;
+
+/**
+ * Receives the contents of a block as it is read from the payload (see
+ * {@link BlockMessage#accept(BlockVisitor)}).
+ * <p>
+ * Callbacks happen in this order: {@link #onHeader}, then for every transaction {@link #onTx}
+ * followed by {@link #onTxIn} for each input and {@link #onTxOut} for each output, and finally
+ * {@link #onEnd}. A {@link TxView} is only valid until the next transaction is visited; nothing is
+ * kept between transactions, so memory does not grow with the size of the block.
+ */
+public interface BlockVisitor {
+
+	/**
+	 * Invoked before the transactions.
+	 *
+	 * @param header  block with the header fields loaded
+	 * @param txCount number of transactions in the block
+	 */
+	default void onHeader(AbstractBlockMessage header, int txCount) {
+	}
+
+	/**
+	 * Invoked for each transaction, before its inputs and outputs.
+	 *
+	 * @param tx    the transaction
+	 * @param index position of the transaction in the block
+	 */
+	default void onTx(TxView tx, int index) {
+	}
+
+	/**
+	 * Invoked for each input of a transaction.
+	 *
+	 * @param tx    the transaction
+	 * @param index position of the input in the transaction
+	 */
+	default void onTxIn(TxView tx, int index) {
+	}
+
+	/**
+	 * Invoked for each output of a transaction.
+	 *
+	 * @param tx    the transaction
+	 * @param index position of the output in the transaction
+	 */
+	default void onTxOut(TxView tx, int index) {
+	}
+
+	/**
+	 * Invoked after the last transaction.
+	 */
+	default void onEnd() {
+	}
+}
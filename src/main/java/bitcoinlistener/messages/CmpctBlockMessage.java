@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.messages;
+
+import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.BitcoinListenerException;
+import bitcoinlistener.datatypes.SHA256Hash;
+import bitcoinlistener.util.ByteUtil;
+import bitcoinlistener.util.HashUtil;
+import bitcoinlistener.util.SipHash;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compact block (BIP 152): the header of a block, a 6-byte short id for each transaction and
+ * the transactions the sender expects the receiver not to have (at least the coinbase).
+ * <p>
+ * The short ids are the SipHash-2-4 of the transaction ids, keyed with the hash of the header
+ * and a nonce, so the receiver can rebuild the block from the transactions it already has and
+ * request only the missing ones with getblocktxn. Version 1: ids without witness data.
+ */
+public class CmpctBlockMessage extends AbstractBlockMessage {
+
+	public static final int SHORT_ID_SIZE = 6;
+
+	private static final long SHORT_ID_MASK = 0xFFFFFFFFFFFFL;
+
+	/** Upper bound of the transactions of a block (1 MB / the smallest transaction) */
+	private static final int MAX_TX_COUNT = 1_000_000 / 60;
+
+	private long shortIdNonce;
+	private long[] shortIds;
+
+	/** Positions in the block of the transactions sent in full, in ascending order */
+	private int[] prefilledIndexes;
+	private List<TxMessage> prefilledTxs;
+
+	private long k0;
+	private long k1;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	public CmpctBlockMessage() {
+
+	}
+
+	/**
+	 * Builds the compact block of a block, prefilled with its coinbase.
+	 */
+	public CmpctBlockMessage(BlockMessage block, long shortIdNonce) {
+		copyHeader(block);
+		this.shortIdNonce = shortIdNonce;
+		computeKeys();
+		TxIdTable txIds = block.getTxIds();
+		this.shortIds = new long[txIds.size() - 1];
+		for (int x = 1; x < txIds.size(); x++) {
+			shortIds[x - 1] = getShortId(txIds.get(x));
+		}
+		this.prefilledIndexes = new int[] { 0 };
+		this.prefilledTxs = new ArrayList<>();
+		prefilledTxs.add(block.getTxList().get(0));
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public String getCommand() {
+		return "cmpctblock";
+	}
+
+	@Override
+	public void loadFromBuffer(BitcoinBuffer buf) {
+		super.loadFromBuffer(buf);
+		this.shortIdNonce = buf.getUint64LE();
+
+		int count = buf.getVarIntAsLength();
+		if (count > buf.remaining() / SHORT_ID_SIZE) {
+			throw new BitcoinListenerException("Invalid number of short ids: " + count);
+		}
+		this.shortIds = new long[count];
+		byte[] data = buf.getBytes(count * SHORT_ID_SIZE);
+		for (int x = 0; x < count; x++) {
+			long id = 0;
+			for (int b = SHORT_ID_SIZE - 1; b >= 0; b--) {
+				id = (id << 8) | (data[x * SHORT_ID_SIZE + b] & 0xFF);
+			}
+			shortIds[x] = id;
+		}
+
+		int prefilled = buf.getVarIntAsLength();
+		this.prefilledIndexes = new int[prefilled];
+		this.prefilledTxs = new ArrayList<>(prefilled);
+		long last = -1;
+		for (int x = 0; x < prefilled; x++) {
+			// differentially encoded, as in getblocktxn
+			last += buf.getVarIntAsLong() + 1;
+			if (last < 0 || last >= count + prefilled) {
+				throw new BitcoinListenerException("Invalid prefilled transaction index: " + last);
+			}
+			prefilledIndexes[x] = (int) last;
+			prefilledTxs.add(buf.getData(TxMessage::new));
+		}
+		if (count + prefilled > MAX_TX_COUNT) {
+			throw new BitcoinListenerException("Too many transactions: " + (count + prefilled));
+		}
+		computeKeys();
+	}
+
+	@Override
+	public byte[] getBytes() {
+		BitcoinBuffer buf = new BitcoinBuffer(100 + SHORT_ID_SIZE * shortIds.length);
+		writeToBuffer(buf);
+		return buf.toArrayExactSize();
+	}
+
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
+		writeHeader(buf);
+		buf.putUint64LE(shortIdNonce);
+		buf.putVarInt(shortIds.length);
+		for (long id : shortIds) {
+			for (int b = 0; b < SHORT_ID_SIZE; b++) {
+				buf.putByte((byte) (id >>> (8 * b)));
+			}
+		}
+		buf.putVarInt(prefilledIndexes.length);
+		int last = -1;
+		for (int x = 0; x < prefilledIndexes.length; x++) {
+			buf.putVarInt(prefilledIndexes[x] - last - 1);
+			last = prefilledIndexes[x];
+			prefilledTxs.get(x).writeToBuffer(buf);
+		}
+	}
+
+	/**
+	 * Computes the short id of a transaction for this block.
+	 */
+	public long getShortId(SHA256Hash txId) {
+		byte[] id = new byte[SHA256Hash.LENGTH];
+		txId.writeTo(id, 0);
+		return getShortId(id, 0);
+	}
+
+	/**
+	 * Computes the short id of a transaction for this block.
+	 *
+	 * @param data   array holding the transaction id, in internal byte order
+	 * @param offset position of the id in the array
+	 */
+	public long getShortId(byte[] data, int offset) {
+		return SipHash.hash24(k0, k1, data, offset, SHA256Hash.LENGTH) & SHORT_ID_MASK;
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	public long getShortIdNonce() {
+		return shortIdNonce;
+	}
+
+	/** Short ids of the transactions not prefilled, in the order of the block */
+	public long[] getShortIds() {
+		return shortIds;
+	}
+
+	public int[] getPrefilledIndexes() {
+		return prefilledIndexes;
+	}
+
+	public List<TxMessage> getPrefilledTxs() {
+		return prefilledTxs;
+	}
+
+	/** Number of transactions of the block */
+	public int getTxCount() {
+		return shortIds.length + prefilledIndexes.length;
+	}
+
+	// =============================================================================================
+	// OBJECT OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [hash=" + getHashAsStr() + ", shortIds=" +
+			   shortIds.length + ", prefilled=" + prefilledIndexes.length + "]";
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	/**
+	 * The SipHash key is the first 16 bytes of SHA-256(header || nonce).
+	 */
+	private void computeKeys() {
+		BitcoinBuffer buf = new BitcoinBuffer(88);
+		writeHeader(buf);
+		buf.putUint64LE(shortIdNonce);
+		byte[] key = HashUtil.sha256(buf.toArrayExactSize());
+		this.k0 = ByteUtil.getInt64LE(key, 0);
+		this.k1 = ByteUtil.getInt64LE(key, 8);
+	}
+}
@@ -68,30 +68,28 @@ public class FilterLoadMessage implements ProtocolMessage {
 	@Override
 	public byte[] getBytes() {
 		BitcoinBuffer buf = new BitcoinBuffer(4 + 4 + 1 + filter.length + 9);
+		writeToBuffer(buf);
+		return buf.toArrayExactSize();
+	}
+
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
 		buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
 		buf.putVarInt(this.filter.length);
 		buf.putBytes(this.filter);
 		buf.putUint32(this.numHashFuncs);
 		buf.putUint32(this.tweak);
 		buf.putByte(this.flags);
-		byte[] arr = buf.toArrayExactSize();
-		return arr;
 	}
 	
 	@Override
 	public void loadFromBuffer(BitcoinBuffer buf) {
-		ByteOrder old = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			int size = buf.getVarIntAsInt();
-			this.filter = buf.getBytes(size);
-
-			this.numHashFuncs = buf.getUint32();
-			this.tweak = buf.getUint32();
-			this.flags = buf.getByte();
-		} finally {
-			buf.setEndianness(old);
-		}
+		int size = buf.getVarIntAsLength();
+		this.filter = buf.getBytes(size);
+
+		this.numHashFuncs = buf.getUint32LE();
+		this.tweak = buf.getUint32LE();
+		this.flags = buf.getByte();
 	}
 
 	// =============================================================================================
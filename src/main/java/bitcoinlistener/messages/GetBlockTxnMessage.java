@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.messages;
+
+import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.BitcoinListenerException;
+import bitcoinlistener.ProtocolMessage;
+import bitcoinlistener.datatypes.SHA256Hash;
+
+/**
+ * Requests the transactions of a block that were missing to rebuild it from a compact block
+ * (BIP 152). Answered with blocktxn.
+ */
+public class GetBlockTxnMessage implements ProtocolMessage {
+
+	private SHA256Hash blockHash;
+
+	/** Positions of the transactions in the block, in ascending order */
+	private int[] indexes;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	public GetBlockTxnMessage() {
+
+	}
+
+	public GetBlockTxnMessage(SHA256Hash blockHash, int[] indexes) {
+		this.blockHash = blockHash;
+		this.indexes = indexes;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public String getCommand() {
+		return "getblocktxn";
+	}
+
+	@Override
+	public byte[] getBytes() {
+		BitcoinBuffer buf = new BitcoinBuffer(SHA256Hash.LENGTH + 9 + 3 * indexes.length);
+		writeToBuffer(buf);
+		return buf.toArrayExactSize();
+	}
+
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
+		blockHash.writeToBuffer(buf);
+		buf.putVarInt(indexes.length);
+		// differentially encoded: each one is the distance from the previous one, minus 1
+		int last = -1;
+		for (int index : indexes) {
+			buf.putVarInt(index - last - 1);
+			last = index;
+		}
+	}
+
+	@Override
+	public void loadFromBuffer(BitcoinBuffer buf) {
+		this.blockHash = SHA256Hash.read(buf);
+		this.indexes = new int[buf.getVarIntAsLength()];
+		long last = -1;
+		for (int x = 0; x < indexes.length; x++) {
+			last += buf.getVarIntAsLong() + 1;
+			if (last < 0 || last > Integer.MAX_VALUE) {
+				throw new BitcoinListenerException("Invalid transaction index: " + last);
+			}
+			indexes[x] = (int) last;
+		}
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	public SHA256Hash getBlockHash() {
+		return blockHash;
+	}
+
+	public int[] getIndexes() {
+		return indexes;
+	}
+
+	// =============================================================================================
+	// OBJECT OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [blockHash=" + blockHash + ", indexes=" +
+			   indexes.length + "]";
+	}
+}
@@ -44,10 +44,14 @@ public class GetDataMessage implements ProtocolMessage {
 	@Override
 	public byte[] getBytes() {
 		BitcoinBuffer buf = new BitcoinBuffer(36 * list.size() + 9);
+		writeToBuffer(buf);
+		return buf.toArrayExactSize();
+	}
+
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
 		buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
 		buf.putVector(list);
-		byte[] arr = buf.toArrayExactSize();
-		return arr;
 	}
 	
 	@Override
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.messages;
+
+import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.BitcoinListenerException;
+import bitcoinlistener.ProtocolMessage;
+import bitcoinlistener.datatypes.BlockHeader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Block headers, sent in reply to getheaders or to announce new blocks to peers that sent
+ * sendheaders. Each header is followed by a transaction count, always 0.
+ */
+public class HeadersMessage implements ProtocolMessage {
+
+	/** Maximum number of headers in a message */
+	public static final int MAX_HEADERS = 2000;
+
+	private List<BlockHeader> headers = new ArrayList<>();
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	public HeadersMessage() {
+
+	}
+
+	public HeadersMessage(List<BlockHeader> headers) {
+		this.headers = headers;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public String getCommand() {
+		return "headers";
+	}
+
+	@Override
+	public byte[] getBytes() {
+		BitcoinBuffer buf = new BitcoinBuffer((BlockHeader.SIZE + 1) * headers.size() + 3);
+		writeToBuffer(buf);
+		return buf.toArrayExactSize();
+	}
+
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
+		buf.putVarInt(headers.size());
+		for (BlockHeader header : headers) {
+			header.writeToBuffer(buf);
+			buf.putVarInt(0);
+		}
+	}
+
+	@Override
+	public void loadFromBuffer(BitcoinBuffer buf) {
+		int count = buf.getVarIntAsLength();
+		if (count > MAX_HEADERS) {
+			throw new BitcoinListenerException("Too many headers: " + count);
+		}
+		List<BlockHeader> list = new ArrayList<>(count);
+		for (int x = 0; x < count; x++) {
+			list.add(buf.getData(BlockHeader::new));
+			if (buf.getVarIntAsLong() != 0) {
+				throw new BitcoinListenerException("Header with transactions");
+			}
+		}
+		this.headers = list;
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	public List<BlockHeader> getHeaders() {
+		return headers;
+	}
+
+	// =============================================================================================
+	// OBJECT OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [headers=" + headers.size() + "]";
+	}
+}
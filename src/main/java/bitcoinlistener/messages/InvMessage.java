@@ -43,25 +43,30 @@ public class InvMessage implements ProtocolMessage {
 
 	@Override
 	public byte[] getBytes() {
-		throw new RuntimeException("not implemented");
+		BitcoinBuffer buf = new BitcoinBuffer(36 * invObjs.size() + 9);
+		writeToBuffer(buf);
+		return buf.toArrayExactSize();
+	}
+
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
+		buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
+		buf.putVector(invObjs);
 	}
 
 	@Override
 	public void loadFromBuffer(BitcoinBuffer buf) {
-		ByteOrder o = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			this.invObjs = buf.getVector(InvObject.class);
-			
-		} finally {
-			buf.setEndianness(o);
-		}
+		this.invObjs = buf.getVector(InvObject::new);
 	}
 
 	// =============================================================================================
 	// ACCESSORS (GETTERS AND SETTERS)                                                              
 	// =============================================================================================
 	
+	public void addObject(InvObject obj) {
+		invObjs.add(obj);
+	}
+
 	public List<InvObject> getInvObjs() {
 		return invObjs;
 	}
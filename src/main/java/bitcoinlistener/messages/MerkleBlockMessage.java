@@ -12,9 +12,8 @@ import bitcoinlistener.BitcoinBuffer;
 import bitcoinlistener.datatypes.SHA256Hash;
 import bitcoinlistener.util.PartialMerkleTree;
 
-import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * This object describes the merkleblock message.
@@ -57,17 +56,14 @@ public class MerkleBlockMessage extends AbstractBlockMessage {
 	@Override
 	public void loadFromBuffer(BitcoinBuffer buf) {
 		super.loadFromBuffer(buf);
-		ByteOrder o = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			this.totalTransactions = buf.getUint32();
-			// invert hashes bytes
-			this.hashes = buf.getVector(SHA256Hash.class).stream().map(x -> x.getInverted()).collect(
-					Collectors.toList());
-			this.flags = buf.getBytes(buf.getVarInt().intValue());
-		} finally {
-			buf.setEndianness(o);
+		this.totalTransactions = buf.getUint32LE();
+		int hashCount = buf.getVarIntAsLength();
+		List<SHA256Hash> hashes = new ArrayList<>(hashCount);
+		for (int x = 0; x < hashCount; x++) {
+			hashes.add(SHA256Hash.read(buf));
 		}
+		this.hashes = hashes;
+		this.flags = buf.getBytes(buf.getVarIntAsLength());
 	}
 
 	@Override
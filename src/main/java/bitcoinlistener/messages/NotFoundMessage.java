@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ * 
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.messages;
+
+/**
+ * Sent in reply to getdata for the objects that could not be relayed (e.g. a transaction no
+ * longer in the mempool). Same format as inv.
+ */
+public class NotFoundMessage extends InvMessage {
+
+	// =============================================================================================
+	// CONSTRUCTORS                                                                                
+	// =============================================================================================
+	
+	public NotFoundMessage() {
+		
+	}
+	
+	// =============================================================================================
+	// OPERATIONS                                                            
+	// =============================================================================================
+	
+	@Override
+	public String getCommand() {
+		return "notfound";
+	}
+
+}
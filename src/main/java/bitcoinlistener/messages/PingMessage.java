@@ -11,8 +11,6 @@ package bitcoinlistener.messages;
 import bitcoinlistener.BitcoinBuffer;
 import bitcoinlistener.ProtocolMessage;
 
-import java.nio.ByteOrder;
-
 /**
  * The ping message. It is sent primarily to confirm that the TCP/IP connection is still valid.
  */
@@ -28,6 +26,11 @@ public class PingMessage implements ProtocolMessage {
 	public PingMessage() {
 		
 	}
+
+	public PingMessage(long nonce) {
+		this.nonce = nonce;
+		this.hasNonce = true;
+	}
 	
 	// =============================================================================================
 	// OPERATIONS                                                            
@@ -40,20 +43,23 @@ public class PingMessage implements ProtocolMessage {
 
 	@Override
 	public byte[] getBytes() {
-		throw new RuntimeException("not implemented");
+		BitcoinBuffer buf = new BitcoinBuffer(9);
+		writeToBuffer(buf);
+		return buf.toArrayExactSize();
+	}
+
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
+		if (hasNonce) {
+			buf.putUint64LE(nonce);
+		}
 	}
 
 	@Override
 	public void loadFromBuffer(BitcoinBuffer buf) {
-		ByteOrder o = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			this.hasNonce = (buf.remaining() > 0);
-			if (this.hasNonce) {
-				nonce = buf.getUint64().longValue();
-			}
-		} finally {
-			buf.setEndianness(o);
+		this.hasNonce = (buf.remaining() > 0);
+		if (this.hasNonce) {
+			nonce = buf.getUint64LE();
 		}
 	}
 
@@ -11,8 +11,6 @@ package bitcoinlistener.messages;
 import bitcoinlistener.BitcoinBuffer;
 import bitcoinlistener.ProtocolMessage;
 
-import java.nio.ByteOrder;
-
 /**
  * The pong message is sent in response to a ping message.
  */
@@ -44,11 +42,14 @@ public class PongMessage implements ProtocolMessage {
 
 	@Override
 	public byte[] getBytes() {
-		BitcoinBuffer buf = new BitcoinBuffer(8);
-		buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-		buf.putUint64(nonce);
-		byte[] arr = buf.toArrayExactSize();
-		return arr;
+		BitcoinBuffer buf = new BitcoinBuffer(9);
+		writeToBuffer(buf);
+		return buf.toArrayExactSize();
+	}
+
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
+		buf.putUint64LE(nonce);
 	}
 
 	@Override
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.messages;
+
+import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.ProtocolMessage;
+
+/**
+ * Announces support for compact blocks (BIP 152) of a version. When high-bandwidth mode is
+ * requested, the peer sends new blocks as cmpctblock without announcing them first.
+ */
+public class SendCmpctMessage implements ProtocolMessage {
+
+	private boolean highBandwidth;
+	private long version;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	public SendCmpctMessage() {
+
+	}
+
+	public SendCmpctMessage(boolean highBandwidth, long version) {
+		this.highBandwidth = highBandwidth;
+		this.version = version;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public String getCommand() {
+		return "sendcmpct";
+	}
+
+	@Override
+	public byte[] getBytes() {
+		BitcoinBuffer buf = new BitcoinBuffer(9);
+		writeToBuffer(buf);
+		return buf.toArrayExactSize();
+	}
+
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
+		buf.putBoolean(highBandwidth);
+		buf.putUint64LE(version);
+	}
+
+	@Override
+	public void loadFromBuffer(BitcoinBuffer buf) {
+		this.highBandwidth = buf.getBoolean();
+		this.version = buf.getUint64LE();
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	public boolean isHighBandwidth() {
+		return highBandwidth;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	// =============================================================================================
+	// OBJECT OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [highBandwidth=" + highBandwidth + ", version=" +
+			   version + "]";
+	}
+}
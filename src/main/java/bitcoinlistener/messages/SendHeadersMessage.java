@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.messages;
+
+import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.ProtocolMessage;
+
+/**
+ * Asks the peer to announce new blocks with a headers message instead of an inv (BIP 130), so
+ * the header arrives in the announcement itself.
+ */
+public class SendHeadersMessage implements ProtocolMessage {
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public String getCommand() {
+		return "sendheaders";
+	}
+
+	@Override
+	public byte[] getBytes() {
+		return new byte[0];
+	}
+
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
+		// empty payload
+	}
+
+	@Override
+	public void loadFromBuffer(BitcoinBuffer buf) {
+		// empty payload
+	}
+}
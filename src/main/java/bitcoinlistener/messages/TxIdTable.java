@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.messages;
+
+import bitcoinlistener.datatypes.SHA256Hash;
+import bitcoinlistener.util.HashUtil;
+import bitcoinlistener.util.MerkleTree;
+import bitcoinlistener.util.PartialMerkleTree;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Ids of the transactions of a block, in block order.
+ * <p>
+ * The ids are packed in a single array, 32 bytes each in internal byte order (the order they are
+ * hashed in a merkle tree), so a table takes 32 bytes per transaction.
+ */
+public class TxIdTable {
+
+	public static final int ID_SIZE = HashUtil.SHA256_LENGTH;
+
+	private final byte[] ids;
+	private final int size;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	/**
+	 * @param ids  packed ids, internal byte order (not copied)
+	 * @param size number of ids
+	 */
+	public TxIdTable(byte[] ids, int size) {
+		if (ids.length < size * ID_SIZE) {
+			throw new IllegalArgumentException("Table too small for " + size + " ids");
+		}
+		this.ids = ids;
+		this.size = size;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Returns an id.
+	 */
+	public SHA256Hash get(int index) {
+		checkIndex(index);
+		return SHA256Hash.read(ids, index * ID_SIZE);
+	}
+
+	/**
+	 * Copies an id in internal byte order.
+	 */
+	public void copyTo(int index, byte[] dest, int destOffset) {
+		checkIndex(index);
+		System.arraycopy(ids, index * ID_SIZE, dest, destOffset, ID_SIZE);
+	}
+
+	/**
+	 * Finds a transaction.
+	 *
+	 * @param txId id of the transaction
+	 * @return position of the transaction in the block or -1 if not found
+	 */
+	public int indexOf(SHA256Hash txId) {
+		for (int x = 0; x < size; x++) {
+			if (txId.equals(ids, x * ID_SIZE)) {
+				return x;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Builds the merkle tree of the transactions, from which inclusion proofs can be taken.
+	 */
+	public MerkleTree buildMerkleTree() {
+		return new MerkleTree(ids, size);
+	}
+
+	/**
+	 * Finds which transactions of the table are in a set of ids.
+	 *
+	 * @param txIds ids of the transactions
+	 * @return one flag per transaction of the table
+	 */
+	public boolean[] match(Collection<SHA256Hash> txIds) {
+		Set<SHA256Hash> wanted = (txIds instanceof Set) ? (Set<SHA256Hash>) txIds
+														: new HashSet<>(txIds);
+		boolean[] matches = new boolean[size];
+		for (int x = 0; x < size; x++) {
+			matches[x] = wanted.contains(get(x));
+		}
+		return matches;
+	}
+
+	/**
+	 * Builds the BIP 37 partial merkle tree proving that the given transactions are in the
+	 * block. Ids not in the table are ignored.
+	 *
+	 * @param txIds ids of the transactions
+	 */
+	public PartialMerkleTree buildPartialMerkleTree(Collection<SHA256Hash> txIds) {
+		return buildMerkleTree().getPartialMerkleTree(match(txIds));
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the packed ids in internal byte order. The array is not copied and must not be
+	 * modified.
+	 */
+	public byte[] getBytes() {
+		return ids;
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+	}
+}
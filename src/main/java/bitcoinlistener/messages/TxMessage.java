@@ -9,26 +9,34 @@
 package bitcoinlistener.messages;
 
 import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.List;
 
 import bitcoinlistener.BitcoinBuffer;
 import bitcoinlistener.ProtocolMessage;
+import bitcoinlistener.datatypes.SHA256Hash;
 import bitcoinlistener.datatypes.TxIn;
 import bitcoinlistener.datatypes.TxOut;
-import bitcoinlistener.util.ByteUtil;
 import bitcoinlistener.util.HashUtil;
 
 /**
  * This object describes a bitcoin transaction, in reply to getdata.
+ * <p>
+ * Loading a transaction only records where its fields are (see {@link TxView}); inputs and
+ * outputs are decoded the first time {@link #getTxInList()} or {@link #getTxOutList()} is
+ * called.
  */
 public class TxMessage implements ProtocolMessage {
 
 	private int version; // int32_t
 	// flag optional???????
-	private List<TxIn> txInList;
-	private List<TxOut> txOutList;
+	private volatile List<TxIn> txInList;
+	private volatile List<TxOut> txOutList;
 	private long lockTime;
-	private byte[] rawData;
+	private TxView view;
+
+	/** Transaction id, computed on the first request */
+	private volatile SHA256Hash txId;
 	
 	// =============================================================================================
 	// CONSTRUCTORS                                                                                
@@ -38,45 +46,53 @@ public class TxMessage implements ProtocolMessage {
 		
 	}
 
+	/**
+	 * Creates a transaction backed by an already parsed view.
+	 */
+	public TxMessage(TxView view) {
+		this.view = view;
+		this.version = view.getVersion();
+		this.lockTime = view.getLockTime();
+	}
+
 	// =============================================================================================
 	// OPERATIONS                                                                                   
 	// =============================================================================================
 
 	@Override
 	public void loadFromBuffer(BitcoinBuffer buf) {
-		ByteOrder old = buf.getEndianness();
-
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-
-			int pos = buf.getPosition();
-			this.version = buf.getInt32();
-			this.txInList = buf.getVector(TxIn.class);
-			this.txOutList = buf.getVector(TxOut.class);
-			this.lockTime = buf.getUint32();
-
-			int endPos = buf.getPosition();
-			buf.setPosition(pos);
-			rawData = buf.getBytes(endPos - pos);
-
-		} finally {
-			buf.setEndianness(old);
-		}
+		this.view = TxView.parse(buf);
+		this.version = view.getVersion();
+		this.lockTime = view.getLockTime();
+		this.txInList = null;
+		this.txOutList = null;
+		this.txId = null;
 	}
 
 	@Override
 	public byte[] getBytes() {
+		if (view != null && txInList == null && txOutList == null) {
+			// nothing was decoded, so nothing could have been changed
+			return view.toByteArray();
+		}
 		BitcoinBuffer buf = new BitcoinBuffer(100);
+		writeToBuffer(buf);
+		return buf.toArrayExactSize();
+	}
+
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
+		if (view != null && txInList == null && txOutList == null) {
+			buf.putBytes(view.getData(), view.getOffset(), view.getLength());
+			return;
+		}
 		ByteOrder old = buf.getEndianness();
 		try {
 			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
 			buf.putInt32(this.version);
-			buf.putVector(txInList);
-			buf.putVector(txOutList);
+			buf.putVector(getTxInList());
+			buf.putVector(getTxOutList());
 			buf.putUint32(lockTime);
-			
-			byte[] arr = buf.toArrayExactSize();
-			return arr;
 		} finally {
 			buf.setEndianness(old);
 		}
@@ -92,20 +108,74 @@ public class TxMessage implements ProtocolMessage {
 	// =============================================================================================
 
 	public List<TxIn> getTxInList() {
-		return txInList;
+		List<TxIn> list = txInList;
+		if (list == null && view != null) {
+			list = new ArrayList<>(view.getInputCount());
+			for (int x = 0; x < view.getInputCount(); x++) {
+				list.add(view.getInput(x));
+			}
+			txInList = list;
+		}
+		return list;
 	}
 
 	public List<TxOut> getTxOutList() {
-		return txOutList;
+		List<TxOut> list = txOutList;
+		if (list == null && view != null) {
+			list = new ArrayList<>(view.getOutputCount());
+			for (int x = 0; x < view.getOutputCount(); x++) {
+				list.add(view.getOutput(x));
+			}
+			txOutList = list;
+		}
+		return list;
 	}
 
-	public String getHash() {
-		byte[] data = new byte[rawData.length];
-		System.arraycopy(rawData, 0, data, 0, data.length);
+	/**
+	 * Returns the view of the serialized transaction this message was loaded from.
+	 */
+	public TxView getView() {
+		return view;
+	}
+
+	public int getVersion() {
+		return version;
+	}
 
-		data = HashUtil.sha256(HashUtil.sha256(data));
-		ByteUtil.invertArray(data);
-		return ByteUtil.bytesToHex(data);
+	public long getLockTime() {
+		return lockTime;
+	}
+
+	/**
+	 * Returns the transaction id.
+	 * <p>
+	 * For a transaction loaded from a payload the id is computed once over the received bytes and
+	 * cached; otherwise it is computed from the current contents on every call.
+	 */
+	public SHA256Hash getTxId() {
+		SHA256Hash id = txId;
+		if (id != null) {
+			return id;
+		}
+		byte[] data;
+		if (view != null) {
+			data = HashUtil.doubleSha256(view.getData(), view.getOffset(), view.getLength());
+		} else {
+			byte[] bytes = getBytes();
+			data = HashUtil.doubleSha256(bytes, 0, bytes.length);
+		}
+		id = SHA256Hash.fromBytes(data);
+		if (view != null) {
+			txId = id;
+		}
+		return id;
+	}
+
+	/**
+	 * Returns the transaction id in hex.
+	 */
+	public String getHash() {
+		return getTxId().getHashAsStr();
 	}
 	
 	// =============================================================================================
@@ -115,7 +185,7 @@ public class TxMessage implements ProtocolMessage {
 	@Override
 	public String toString() {
 		return getClass().getSimpleName() + " [hash=" + getHash() + ", version=" + version +
-				", txInList=" + txInList.size() + ", txOutList=" + txOutList.size() +
+				", txInList=" + view.getInputCount() + ", txOutList=" + view.getOutputCount() +
 				", lockTime=" + lockTime + "]";
 	}
 
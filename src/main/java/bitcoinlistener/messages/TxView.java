@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.messages;
+
+import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.datatypes.SHA256Hash;
+import bitcoinlistener.datatypes.TxIn;
+import bitcoinlistener.datatypes.TxOut;
+import bitcoinlistener.util.ByteUtil;
+
+/**
+ * Read-only view of a serialized transaction.
+ * <p>
+ * The transaction is walked once to record where each input and output starts, but nothing is
+ * copied: scripts are exposed as (offset, length) slices of {@link #getData()} and inputs and
+ * outputs are only decoded when asked for.
+ * <p>
+ * The view keeps a reference to the array it was parsed from (e.g. a whole block payload), so
+ * that array must not be modified while the view is in use.
+ */
+public class TxView {
+
+	private static final int OUTPOINT_SIZE = 32 + 4; // hash + index
+
+	private final byte[] data;
+	private final int offset;
+	private final int length;
+	private final int version;
+	private final long lockTime;
+
+	/** Position of each input (its outpoint) */
+	private final int[] inputOffsets;
+	/** Position of the signature script of each input */
+	private final int[] inputScriptOffsets;
+
+	/** Position of each output (its value) */
+	private final int[] outputOffsets;
+	/** Position of the pubkey script of each output */
+	private final int[] outputScriptOffsets;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	private TxView(byte[] data, int offset, int length, int version, long lockTime,
+				   int[] inputOffsets, int[] inputScriptOffsets, int[] outputOffsets,
+				   int[] outputScriptOffsets) {
+		this.data = data;
+		this.offset = offset;
+		this.length = length;
+		this.version = version;
+		this.lockTime = lockTime;
+		this.inputOffsets = inputOffsets;
+		this.inputScriptOffsets = inputScriptOffsets;
+		this.outputOffsets = outputOffsets;
+		this.outputScriptOffsets = outputScriptOffsets;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Walks the transaction starting at the current position of the buffer, leaving the buffer
+	 * positioned right after it.
+	 *
+	 * @param buf buffer backed by the serialized data
+	 * @return the view of the transaction
+	 */
+	public static TxView parse(BitcoinBuffer buf) {
+		byte[] data = buf.toArray();
+		int start = buf.getPosition();
+		int version = buf.getInt32LE();
+
+		int inputCount = buf.getVarIntAsLength();
+		int[] inputOffsets = new int[inputCount];
+		int[] inputScriptOffsets = new int[inputCount];
+		for (int x = 0; x < inputCount; x++) {
+			inputOffsets[x] = buf.getPosition();
+			buf.setPosition(buf.getPosition() + OUTPOINT_SIZE);
+			int scriptLength = buf.getVarIntAsLength();
+			inputScriptOffsets[x] = buf.getPosition();
+			buf.setPosition(buf.getPosition() + scriptLength + 4); // script + sequence
+		}
+
+		int outputCount = buf.getVarIntAsLength();
+		int[] outputOffsets = new int[outputCount];
+		int[] outputScriptOffsets = new int[outputCount];
+		for (int x = 0; x < outputCount; x++) {
+			outputOffsets[x] = buf.getPosition();
+			buf.setPosition(buf.getPosition() + 8); // value
+			int scriptLength = buf.getVarIntAsLength();
+			outputScriptOffsets[x] = buf.getPosition();
+			buf.setPosition(buf.getPosition() + scriptLength);
+		}
+
+		long lockTime = buf.getUint32LE();
+		int end = buf.getPosition();
+
+		return new TxView(data, start, end - start, version, lockTime, inputOffsets,
+						  inputScriptOffsets, outputOffsets, outputScriptOffsets);
+	}
+
+	/**
+	 * Advances the buffer past the transaction at its current position, without recording
+	 * anything.
+	 *
+	 * @param buf buffer backed by the serialized data
+	 */
+	public static void skip(BitcoinBuffer buf) {
+		buf.setPosition(buf.getPosition() + 4); // version
+		int inputCount = buf.getVarIntAsLength();
+		for (int x = 0; x < inputCount; x++) {
+			buf.setPosition(buf.getPosition() + OUTPOINT_SIZE);
+			int scriptLength = buf.getVarIntAsLength();
+			buf.setPosition(buf.getPosition() + scriptLength + 4); // script + sequence
+		}
+		int outputCount = buf.getVarIntAsLength();
+		for (int x = 0; x < outputCount; x++) {
+			buf.setPosition(buf.getPosition() + 8); // value
+			int scriptLength = buf.getVarIntAsLength();
+			buf.setPosition(buf.getPosition() + scriptLength);
+		}
+		buf.setPosition(buf.getPosition() + 4); // lock time
+	}
+
+	/**
+	 * Decodes an input.
+	 */
+	public TxIn getInput(int index) {
+		BitcoinBuffer buf = new BitcoinBuffer(data);
+		buf.setPosition(inputOffsets[index]);
+		return buf.getData(TxIn::new);
+	}
+
+	/**
+	 * Decodes an output.
+	 */
+	public TxOut getOutput(int index) {
+		BitcoinBuffer buf = new BitcoinBuffer(data);
+		buf.setPosition(outputOffsets[index]);
+		return buf.getData(TxOut::new);
+	}
+
+	/**
+	 * Returns a copy of the serialized transaction.
+	 */
+	public byte[] toByteArray() {
+		return ByteUtil.slice(data, offset, length);
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	/** Array containing the serialized transaction; all offsets are relative to it */
+	public byte[] getData() {
+		return data;
+	}
+
+	/** Position of the transaction in {@link #getData()} */
+	public int getOffset() {
+		return offset;
+	}
+
+	/** Size of the serialized transaction */
+	public int getLength() {
+		return length;
+	}
+
+	public int getVersion() {
+		return version;
+	}
+
+	public long getLockTime() {
+		return lockTime;
+	}
+
+	public int getInputCount() {
+		return inputOffsets.length;
+	}
+
+	public int getOutputCount() {
+		return outputOffsets.length;
+	}
+
+	/** Position of the 32-byte hash of the transaction spent by an input (wire byte order) */
+	public int getInputPrevHashOffset(int index) {
+		return inputOffsets[index];
+	}
+
+	/** Hash of the transaction spent by an input */
+	public SHA256Hash getInputPrevHash(int index) {
+		return SHA256Hash.read(data, inputOffsets[index]);
+	}
+
+	/** Index of the output spent by an input */
+	public long getInputPrevIndex(int index) {
+		return Integer.toUnsignedLong(ByteUtil.getInt32LE(data, inputOffsets[index] + 32));
+	}
+
+	public int getInputScriptOffset(int index) {
+		return inputScriptOffsets[index];
+	}
+
+	public int getInputScriptLength(int index) {
+		return getInputSequenceOffset(index) - inputScriptOffsets[index];
+	}
+
+	public long getInputSequence(int index) {
+		return Integer.toUnsignedLong(ByteUtil.getInt32LE(data, getInputSequenceOffset(index)));
+	}
+
+	/** Value of an output in satoshis */
+	public long getOutputValue(int index) {
+		return ByteUtil.getInt64LE(data, outputOffsets[index]);
+	}
+
+	public int getOutputScriptOffset(int index) {
+		return outputScriptOffsets[index];
+	}
+
+	public int getOutputScriptLength(int index) {
+		int end = (index + 1 < outputOffsets.length) ? outputOffsets[index + 1]
+													 : offset + length - 4; // lock time
+		return end - outputScriptOffsets[index];
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private int getInputSequenceOffset(int index) {
+		int next = (index + 1 < inputOffsets.length) ? inputOffsets[index + 1]
+													 : firstOutputCountOffset();
+		return next - 4;
+	}
+
+	private int firstOutputCountOffset() {
+		// the output count var_int precedes the first output (or the lock time if there is none)
+		int pos = (outputOffsets.length > 0) ? outputOffsets[0] : offset + length - 4;
+		return pos - varIntSize(outputOffsets.length);
+	}
+
+	private static int varIntSize(long value) {
+		if (value < 0xFD) {
+			return 1;
+		} else if (value <= 0xFFFF) {
+			return 3;
+		} else if (value <= 0xFFFFFFFFL) {
+			return 5;
+		}
+		return 9;
+	}
+}
@@ -33,6 +33,11 @@ public class VerackMessage implements ProtocolMessage {
 		return new byte[0];
 	}
 
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
+		// empty payload
+	}
+
 	@Override
 	public String getCommand() {
 		return "verack";
@@ -77,7 +77,13 @@ public class VersionMessage implements ProtocolMessage {
 	}
 
 	public byte[] getBytes() {
-		BitcoinBuffer buf = new BitcoinBuffer(10000);
+		BitcoinBuffer buf = new BitcoinBuffer(128);
+		writeToBuffer(buf);
+		return buf.toArrayExactSize();
+	}
+
+	@Override
+	public void writeToBuffer(BitcoinBuffer buf) {
 		buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
 		buf.putInt32(this.version);                     // 4
 		buf.putUint64(this.services);                   // 8
@@ -94,59 +100,47 @@ public class VersionMessage implements ProtocolMessage {
 		if (version > 70001) {
 			buf.putBoolean(this.relay);                 // 1
 		}
-		
-		byte[] ret = buf.toArrayExactSize();
-
-		return ret;
 	}
 	
 	@Override
 	public void loadFromBuffer(BitcoinBuffer buf) {
-		ByteOrder o = buf.getEndianness();
-		try {
-			buf.setEndianness(ByteOrder.LITTLE_ENDIAN);
-			
-			int version = buf.getInt32();
-			long services = buf.getUint64().longValue();
-			long time = buf.getInt64();
-
-			NetAddress addrRecv = new NetAddress();
-			addrRecv.loadFromBuffer(buf);
-
-			
-			NetAddress addrFrom = new NetAddress();
-			addrFrom.loadFromBuffer(buf);
-
-			long nonce = buf.getUint64().longValue();
-
-			VarString vStr = new VarString();
-			vStr.loadFromBuffer(buf);
-			String str = vStr.getString();
-
-			int height = -1;
-			if (version >= 209) {
-				height = buf.getInt32();
-			}
-
-			// Transaction relay flag
-			boolean relay = true;
-			if (version > 70001) {
-				relay = buf.getBoolean();
-			}
-
-			this.version = version;
-			this.services = services;
-			this.time = time;
-			this.addrRecv = addrRecv;
-			this.addrFrom = addrFrom;
-			this.nonce = nonce;
-			this.subVer = str;
-			this.startHeight = height;
-			this.relay = relay;
-
-		} finally {
-			buf.setEndianness(o);
+		int version = buf.getInt32LE();
+		long services = buf.getUint64LE();
+		long time = buf.getInt64LE();
+
+		NetAddress addrRecv = new NetAddress();
+		addrRecv.loadFromBuffer(buf);
+
+		
+		NetAddress addrFrom = new NetAddress();
+		addrFrom.loadFromBuffer(buf);
+
+		long nonce = buf.getUint64LE();
+
+		VarString vStr = new VarString();
+		vStr.loadFromBuffer(buf);
+		String str = vStr.getString();
+
+		int height = -1;
+		if (version >= 209) {
+			height = buf.getInt32LE();
 		}
+
+		// Transaction relay flag
+		boolean relay = true;
+		if (version > 70001) {
+			relay = buf.getBoolean();
+		}
+
+		this.version = version;
+		this.services = services;
+		this.time = time;
+		this.addrRecv = addrRecv;
+		this.addrFrom = addrFrom;
+		this.nonce = nonce;
+		this.subVer = str;
+		this.startHeight = height;
+		this.relay = relay;
 	}
 	
 	// =============================================================================================
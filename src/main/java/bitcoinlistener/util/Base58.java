@@ -118,7 +118,7 @@ public class Base58 {
         byte[] addressBytes = new byte[1 + payload.length + 4];
         addressBytes[0] = (byte) version;
         System.arraycopy(payload, 0, addressBytes, 1, payload.length);
-        byte[] checksum = HashUtil.sha256(HashUtil.sha256(addressBytes, 0, payload.length + 1));
+        byte[] checksum = HashUtil.doubleSha256(addressBytes, 0, payload.length + 1);
         System.arraycopy(checksum, 0, addressBytes, payload.length + 1, 4);
         return Base58.encode(addressBytes);
     }
@@ -184,7 +184,7 @@ public class Base58 {
             throw new RuntimeException("Input too short: " + decoded.length);
         byte[] data = Arrays.copyOfRange(decoded, 0, decoded.length - 4);
         byte[] checksum = Arrays.copyOfRange(decoded, decoded.length - 4, decoded.length);
-        byte[] actualChecksum = Arrays.copyOfRange(HashUtil.sha256(HashUtil.sha256(data)), 0, 4);
+        byte[] actualChecksum = Arrays.copyOfRange(HashUtil.doubleSha256(data, 0, data.length), 0, 4);
         if (!Arrays.equals(checksum, actualChecksum))
             throw new RuntimeException();
         return data;
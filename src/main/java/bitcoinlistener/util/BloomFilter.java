@@ -8,19 +8,20 @@
 
 package bitcoinlistener.util;
 
-import java.util.BitSet;
+import java.util.Arrays;
 
 /**
- * A bloom filter using java.util.BitSet and MurmurHash3
+ * A bloom filter backed by an array of longs, using MurmurHash3
  */
 public class BloomFilter {
 
-	private static final long MAX_FILTER_SIZE = 36000;
+	/** Maximum size of a filter sent to a peer (BIP37) */
+	public static final int MAX_FILTER_SIZE = 36000;
 	private static final int MAX_NUM_HASH_FUNCS = 50;
 
 	// =============================================================================================
 	
-	private BitSet bitset;
+	private final long[] bits;
 	private int numberOfHashFuncs;
 	private long nonce;
 	private int nbits;
@@ -31,11 +32,19 @@ public class BloomFilter {
 	// =============================================================================================
 	
 	public BloomFilter(int numElements, double falsePositiveRate, long nonce) {
-		sizeInBytes = (int) (-1 / (Math.pow(Math.log(2), 2)) * numElements * 
+		this(numElements, falsePositiveRate, nonce, MAX_FILTER_SIZE);
+	}
+
+	/**
+	 * @param maxSizeInBytes maximum size of the filter ({@link #MAX_FILTER_SIZE} for filters
+	 *                       sent to a peer)
+	 */
+	public BloomFilter(int numElements, double falsePositiveRate, long nonce, int maxSizeInBytes) {
+		long sizeInBits = (long) (-1 / (Math.pow(Math.log(2), 2)) * numElements *
 				Math.log(falsePositiveRate));
-		sizeInBytes = Math.max(1, Math.min(sizeInBytes, (int) MAX_FILTER_SIZE * 8) / 8);
+		sizeInBytes = (int) Math.max(1, Math.min(sizeInBits, (long) maxSizeInBytes * 8) / 8);
 		this.nbits = sizeInBytes * 8;
-		this.bitset = new BitSet();
+		this.bits = new long[(nbits + 63) >>> 6];
 
 		numberOfHashFuncs = (int) (nbits / (double) numElements * Math.log(2));
 		numberOfHashFuncs = Math.max(1, Math.min(numberOfHashFuncs, MAX_NUM_HASH_FUNCS));
@@ -49,28 +58,65 @@ public class BloomFilter {
 	public void insert(byte[] data) {
 		for (int x = 0; x < numberOfHashFuncs; x++) {
 			int bitIndex = HashUtil.murmurHash3(nbits, nonce, x, data);
-			bitset.set(bitIndex);
+			bits[bitIndex >>> 6] |= 1L << bitIndex;
 		}
 	}
 
 	public boolean contains(byte[] data) {
 		for (int i = 0; i < numberOfHashFuncs; i++) {
 			int bitIndex = HashUtil.murmurHash3(nbits, nonce, i, data);
-			if (!bitset.get(bitIndex)) {
+			if ((bits[bitIndex >>> 6] & (1L << bitIndex)) == 0) {
 				return false;
 			}
 		}
 		return true;
 	}
+
+	/** Removes all the elements */
+	public void clear() {
+		Arrays.fill(bits, 0L);
+	}
 	
 	public byte[] getAsArray() {
+		// bit i is bit (i % 8) of byte (i / 8)
 		byte[] result = new byte[sizeInBytes];
-		// the returned byte array can be smaller than sizeInBytes
-		byte[] bitsetArr = bitset.toByteArray();
-		System.arraycopy(bitsetArr, 0, result, 0, bitsetArr.length);
+		for (int x = 0; x < sizeInBytes; x++) {
+			result[x] = (byte) (bits[x >>> 3] >>> ((x & 7) << 3));
+		}
 		return result;
 	}
 
+	// =============================================================================================
+
+	/**
+	 * Computes the bits of an element, so that filters with the same parameters can be queried
+	 * without hashing it again.
+	 *
+	 * @param dest receives the {@link #getNumberOfHashFuncs()} bit indexes
+	 */
+	void getBitIndexes(byte[] data, int[] dest) {
+		for (int x = 0; x < numberOfHashFuncs; x++) {
+			dest[x] = HashUtil.murmurHash3(nbits, nonce, x, data);
+		}
+	}
+
+	void setBits(int[] indexes) {
+		for (int x = 0; x < numberOfHashFuncs; x++) {
+			int bitIndex = indexes[x];
+			bits[bitIndex >>> 6] |= 1L << bitIndex;
+		}
+	}
+
+	boolean hasBits(int[] indexes) {
+		for (int x = 0; x < numberOfHashFuncs; x++) {
+			int bitIndex = indexes[x];
+			if ((bits[bitIndex >>> 6] & (1L << bitIndex)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	// =============================================================================================
 	/// ACCESSORS (GETTERS AND SETTERS)                                                             
 	// =============================================================================================
@@ -86,4 +132,8 @@ public class BloomFilter {
 	public int getNbits() {
 		return nbits;
 	}
+
+	public int getSizeInBytes() {
+		return sizeInBytes;
+	}
 }
@@ -9,13 +9,27 @@
 package bitcoinlistener.util;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.util.ArrayList;
-import java.util.BitSet;
+import java.util.Arrays;
 import java.util.List;
 
  public class ByteUtil {
 
+	private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+	/** Value of each ASCII hex digit, -1 for other characters */
+	private static final byte[] HEX_VALUES = new byte[128];
+
+	static {
+		Arrays.fill(HEX_VALUES, (byte) -1);
+		for (int x = 0; x < 16; x++) {
+			HEX_VALUES[HEX_DIGITS[x]] = (byte) x;
+			HEX_VALUES[Character.toUpperCase(HEX_DIGITS[x])] = (byte) x;
+		}
+	}
+
 	public static boolean compareArray(byte[] big, int posBig, byte[] small, int number) {
 		for (int x = 0; x < number; x++) {
 			if (big[x + posBig] != small[x]) {
@@ -25,11 +39,45 @@ import java.util.List;
 		return true;
 	}
 
+	public static boolean compareArray(byte[] arr1, int pos1, byte[] arr2, int pos2, int number) {
+		for (int x = 0; x < number; x++) {
+			if (arr1[pos1 + x] != arr2[pos2 + x]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public static int intFromBytes(byte[] bytes) {
 		return ((bytes[3] & 0xFF) << 24) | ((bytes[2] & 0xFF) << 16) | ((bytes[1] & 0xFF) << 8)
 			   | ((bytes[0] & 0xFF) << 0);
 	}
 
+	/**
+	 * Reads a little endian int32 at the given position of the array.
+	 */
+	public static int getInt32LE(byte[] arr, int pos) {
+		return (arr[pos] & 0xFF) | ((arr[pos + 1] & 0xFF) << 8) | ((arr[pos + 2] & 0xFF) << 16)
+			   | ((arr[pos + 3] & 0xFF) << 24);
+	}
+
+	/**
+	 * Reads a little endian int64 at the given position of the array.
+	 */
+	public static long getInt64LE(byte[] arr, int pos) {
+		return (getInt32LE(arr, pos) & 0xFFFFFFFFL) | ((long) getInt32LE(arr, pos + 4) << 32);
+	}
+
+	/**
+	 * Writes a little endian int32 at the given position of the array.
+	 */
+	public static void putInt32LE(byte[] arr, int pos, int value) {
+		arr[pos] = (byte) value;
+		arr[pos + 1] = (byte) (value >>> 8);
+		arr[pos + 2] = (byte) (value >>> 16);
+		arr[pos + 3] = (byte) (value >>> 24);
+	}
+
 	public static byte[] slice(byte[] arr, int pos, int size) {
 		byte[] ret = new byte[size];
 		System.arraycopy(arr, pos, ret, 0, size);
@@ -37,10 +85,7 @@ import java.util.List;
 	}
 
 	public static String bytesToHex(byte[] bytes) {
-		StringBuffer result = new StringBuffer();
-		for (byte byt : bytes)
-			result.append(Integer.toString((byt & 0xff) + 0x100, 16).substring(1));
-		return result.toString();
+		return toHex(bytes, 0, bytes.length, false);
 	}
 
 	public static long bytesToLong(byte[] bytes) {
@@ -92,29 +137,109 @@ import java.util.List;
 	}
 
 	public static String byteArrayToStr(byte[] barr) {
-		StringBuilder hex = new StringBuilder(barr.length * 2);
-		for (byte b : barr) {
-			hex.append(String.format("%02x", b));
-		}
-		return hex.toString();
+		return toHex(barr, 0, barr.length, false);
 	}
 
-	// from stackoverflow
 	public static byte[] hexStringToByteArray(String s) {
-		int len = s.length();
-		byte[] data = new byte[len / 2];
-		for (int i = 0; i < len; i += 2) {
-			data[i / 2] = (byte) ((Character.digit(s.charAt(i), 16) << 4)
-								  + Character.digit(s.charAt(i+1), 16));
+		return fromHex(s, false);
+	}
+
+	/**
+	 * Encodes a range of bytes in lowercase hex.
+	 *
+	 * @param reverse whether the bytes are encoded from last to first (e.g. a hash in internal
+	 *                byte order encoded as displayed by bitcoin nodes)
+	 */
+	public static String toHex(byte[] arr, int offset, int length, boolean reverse) {
+		byte[] ascii = new byte[length * 2];
+		encodeHex(arr, offset, length, reverse, ascii, 0);
+		// the digits are ASCII, so the string is built from them without decoding
+		return new String(ascii, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Encodes a range of bytes in lowercase hex as ASCII characters, two per byte.
+	 *
+	 * @param reverse    whether the bytes are encoded from last to first
+	 * @param dest       destination of the characters
+	 * @param destOffset position of the first character in the destination
+	 */
+	public static void encodeHex(byte[] arr, int offset, int length, boolean reverse,
+								 byte[] dest, int destOffset) {
+		for (int x = 0; x < length; x++) {
+			int b = arr[reverse ? offset + length - 1 - x : offset + x];
+			dest[destOffset++] = HEX_DIGITS[(b >> 4) & 0x0F];
+			dest[destOffset++] = HEX_DIGITS[b & 0x0F];
 		}
+	}
+
+	/**
+	 * Encodes a range of bytes in lowercase hex, two characters per byte.
+	 *
+	 * @param reverse    whether the bytes are encoded from last to first
+	 * @param dest       destination of the characters
+	 * @param destOffset position of the first character in the destination
+	 */
+	public static void encodeHex(byte[] arr, int offset, int length, boolean reverse,
+								 char[] dest, int destOffset) {
+		for (int x = 0; x < length; x++) {
+			int b = arr[reverse ? offset + length - 1 - x : offset + x];
+			dest[destOffset++] = (char) HEX_DIGITS[(b >> 4) & 0x0F];
+			dest[destOffset++] = (char) HEX_DIGITS[b & 0x0F];
+		}
+	}
+
+	/**
+	 * Decodes a hex string (upper or lowercase).
+	 *
+	 * @param reverse whether the bytes are stored from last to first (e.g. a hash as displayed by
+	 *                bitcoin nodes decoded in internal byte order)
+	 */
+	public static byte[] fromHex(CharSequence hex, boolean reverse) {
+		if ((hex.length() & 1) != 0) {
+			throw new IllegalArgumentException("Odd number of hex digits: " + hex.length());
+		}
+		byte[] data = new byte[hex.length() / 2];
+		decodeHex(hex, 0, hex.length(), reverse, data, 0);
 		return data;
 	}
 
+	/**
+	 * Decodes a range of hex characters (an even number) into bytes.
+	 *
+	 * @param reverse    whether the bytes are stored from last to first
+	 * @param dest       destination of the bytes
+	 * @param destOffset position of the first byte in the destination
+	 */
+	public static void decodeHex(CharSequence hex, int offset, int length, boolean reverse,
+								 byte[] dest, int destOffset) {
+		int count = length / 2;
+		int step = reverse ? -1 : 1;
+		int out = reverse ? destOffset + count - 1 : destOffset;
+		for (int pos = offset; pos < offset + count * 2; pos += 2) {
+			int high = hexValue(hex.charAt(pos));
+			int low = hexValue(hex.charAt(pos + 1));
+			if ((high | low) < 0) {
+				throw new IllegalArgumentException("Invalid hex digits at " + pos + ": " +
+												   hex.subSequence(pos, pos + 2));
+			}
+			dest[out] = (byte) ((high << 4) | low);
+			out += step;
+		}
+	}
+
+	private static int hexValue(char c) {
+		return (c < HEX_VALUES.length) ? HEX_VALUES[c] : -1;
+	}
+
+	/**
+	 * Unpacks flag bits (least significant bit first). {@link PartialMerkleTree} reads the packed
+	 * bytes directly, without this list.
+	 */
 	 public static List<Boolean> getFlagList(byte[] flags) {
-		 List<Boolean> flagList = new ArrayList<>();
-		 BitSet bs = BitSet.valueOf(flags);
+		 List<Boolean> flagList = new ArrayList<>(flags.length * 8);
 		 for (int i = 0; i < flags.length * 8; i++) {
-			 flagList.add(bs.get(i));
+			 flagList.add((flags[i >> 3] & (1 << (i & 7))) != 0);
 		 }
 		 return flagList;
 	 }
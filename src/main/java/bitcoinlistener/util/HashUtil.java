@@ -8,26 +8,86 @@
 
 package bitcoinlistener.util;
 
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
 
+/**
+ * Hash functions.
+ * <p>
+ * SHA-256 digests are kept per thread and reused, so hashing does not look up the provider nor
+ * create a digest on every call. The methods taking an output array do not allocate at all.
+ */
  public class HashUtil {
-	
-	public static byte[] sha256(byte[] arr) {
+
+	public static final int SHA256_LENGTH = 32;
+
+	private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
 		try {
-			MessageDigest digest = MessageDigest.getInstance("SHA-256");
-			byte[] hash = digest.digest(arr);
-			return hash;
+			return MessageDigest.getInstance("SHA-256");
 		} catch (NoSuchAlgorithmException e) {
 			throw new RuntimeException(e);
 		}
+	});
+
+	public static byte[] sha256(byte[] arr) {
+		return sha256(arr, 0, arr.length);
 	}
 
 	public static byte[] sha256(byte[] first, byte[] second) {
-		byte[] both = Arrays.copyOf(first, first.length + second.length);
-		System.arraycopy(second, 0, both, first.length, second.length);
-		return sha256(both);
+		MessageDigest digest = SHA256.get();
+		digest.update(first);
+		digest.update(second);
+		return digest.digest();
+	}
+
+	public static byte[] sha256(byte[] data, int offset, int length) {
+		MessageDigest digest = SHA256.get();
+		digest.update(data, offset, length);
+		return digest.digest();
+	}
+
+	/**
+	 * Computes SHA-256(SHA-256(data)) of a range.
+	 */
+	public static byte[] doubleSha256(byte[] data, int offset, int length) {
+		byte[] out = new byte[SHA256_LENGTH];
+		doubleSha256(data, offset, length, out, 0);
+		return out;
+	}
+
+	/**
+	 * Computes SHA-256(SHA-256(data)) of a range, writing the 32 bytes into the output array.
+	 * The output may overlap the input.
+	 */
+	public static void doubleSha256(byte[] data, int offset, int length, byte[] out, int outOffset) {
+		checkOutput(out, outOffset);
+		MessageDigest digest = SHA256.get();
+		digest.update(data, offset, length);
+		finishDouble(digest, out, outOffset);
+	}
+
+	/**
+	 * Computes SHA-256(SHA-256(first || second)) without concatenating the inputs.
+	 */
+	public static byte[] doubleSha256(byte[] first, byte[] second) {
+		byte[] out = new byte[SHA256_LENGTH];
+		doubleSha256(first, 0, first.length, second, 0, second.length, out, 0);
+		return out;
+	}
+
+	/**
+	 * Computes SHA-256(SHA-256(first || second)) of two ranges (e.g. the children of a merkle
+	 * node), writing the 32 bytes into the output array. The output may overlap the inputs.
+	 */
+	public static void doubleSha256(byte[] first, int firstOffset, int firstLength,
+									byte[] second, int secondOffset, int secondLength,
+									byte[] out, int outOffset) {
+		checkOutput(out, outOffset);
+		MessageDigest digest = SHA256.get();
+		digest.update(first, firstOffset, firstLength);
+		digest.update(second, secondOffset, secondLength);
+		finishDouble(digest, out, outOffset);
 	}
 
 	public static int murmurHash3(int nbits, long nTweak, int hashNum, byte[] data) {
@@ -35,9 +95,26 @@ import java.util.Arrays;
 		return (int) ((h1 & 0xFFFFFFFFL) % nbits);
 	}
 
-	public static byte[] sha256(byte[] data, int offset, int length) {
-		byte[] arr = new byte[length-offset];
-		System.arraycopy(data, 0, arr, 0, arr.length);
-		return sha256(arr);
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private static void checkOutput(byte[] out, int outOffset) {
+		// checked before updating, so that an error does not leave data in the digest
+		if (outOffset < 0 || out.length - outOffset < SHA256_LENGTH) {
+			throw new IllegalArgumentException("Output range too small for hash: " +
+											   out.length + "/" + outOffset);
+		}
+	}
+
+	private static void finishDouble(MessageDigest digest, byte[] out, int outOffset) {
+		try {
+			digest.digest(out, outOffset, SHA256_LENGTH);
+			digest.update(out, outOffset, SHA256_LENGTH);
+			digest.digest(out, outOffset, SHA256_LENGTH);
+		} catch (DigestException e) {
+			digest.reset();
+			throw new RuntimeException(e);
+		}
 	}
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.util;
+
+/**
+ * Log argument that encodes a range of bytes in hex only when {@link #toString()} is called.
+ * <p>
+ * Passed as a parameter of a logging call, nothing is copied nor formatted unless the message is
+ * actually written. The range is referenced, not copied, so it must not be modified before the
+ * message is logged.
+ */
+public final class LazyHex {
+
+	private final byte[] data;
+	private final int offset;
+	private final int length;
+	private final int maxBytes;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	private LazyHex(byte[] data, int offset, int length, int maxBytes) {
+		this.data = data;
+		this.offset = offset;
+		this.length = length;
+		this.maxBytes = maxBytes;
+	}
+
+	public static LazyHex of(byte[] data) {
+		return new LazyHex(data, 0, data.length, Integer.MAX_VALUE);
+	}
+
+	public static LazyHex of(byte[] data, int offset, int length) {
+		return new LazyHex(data, offset, length, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param maxBytes maximum number of bytes encoded; longer ranges are truncated
+	 */
+	public static LazyHex of(byte[] data, int offset, int length, int maxBytes) {
+		return new LazyHex(data, offset, length, maxBytes);
+	}
+
+	// =============================================================================================
+	// OBJECT OPERATIONS
+	// =============================================================================================
+
+	@Override
+	public String toString() {
+		int n = Math.min(length, Math.max(maxBytes, 0));
+		String hex = ByteUtil.toHex(data, offset, n, false);
+		if (n < length) {
+			return hex + "... (" + length + " bytes)";
+		}
+		return hex;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.util;
+
+import bitcoinlistener.datatypes.SHA256Hash;
+
+/**
+ * Proof that a transaction is in a block: the hashes needed to go from the transaction id up to
+ * the merkle root (see {@link MerkleTree#getBranch(int)}).
+ */
+public class MerkleBranch {
+
+	private static final int HASH_SIZE = HashUtil.SHA256_LENGTH;
+
+	private final byte[] txId;
+	private final int index;
+	private final byte[] siblings;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	/**
+	 * @param txId     transaction id (internal byte order)
+	 * @param index    position of the transaction in the block
+	 * @param siblings packed sibling hashes from the bottom up (internal byte order)
+	 */
+	public MerkleBranch(byte[] txId, int index, byte[] siblings) {
+		this.txId = txId;
+		this.index = index;
+		this.siblings = siblings;
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Hashes the transaction id with its siblings.
+	 *
+	 * @return the merkle root (as in the block header)
+	 */
+	public SHA256Hash computeMerkleRoot() {
+		byte[] hash = txId.clone();
+		int pos = index;
+		for (int x = 0; x < getSize(); x++) {
+			if ((pos & 1) == 0) {
+				HashUtil.doubleSha256(hash, 0, HASH_SIZE, siblings, x * HASH_SIZE, HASH_SIZE, hash, 0);
+			} else {
+				HashUtil.doubleSha256(siblings, x * HASH_SIZE, HASH_SIZE, hash, 0, HASH_SIZE, hash, 0);
+			}
+			pos >>= 1;
+		}
+		return SHA256Hash.fromBytes(hash);
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	/**
+	 * Returns the transaction id.
+	 */
+	public SHA256Hash getTxId() {
+		return SHA256Hash.read(txId, 0);
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Returns the number of hashes in the branch (the height of the tree).
+	 */
+	public int getSize() {
+		return siblings.length / HASH_SIZE;
+	}
+
+	/**
+	 * Returns a sibling hash in internal byte order.
+	 *
+	 * @param level 0 for the sibling of the transaction
+	 */
+	public byte[] getSibling(int level) {
+		return ByteUtil.slice(siblings, level * HASH_SIZE, HASH_SIZE);
+	}
+}
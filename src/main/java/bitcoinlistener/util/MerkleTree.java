@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.util;
+
+import bitcoinlistener.datatypes.SHA256Hash;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Complete merkle tree of a block, used to produce inclusion proofs.
+ * <p>
+ * The tree is built level by level: each level is a single array with the 32-byte hashes of its
+ * nodes (internal byte order), the last node of an odd level being hashed with itself. Proofs are
+ * then read from the levels without hashing again:
+ * <ul>
+ *     <li>{@link #getBranch(int)}: the siblings from a transaction up to the root;</li>
+ *     <li>{@link #getPartialMerkleTree(boolean[])}: a BIP 37 partial merkle tree (as sent in a
+ *     merkleblock message) covering any set of transactions.</li>
+ * </ul>
+ */
+public class MerkleTree {
+
+	private static final int HASH_SIZE = HashUtil.SHA256_LENGTH;
+
+	/** levels[0] holds the leaves, the last level holds the root */
+	private final byte[][] levels;
+	private final int[] widths;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	/**
+	 * Builds the tree.
+	 *
+	 * @param leaves packed leaf hashes (transaction ids in internal byte order), not copied
+	 * @param count  number of leaves
+	 */
+	public MerkleTree(byte[] leaves, int count) {
+		if (count <= 0) {
+			throw new IllegalArgumentException("Merkle tree without leaves");
+		}
+		int height = 0;
+		while ((1L << height) < count) {
+			height++;
+		}
+		this.levels = new byte[height + 1][];
+		this.widths = new int[height + 1];
+		levels[0] = leaves;
+		widths[0] = count;
+
+		for (int h = 1; h <= height; h++) {
+			byte[] children = levels[h - 1];
+			int n = widths[h - 1];
+			int parents = (n + 1) / 2;
+			byte[] level = new byte[parents * HASH_SIZE];
+			for (int x = 0; x < parents; x++) {
+				int left = 2 * x * HASH_SIZE;
+				int right = (2 * x + 1 < n) ? left + HASH_SIZE : left;
+				HashUtil.doubleSha256(children, left, HASH_SIZE, children, right, HASH_SIZE, level,
+									  x * HASH_SIZE);
+			}
+			levels[h] = level;
+			widths[h] = parents;
+		}
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Returns the merkle root (as in the block header).
+	 */
+	public SHA256Hash getMerkleRoot() {
+		return SHA256Hash.read(levels[getHeight()], 0);
+	}
+
+	/**
+	 * Returns the merkle branch of a leaf: its sibling at every level, from the bottom up.
+	 *
+	 * @param index position of the leaf
+	 */
+	public MerkleBranch getBranch(int index) {
+		if (index < 0 || index >= widths[0]) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", leaves: " + widths[0]);
+		}
+		int height = getHeight();
+		byte[] siblings = new byte[height * HASH_SIZE];
+		int pos = index;
+		for (int h = 0; h < height; h++) {
+			int sibling = pos ^ 1;
+			if (sibling >= widths[h]) {
+				sibling = pos; // last node of an odd level
+			}
+			System.arraycopy(levels[h], sibling * HASH_SIZE, siblings, h * HASH_SIZE, HASH_SIZE);
+			pos >>= 1;
+		}
+		return new MerkleBranch(ByteUtil.slice(levels[0], index * HASH_SIZE, HASH_SIZE), index,
+								siblings);
+	}
+
+	/**
+	 * Builds the BIP 37 partial merkle tree that proves the given leaves.
+	 *
+	 * @param matches which leaves are proven (one per leaf)
+	 * @return the tree, ready to be {@link PartialMerkleTree#build() built}
+	 */
+	public PartialMerkleTree getPartialMerkleTree(boolean[] matches) {
+		if (matches.length != widths[0]) {
+			throw new IllegalArgumentException("Expected " + widths[0] + " matches: " +
+											   matches.length);
+		}
+		int height = getHeight();
+
+		// whether each node is the parent of a match, level by level
+		boolean[][] parentOfMatch = new boolean[height + 1][];
+		parentOfMatch[0] = matches;
+		for (int h = 1; h <= height; h++) {
+			boolean[] children = parentOfMatch[h - 1];
+			boolean[] level = new boolean[widths[h]];
+			for (int x = 0; x < children.length; x++) {
+				level[x >> 1] |= children[x];
+			}
+			parentOfMatch[h] = level;
+		}
+
+		List<SHA256Hash> hashes = new ArrayList<>();
+		BitWriter flags = new BitWriter();
+		traverseAndBuild(height, 0, parentOfMatch, hashes, flags);
+		return new PartialMerkleTree(hashes, widths[0], flags.toByteArray());
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	public int getLeafCount() {
+		return widths[0];
+	}
+
+	/**
+	 * Returns the number of levels above the leaves.
+	 */
+	public int getHeight() {
+		return levels.length - 1;
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	/**
+	 * Depth-first traversal of BIP 37: a flag per visited node, and the hash of the nodes whose
+	 * subtree is not descended into (leaves and subtrees without matches). The recursion depth
+	 * is the height of the tree.
+	 */
+	private void traverseAndBuild(int height, int pos, boolean[][] parentOfMatch,
+								  List<SHA256Hash> hashes, BitWriter flags) {
+		boolean flag = parentOfMatch[height][pos];
+		flags.add(flag);
+		if (height == 0 || !flag) {
+			hashes.add(SHA256Hash.read(levels[height], pos * HASH_SIZE));
+			return;
+		}
+		traverseAndBuild(height - 1, pos * 2, parentOfMatch, hashes, flags);
+		if (pos * 2 + 1 < widths[height - 1]) {
+			traverseAndBuild(height - 1, pos * 2 + 1, parentOfMatch, hashes, flags);
+		}
+	}
+
+	/**
+	 * Packs bits per 8 in a byte, least significant bit first.
+	 */
+	private static class BitWriter {
+		private byte[] bytes = new byte[16];
+		private int bits;
+
+		void add(boolean bit) {
+			if (bits == bytes.length * 8) {
+				bytes = Arrays.copyOf(bytes, bytes.length * 2);
+			}
+			if (bit) {
+				bytes[bits >> 3] |= 1 << (bits & 7);
+			}
+			bits++;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(bytes, (bits + 7) / 8);
+		}
+	}
+}
@@ -53,6 +53,11 @@ public class MyBuffer {
 		buf.put(b);
 	}
 
+	public void putBytes(byte[] b, int offset, int length) {
+		ensureCapacityFor(length);
+		buf.put(b, offset, length);
+	}
+
 	public byte getByte() {
 		return buf.get();
 	}
@@ -101,11 +106,9 @@ public class MyBuffer {
 	}
 
 	public BigInteger getUint64() {
-		byte[] val = this.getBytes(8);
-		if (buf.order() == ByteOrder.LITTLE_ENDIAN) {
-			reverse(val);
-		}
-		return new BigInteger(1, val);
+		long value = getInt64();
+		BigInteger result = BigInteger.valueOf(value & Long.MAX_VALUE);
+		return (value < 0) ? result.setBit(Long.SIZE - 1) : result;
 	}
 
 	public void putInt64(long value) {
@@ -129,6 +132,67 @@ public class MyBuffer {
 		return buf.getLong();
 	}
 
+	// Fixed byte order accessors ==================================================================
+	// They read and write in the given byte order whatever the current endianness of the buffer,
+	// so the protocol parsers don't need to switch it back and forth.
+
+	public int getInt32LE() {
+		int value = buf.getInt();
+		return (buf.order() == ByteOrder.LITTLE_ENDIAN) ? value : Integer.reverseBytes(value);
+	}
+
+	public long getUint32LE() {
+		return Integer.toUnsignedLong(getInt32LE());
+	}
+
+	public long getInt64LE() {
+		long value = buf.getLong();
+		return (buf.order() == ByteOrder.LITTLE_ENDIAN) ? value : Long.reverseBytes(value);
+	}
+
+	/**
+	 * Reads an uint64_t as a long with the same bits (values above Long.MAX_VALUE are negative).
+	 */
+	public long getUint64LE() {
+		return getInt64LE();
+	}
+
+	public int getUint16LE() {
+		char value = buf.getChar();
+		return (buf.order() == ByteOrder.LITTLE_ENDIAN) ? value : Character.reverseBytes(value);
+	}
+
+	public int getUint16BE() {
+		char value = buf.getChar();
+		return (buf.order() == ByteOrder.BIG_ENDIAN) ? value : Character.reverseBytes(value);
+	}
+
+	public void putInt32LE(int value) {
+		ensureCapacityFor(Integer.BYTES);
+		buf.putInt((buf.order() == ByteOrder.LITTLE_ENDIAN) ? value : Integer.reverseBytes(value));
+	}
+
+	public void putUint32LE(long value) {
+		putInt32LE((int) value);
+	}
+
+	public void putInt64LE(long value) {
+		ensureCapacityFor(Long.BYTES);
+		buf.putLong((buf.order() == ByteOrder.LITTLE_ENDIAN) ? value : Long.reverseBytes(value));
+	}
+
+	public void putUint64LE(long value) {
+		putInt64LE(value);
+	}
+
+	public void putUint16BE(int value) {
+		ensureCapacityFor(Character.BYTES);
+		char c = (char) value;
+		buf.putChar((buf.order() == ByteOrder.BIG_ENDIAN) ? c : Character.reverseBytes(c));
+	}
+
+	// =============================================================================================
+
 	public byte[] getBytes(int numBytes) {
 		byte[] bytes = new byte[numBytes];
 		buf.get(bytes);
@@ -200,15 +264,7 @@ public class MyBuffer {
 		return -1;
 	}
 
-	private static void reverse(byte[] array) {
-		for (int x = 0; x < array.length / 2; x++) {
-			byte aux = array[x];
-			array[x] = array[array.length - x - 1];
-			array[array.length - x - 1] = aux;
-		}
-	}
-
-	private void ensureCapacityFor(int size) {
+	protected void ensureCapacityFor(int size) {
 		if (buf.remaining() <= size) {
 			int newSize = Math.max(buf.limit() * 2, size * 2);
 			byte[] newArray = new byte[newSize];
@@ -11,22 +11,25 @@ package bitcoinlistener.util;
 import bitcoinlistener.datatypes.SHA256Hash;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
  * Partial merkle tree to proof that the given set of transactions is indeed in the block.
+ * <p>
+ * The tree is traversed depth-first as described in BIP 37, reading the flag bits with a cursor
+ * over the flag bytes and the hashes by index. Parent hashes are computed on the way back up
+ * using an explicit stack whose depth is the height of the tree, so no node objects are created.
  */
 public class PartialMerkleTree {
 
+	private static final int HASH_SIZE = HashUtil.SHA256_LENGTH;
+
 	// Input values ================================================================================
-	private List<SHA256Hash> hashes;
-	private List<Boolean> flags;
-	private long totalTransactions; // uint32_t
-	private int height;
+	private final List<SHA256Hash> hashes;
+	private final byte[] flags;
+	private final long totalTransactions; // uint32_t
 
 	// Computed values =============================================================================
-	private TreeNode root;
 	private List<SHA256Hash> matchedTxIds;
 	private SHA256Hash merkleRoot;
 
@@ -34,12 +37,20 @@ public class PartialMerkleTree {
 	// CONSTRUCTORS
 	// =============================================================================================
 
-	public PartialMerkleTree(List<SHA256Hash> hashes, long totalTransactions,
-							 List<Boolean> flags) {
-		this.hashes = new LinkedList<>(hashes);
+	/**
+	 * @param hashes            hashes in depth-first order
+	 * @param totalTransactions number of transactions in the block
+	 * @param flags             flag bits, packed per 8 in a byte, least significant bit first
+	 */
+	public PartialMerkleTree(List<SHA256Hash> hashes, long totalTransactions, byte[] flags) {
+		this.hashes = hashes;
 		this.totalTransactions = totalTransactions;
 		this.flags = flags;
-		this.height = (int) Math.ceil((Math.log(totalTransactions) / Math.log(2)));
+	}
+
+	public PartialMerkleTree(List<SHA256Hash> hashes, long totalTransactions,
+							 List<Boolean> flags) {
+		this(hashes, totalTransactions, toFlagBytes(flags));
 	}
 
 	// =============================================================================================
@@ -47,9 +58,6 @@ public class PartialMerkleTree {
 	// =============================================================================================
 
 	public SHA256Hash getMerkleRoot() {
-		if (merkleRoot == null) {
-			merkleRoot = root.data.getInverted();
-		}
 		return merkleRoot;
 	}
 
@@ -57,117 +65,137 @@ public class PartialMerkleTree {
 		return matchedTxIds;
 	}
 
+	/**
+	 * Returns the hashes in depth-first order.
+	 */
+	public List<SHA256Hash> getHashes() {
+		return hashes;
+	}
+
+	/**
+	 * Returns the flag bits, packed per 8 in a byte, least significant bit first.
+	 */
+	public byte[] getFlags() {
+		return flags;
+	}
+
+	public long getTotalTransactions() {
+		return totalTransactions;
+	}
 
 	/**
 	 * Build and validate the merkle tree
 	 */
 	public void build() {
+		if (totalTransactions <= 0) {
+			throw new RuntimeException("invalid");
+		}
+		int height = 0;
+		while (getTreeWidth(height) > 1) {
+			height++;
+		}
+
 		this.merkleRoot = null;
-		this.root = new TreeNode();
 		this.matchedTxIds = new ArrayList<>();
-		List<TreeNode> stack = new LinkedList<>();
-		stack.add(root);
-		while (!stack.isEmpty()) {
-			boolean flag = flags.remove(0);
-			TreeNode node = stack.remove(0);
-			if (flag) { // flag = 1
-				if (node.height <= height - 1) { // internal
-					int nodeIndexLeft = (node.currentIndex * 2);
-					boolean hasRight = getTotalNodesAt(node.height + 1) > nodeIndexLeft + 1;
-					node.left = new TreeNode(null, node, null, null, node.height + 1,
-											 nodeIndexLeft);
-					if (hasRight) {
-						node.right = new TreeNode(null, node, null, null, node.height + 1,
-												  nodeIndexLeft + 1);
-						stack.add(0, node.right);
+
+		// one frame per level: the node being visited and the hashes of its two children
+		int[] frameHeight = new int[height + 1];
+		long[] framePos = new long[height + 1];
+		int[] frameChild = new int[height + 1]; // children already visited
+		byte[] work = new byte[(height + 1) * 2 * HASH_SIZE + HASH_SIZE]; // last one is the root
+		int rootOffset = work.length - HASH_SIZE;
+
+		int flagPos = 0;
+		int hashPos = 0;
+		int depth = 0;
+		frameHeight[0] = height;
+		framePos[0] = 0;
+		frameChild[0] = -1;
+
+		while (depth >= 0) {
+			int h = frameHeight[depth];
+			long pos = framePos[depth];
+			int out = (depth == 0) ? rootOffset
+								   : (depth - 1) * 2 * HASH_SIZE + frameChild[depth - 1] * HASH_SIZE;
+			int left = depth * 2 * HASH_SIZE;
+			int right = left + HASH_SIZE;
+
+			if (frameChild[depth] == -1) { // entering the node
+				if (flagPos >= flags.length * 8) {
+					throw new RuntimeException("not enough flags");
+				}
+				boolean flag = (flags[flagPos >> 3] & (1 << (flagPos & 7))) != 0;
+				flagPos++;
+
+				if (h == 0 || !flag) { // leaf or pruned subtree: the hash is given
+					if (hashPos >= hashes.size()) {
+						throw new RuntimeException("not enough hashes");
 					}
-					stack.add(0, node.left);
-				} else { // flag 1 and leaf node
-					node.data = hashes.remove(0);
-					matchedTxIds.add(node.data.getInverted());
+					SHA256Hash hash = hashes.get(hashPos++);
+					hash.writeTo(work, out);
+					if (h == 0 && flag) {
+						matchedTxIds.add(hash);
+					}
+					depth--;
+					continue;
+				}
+				frameChild[depth] = 0;
+				push(++depth, h - 1, pos * 2, frameHeight, framePos, frameChild);
+			} else if (frameChild[depth] == 0) { // left child done
+				if (pos * 2 + 1 < getTreeWidth(h - 1)) {
+					frameChild[depth] = 1;
+					push(++depth, h - 1, pos * 2 + 1, frameHeight, framePos, frameChild);
+				} else {
+					// no right child: the left one is hashed with itself
+					HashUtil.doubleSha256(work, left, HASH_SIZE, work, left, HASH_SIZE, work, out);
+					depth--;
+				}
+			} else { // both children done
+				if (ByteUtil.compareArray(work, left, work, right, HASH_SIZE)) {
+					throw new RuntimeException("Invalid merkle tree. Left = Right");
 				}
-			} else if (!flag) { // flag = 0
-				node.data = hashes.remove(0);
+				HashUtil.doubleSha256(work, left, HASH_SIZE, work, right, HASH_SIZE, work, out);
+				depth--;
 			}
 		}
-		if (hashes.size() != 0) {
+
+		if (hashPos != hashes.size()) {
 			throw new RuntimeException("invalid");
 		}
-		if (flags.stream().anyMatch(s -> s == true)) {
-			throw new RuntimeException("remaining flags");
+		for (int x = flagPos; x < flags.length * 8; x++) {
+			if ((flags[x >> 3] & (1 << (x & 7))) != 0) {
+				throw new RuntimeException("remaining flags");
+			}
 		}
 
-		fillMissingHashes(root);
+		this.merkleRoot = SHA256Hash.read(work, rootOffset);
 	}
 
 	// =============================================================================================
 	// AUXILIARY METHODS
 	// =============================================================================================
 
-	private int getTotalNodesAt(int height) {
-		return (int) Math.ceil(
-				(double) this.totalTransactions / Math.pow(2, (this.height - height)));
+	/**
+	 * Number of nodes at a height (0 = transactions)
+	 */
+	private long getTreeWidth(int height) {
+		return (totalTransactions + (1L << height) - 1) >> height;
 	}
 
-	private void fillMissingHashes(TreeNode root) {
-		// FIXME do it iteratively
-		if (root == null) {
-			return;
-		}
-		fillMissingHashes(root.left);
-		fillMissingHashes(root.right);
-
-		if (!root.isLeaf() && root.data == null) {
-			SHA256Hash rightHash;
-			if (root.right == null) {
-				rightHash = root.left.data;
-			} else if (root.right.data.equals(root.left.data)) {
-				throw new RuntimeException("Invalid merkle tree. Left = Right");
-			} else {
-				rightHash = root.right.data;
-			}
-			SHA256Hash leftHash = root.left.data;
-			root.data = new SHA256Hash(HashUtil.sha256(HashUtil.sha256(leftHash.getHash(), rightHash.getHash())));
-		}
+	private static void push(int depth, int height, long pos, int[] frameHeight, long[] framePos,
+							 int[] frameChild) {
+		frameHeight[depth] = height;
+		framePos[depth] = pos;
+		frameChild[depth] = -1;
 	}
 
-
-	private class TreeNode {
-		public SHA256Hash data;
-		public TreeNode parent;
-		public TreeNode left;
-		public TreeNode right;
-		public int currentIndex;
-		int height;
-
-		public TreeNode() {
-		}
-
-		public TreeNode(SHA256Hash data, TreeNode parent, TreeNode left,
-						TreeNode right, int height,
-						int currentIndex) {
-			this();
-			this.data = data;
-			this.left = left;
-			this.right = right;
-			this.height = height;
-			this.parent = parent;
-			this.currentIndex = currentIndex;
-		}
-
-		public boolean isLeft() {
-			if (this.parent == null) {
-				return false;
+	private static byte[] toFlagBytes(List<Boolean> flags) {
+		byte[] bytes = new byte[(flags.size() + 7) / 8];
+		for (int x = 0; x < flags.size(); x++) {
+			if (flags.get(x)) {
+				bytes[x >> 3] |= 1 << (x & 7);
 			}
-			return (this.parent.left == this);
-		}
-
-		public boolean isLeaf() {
-			return (this.left == null && this.right == null);
-		}
-
-		public String getHashAsStr() {
-			return data.getHashAsStr();
 		}
+		return bytes;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.util;
+
+import bitcoinlistener.datatypes.SHA256Hash;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Fixed-memory set of the hashes seen recently, which may report false positives.
+ * <p>
+ * Elements are inserted in the current of three {@link BloomFilter} generations, each sized for
+ * half of the maximum number of entries. When the current one is full the oldest is cleared and
+ * becomes the current one, so at least the last {@code maxEntries} elements are always found
+ * (and at most 1.5 times that).
+ */
+public class RollingBloomFilter {
+
+	private static final int GENERATIONS = 3;
+
+	// =============================================================================================
+
+	private final BloomFilter[] generations = new BloomFilter[GENERATIONS];
+	private final int maxEntries;
+	private final int entriesPerGeneration;
+	private final int[] indexes;
+	private final byte[] scratch = new byte[SHA256Hash.LENGTH];
+	private int current;
+	private int count;
+	private long hits;
+	private long misses;
+
+	// =============================================================================================
+	// CONSTRUCTORS
+	// =============================================================================================
+
+	/**
+	 * @param maxEntries        number of most recent elements always remembered
+	 * @param falsePositiveRate probability that an element not inserted is reported as found
+	 */
+	public RollingBloomFilter(int maxEntries, double falsePositiveRate) {
+		if (maxEntries < 2) {
+			throw new IllegalArgumentException("Invalid number of entries: " + maxEntries);
+		}
+		this.maxEntries = maxEntries;
+		this.entriesPerGeneration = (maxEntries + 1) / 2;
+
+		// queried together: the rate of each one is a part of the total
+		long nonce = ThreadLocalRandom.current().nextLong();
+		for (int x = 0; x < GENERATIONS; x++) {
+			generations[x] = new BloomFilter(entriesPerGeneration, falsePositiveRate / GENERATIONS,
+											 nonce, Integer.MAX_VALUE / 8);
+		}
+		this.indexes = new int[generations[0].getNumberOfHashFuncs()];
+	}
+
+	// =============================================================================================
+	// OPERATIONS
+	// =============================================================================================
+
+	/**
+	 * Inserts a hash.
+	 */
+	public synchronized void insert(SHA256Hash hash) {
+		hash.writeTo(scratch, 0);
+		generations[0].getBitIndexes(scratch, indexes);
+		insertIndexes();
+	}
+
+	/**
+	 * Returns whether a hash was inserted recently (or is a false positive). Counted as a hit or
+	 * a miss.
+	 */
+	public synchronized boolean contains(SHA256Hash hash) {
+		hash.writeTo(scratch, 0);
+		generations[0].getBitIndexes(scratch, indexes);
+		boolean found = containsIndexes();
+		if (found) {
+			hits++;
+		} else {
+			misses++;
+		}
+		return found;
+	}
+
+	/**
+	 * Inserts a hash if not found.
+	 *
+	 * @return true if the hash was not found (and was inserted)
+	 */
+	public synchronized boolean add(SHA256Hash hash) {
+		hash.writeTo(scratch, 0);
+		generations[0].getBitIndexes(scratch, indexes);
+		if (containsIndexes()) {
+			hits++;
+			return false;
+		}
+		misses++;
+		insertIndexes();
+		return true;
+	}
+
+	/** Removes all the elements (the counters are kept) */
+	public synchronized void clear() {
+		for (BloomFilter generation : generations) {
+			generation.clear();
+		}
+		current = 0;
+		count = 0;
+	}
+
+	// =============================================================================================
+	// ACCESSORS (GETTERS AND SETTERS)
+	// =============================================================================================
+
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/** Memory used by the bits of the filters */
+	public long getSizeInBytes() {
+		return (long) generations[0].getSizeInBytes() * GENERATIONS;
+	}
+
+	/** Number of queries that found the hash */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/** Number of queries that didn't find the hash */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private boolean containsIndexes() {
+		for (BloomFilter generation : generations) {
+			if (generation.hasBits(indexes)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void insertIndexes() {
+		if (count == entriesPerGeneration) {
+			// the oldest generation is discarded
+			current = (current + 1) % GENERATIONS;
+			generations[current].clear();
+			count = 0;
+		}
+		generations[current].setBits(indexes);
+		count++;
+	}
+}
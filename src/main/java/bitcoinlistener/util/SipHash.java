@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.util;
+
+/**
+ * SipHash-2-4 (J.-P. Aumasson and D. J. Bernstein), the keyed hash used for the short
+ * transaction ids of compact blocks (BIP 152).
+ */
+public final class SipHash {
+
+	private SipHash() {
+	}
+
+	/**
+	 * Returns the SipHash-2-4 of a range.
+	 *
+	 * @param k0 first half of the key (bytes 0-7, little endian)
+	 * @param k1 second half of the key (bytes 8-15, little endian)
+	 */
+	public static long hash24(long k0, long k1, byte[] data, int offset, int len) {
+		long[] v = {
+				0x736f6d6570736575L ^ k0,
+				0x646f72616e646f6dL ^ k1,
+				0x6c7967656e657261L ^ k0,
+				0x7465646279746573L ^ k1
+		};
+
+		int end = offset + (len & ~7);
+		for (int i = offset; i < end; i += 8) {
+			compress(v, ByteUtil.getInt64LE(data, i));
+		}
+
+		// last block: remaining bytes and the length in the most significant byte
+		long m = ((long) len) << 56;
+		for (int i = 0; i < (len & 7); i++) {
+			m |= (data[end + i] & 0xFFL) << (8 * i);
+		}
+		compress(v, m);
+
+		v[2] ^= 0xFF;
+		rounds(v, 4);
+		return v[0] ^ v[1] ^ v[2] ^ v[3];
+	}
+
+	// =============================================================================================
+	// AUXILIARY METHODS
+	// =============================================================================================
+
+	private static void compress(long[] v, long m) {
+		v[3] ^= m;
+		rounds(v, 2);
+		v[0] ^= m;
+	}
+
+	private static void rounds(long[] v, int count) {
+		long v0 = v[0], v1 = v[1], v2 = v[2], v3 = v[3];
+		for (int r = 0; r < count; r++) {
+			v0 += v1;
+			v1 = Long.rotateLeft(v1, 13) ^ v0;
+			v0 = Long.rotateLeft(v0, 32);
+			v2 += v3;
+			v3 = Long.rotateLeft(v3, 16) ^ v2;
+			v0 += v3;
+			v3 = Long.rotateLeft(v3, 21) ^ v0;
+			v2 += v1;
+			v1 = Long.rotateLeft(v1, 17) ^ v2;
+			v2 = Long.rotateLeft(v2, 32);
+		}
+		v[0] = v0;
+		v[1] = v1;
+		v[2] = v2;
+		v[3] = v3;
+	}
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.BitcoinClient.ConnectionState;
+import bitcoinlistener.datatypes.InvObject;
+import bitcoinlistener.datatypes.InvObject.InventoryType;
+import bitcoinlistener.datatypes.SHA256Hash;
+import bitcoinlistener.messages.BlockMessage;
+import bitcoinlistener.messages.BlockMessageTest;
+import bitcoinlistener.messages.InvMessage;
+import bitcoinlistener.messages.NotFoundMessage;
+import bitcoinlistener.messages.PingMessage;
+import bitcoinlistener.messages.TxMessage;
+import bitcoinlistener.messages.VersionMessage;
+import bitcoinlistener.util.ByteUtil;
+import org.junit.Test;
+
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BitcoinClientTest {
+
+	private static final int SENDERS = 4;
+	private static final int MESSAGES = 500;
+
+	@Test(timeout = 10000)
+	public void testHandshake() throws Exception {
+		try (FakePeer peer = new FakePeer(NetworkParameters.RegTest)) {
+			BitcoinClient client = new BitcoinClient("127.0.0.1", peer.getPort(),
+													 NetworkParameters.RegTest);
+			CompletableFuture<BitcoinClient> ready = client.connect();
+			assertSame(ready, client.connect());
+			assertEquals("version", peer.receive().command);
+			assertFalse(ready.isDone());
+
+			peer.send("version", new VersionMessage(70015, "/peer/", true).getBytes());
+			assertEquals("verack", peer.receive().command);
+			assertEquals(ConnectionState.VERSION_RECEIVED, client.getState());
+			assertFalse(ready.isDone());
+
+			peer.send("verack", new byte[0]);
+			assertSame(client, ready.get(5, TimeUnit.SECONDS));
+			assertEquals(ConnectionState.READY, client.getState());
+			client.disconnect();
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void testHandshakeTimeout() throws Exception {
+		try (FakePeer peer = new FakePeer(NetworkParameters.RegTest)) {
+			BitcoinClient client = new BitcoinClient("127.0.0.1", peer.getPort(),
+													 NetworkParameters.RegTest);
+			client.setTimeouts(5000, 200);
+			CompletableFuture<BitcoinClient> ready = client.connect();
+			assertEquals("version", peer.receive().command);
+			assertFailed(ready);
+			while (client.getState() != ConnectionState.DISCONNECTED) {
+				Thread.sleep(10);
+			}
+			assertFalse(client.isConnected());
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void testConnectionRefused() throws Exception {
+		int port;
+		try (ServerSocket server = new ServerSocket(0)) {
+			port = server.getLocalPort();
+		}
+		BitcoinClient client = new BitcoinClient("127.0.0.1", port, NetworkParameters.RegTest);
+		assertFailed(client.connect());
+		while (client.getState() != ConnectionState.DISCONNECTED) {
+			Thread.sleep(10);
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void testSlowListener() throws Exception {
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1)));
+		byte[] tx = block.getTxList().get(0).getBytes();
+
+		try (FakePeer peer = new FakePeer(NetworkParameters.RegTest)) {
+			BitcoinClient client = new BitcoinClient("127.0.0.1", peer.getPort(),
+													 NetworkParameters.RegTest);
+			CountDownLatch release = new CountDownLatch(1);
+			CountDownLatch received = new CountDownLatch(2);
+			client.addTransactionListener((t, conn) -> {
+				received.countDown();
+				awaitQuietly(release);
+			});
+			client.connect();
+			assertEquals("version", peer.receive().command);
+
+			// pings are answered while the listener is stuck
+			peer.send("tx", tx);
+			peer.send("tx", tx);
+			peer.send("ping", new byte[8]);
+			assertEquals("pong", peer.receive().command);
+			while (received.getCount() == 2) {
+				Thread.sleep(1); // the first one may still be on its way to the consumer
+			}
+			Thread.sleep(50);
+			assertEquals(1, received.getCount());
+
+			release.countDown();
+			received.await();
+			assertEquals(2, client.getEventRing().getPublished());
+			client.disconnect();
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void testKnownInventory() throws Exception {
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1)));
+		TxMessage tx = block.getTxList().get(1);
+		InvMessage inv = new InvMessage();
+		inv.addObject(new InvObject(InventoryType.MSG_TX, tx.getTxId()));
+
+		try (FakePeer peer = new FakePeer(NetworkParameters.RegTest)) {
+			BitcoinClient client = new BitcoinClient("127.0.0.1", peer.getPort(),
+													 NetworkParameters.RegTest);
+			client.connect();
+			assertEquals("version", peer.receive().command);
+
+			peer.send("inv", inv.getBytes());
+			assertEquals("getdata", peer.receive().command);
+
+			// announced again while in flight: not requested
+			peer.send("inv", inv.getBytes());
+			peer.send("tx", tx.getBytes());
+
+			// announced after being received: not requested either
+			peer.send("inv", inv.getBytes());
+			peer.send("ping", new byte[8]);
+			assertEquals("pong", peer.receive().command);
+			assertEquals(1, client.getKnownInventory().getHits());
+			assertEquals(2, client.getKnownInventory().getMisses());
+			assertEquals(1, client.getRequestScheduler().getRequested());
+			client.disconnect();
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void testRequestedAgainAfterFailure() throws Exception {
+		InvMessage inv = new InvMessage();
+		inv.addObject(new InvObject(InventoryType.MSG_TX, SHA256Hash.fromHex(
+				"6fe28c0ab6f1b372c1a6a246ae63f74f931e8365e15a089c68d6190000000000")));
+
+		try (FakePeer peer = new FakePeer(NetworkParameters.RegTest)) {
+			BitcoinClient client = new BitcoinClient("127.0.0.1", peer.getPort(),
+													 NetworkParameters.RegTest);
+			client.setRequestScheduling(0, RequestScheduler.DEFAULT_MAX_WINDOW, 300);
+			client.connect();
+			assertEquals("version", peer.receive().command);
+
+			// answered with notfound
+			peer.send("inv", inv.getBytes());
+			assertEquals("getdata", peer.receive().command);
+			NotFoundMessage notFound = new NotFoundMessage();
+			notFound.addObject(inv.getInvObjs().get(0));
+			peer.send("notfound", notFound.getBytes());
+
+			peer.send("inv", inv.getBytes());
+			assertEquals("getdata", peer.receive("getdata").command);
+
+			// not answered
+			while (client.getRequestScheduler().getTimedOut() == 0) {
+				Thread.sleep(10);
+			}
+			peer.send("inv", inv.getBytes());
+			assertEquals("getdata", peer.receive("getdata").command);
+			assertEquals(3, client.getRequestScheduler().getRequested());
+			client.disconnect();
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void testInvalidBlockRequestedAgain() throws Exception {
+		byte[] data = BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1);
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(data));
+		InvMessage inv = new InvMessage();
+		inv.addObject(new InvObject(InventoryType.MSG_BLOCK, block.getHash()));
+
+		// same header (and hash), but the lock time of the last transaction changed
+		byte[] mutated = data.clone();
+		mutated[mutated.length - 1] ^= 1;
+
+		try (FakePeer peer = new FakePeer(NetworkParameters.RegTest)) {
+			BitcoinClient client = new BitcoinClient("127.0.0.1", peer.getPort(),
+													 NetworkParameters.RegTest);
+			client.setBlockVerifier(new BlockVerifier());
+			List<SHA256Hash> received = new ArrayList<>();
+			client.addBlockListener((b, conn) -> received.add(b.getHash()));
+			client.connect();
+			assertEquals("version", peer.receive().command);
+
+			peer.send("inv", inv.getBytes());
+			assertEquals("getdata", peer.receive().command);
+			peer.send("block", mutated);
+
+			// announced again: requested again
+			peer.send("inv", inv.getBytes());
+			assertEquals("getdata", peer.receive("getdata").command);
+			assertEquals(0, client.getKnownInventory().getHits());
+			assertTrue(received.isEmpty());
+			client.disconnect();
+		}
+	}
+
+	@Test(timeout = 60000)
+	public void testConcurrentSenders() throws Exception {
+		try (FakePeer peer = new FakePeer(NetworkParameters.RegTest)) {
+			BitcoinClient client = new BitcoinClient("127.0.0.1", peer.getPort(),
+													 NetworkParameters.RegTest);
+			client.connect();
+			assertEquals("version", peer.receive().command);
+
+			// application threads send pings while the reader thread answers the peer's pings
+			CountDownLatch start = new CountDownLatch(1);
+			List<Thread> threads = new ArrayList<>();
+			for (int t = 0; t < SENDERS; t++) {
+				long base = (long) (t + 1) << 32;
+				threads.add(new Thread(() -> {
+					awaitQuietly(start);
+					for (int x = 0; x < MESSAGES; x++) {
+						client.sendMessage(new PingMessage(base + x));
+					}
+				}));
+			}
+			threads.add(new Thread(() -> {
+				awaitQuietly(start);
+				try {
+					for (int x = 0; x < MESSAGES; x++) {
+						byte[] nonce = new byte[8];
+						ByteUtil.putInt32LE(nonce, 0, x);
+						peer.send("ping", nonce);
+					}
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}));
+			for (Thread thread : threads) {
+				thread.start();
+			}
+			start.countDown();
+
+			// every frame is checked (magic and checksum) by the decoder of the peer
+			Set<Long> pings = new HashSet<>();
+			Set<Long> pongs = new HashSet<>();
+			while (pings.size() + pongs.size() < SENDERS * MESSAGES + MESSAGES) {
+				FakePeer.Frame f = peer.receive();
+				assertEquals(8, f.payload.length);
+				long nonce = ByteUtil.getInt64LE(f.payload, 0);
+				if (f.command.equals("ping")) {
+					assertTrue(pings.add(nonce));
+				} else {
+					assertEquals("pong", f.command);
+					assertTrue(pongs.add(nonce));
+				}
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+			assertEquals(SENDERS * MESSAGES, pings.size());
+			assertEquals(MESSAGES, pongs.size());
+			assertTrue(client.isConnected());
+			client.disconnect();
+		}
+	}
+
+	private static void assertFailed(CompletableFuture<BitcoinClient> future) throws Exception {
+		try {
+			future.get(5, TimeUnit.SECONDS);
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof BitcoinListenerException);
+		}
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.messages.BlockMessage;
+import bitcoinlistener.messages.BlockMessageTest;
+import bitcoinlistener.util.ByteUtil;
+import bitcoinlistener.util.HashUtil;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BlockVerifierTest {
+
+	@Test
+	public void testVerify() {
+		BlockMessage block = loadBlock(BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1));
+
+		BlockVerifier sequential = new BlockVerifier(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+		sequential.verify(block);
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			BlockVerifier parallel = new BlockVerifier(pool, 1);
+			parallel.verify(block);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testMismatch() {
+		byte[] data = BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1);
+		data[data.length - 1] ^= 1; // lock time of the last transaction
+		BlockMessage block = loadBlock(data);
+		try {
+			new BlockVerifier().verify(block);
+			fail("Merkle root should not match");
+		} catch (BitcoinListenerException e) {
+			assertTrue(e.getMessage().startsWith("Merkle root doesn't match"));
+		}
+	}
+
+	@Test
+	public void testParallelRoot() {
+		byte[] leaves = new byte[3001 * 32];
+		new Random(1).nextBytes(leaves);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			byte[] expected = new BlockVerifier(pool, Integer.MAX_VALUE).computeMerkleRoot(leaves,
+																						  3001);
+			assertArrayEquals(expected, new BlockVerifier(pool, 2).computeMerkleRoot(leaves, 3001));
+		} finally {
+			pool.shutdown();
+		}
+
+		byte[] one = ByteUtil.slice(leaves, 0, 32);
+		assertArrayEquals(one, new BlockVerifier().computeMerkleRoot(one, 1));
+
+		byte[] three = ByteUtil.slice(leaves, 0, 96);
+		byte[] root = HashUtil.doubleSha256(
+				HashUtil.doubleSha256(ByteUtil.slice(three, 0, 32), ByteUtil.slice(three, 32, 32)),
+				HashUtil.doubleSha256(ByteUtil.slice(three, 64, 32), ByteUtil.slice(three, 64, 32)));
+		assertArrayEquals(root, new BlockVerifier().computeMerkleRoot(three, 3));
+	}
+
+	@Test(expected = BitcoinListenerException.class)
+	public void testMutatedTree() {
+		// same root as [a, b, c], which is why duplicated siblings are rejected
+		byte[] leaves = new byte[4 * 32];
+		new Random(2).nextBytes(leaves);
+		System.arraycopy(leaves, 64, leaves, 96, 32);
+		new BlockVerifier().computeMerkleRoot(leaves, 4);
+	}
+
+	private static BlockMessage loadBlock(byte[] data) {
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(data));
+		return block;
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.datatypes.InvObject;
+import bitcoinlistener.datatypes.InvObject.InventoryType;
+import bitcoinlistener.messages.AbstractBlockMessage;
+import bitcoinlistener.messages.BlockMessage;
+import bitcoinlistener.messages.BlockMessageTest;
+import bitcoinlistener.messages.BlockTxnMessage;
+import bitcoinlistener.messages.CmpctBlockMessage;
+import bitcoinlistener.messages.GetBlockTxnMessage;
+import bitcoinlistener.messages.InvMessage;
+import bitcoinlistener.messages.SendCmpctMessage;
+import bitcoinlistener.messages.TxMessage;
+import bitcoinlistener.messages.VersionMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompactBlockTest {
+
+	private static final NetworkParameters NET = NetworkParameters.RegTest;
+
+	private FakePeer peer;
+	private BitcoinClient client;
+	private BlockMessage block;
+	private final BlockingQueue<AbstractBlockMessage> received = new LinkedBlockingQueue<>();
+
+	@Before
+	public void setUp() throws Exception {
+		block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1)));
+
+		peer = new FakePeer(NET);
+		client = new BitcoinClient("127.0.0.1", peer.getPort(), NET);
+		client.addBlockListener((b, conn) -> received.add(b));
+		client.connect();
+		assertEquals("version", peer.receive().command);
+		peer.send("version", new VersionMessage(70015, "/peer/", true).getBytes());
+		peer.send("verack", new byte[0]);
+		client.connect().get(5, TimeUnit.SECONDS);
+
+		SendCmpctMessage sendCmpct = new SendCmpctMessage();
+		sendCmpct.loadFromBuffer(new BitcoinBuffer(peer.receive("sendcmpct").payload));
+		assertTrue(sendCmpct.isHighBandwidth());
+		assertEquals(BitcoinClient.COMPACT_BLOCKS_VERSION, sendCmpct.getVersion());
+		peer.send("sendcmpct", new SendCmpctMessage(false, 1).getBytes());
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		client.disconnect();
+		peer.close();
+	}
+
+	@Test(timeout = 10000)
+	public void testRebuiltFromPool() throws Exception {
+		List<TxMessage> txs = block.getTxList();
+		for (int x = 1; x < txs.size(); x++) {
+			peer.send("tx", txs.get(x).getBytes());
+		}
+
+		// announced: requested as a compact block
+		InvMessage inv = new InvMessage();
+		inv.addObject(new InvObject(InventoryType.MSG_BLOCK, block.getHash()));
+		peer.send("inv", inv.getBytes());
+		InvMessage getdata = new InvMessage();
+		getdata.loadFromBuffer(new BitcoinBuffer(peer.receive("getdata").payload));
+		assertEquals(InventoryType.MSG_CMPCT_BLOCK, getdata.getInvObjs().get(0).getType());
+
+		peer.send("cmpctblock", new CmpctBlockMessage(block, 42).getBytes());
+		BlockMessage rebuilt = (BlockMessage) received.poll(5, TimeUnit.SECONDS);
+		assertEquals(block.getHash(), rebuilt.getHash());
+		assertArrayEquals(block.getTxIds().getBytes(), rebuilt.getTxIds().getBytes());
+	}
+
+	@Test(timeout = 10000)
+	public void testMissingTransactionsRequested() throws Exception {
+		List<TxMessage> txs = block.getTxList();
+		int last = txs.size() - 1;
+		for (int x = 1; x < last; x++) {
+			peer.send("tx", txs.get(x).getBytes());
+		}
+
+		// high-bandwidth mode: not announced
+		peer.send("cmpctblock", new CmpctBlockMessage(block, 7).getBytes());
+		GetBlockTxnMessage getBlockTxn = new GetBlockTxnMessage();
+		getBlockTxn.loadFromBuffer(new BitcoinBuffer(peer.receive("getblocktxn").payload));
+		assertEquals(block.getHash(), getBlockTxn.getBlockHash());
+		assertArrayEquals(new int[] { last }, getBlockTxn.getIndexes());
+
+		BlockTxnMessage blockTxn = new BlockTxnMessage(block.getHash(),
+													   Collections.singletonList(txs.get(last)));
+		peer.send("blocktxn", blockTxn.getBytes());
+		BlockMessage rebuilt = (BlockMessage) received.poll(5, TimeUnit.SECONDS);
+		assertEquals(block.getHash(), rebuilt.getHash());
+		assertEquals(block.getTxCount(), rebuilt.getTxCount());
+	}
+
+	@Test(timeout = 10000)
+	public void testMissingTransactionsNotSent() throws Exception {
+		client.setRequestScheduling(RequestScheduler.DEFAULT_COALESCE_MILLIS,
+									RequestScheduler.DEFAULT_MAX_WINDOW, 300);
+		peer.send("cmpctblock", new CmpctBlockMessage(block, 7).getBytes());
+		peer.receive("getblocktxn");
+
+		// blocktxn never sent: the full block is requested
+		InvMessage getdata = new InvMessage();
+		getdata.loadFromBuffer(new BitcoinBuffer(peer.receive("getdata").payload));
+		assertEquals(InventoryType.MSG_BLOCK, getdata.getInvObjs().get(0).getType());
+		assertEquals(block.getHash(), getdata.getInvObjs().get(0).getHash());
+		assertTrue(received.isEmpty());
+
+		peer.send("block", BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1));
+		assertEquals(block.getHash(), received.poll(5, TimeUnit.SECONDS).getHash());
+		assertEquals(1, client.getRequestScheduler().getTimedOut());
+		assertEquals(0, client.getRequestScheduler().getInFlight());
+	}
+
+	@Test(timeout = 10000)
+	public void testWrongTransactionsFallBackToFullBlock() throws Exception {
+		peer.send("cmpctblock", new CmpctBlockMessage(block, 7).getBytes());
+		GetBlockTxnMessage getBlockTxn = new GetBlockTxnMessage();
+		getBlockTxn.loadFromBuffer(new BitcoinBuffer(peer.receive("getblocktxn").payload));
+		int missing = getBlockTxn.getIndexes().length;
+
+		// the right number of transactions, but not the ones of the block
+		TxMessage other = block.getTxList().get(0);
+		peer.send("blocktxn", new BlockTxnMessage(block.getHash(),
+												  Collections.nCopies(missing, other)).getBytes());
+		InvMessage getdata = new InvMessage();
+		getdata.loadFromBuffer(new BitcoinBuffer(peer.receive("getdata").payload));
+		assertEquals(InventoryType.MSG_BLOCK, getdata.getInvObjs().get(0).getType());
+		assertEquals(block.getHash(), getdata.getInvObjs().get(0).getHash());
+		assertTrue(received.isEmpty());
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.EventRing.OverflowPolicy;
+import bitcoinlistener.EventRing.WaitStrategy;
+import bitcoinlistener.messages.TxMessage;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class EventRingTest {
+
+	@Test(timeout = 20000)
+	public void testOrder() throws Exception {
+		for (WaitStrategy wait : WaitStrategy.values()) {
+			EventRing ring = new EventRing(8, 1, wait, OverflowPolicy.BLOCK);
+			List<TxMessage> received = Collections.synchronizedList(new ArrayList<>());
+			BitcoinClient client = newClient(received, null);
+
+			// several producers, a ring smaller than the messages of each one
+			List<List<TxMessage>> sent = new ArrayList<>();
+			List<Thread> producers = new ArrayList<>();
+			for (int p = 0; p < 3; p++) {
+				List<TxMessage> txs = new ArrayList<>();
+				for (int x = 0; x < 300; x++) {
+					txs.add(new TxMessage());
+				}
+				sent.add(txs);
+				producers.add(new Thread(() -> {
+					for (TxMessage tx : txs) {
+						assertTrue(ring.publish(client, tx));
+					}
+				}));
+			}
+			for (Thread t : producers) {
+				t.start();
+			}
+			for (Thread t : producers) {
+				t.join();
+			}
+			ring.shutdown();
+			ring.awaitTermination();
+
+			assertEquals(900, received.size());
+			assertEquals(900, ring.getPublished());
+			assertEquals(900, ring.getDispatched());
+			assertEquals(0, ring.getDropped());
+			for (List<TxMessage> txs : sent) {
+				// the messages of each producer keep their order
+				List<TxMessage> order = new ArrayList<>(received);
+				order.retainAll(txs);
+				assertEquals(txs, order);
+			}
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void testDropNewest() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		EventRing ring = new EventRing(4, 1, WaitStrategy.BLOCK, OverflowPolicy.DROP_NEWEST);
+		List<TxMessage> received = Collections.synchronizedList(new ArrayList<>());
+		BitcoinClient client = newClient(received, release);
+
+		List<TxMessage> txs = publishWhileBlocked(ring, client, received);
+		assertEquals(2, ring.getDropped());
+		release.countDown();
+		ring.shutdown();
+		ring.awaitTermination();
+
+		// the first one was being dispatched when the ring was filled
+		assertEquals(txs.subList(0, 5), received);
+	}
+
+	@Test(timeout = 10000)
+	public void testDropOldest() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		EventRing ring = new EventRing(4, 1, WaitStrategy.BLOCK, OverflowPolicy.DROP_OLDEST);
+		List<TxMessage> received = Collections.synchronizedList(new ArrayList<>());
+		BitcoinClient client = newClient(received, release);
+
+		List<TxMessage> txs = publishWhileBlocked(ring, client, received);
+		assertEquals(2, ring.getDropped());
+		release.countDown();
+		ring.shutdown();
+		ring.awaitTermination();
+
+		List<TxMessage> expected = new ArrayList<>();
+		expected.add(txs.get(0));
+		expected.addAll(txs.subList(3, 7));
+		assertEquals(expected, received);
+	}
+
+	@Test(timeout = 10000)
+	public void testBlock() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		EventRing ring = new EventRing(2, 1, WaitStrategy.BLOCK, OverflowPolicy.BLOCK);
+		List<TxMessage> received = Collections.synchronizedList(new ArrayList<>());
+		BitcoinClient client = newClient(received, release);
+
+		TxMessage first = new TxMessage();
+		ring.publish(client, first);
+		while (received.isEmpty()) {
+			Thread.sleep(1);
+		}
+		ring.publish(client, new TxMessage());
+		ring.publish(client, new TxMessage());
+
+		Thread publisher = new Thread(() -> ring.publish(client, new TxMessage()));
+		publisher.start();
+		while (ring.getPublisherWaits() == 0) {
+			Thread.sleep(1);
+		}
+		assertTrue(publisher.isAlive());
+		release.countDown();
+		publisher.join();
+
+		ring.shutdown();
+		ring.awaitTermination();
+		assertSame(first, received.get(0));
+		assertEquals(4, received.size());
+		assertEquals(0, ring.getDropped());
+		assertFalse(ring.publish(client, new TxMessage()));
+		assertEquals(1, ring.getDropped());
+	}
+
+	/**
+	 * Publishes 7 messages to a ring of 4 slots while the consumer is blocked on the first.
+	 */
+	private static List<TxMessage> publishWhileBlocked(EventRing ring, BitcoinClient client,
+													   List<TxMessage> received)
+			throws InterruptedException {
+		List<TxMessage> txs = new ArrayList<>();
+		for (int x = 0; x < 7; x++) {
+			txs.add(new TxMessage());
+		}
+		ring.publish(client, txs.get(0));
+		while (received.isEmpty()) {
+			Thread.sleep(1);
+		}
+		for (int x = 1; x < 7; x++) {
+			ring.publish(client, txs.get(x));
+		}
+		assertEquals(4, ring.getSize());
+		return txs;
+	}
+
+	/**
+	 * Creates a client whose transaction listener records the transactions, waiting for the
+	 * latch (if any) after the first one.
+	 */
+	private static BitcoinClient newClient(List<TxMessage> received, CountDownLatch release) {
+		BitcoinClient client = new BitcoinClient("127.0.0.1", 1, NetworkParameters.RegTest);
+		client.addTransactionListener((tx, conn) -> {
+			received.add(tx);
+			if (release != null) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		return client;
+	}
+}
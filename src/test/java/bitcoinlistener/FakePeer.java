@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.util.HashUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Minimal bitcoin node listening on localhost, used to test clients.
+ */
+class FakePeer implements AutoCloseable {
+
+	static class Frame {
+		final String command;
+		final byte[] payload;
+
+		Frame(String command, byte[] payload) {
+			this.command = command;
+			this.payload = payload;
+		}
+	}
+
+	private final NetworkParameters params;
+	private final ServerSocket server;
+	private final BlockingQueue<Frame> received = new LinkedBlockingQueue<>();
+	private volatile Socket sock;
+	private OutputStream out;
+
+	FakePeer(NetworkParameters params) throws IOException {
+		this.params = params;
+		this.server = new ServerSocket(0);
+		Thread t = new Thread(this::acceptAndRead, "fake-peer");
+		t.setDaemon(true);
+		t.start();
+	}
+
+	int getPort() {
+		return server.getLocalPort();
+	}
+
+	/**
+	 * Waits for the next message sent by the client.
+	 */
+	Frame receive() throws InterruptedException {
+		Frame f = received.poll(10, TimeUnit.SECONDS);
+		if (f == null) {
+			throw new AssertionError("No message received");
+		}
+		return f;
+	}
+
+	/**
+	 * Waits for the next message sent by the client, up to the given time.
+	 *
+	 * @return the message or null
+	 */
+	Frame poll(long millis) throws InterruptedException {
+		return received.poll(millis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Waits for the next message with the given command, skipping others.
+	 */
+	Frame receive(String command) throws InterruptedException {
+		Frame f;
+		do {
+			f = receive();
+		} while (!f.command.equals(command));
+		return f;
+	}
+
+	synchronized void send(String command, byte[] payload) throws IOException {
+		out.write(frame(params, command, payload));
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (sock != null) {
+			sock.close();
+		}
+		server.close();
+	}
+
+	static byte[] frame(NetworkParameters params, String command, byte[] payload) {
+		byte[] magic = params.getMagicValue();
+		byte[] frame = new byte[FrameDecoder.HEADER_SIZE + payload.length];
+		System.arraycopy(magic, 0, frame, 0, 4);
+		byte[] cmd = command.getBytes();
+		System.arraycopy(cmd, 0, frame, 4, cmd.length);
+		frame[16] = (byte) payload.length;
+		frame[17] = (byte) (payload.length >>> 8);
+		frame[18] = (byte) (payload.length >>> 16);
+		frame[19] = (byte) (payload.length >>> 24);
+		byte[] checksum = HashUtil.doubleSha256(payload, 0, payload.length);
+		System.arraycopy(checksum, 0, frame, 20, 4);
+		System.arraycopy(payload, 0, frame, FrameDecoder.HEADER_SIZE, payload.length);
+		return frame;
+	}
+
+	private void acceptAndRead() {
+		try {
+			Socket s = server.accept();
+			synchronized (this) {
+				this.out = s.getOutputStream();
+			}
+			this.sock = s;
+			FrameDecoder decoder = new FrameDecoder(params.getMagicValue(), (header, msg) -> {
+				received.add(new Frame(FrameDecoder.getCommand(header), msg));
+			});
+			InputStream in = s.getInputStream();
+			byte[] buf = new byte[4096];
+			int i;
+			while ((i = in.read(buf)) != -1) {
+				decoder.feed(buf, 0, i);
+			}
+		} catch (Exception e) {
+			// connection closed
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.util.ByteUtil;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class FrameDecoderTest {
+
+	private static final int BLOCK_SIZE = FrameDecoder.MAX_PAYLOAD_SIZE;
+
+	/**
+	 * Decodes a block of the maximum size fed one byte at a time. The timeout is only a coarse
+	 * guard against a receive path that copies the buffered bytes on every read; it doesn't
+	 * measure how the time scales.
+	 */
+	@Test(timeout = 10000)
+	public void testBigBlockOneByteAtATime() throws Exception {
+		byte[] payload = randomPayload(BLOCK_SIZE);
+		byte[] frame = frame("block", payload);
+
+		List<byte[]> received = new ArrayList<>();
+		FrameDecoder decoder = new FrameDecoder(NetworkParameters.MainNet.getMagicValue(),
+		                                        (header, msg) -> received.add(msg));
+		for (int x = 0; x < frame.length; x++) {
+			decoder.feed(frame, x, 1);
+		}
+
+		assertEquals(1, received.size());
+		assertArrayEquals(payload, received.get(0));
+		assertFalse(decoder.hasPartialFrame());
+	}
+
+	/**
+	 * Decodes a block of the maximum size fed in a single call.
+	 */
+	@Test(timeout = 10000)
+	public void testBigBlockOneChunk() throws Exception {
+		byte[] payload = randomPayload(BLOCK_SIZE);
+		byte[] frame = frame("block", payload);
+
+		List<byte[]> received = new ArrayList<>();
+		FrameDecoder decoder = new FrameDecoder(NetworkParameters.MainNet.getMagicValue(),
+		                                        (header, msg) -> received.add(msg));
+		decoder.feed(frame, 0, frame.length);
+
+		assertEquals(1, received.size());
+		assertArrayEquals(payload, received.get(0));
+		assertFalse(decoder.hasPartialFrame());
+	}
+
+	@Test
+	public void testSeveralMessagesSplitAcrossReads() throws Exception {
+		byte[] ping = frame("ping", new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+		byte[] verack = frame("verack", new byte[0]);
+		byte[] tx = frame("tx", randomPayload(300));
+
+		byte[] stream = new byte[ping.length + verack.length + tx.length];
+		System.arraycopy(ping, 0, stream, 0, ping.length);
+		System.arraycopy(verack, 0, stream, ping.length, verack.length);
+		System.arraycopy(tx, 0, stream, ping.length + verack.length, tx.length);
+
+		List<String> commands = new ArrayList<>();
+		FrameDecoder decoder = new FrameDecoder(NetworkParameters.MainNet.getMagicValue(),
+		                                        (header, msg) -> commands.add(FrameDecoder.getCommand(header)));
+		int pos = 0;
+		int[] chunks = { 5, 30, 1, 17, 100, 7 };
+		for (int x = 0; pos < stream.length; x++) {
+			int n = Math.min(chunks[x % chunks.length], stream.length - pos);
+			decoder.feed(stream, pos, n);
+			pos += n;
+		}
+
+		assertEquals(3, commands.size());
+		assertEquals("ping", commands.get(0));
+		assertEquals("verack", commands.get(1));
+		assertEquals("tx", commands.get(2));
+	}
+
+	@Test(expected = BitcoinListenerException.class)
+	public void testWrongMagic() throws Exception {
+		byte[] frame = frame("verack", new byte[0]);
+		FrameDecoder decoder = new FrameDecoder(NetworkParameters.TestNet3.getMagicValue(),
+		                                        (header, msg) -> { });
+		decoder.feed(frame, 0, frame.length);
+	}
+
+	@Test(expected = BitcoinListenerException.class)
+	public void testWrongChecksum() throws Exception {
+		byte[] frame = frame("ping", new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+		frame[frame.length - 1] ^= 1;
+		FrameDecoder decoder = new FrameDecoder(NetworkParameters.MainNet.getMagicValue(),
+		                                        (header, msg) -> { });
+		decoder.feed(frame, 0, frame.length);
+	}
+
+	@Test(expected = BitcoinListenerException.class)
+	public void testPayloadTooLarge() throws Exception {
+		// rejected from the header alone, before anything is allocated
+		byte[] frame = frame("block", new byte[0]);
+		ByteUtil.putInt32LE(frame, FrameDecoder.COMMAND_OFFSET + FrameDecoder.COMMAND_SIZE,
+							FrameDecoder.MAX_PAYLOAD_SIZE + 1);
+		FrameDecoder decoder = new FrameDecoder(NetworkParameters.MainNet.getMagicValue(),
+		                                        (header, msg) -> { });
+		decoder.feed(frame, 0, FrameDecoder.HEADER_SIZE);
+	}
+
+	// =============================================================================================
+
+	private static byte[] randomPayload(int size) {
+		byte[] payload = new byte[size];
+		new Random(42).nextBytes(payload);
+		return payload;
+	}
+
+	private static byte[] frame(String command, byte[] payload) {
+		return FakePeer.frame(NetworkParameters.MainNet, command, payload);
+	}
+}
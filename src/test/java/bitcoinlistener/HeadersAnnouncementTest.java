@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.datatypes.BlockHeader;
+import bitcoinlistener.datatypes.InvObject;
+import bitcoinlistener.datatypes.InvObject.InventoryType;
+import bitcoinlistener.messages.BlockMessage;
+import bitcoinlistener.messages.BlockMessageTest;
+import bitcoinlistener.messages.HeadersMessage;
+import bitcoinlistener.messages.InvMessage;
+import bitcoinlistener.messages.VersionMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class HeadersAnnouncementTest {
+
+	private static final NetworkParameters NET = NetworkParameters.RegTest;
+
+	private FakePeer peer;
+	private BitcoinClient client;
+	private BlockMessage block;
+	private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+	@Before
+	public void setUp() throws Exception {
+		block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1)));
+
+		peer = new FakePeer(NET);
+		client = new BitcoinClient("127.0.0.1", peer.getPort(), NET);
+		client.addHeaderListener((h, conn) -> events.add("header " + h.getHash()));
+		client.addBlockListener((b, conn) -> events.add("block " + b.getHash()));
+		client.connect();
+		assertEquals("version", peer.receive().command);
+		peer.send("version", new VersionMessage(70015, "/peer/", true).getBytes());
+		peer.send("verack", new byte[0]);
+		client.connect().get(5, TimeUnit.SECONDS);
+		assertEquals(0, peer.receive("sendheaders").payload.length);
+		assertEquals("sendcmpct", peer.receive().command);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		client.disconnect();
+		peer.close();
+	}
+
+	@Test(timeout = 10000)
+	public void testHeaderBeforeBlock() throws Exception {
+		HeadersMessage headers = new HeadersMessage(Collections.singletonList(block.getHeader()));
+		peer.send("headers", headers.getBytes());
+		assertEquals("header " + block.getHash(), events.poll(5, TimeUnit.SECONDS));
+
+		// the block is requested as if it had been announced with an inv
+		InvMessage getdata = new InvMessage();
+		getdata.loadFromBuffer(new BitcoinBuffer(peer.receive("getdata").payload));
+		assertEquals(InventoryType.MSG_BLOCK, getdata.getInvObjs().get(0).getType());
+		assertEquals(block.getHash(), getdata.getInvObjs().get(0).getHash());
+
+		// announced again: neither requested nor passed to the listeners again
+		peer.send("headers", headers.getBytes());
+		peer.send("block", BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1));
+		assertEquals("block " + block.getHash(), events.poll(5, TimeUnit.SECONDS));
+		assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+		assertNull(peer.poll(100));
+	}
+
+	@Test(timeout = 10000)
+	public void testInvalidProofOfWork() throws Exception {
+		BlockHeader header = new BlockHeader();
+		header.loadFromBuffer(new BitcoinBuffer(block.getHeader().getBytes()));
+		header.setNonce(header.getNonce() + 1);
+		peer.send("headers", new HeadersMessage(Collections.singletonList(header)).getBytes());
+
+		// neither passed to the listeners nor requested
+		peer.send("ping", new byte[8]);
+		assertEquals("pong", peer.receive().command);
+		assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+	}
+
+	@Test(timeout = 10000)
+	public void testHeaderNotDelayedByListeners() throws Exception {
+		// the consumer of the event ring is stuck in a transaction listener
+		CountDownLatch release = new CountDownLatch(1);
+		client.addTransactionListener((tx, conn) -> awaitQuietly(release));
+		peer.send("tx", block.getTxList().get(0).getBytes());
+
+		HeadersMessage headers = new HeadersMessage(Collections.singletonList(block.getHeader()));
+		peer.send("headers", headers.getBytes());
+		assertEquals("header " + block.getHash(), events.poll(5, TimeUnit.SECONDS));
+		release.countDown();
+	}
+
+	@Test(timeout = 10000)
+	public void testHeaderOfBlockAnnouncedWithInv() throws Exception {
+		InvMessage inv = new InvMessage();
+		inv.addObject(new InvObject(InventoryType.MSG_BLOCK, block.getHash()));
+		peer.send("inv", inv.getBytes());
+		peer.receive("getdata");
+
+		// the header listeners receive the header of the block first
+		peer.send("block", BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1));
+		assertEquals("header " + block.getHash(), events.poll(5, TimeUnit.SECONDS));
+		assertEquals("block " + block.getHash(), events.poll(5, TimeUnit.SECONDS));
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.messages.BlockMessage;
+import bitcoinlistener.messages.BlockMessageTest;
+import bitcoinlistener.messages.PongMessage;
+import bitcoinlistener.messages.TxMessage;
+import bitcoinlistener.messages.VersionMessage;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class MessageEncoderTest {
+
+	private static final NetworkParameters NET = NetworkParameters.RegTest;
+
+	@Test
+	public void testFrame() {
+		MessageEncoder encoder = new MessageEncoder(NET.getMagicValue());
+		assertFrame(encoder, new PongMessage(0x0102030405060708L));
+		assertFrame(encoder, new VersionMessage(70015, "/test:0.1/", true));
+
+		// serialized from the received bytes
+		BlockMessage block = new BlockMessage();
+		byte[] data = BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1);
+		block.loadFromBuffer(new BitcoinBuffer(data));
+		for (TxMessage tx : block.getTxList()) {
+			assertFrame(encoder, tx);
+		}
+	}
+
+	@Test
+	public void testWithoutChecksum() {
+		MessageEncoder encoder = new MessageEncoder(NET.getMagicValue());
+		PongMessage pong = new PongMessage(1);
+		MessageEncoder.Frame frame = encoder.encode(pong, false);
+		assertEquals(20, frame.getPayloadOffset());
+		byte[] expected = FakePeer.frame(NET, "pong", pong.getBytes());
+		byte[] actual = Arrays.copyOf(frame.getData(), frame.getLength());
+		assertArrayEquals(Arrays.copyOf(expected, 20), Arrays.copyOf(actual, 20));
+		assertArrayEquals(pong.getBytes(), Arrays.copyOfRange(actual, 20, actual.length));
+		frame.release();
+	}
+
+	@Test
+	public void testPool() {
+		MessageEncoder encoder = new MessageEncoder(NET.getMagicValue(), 1);
+		MessageEncoder.Frame first = encoder.encode(new PongMessage(1), true);
+		MessageEncoder.Frame second = encoder.encode(new PongMessage(2), true);
+		byte[] firstArray = first.getData();
+		first.release();
+		first.release(); // ignored
+		second.release(); // pool is full
+		assertEquals(1, encoder.getPooledBuffers());
+
+		MessageEncoder.Frame third = encoder.encode(new PongMessage(3), true);
+		assertSame(firstArray, third.getData());
+		assertEquals(0, encoder.getPooledBuffers());
+		assertArrayEquals(FakePeer.frame(NET, "pong", new PongMessage(3).getBytes()),
+						  Arrays.copyOf(third.getData(), third.getLength()));
+		third.release();
+
+		// buffers that grew too large are not kept
+		MessageEncoder.Frame large = encoder.encode(new LargeMessage(), true);
+		assertEquals(FrameDecoder.HEADER_SIZE + LargeMessage.SIZE, large.getLength());
+		large.release();
+		assertEquals(0, encoder.getPooledBuffers());
+	}
+
+	private static void assertFrame(MessageEncoder encoder, ProtocolMessage msg) {
+		MessageEncoder.Frame frame = encoder.encode(msg, true);
+		assertEquals(FrameDecoder.HEADER_SIZE, frame.getPayloadOffset());
+		assertArrayEquals(FakePeer.frame(NET, msg.getCommand(), msg.getBytes()),
+						  Arrays.copyOf(frame.getData(), frame.getLength()));
+		frame.release();
+	}
+
+	private static class LargeMessage extends PongMessage {
+		static final int SIZE = MessageEncoder.MAX_POOLED_CAPACITY + 1;
+
+		@Override
+		public String getCommand() {
+			return "large";
+		}
+
+		@Override
+		public void writeToBuffer(BitcoinBuffer buf) {
+			buf.putBytes(new byte[SIZE]);
+		}
+	}
+}
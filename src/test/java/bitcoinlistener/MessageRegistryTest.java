@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.messages.BlockMessage;
+import bitcoinlistener.messages.PingMessage;
+import bitcoinlistener.messages.VerackMessage;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MessageRegistryTest {
+
+	@Test
+	public void testLookupByRawCommand() throws Exception {
+		List<String> handled = new ArrayList<>();
+		MessageRegistry registry = new MessageRegistry();
+		registry.register("block", BlockMessage::new, (m, conn) -> handled.add("block"));
+		registry.register("verack", VerackMessage::new, (m, conn) -> handled.add("verack"));
+
+		assertEquals("block", registry.lookup(header("block"), 4).command);
+		assertEquals("verack", registry.lookup(header("verack"), 4).command);
+		assertNull(registry.lookup(header("blocktxn"), 4));
+		assertNull(registry.lookup(header("bloc"), 4));
+
+		registry.lookup(header("verack"), 4).dispatch(new BitcoinBuffer(new byte[0]), null);
+		assertEquals("verack", handled.get(0));
+	}
+
+	@Test
+	public void testReplaceRegistration() throws Exception {
+		List<PingMessage> pings = new ArrayList<>();
+		MessageRegistry registry = new MessageRegistry();
+		registry.register("ping", PingMessage::new, (m, conn) -> { });
+		registry.register("ping", PingMessage::new, (m, conn) -> pings.add(m));
+
+		byte[] nonce = { 1, 0, 0, 0, 0, 0, 0, 0 };
+		registry.lookup(header("ping"), 4).dispatch(new BitcoinBuffer(nonce), null);
+		assertEquals(1, pings.size());
+		assertTrue(pings.get(0).hasNonce());
+		assertEquals(1L, pings.get(0).getNonce());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCommandTooLong() {
+		new MessageRegistry().register("thisistoolong", VerackMessage::new, (m, conn) -> { });
+	}
+
+	private static byte[] header(String command) {
+		return FakePeer.frame(NetworkParameters.MainNet, command, new byte[0]);
+	}
+}
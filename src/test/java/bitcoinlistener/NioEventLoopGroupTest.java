@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NioEventLoopGroupTest {
+
+	@Test(timeout = 20000)
+	public void testSeveralClientsOnOneThread() throws Exception {
+		NioEventLoopGroup group = new NioEventLoopGroup(1);
+		List<FakePeer> peers = new ArrayList<>();
+		List<BitcoinClient> clients = new ArrayList<>();
+		try {
+			for (int x = 0; x < 5; x++) {
+				FakePeer peer = new FakePeer(NetworkParameters.RegTest);
+				BitcoinClient client = new BitcoinClient("127.0.0.1", peer.getPort(),
+				                                         NetworkParameters.RegTest, group);
+				client.connect();
+				peers.add(peer);
+				clients.add(client);
+			}
+
+			for (int x = 0; x < peers.size(); x++) {
+				FakePeer peer = peers.get(x);
+				assertEquals("version", peer.receive().command);
+
+				byte[] nonce = new byte[] { (byte) x, 2, 3, 4, 5, 6, 7, 8 };
+				peer.send("ping", nonce);
+				FakePeer.Frame pong = peer.receive("pong");
+				assertArrayEquals(nonce, pong.payload);
+				assertTrue(clients.get(x).isConnected());
+			}
+
+			for (BitcoinClient client : clients) {
+				client.disconnect();
+			}
+			for (BitcoinClient client : clients) {
+				while (client.isConnected()) {
+					Thread.sleep(10);
+				}
+				assertFalse(client.isConnected());
+			}
+		} finally {
+			for (FakePeer peer : peers) {
+				peer.close();
+			}
+			group.shutdown();
+		}
+	}
+
+	@Test(timeout = 20000)
+	public void testHostName() throws Exception {
+		// resolved before the connection is handed to the loop
+		NioEventLoopGroup group = new NioEventLoopGroup(1);
+		try (FakePeer peer = new FakePeer(NetworkParameters.RegTest)) {
+			BitcoinClient client = new BitcoinClient("localhost", peer.getPort(),
+			                                         NetworkParameters.RegTest, group);
+			client.connect();
+			assertEquals("version", peer.receive().command);
+			client.disconnect();
+		} finally {
+			group.shutdown();
+		}
+	}
+}
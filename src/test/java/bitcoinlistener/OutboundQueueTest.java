@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.BitcoinClient.SendOverflowPolicy;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class OutboundQueueTest {
+
+	@Test
+	public void testPriority() throws Exception {
+		OutboundQueue queue = new OutboundQueue(100, SendOverflowPolicy.FAIL, 0);
+		OutboundQueue.Entry a = entry(10, null);
+		OutboundQueue.Entry b = entry(10, null);
+		OutboundQueue.Entry pong = entry(10, null);
+		assertTrue(queue.add(a, false, true));
+		assertTrue(queue.add(b, false, true));
+		assertTrue(queue.add(pong, true, true));
+		assertEquals(30, queue.getQueuedBytes());
+
+		assertSame(pong, queue.poll());
+		assertSame(a, queue.poll());
+		assertSame(b, queue.take());
+		assertNull(queue.poll());
+		assertEquals(0, queue.getQueuedBytes());
+	}
+
+	@Test
+	public void testFail() throws Exception {
+		OutboundQueue queue = new OutboundQueue(100, SendOverflowPolicy.FAIL, 0);
+		AtomicInteger completed = new AtomicInteger();
+		assertTrue(queue.add(entry(60, completed), false, true));
+		try {
+			queue.add(entry(60, completed), false, true);
+			fail();
+		} catch (BitcoinListenerException e) {
+			assertEquals(1, completed.get());
+		}
+
+		// control messages are always accepted
+		assertTrue(queue.add(entry(60, completed), true, true));
+		assertEquals(120, queue.getQueuedBytes());
+	}
+
+	@Test
+	public void testDisconnect() throws Exception {
+		OutboundQueue queue = new OutboundQueue(100, SendOverflowPolicy.DISCONNECT, 0);
+		AtomicInteger completed = new AtomicInteger();
+
+		// a frame larger than the limit is accepted when nothing is queued
+		assertTrue(queue.add(entry(150, completed), false, true));
+		assertFalse(queue.add(entry(1, completed), false, true));
+		assertEquals(1, completed.get());
+	}
+
+	@Test(timeout = 10000)
+	public void testOffer() throws Exception {
+		// never waits, whatever the policy
+		OutboundQueue queue = new OutboundQueue(100, SendOverflowPolicy.BLOCK, 10000);
+		AtomicInteger completed = new AtomicInteger();
+		assertTrue(queue.offer(entry(60, completed)));
+		assertFalse(queue.offer(entry(60, completed)));
+		assertEquals(1, completed.get());
+
+		// room again once the peer reads
+		queue.poll();
+		assertTrue(queue.offer(entry(60, completed)));
+		assertEquals(60, queue.getQueuedBytes());
+
+		queue.close();
+		assertFalse(queue.offer(entry(1, completed)));
+	}
+
+	@Test(timeout = 10000)
+	public void testBlock() throws Exception {
+		OutboundQueue queue = new OutboundQueue(100, SendOverflowPolicy.BLOCK, 50);
+		AtomicInteger completed = new AtomicInteger();
+		assertTrue(queue.add(entry(60, completed), false, true));
+
+		// times out (the connection is closed)
+		assertFalse(queue.add(entry(60, completed), false, true));
+		assertEquals(1, completed.get());
+
+		// a caller that may not block gets an exception, and the connection is kept
+		try {
+			queue.add(entry(60, completed), false, false);
+			fail();
+		} catch (BitcoinListenerException e) {
+			assertEquals(2, completed.get());
+		}
+
+		// released when the frame queued is taken
+		OutboundQueue waiting = new OutboundQueue(100, SendOverflowPolicy.BLOCK, 10000);
+		waiting.add(entry(60, null), false, true);
+		Thread drainer = new Thread(() -> {
+			try {
+				Thread.sleep(100);
+				waiting.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		drainer.start();
+		assertTrue(waiting.add(entry(60, null), false, true));
+		drainer.join();
+		assertEquals(60, waiting.getQueuedBytes());
+	}
+
+	@Test(timeout = 10000)
+	public void testClose() throws Exception {
+		OutboundQueue queue = new OutboundQueue(100, SendOverflowPolicy.BLOCK, 10000);
+		AtomicInteger completed = new AtomicInteger();
+		queue.add(entry(10, completed), false, true);
+		queue.add(entry(10, completed), true, true);
+		queue.close();
+		assertEquals(2, completed.get());
+		assertEquals(0, queue.getQueuedBytes());
+		assertNull(queue.take());
+
+		assertFalse(queue.add(entry(10, completed), false, true));
+		assertEquals(3, completed.get());
+	}
+
+	private static OutboundQueue.Entry entry(int length, AtomicInteger completed) {
+		return new OutboundQueue.Entry(new byte[length], 0, length,
+									   completed == null ? null : completed::incrementAndGet);
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.ConnectionListener.ConnectionEvent;
+import bitcoinlistener.datatypes.InvObject;
+import bitcoinlistener.datatypes.InvObject.InventoryType;
+import bitcoinlistener.messages.BlockMessage;
+import bitcoinlistener.messages.BlockMessageTest;
+import bitcoinlistener.messages.InvMessage;
+import bitcoinlistener.messages.SendCmpctMessage;
+import bitcoinlistener.messages.TxMessage;
+import bitcoinlistener.messages.VersionMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PeerGroupTest {
+
+	private static final NetworkParameters NET = NetworkParameters.RegTest;
+
+	private TxMessage tx;
+	private FakePeer peerA;
+	private FakePeer peerB;
+	private PeerGroup group;
+	private final List<TxMessage> received = Collections.synchronizedList(new ArrayList<>());
+
+	@Before
+	public void setUp() throws Exception {
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1)));
+		tx = block.getTxList().get(0);
+
+		peerA = new FakePeer(NET);
+		peerB = new FakePeer(NET);
+		group = new PeerGroup(NET);
+		group.addPeer("127.0.0.1", peerA.getPort());
+		group.addPeer("127.0.0.1", peerB.getPort());
+		group.addTransactionListener((t, conn) -> received.add(t));
+		group.connect();
+		assertEquals("version", peerA.receive().command);
+		assertEquals("version", peerB.receive().command);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		group.disconnect();
+		peerA.close();
+		peerB.close();
+	}
+
+	@Test(timeout = 10000)
+	public void testRequestedAndDeliveredOnce() throws Exception {
+		peerA.send("inv", inv());
+		assertEquals(tx.getTxId(), requested(peerA.receive("getdata")));
+		announce(peerB);
+		assertEquals(1, group.getPendingRequests());
+
+		peerA.send("tx", tx.getBytes());
+		peerB.send("tx", tx.getBytes()); // unsolicited
+		while (group.getDuplicates() == 0) {
+			Thread.sleep(10);
+		}
+		assertEquals(1, received.size());
+		assertEquals(0, group.getPendingRequests());
+
+		// not requested again
+		announce(peerB);
+		announce(peerA);
+		assertNull(peerA.poll(0));
+	}
+
+	@Test(timeout = 10000)
+	public void testReassignedOnDisconnect() throws Exception {
+		peerA.send("inv", inv());
+		peerA.receive("getdata");
+		announce(peerB);
+
+		peerA.close();
+		assertEquals(tx.getTxId(), requested(peerB.receive("getdata")));
+		assertEquals(1, group.getReassignedRequests());
+		peerB.send("tx", tx.getBytes());
+		while (received.isEmpty()) {
+			Thread.sleep(10);
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void testReassignedOnTimeout() throws Exception {
+		group.setRequestTimeout(100);
+		peerA.send("inv", inv());
+		peerA.receive("getdata");
+		announce(peerB);
+
+		assertEquals(tx.getTxId(), requested(peerB.receive("getdata")));
+		assertEquals(1, group.getReassignedRequests());
+	}
+
+	@Test(timeout = 10000)
+	public void testReassignedOnNotFound() throws Exception {
+		peerA.send("inv", inv());
+		peerA.receive("getdata");
+		announce(peerB);
+
+		peerA.send("notfound", inv());
+		assertEquals(tx.getTxId(), requested(peerB.receive("getdata")));
+		assertEquals(1, group.getReassignedRequests());
+		assertEquals(1, group.getPeers().get(0).getRequestScheduler().getNotFound());
+	}
+
+	@Test(timeout = 10000)
+	public void testReassignedOnInvalidBlock() throws Exception {
+		byte[] data = BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1);
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(data));
+		InvMessage inv = new InvMessage();
+		inv.addObject(new InvObject(InventoryType.MSG_BLOCK, block.getHash()));
+		for (BitcoinClient peer : group.getPeers()) {
+			peer.setBlockVerifier(new BlockVerifier());
+		}
+
+		peerA.send("inv", inv.getBytes());
+		assertEquals(block.getHash(), requested(peerA.receive("getdata")));
+		peerB.send("inv", inv.getBytes());
+		peerB.send("ping", new byte[8]);
+		assertEquals("pong", peerB.receive().command);
+
+		// a mutated block (same hash): requested from the other peer that announced it
+		byte[] mutated = data.clone();
+		mutated[mutated.length - 1] ^= 1;
+		peerA.send("block", mutated);
+		assertEquals(block.getHash(), requested(peerB.receive("getdata")));
+		assertEquals(1, group.getReassignedRequests());
+		assertEquals(1, group.getPendingRequests());
+	}
+
+	@Test(timeout = 10000)
+	public void testHighBandwidthPeersLimited() throws Exception {
+		PeerGroup compact = new PeerGroup(NET);
+		List<FakePeer> fakes = new ArrayList<>();
+		try {
+			int highBandwidth = 0;
+			for (int x = 0; x < PeerGroup.MAX_HIGH_BANDWIDTH_PEERS + 1; x++) {
+				FakePeer fake = new FakePeer(NET);
+				fakes.add(fake);
+				compact.addPeer("127.0.0.1", fake.getPort()).connect();
+				if (handshake(fake).isHighBandwidth()) {
+					highBandwidth++;
+				}
+			}
+			assertEquals(PeerGroup.MAX_HIGH_BANDWIDTH_PEERS, highBandwidth);
+
+			// the first peer (high-bandwidth) leaves: the next peer connected takes its place
+			CountDownLatch disconnected = new CountDownLatch(1);
+			compact.getPeers().get(0).addConnectionListener((event, conn) -> {
+				if (event == ConnectionEvent.Disconnected) {
+					disconnected.countDown();
+				}
+			});
+			fakes.get(0).close();
+			disconnected.await();
+			FakePeer next = new FakePeer(NET);
+			fakes.add(next);
+			compact.addPeer("127.0.0.1", next.getPort()).connect();
+			assertTrue(handshake(next).isHighBandwidth());
+		} finally {
+			compact.disconnect();
+			for (FakePeer fake : fakes) {
+				fake.close();
+			}
+		}
+	}
+
+	private static SendCmpctMessage handshake(FakePeer peer) throws Exception {
+		assertEquals("version", peer.receive().command);
+		peer.send("version", new VersionMessage(70015, "/peer/", true).getBytes());
+		peer.send("verack", new byte[0]);
+		SendCmpctMessage sendCmpct = new SendCmpctMessage();
+		sendCmpct.loadFromBuffer(new BitcoinBuffer(peer.receive("sendcmpct").payload));
+		return sendCmpct;
+	}
+
+	private byte[] inv() {
+		InvMessage inv = new InvMessage();
+		inv.addObject(new InvObject(InventoryType.MSG_TX, tx.getTxId()));
+		return inv.getBytes();
+	}
+
+	/**
+	 * Sends the inv and waits until it is processed, without a getdata in reply.
+	 */
+	private void announce(FakePeer peer) throws Exception {
+		peer.send("inv", inv());
+		byte[] nonce = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+		peer.send("ping", nonce);
+		assertEquals("pong", peer.receive().command);
+	}
+
+	private static Object requested(FakePeer.Frame getdata) {
+		InvMessage msg = new InvMessage();
+		msg.loadFromBuffer(new BitcoinBuffer(getdata.payload));
+		assertEquals(1, msg.getInvObjs().size());
+		return msg.getInvObjs().get(0).getHash();
+	}
+}
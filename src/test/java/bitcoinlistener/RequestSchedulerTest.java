@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener;
+
+import bitcoinlistener.datatypes.InvObject;
+import bitcoinlistener.datatypes.InvObject.InventoryType;
+import bitcoinlistener.datatypes.SHA256Hash;
+import bitcoinlistener.messages.InvMessage;
+import bitcoinlistener.messages.VersionMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RequestSchedulerTest {
+
+	private static final NetworkParameters NET = NetworkParameters.RegTest;
+
+	private FakePeer peer;
+	private BitcoinClient client;
+
+	@Before
+	public void setUp() throws Exception {
+		peer = new FakePeer(NET);
+		client = new BitcoinClient("127.0.0.1", peer.getPort(), NET);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		client.disconnect();
+		peer.close();
+	}
+
+	@Test(timeout = 10000)
+	public void testCoalescing() throws Exception {
+		client.setRequestScheduling(300, RequestScheduler.DEFAULT_MAX_WINDOW, 20_000);
+		connect();
+		for (int x = 0; x < 3; x++) {
+			peer.send("inv", inv(InventoryType.MSG_TX, x, 1));
+		}
+		List<InvObject> requested = requested(peer.receive("getdata"));
+		assertEquals(3, requested.size());
+		assertEquals(hash(0), requested.get(0).getHash());
+		assertEquals(3, client.getRequestScheduler().getInFlight());
+	}
+
+	@Test(timeout = 10000)
+	public void testBlocksFirst() throws Exception {
+		client.setRequestScheduling(300, RequestScheduler.DEFAULT_MAX_WINDOW, 20_000);
+		connect();
+		peer.send("inv", inv(InventoryType.MSG_TX, 0, 1));
+		peer.send("inv", inv(InventoryType.MSG_BLOCK, 100, 1));
+
+		// the block doesn't wait for the transactions announced before
+		List<InvObject> requested = requested(peer.receive("getdata"));
+		assertEquals(1, requested.size());
+		assertEquals(hash(100), requested.get(0).getHash());
+		requested = requested(peer.receive("getdata"));
+		assertEquals(hash(0), requested.get(0).getHash());
+	}
+
+	@Test(timeout = 10000)
+	public void testWindowAndNotFound() throws Exception {
+		client.setRequestScheduling(0, RequestScheduler.MIN_WINDOW, 20_000);
+		connect();
+		peer.send("inv", inv(InventoryType.MSG_TX, 0, 10));
+
+		List<InvObject> requested = requested(peer.receive("getdata"));
+		assertEquals(4, requested.size());
+		RequestScheduler scheduler = client.getRequestScheduler();
+		assertEquals(6, scheduler.getQueued());
+
+		// answered: the next ones are requested
+		peer.send("notfound", inv(InventoryType.MSG_TX, 0, 4));
+		requested = requested(peer.receive("getdata"));
+		assertEquals(4, requested.size());
+		assertEquals(hash(4), requested.get(0).getHash());
+		assertEquals(4, scheduler.getNotFound());
+		assertEquals(8, scheduler.getRequested());
+	}
+
+	@Test(timeout = 10000)
+	public void testTimeout() throws Exception {
+		client.setRequestScheduling(0, RequestScheduler.DEFAULT_MAX_WINDOW, 100);
+		connect();
+		peer.send("inv", inv(InventoryType.MSG_TX, 0, 1));
+		peer.receive("getdata");
+
+		RequestScheduler scheduler = client.getRequestScheduler();
+		while (scheduler.getTimedOut() == 0) {
+			Thread.sleep(10);
+		}
+		assertEquals(0, scheduler.getInFlight());
+		assertTrue(scheduler.getWindow() < RequestScheduler.INITIAL_WINDOW);
+	}
+
+	private void connect() throws Exception {
+		client.connect();
+		assertEquals("version", peer.receive().command);
+		peer.send("version", new VersionMessage(70015, "/peer/", true).getBytes());
+		peer.send("verack", new byte[0]);
+		client.connect().get(5, TimeUnit.SECONDS);
+	}
+
+	private static byte[] inv(InventoryType type, int first, int count) {
+		InvMessage inv = new InvMessage();
+		for (int x = first; x < first + count; x++) {
+			inv.addObject(new InvObject(type, hash(x)));
+		}
+		return inv.getBytes();
+	}
+
+	private static SHA256Hash hash(int n) {
+		byte[] arr = new byte[SHA256Hash.LENGTH];
+		arr[0] = (byte) n;
+		arr[1] = (byte) (n >>> 8);
+		arr[31] = 1;
+		return SHA256Hash.fromBytes(arr);
+	}
+
+	private static List<InvObject> requested(FakePeer.Frame getdata) {
+		InvMessage msg = new InvMessage();
+		msg.loadFromBuffer(new BitcoinBuffer(getdata.payload));
+		return msg.getInvObjs();
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.datatypes;
+
+import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.messages.BlockMessageTest;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BlockHeaderTest {
+
+	@Test
+	public void testProofOfWork() {
+		assertTrue(header().hasValidProofOfWork());
+
+		// any other nonce: the hash is far above the target
+		BlockHeader wrongNonce = header();
+		wrongNonce.setNonce(wrongNonce.getNonce() + 1);
+		assertFalse(wrongNonce.hasValidProofOfWork());
+
+		// targets that can't be met or are not valid
+		BlockHeader zero = header();
+		zero.setBits(0x1d000000L);
+		assertFalse(zero.hasValidProofOfWork());
+		BlockHeader negative = header();
+		negative.setBits(0x1d80ffffL);
+		assertFalse(negative.hasValidProofOfWork());
+		BlockHeader overflow = header();
+		overflow.setBits(0x2300ffffL);
+		assertFalse(overflow.hasValidProofOfWork());
+	}
+
+	private static BlockHeader header() {
+		BlockHeader header = new BlockHeader();
+		header.loadFromBuffer(new BitcoinBuffer(BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1)));
+		return header;
+	}
+}
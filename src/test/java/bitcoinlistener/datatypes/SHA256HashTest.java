@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.datatypes;
+
+import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.util.ByteUtil;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SHA256HashTest {
+
+	// genesis block hash
+	private static final String DISPLAY =
+			"000000000019d6689c085ae165831e934ff763ae46a2a6c172b3f1b60a8ce26f";
+	private static final String INTERNAL =
+			"6fe28c0ab6f1b372c1a6a246ae63f74f931e8365e15a089c68d6190000000000";
+
+	@Test
+	public void testByteOrder() {
+		SHA256Hash hash = SHA256Hash.fromHex(DISPLAY);
+		assertEquals(DISPLAY, hash.getHashAsStr());
+		assertEquals(INTERNAL, ByteUtil.byteArrayToStr(hash.getBytes()));
+		assertArrayEquals(ByteUtil.hexStringToByteArray(DISPLAY), hash.getReversedBytes());
+		assertEquals(hash, SHA256Hash.fromBytes(hash.getBytes()));
+		assertEquals(hash, SHA256Hash.fromReversedBytes(hash.getReversedBytes()));
+	}
+
+	@Test
+	public void testBuffer() {
+		SHA256Hash hash = SHA256Hash.fromHex(DISPLAY);
+		BitcoinBuffer out = new BitcoinBuffer(8);
+		out.putByte((byte) 1);
+		hash.writeToBuffer(out);
+		byte[] data = out.toArrayExactSize();
+		assertEquals(33, data.length);
+		assertTrue(hash.equals(data, 1));
+		assertFalse(hash.equals(data, 0));
+
+		BitcoinBuffer in = new BitcoinBuffer(data);
+		in.setPosition(1);
+		assertEquals(hash, SHA256Hash.read(in));
+		assertEquals(33, in.getPosition());
+	}
+
+	@Test
+	public void testMapKey() {
+		Map<SHA256Hash, Integer> map = new HashMap<>();
+		for (int x = 0; x < 1000; x++) {
+			map.put(hashOf(x), x);
+		}
+		assertEquals(1000, map.size());
+		for (int x = 0; x < 1000; x++) {
+			assertEquals(Integer.valueOf(x), map.get(hashOf(x)));
+		}
+		assertNotEquals(hashOf(1), hashOf(2));
+		assertEquals(hashOf(1).hashCode(), hashOf(1).hashCode());
+	}
+
+	@Test
+	public void testCompare() {
+		byte[] low = new byte[32];
+		byte[] high = new byte[32];
+		high[31] = (byte) 0x80; // unsigned comparison
+		assertTrue(SHA256Hash.fromBytes(low).compareTo(SHA256Hash.fromBytes(high)) < 0);
+		assertTrue(SHA256Hash.fromBytes(high).compareTo(SHA256Hash.fromBytes(low)) > 0);
+		assertEquals(0, SHA256Hash.ZERO.compareTo(SHA256Hash.fromBytes(low)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidLength() {
+		SHA256Hash.fromBytes(new byte[31]);
+	}
+
+	private static SHA256Hash hashOf(int value) {
+		byte[] arr = new byte[32];
+		arr[0] = (byte) value;
+		arr[31] = (byte) (value >> 8);
+		return SHA256Hash.fromBytes(arr);
+	}
+}
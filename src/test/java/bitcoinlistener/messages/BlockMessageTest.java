@@ -9,25 +9,30 @@
 package bitcoinlistener.messages;
 
 import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.BitcoinListenerException;
+import bitcoinlistener.datatypes.BlockHeader;
+import bitcoinlistener.datatypes.TxOut;
 import bitcoinlistener.util.ByteUtil;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 public class BlockMessageTest {
 
+	// message size 17806
+	public static final String BLOCK1 = "4 0 40 20 b4 2a 79 60 b8 a 7e 50 d3 13 5d 17 54 9e d8 2d b5 40 bb b7 38 e3 e4 15 1 0 0 0 0 0 0 0 4f 7 53 bb 53 a5 8b da 6a 9f 32 61 5d d5 90 d 7c d8 9f 14 d 4c 58 92 26 57 d7 62 1a 6 a1 87 3f 8b e4 60 31 52 4b 19 39 2e 5 bb 6e 1 0 0 0 1 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 ff ff ff ff 52 3 57 a2 1e 3a 20 54 68 69 73 20 62 6c 6f 63 6b 20 77 61 73 20 6d 69 6e 65 64 20 77 69 74 68 20 61 20 63 61 72 62 6f 6e 20 6e 65 67 61 74 69 76 65 20 70 6f 77 65 72 20 73 6f 75 72 63 65 20 12 9 68 7a 20 9 9 20 9 2 98 49 0 a bc cb 1 0 0 ff ff ff ff 2 32 1e 9f 0 0 0 0 0 17 a9 14 13 20 e6 54 2e 21 46 ea 48 67 0 f4 9 1a a7 93 e7 36 7 88 87 0 0 0 0 0 0 0 0 26 6a 24 aa 21 a9 ed f3 d0 4f e1 70 42 b5 9b 74 5a e1 4c ab b2 ec 75 73 d3 5e 20 4f 8e 9c 70 d1 45 88 40 71 dd 67 90 0 0 0 0 1 0 0 0 1 64 92 13 62 3 af b0 22 e8 67 57 3b b9 ca 22 f4 d1 7e f 6 f5 64 5a 1e b9 dd ba 57 eb 55 c9 66 1 0 0 0 0 ff ff ff ff 2 1f 11 0 0 0 0 0 0 19 76 a9 14 e9 30 de 29 5f 4e 93 6c 9 39 d9 5b 9e 12 e6 5f ba f6 a ab 88 ac cd cd 2d 23 0 0 0 0 16 0 14 ac fd b5 95 4c da 26 ab e1 c6 72 60 1c fb a4 d7 e5 9b 79 4b 0 0 0 0 1 0 0 0 1 71 f6 a5 fc 5f 38 5a 3c 1 36 b4 fc 67 2a 5d 62 26 5d fb 36 d2 65 d2 36 24 57 a4 0 64 ba 67 fb 1 0 0 0 0 ff ff ff ff 2 10 27 0 0 0 0 0 0 19 76 a9 14 9e ae fd 30 fd 3b 67 a2 a3 a9 5d 70 6b ac 85 8b 75 9b 93 4c 88 ac 60 78 93 11 0 0 0 0 16 0 14 31 cf e2 24 87 1d 9 ba 75 44 4c ef 55 c0 12 12 59 61 62 67 0 0 0 0 2 0 0 0 1 ff 7d df 54 54 1f 4b 12 41 ce 10 62 4b 2d b2 4 5b 2c 69 88 fb 12 5d 68 77 24 6d c1 b7 e1 e1 36 0 0 0 0 0 ff ff ff ff 1 60 ea 0 0 0 0 0 0 19 76 a9 14 34 4a f 48 ca 15 e c2 b9 3 81 76 60 b9 b6 8b 13 a6 70 26 88 ac 0 0 0 0 2 0 0 0 1 ec 7 68 6d 53 0 7f 8e 55 7b 30 26 4a b5 4f d5 a2 9b 37 59 28 dc 1a d 52 dd fd f1 ab b4 41 1b 0 0 0 0 0 fe ff ff ff 2 c7 eb 19 1c 1 0 0 0 16 0 14 62 75 ef af 40 51 5a bb 3b 81 aa 27 ae 5d 34 8d de 2 79 61 92 71 f 0 0 0 0 0 16 0 14 1e 6b 73 d7 e5 7e 0 5d b9 9d 6d 9c c2 ba 5d db 55 94 f0 40 56 a2 1e 0 2 0 0 0 1 b8 7 d2 4f ab c 8c 20 60 22 1d d5 e2 c3 a0 4d 32 f1 c5 34 92 3b bf fc 58 e2 b9 6c 9b e0 31 b1 0 0 0 0 0 fe ff ff ff 2 7b e8 10 0 0 0 0 0 16 0 14 84 c8 50 9f a 62 c0 50 86 2f 28 c 57 d6 d5 0 58 66 f3 4f 3a cb 8 1c 1 0 0 0 16 0 14 17 1b 4f 44 a9 ca 2d 92 31 78 ea 8c 8f 9c 78 13 1b db 91 fb 56 a2 1e 0 2 0 0 0 1 a0 a9 4b 3a da 99 8d eb dd a4 28 29 92 ad c6 36 db 2f 4 4d 3f bb f6 2e 9f 3b 70 cc e1 12 e9 7e 0 0 0 0 0 fe ff ff ff 2 2a f1 2c 0 0 0 0 0 16 0 14 37 30 d 38 fe 1 3c 6e 87 fc 1b 57 10 27 92 cb 3c a5 46 79 2e dd b2 45 1 0 0 0 16 0 14 33 e6 ba 62 73 9d 5a a5 4c ab 8 5f 56 c8 59 ad 4f 7d 3e 60 56 a2 1e 0 2 0 0 0 1 61 35 f8 a2 84 dc 6e f8 1 74 72 7f b1 be 10 bb 58 94 86 d bb b4 1f 8a 5b 60 a4 b0 37 41 61 64 1 0 0 0 0 fe ff ff ff 2 51 42 9f 45 1 0 0 0 16 0 14 18 99 3b f9 df d8 4 8 64 be 3b 9 58 1b f2 b7 ab 5 4f 90 cb 62 13 0 0 0 0 0 16 0 14 fa a 80 5 70 9a 53 30 6d 68 5e 99 2d f5 6c 89 7c a7 4e c3 56 a2 1e 0 2 0 0 0 1 5a 81 5c 27 1b b9 bf 59 aa d2 91 df 61 6e 74 b3 27 cf 71 82 b3 1c 49 b ea bb 11 79 8e e 42 c 0 0 0 0 0 fe ff ff ff 2 8b 89 26 0 0 0 0 0 16 0 14 d5 44 b9 ec 6e 37 3d ba e6 10 f0 ed fb 7c fa 9e 90 18 e d5 b4 80 78 45 1 0 0 0 16 0 14 77 27 4e c6 3c f 98 c7 32 f2 31 d8 71 76 7 78 1f 11 81 85 56 a2 1e 0 2 0 0 0 1 2f 28 27 8c e5 5d 8f b1 ae 42 1 f9 34 c8 a3 ae 1b 37 fb 3d ad 4f 91 a9 ac 86 4b db f4 23 a4 4e 0 0 0 0 0 fe ff ff ff 2 eb fc 1c 0 0 0 0 0 16 0 14 7c 0 85 1d 69 ca 4a a7 b0 5f bb 4b 3b 10 63 dd 16 f5 ec b2 f4 b 70 5e 1 0 0 0 16 0 14 c7 57 5 47 7d 72 d0 71 2b ea 8d 3d b6 a fb 8a 7a 48 b4 39 56 a2 1e 0 2 0 0 0 1 2e 6 7f 6f d2 3f 50 80 ff 9d 2b 45 83 bf 72 ab 26 6e e5 f7 21 b0 73 d1 70 1c e3 da b7 1 b3 df 1 0 0 0 0 fe ff ff ff 2 c2 5f ef 1b 1 0 0 0 16 0 14 68 d0 e0 1e e4 c9 e5 a4 59 c0 7c e0 97 e4 31 78 6e dd f6 8e 66 33 19 0 0 0 0 0 16 0 14 f2 e1 d8 15 ad 0 91 81 9e 93 b3 51 2d 1a 42 1b a9 82 e6 36 56 a2 1e 0 2 0 0 0 1 f6 81 25 86 c6 e1 20 3 4f 49 0 4a 9 48 8f 38 f9 43 ac a a5 3 c3 8f 86 49 12 10 18 7 aa 75 0 0 0 0 0 fe ff ff ff 2 2 c0 34 1f 0 0 0 0 16 0 14 8e c6 b0 64 9f 6f 43 be 4d d2 d 7c c0 b7 20 88 1d 56 36 fd e6 a1 1a 0 0 0 0 0 16 0 14 16 0 3d 41 21 78 e a9 ed 84 4c f0 6c 64 33 11 37 e6 dd ab 56 a2 1e 0 2 0 0 0 1 ef 13 40 d0 71 4f ed 1e 2f 29 2a ec 86 a6 18 7e 3 ab 75 53 48 e2 67 3 12 6a 1c d3 55 76 f9 be 0 0 0 0 0 fe ff ff ff 2 c2 a7 13 0 0 0 0 0 16 0 14 8b a2 ed 24 af 6e b b0 a8 a6 68 c9 f1 9d 65 18 ba ab 6a 8e 2e e0 20 1f 0 0 0 0 16 0 14 0 b9 d0 65 b6 a2 3c 21 4d 35 90 9e 4d a9 f0 7e 60 c1 77 e3 56 a2 1e 0 2 0 0 0 1 6 95 8d 59 e1 f3 55 1b b 13 ae 10 8e de d5 f9 91 d2 3c 6e 38 f7 3f ca bd 76 d1 b7 64 6 22 5 1 0 0 0 0 fe ff ff ff 2 1c 62 12 0 0 0 0 0 16 0 14 26 9a 99 40 2d 6 30 8 1d a f3 24 7 ad d6 d6 40 e9 a5 35 71 35 77 96 0 0 0 0 16 0 14 eb f1 83 79 b5 33 64 38 d1 4b 42 8f 47 2c 79 80 7b a8 e9 a0 56 a2 1e 0 2 0 0 0 1 fc ab 21 a5 da f0 15 56 ad 25 35 aa 3f 6f cd 93 ce 14 a6 9b 46 f7 ec 80 8f cc 39 5e f2 d 78 af 1 0 0 0 0 fe ff ff ff 2 e e5 63 96 0 0 0 0 16 0 14 9c f4 8e d2 23 8f f 52 da a8 57 fd 61 11 ab 60 11 b6 1f e0 51 18 13 0 0 0 0 0 16 0 14 1c e9 3a 7c d5 8e 1c ca 1f 37 a6 78 9d 72 3e 6b cb 7 9b 85 56 a2 1e 0 2 0 0 0 1 df 2f 63 3e b2 d7 df f2 fe a5 e3 f7 fb cf e8 8f 95 3d 1e f9 1e a4 43 86 dd eb 43 7d 8b f5 98 26 1 0 0 0 0 fe ff ff ff 2 cd 7c 1d 0 0 0 0 0 16 0 14 d4 4f 7b 56 2f da 49 8 58 e8 2b 9a 4c 50 54 d9 f3 37 a2 7c e1 16 4e 94 1 0 0 0 16 0 14 7c cd 28 d 65 e5 9e c0 89 72 69 6d 6f a1 d0 c4 13 a6 f7 b0 56 a2 1e 0 2 0 0 0 1 4a 2a 14 b0 6c 20 a8 a 24 b3 2b 29 2 ff 44 9 f9 2f 48 e9 65 1 a4 3d 63 1c 7a fd 27 fc fb f6 1 0 0 0 0 fe ff ff ff 2 7e db 1b 0 0 0 0 0 16 0 14 c d1 d7 77 ef 73 d2 c9 1e e3 38 b8 90 1d 67 e6 34 8 d4 cb 51 3 32 94 1 0 0 0 16 0 14 70 c8 67 43 1e 85 28 ed 63 be 93 64 40 15 10 4d f4 f2 b8 72 56 a2 1e 0 2 0 0 0 1 44 60 e2 8d 54 f5 77 39 d8 f8 13 39 96 c5 9b 31 d8 5b c4 cf 3d d5 4f a3 61 ce 52 db 5e 6b f5 4 0 0 0 0 0 fe ff ff ff 2 5a b6 b9 f6 0 0 0 0 16 0 14 97 70 16 c5 c7 7c 60 88 e6 83 4b 97 12 c d1 2e a8 45 7c ae e 4c 18 0 0 0 0 0 16 0 14 ab a1 5f b e1 a 7a 84 ca 29 f3 1e fc 13 40 82 5b 22 1e ae 56 a2 1e 0 2 0 0 0 1 33 82 84 c3 c9 2d 36 77 2 8b cd 9 d3 44 47 57 84 60 93 24 d3 f6 76 46 20 f5 e1 5f 18 e 2f 8 0 0 0 0 0 fe ff ff ff 2 69 13 1c 0 0 0 0 0 16 0 14 0 e1 f5 af de 8b 40 f5 bc ce 9e 7f 67 e7 b3 6 63 7e e7 ec ba 58 bd 59 0 0 0 0 16 0 14 fe 3a b3 d3 8e 65 a5 cc 36 22 9d 33 22 44 18 12 ef b6 29 72 56 a2 1e 0 2 0 0 0 1 49 3 98 74 18 96 25 9c d7 82 58 25 b6 78 ac 22 58 86 8 79 cf 66 f0 ae c2 19 7c 53 6c 73 a5 d2 0 0 0 0 0 fe ff ff ff 2 10 db 1d 0 0 0 0 0 16 0 14 b2 b8 c8 67 66 d e2 7e c8 85 d4 cf 48 43 64 14 e5 5 b2 33 ec d1 45 96 0 0 0 0 16 0 14 fe e1 82 aa 38 37 6f f8 50 2c ff 31 b3 3d 23 f1 9 56 7 d3 56 a2 1e 0 2 0 0 0 1 ea a9 e1 5e fe 16 27 b4 66 74 f4 8e 97 4d fa 23 6c 49 0 55 2a cd aa e6 7c 57 33 e d8 95 17 81 1 0 0 0 0 fe ff ff ff 2 6a 79 12 0 0 0 0 0 16 0 14 c6 f bd ee 15 1 d9 1a 53 ba 42 83 18 91 8d 88 fc b6 95 3e 70 20 33 96 0 0 0 0 16 0 14 8 69 37 77 9f 7d b2 b8 75 1e 4 b9 64 6c 55 66 a3 98 bb 85 56 a2 1e 0 2 0 0 0 1 7e d7 d6 94 98 ed 4c cc 9d 9b a8 14 5f d7 71 ac d8 48 b9 75 73 52 3d e1 59 d3 8b 2d c3 d2 d4 20 0 0 0 0 0 fe ff ff ff 2 93 59 16 0 0 0 0 0 19 76 a9 14 c9 8c 47 12 54 46 c4 c 85 a6 11 ad f4 94 9f c4 d1 18 3f d2 88 ac 1e 23 a3 f6 0 0 0 0 17 a9 14 55 fc 37 fb c9 a9 dc f8 31 27 df d6 5 5d d3 a6 f 27 f9 26 87 56 a2 1e 0 2 0 0 0 1 dd ea a5 ea 8b 3 ee 33 82 33 26 36 87 aa 50 c5 2f 24 a2 6e e6 14 91 e6 5d 6c f4 ff 74 79 9f fe 1 0 0 0 0 fe ff ff ff 2 7c 82 1a 0 0 0 0 0 19 76 a9 14 76 b6 c5 25 53 d9 e4 11 c1 d6 57 73 ee f5 d f3 f2 e3 40 db 88 ac 95 9c a2 59 0 0 0 0 17 a9 14 e8 7 71 56 b0 f8 7b 43 ff 17 85 45 8e 5e 5 e7 8e ec 98 10 87 56 a2 1e 0 2 0 0 0 1 c6 10 ff 8 13 88 6c a5 e8 a9 21 9b f4 f6 6c 32 d8 32 6f 8 8b ac b0 89 8e 48 44 bf b0 7 61 5f 1 0 0 0 17 16 0 14 f2 13 7d 13 7c f6 74 ec 6 31 e2 f2 c4 b1 17 d1 a0 2d ee 4c fe ff ff ff 2 63 36 14 0 0 0 0 0 16 0 14 fb 9 18 84 35 ca c9 ed 9d 83 33 39 73 e0 58 f3 b7 64 a5 23 fb 24 8e 59 0 0 0 0 16 0 14 ee b4 e 2e a8 89 7f 82 63 4e c0 2 a6 e6 f3 59 a7 ac 88 55 56 a2 1e 0 2 0 0 0 1 e 8 fa ff 8b 8e 84 64 c9 82 bd 7d 21 7 6b 1a d7 59 d5 44 61 5b 4e 27 69 78 25 9f 74 d2 f 17 1 0 0 0 0 fe ff ff ff 2 f9 a0 1a 0 0 0 0 0 16 0 14 4 4 63 95 80 ff dc 34 2b f5 ef a7 ac d3 c3 b6 9c 84 44 7 f0 4b 73 59 0 0 0 0 16 0 14 bb 36 60 e7 ee b2 73 dc 16 b0 1d fb 48 ea 2d ae 35 8f 64 69 56 a2 1e 0 2 0 0 0 1 8e fc 67 88 22 14 a5 ab b8 c1 11 b0 2f 37 d5 f2 2b 99 da 25 10 66 d5 75 11 73 9e ec e5 e0 73 71 0 0 0 0 0 fe ff ff ff 2 e5 86 1a 0 0 0 0 0 19 76 a9 14 55 35 bf f2 ea 28 89 3d 57 75 7c ad a1 8f 9b 27 67 91 3a 48 88 ac 16 d3 16 c7 0 0 0 0 17 a9 14 26 bd 91 4a 3e 75 5 b3 0 98 25 49 fd bf df 24 31 e4 99 74 87 56 a2 1e 0 2 0 0 0 1 43 59 48 c 89 36 e2 5a 58 a9 91 8 6c 1a 23 a7 c6 92 71 b8 9 be 25 5f 4 c8 37 fb 53 58 e1 de 1 0 0 0 0 fe ff ff ff 2 f6 d7 52 5e 1 0 0 0 17 a9 14 a2 b9 dd 75 c9 fd 4b 64 e4 b5 13 8a bf 2a 3e f8 49 e1 45 76 87 55 fa 1c 0 0 0 0 0 19 76 a9 14 9c da f6 38 68 68 ef 12 5 d8 b ac fa fd 9 12 bd 4d 36 48 88 ac 56 a2 1e 0 2 0 0 0 1 54 59 8a 63 79 df 52 62 4f 17 15 9f 68 d5 8c 50 f3 12 e4 1a 8d 9c a0 aa 66 c1 0 e6 32 53 db cf 1 0 0 0 0 fe ff ff ff 2 a1 bb 13 0 0 0 0 0 19 76 a9 14 1d e2 35 7c da 3a 9 9a e8 67 3c 7 d1 f5 81 a9 35 f6 63 92 88 ac 7 e 1e 94 1 0 0 0 17 a9 14 5e 15 54 be 1c d0 21 2d b3 5e 90 4a 64 a3 fd c5 6e d5 4e 72 87 56 a2 1e 0 2 0 0 0 1 38 30 44 e4 fe 31 6e c5 74 79 58 34 ef da 35 bf 5d e6 e0 b6 4b f9 24 81 24 8f 92 df f6 e5 8b a9 1 0 0 0 0 fe ff ff ff 2 49 1c 13 0 0 0 0 0 19 76 a9 14 f8 ea b 88 83 ab 51 68 bb 10 f 55 5a 57 6f 17 6e 1b c2 b3 88 ac fe f5 5f 59 0 0 0 0 17 a9 14 dc 95 f1 fb a3 d2 c4 1c 5b eb 85 8f ff f9 ba 2f c4 e1 53 ff 87 56 a2 1e 0 2 0 0 0 1 4a 4f dc aa bd 2d c5 57 f7 96 78 9a 1f c5 e5 59 6a 13 a1 35 9 49 30 17 e6 d7 9f a6 d5 85 a8 56 1 0 0 0 17 16 0 14 c1 b8 ea b0 a3 55 86 63 66 8b bc 2e 44 fc f 7d e5 e6 8 dc fe ff ff ff 2 52 24 fa c6 0 0 0 0 16 0 14 6 6a 20 0 74 b4 61 a7 d5 f9 af db 49 ce 47 ce ce 53 9b 25 8d 6d 1c 0 0 0 0 0 16 0 14 66 1a d9 7d 74 d6 a1 61 6f 36 92 3a 2c 95 c8 4d e6 c5 cb f5 56 a2 1e 0 2 0 0 0 1 a3 25 ca de e1 9c b3 17 94 89 1f 69 13 41 a3 c5 b0 57 6f df 3e 79 83 b9 dc 62 e4 d8 3f e6 e6 b0 0 0 0 0 0 fe ff ff ff 2 a3 26 dc c6 0 0 0 0 16 0 14 6a 47 11 a 24 e4 94 84 6a 90 f6 d8 3a dc c7 b d7 43 23 1f 9d c5 1d 0 0 0 0 0 16 0 14 27 ad 58 90 54 31 74 c2 f 4a 2d 7c 31 16 87 7 f9 c4 70 ed 6 a2 1e 0 2 0 0 0 1 47 81 7f 8c d0 98 c9 f7 11 5 82 49 fc d b7 50 2 a2 f7 31 38 27 ec 8c c9 fb ba f4 44 49 95 cf 1 0 0 0 0 fe ff ff ff 2 d9 72 10 1f 0 0 0 0 17 a9 14 1c 28 ab 3e 56 90 84 aa 58 dd 17 e0 c4 f1 13 13 cd 7 42 7 87 78 34 10 0 0 0 0 0 17 a9 14 54 40 32 a8 38 81 bd e4 4f 9e a0 f2 f2 45 c 84 23 f9 91 eb 87 56 a2 1e 0 2 0 0 0 1 64 d2 c2 6f dd 63 6c 5c e9 18 47 9b b0 ed 6b 9f cd 1a 4 53 96 83 d7 2c 7e 2c 8b 5f c5 87 d7 39 0 0 0 0 17 16 0 14 bf 89 e 9d 58 8 e0 ea 4b 47 96 a6 e8 16 71 6f ed 15 eb 6b fe ff ff ff 2 d3 43 0 1f 0 0 0 0 16 0 14 67 5b 45 f9 79 86 f0 97 d8 95 22 72 8c 8a 84 2d 2e 91 21 58 cf ed f 0 0 0 0 0 16 0 14 f 61 31 8d 2d cb 2b 59 e0 91 55 36 9b 5e 4d 3e ed a2 6a 99 56 a2 1e 0 2 0 0 0 1 1b f5 8e 29 cd 5e 2e a d 37 da 89 e8 d8 14 5d 2f e7 7a f3 96 58 ad 45 b 35 20 bf 3e b9 bf 69 0 0 0 0 0 fe ff ff ff 2 de 64 f 0 0 0 0 0 16 0 14 1e e0 9b e6 49 4f 15 e4 41 2c 5d 84 6b 93 a7 3f bc ce 7b bb e3 a6 f0 1e 0 0 0 0 16 0 14 19 b ff fb ea a2 9d 20 f1 ad be bc a1 60 c9 bf 36 43 3b 49 2 a2 1e 0 2 0 0 0 1 c8 ce 2d 4e 6a 4c 5d f4 75 6e f4 7a 84 45 39 86 44 76 52 a4 e5 4a d1 2a 97 9c da 9e aa d6 30 68 1 0 0 0 0 fe ff ff ff 2 c6 5d 1b 0 0 0 0 0 17 a9 14 f4 fb 7e 66 3a 78 5c bd 1 bd 33 a5 93 41 89 0 a 92 2e 6c 87 8f a5 89 7c 1 0 0 0 17 a9 14 94 cd 23 3e e 1e 71 73 5b 34 81 68 ee 9e 2f 1b 96 24 ab f3 87 56 a2 1e 0 2 0 0 0 1 50 c 37 e 81 ee 79 d9 fb 44 60 bd c5 1e 84 97 8f 95 99 93 f4 26 73 0 a2 b1 ee 30 46 83 c7 11 1 0 0 0 17 16 0 14 3b 57 57 71 5d 6e cd 88 88 15 5b 84 e1 63 bb 4f 2f a4 38 5f fe ff ff ff 2 82 ba 25 0 0 0 0 0 16 0 14 ba 5e 11 10 14 e2 b9 3b 23 93 e 78 6b 1f de 85 22 0 5d 3a d6 a9 63 7c 1 0 0 0 16 0 14 5f 6d 6a 47 5b 5f fa c2 e4 ab fb 2e 42 62 b9 73 52 6c 19 4b 56 a2 1e 0 2 0 0 0 1 f 24 b7 bb bd fa fc ae d6 3a 87 ff 24 69 3 57 ad b0 eb 65 b8 23 a2 97 6f 25 48 a2 cb 75 44 9c 1 0 0 0 0 fe ff ff ff 2 10 8c 51 7c 1 0 0 0 16 0 14 d0 f1 ac c5 1a 62 f0 38 d6 1c 98 5d e1 6e ab c 55 35 bf 7a b4 e5 11 0 0 0 0 0 16 0 14 51 17 f1 9a 9b b b5 55 b4 56 63 3b f5 91 7f 87 57 5a 62 e5 56 a2 1e 0 2 0 0 0 1 2e 36 6d a8 c 8c b9 38 3d 45 5a 64 b0 4a 2a 43 52 4 a2 da 60 72 c5 73 ed 9 1 63 a8 3b 7d 41 1 0 0 0 17 16 0 14 d0 db 14 ad c 3d 5e 25 84 1 5a ce 1e 49 92 ad cb c0 12 9d fe ff ff ff 2 88 49 17 0 0 0 0 0 16 0 14 4a b5 ac 70 21 ce 51 f3 1 4c 2d f4 cf 3a 28 9 f7 fc 92 99 5f 98 8b f6 0 0 0 0 16 0 14 e8 6c 3e 3a 39 f cc aa 7 d6 a4 da db 97 8e 44 b4 f9 c7 50 56 a2 1e 0 2 0 0 0 1 4c c db 6 61 4e b4 ce 12 af 6d b9 d b6 8c 7f 42 63 b7 f9 16 70 fd 84 17 69 62 9f 29 3a 5e f9 0 0 0 0 17 16 0 14 65 77 25 ce ad 6c 53 c9 d3 3e c5 1d 55 c2 20 85 f1 d4 ed 2b fe ff ff ff 2 40 48 39 5e 1 0 0 0 16 0 14 e 6d 32 42 4c a8 96 27 0 cb bb 56 ad 62 61 91 a d6 f2 48 7f 4e 19 0 0 0 0 0 16 0 14 30 59 27 9f d1 c4 9f d1 52 c2 78 b2 55 33 f7 81 36 fb 63 de 56 a2 1e 0 1 0 0 0 1 3b b0 d 49 75 cc e 13 4f 9f 3 55 d0 ad 7c b7 ae eb f3 a3 65 ae 20 e9 d2 f2 da 1f 2 0 fc 8c 3 0 0 0 6a 47 30 44 2 20 35 f cc 4a 8 1 61 71 5e a0 12 5d 56 38 b8 ad 45 c9 13 48 d1 d3 32 c5 59 4b 36 ff 5 36 fd 14 2 20 36 7 f9 2c 72 88 df 9e 87 36 73 ce 7e 6f 41 96 46 21 af 10 6a 67 ca 2 5f 3c f9 53 3d 39 34 ef 1 21 3 74 35 c1 94 e9 b0 1b 3d 7f 7a 28 2 d6 68 4a 3a f6 8d 5 bb f4 ec 8f 17 2 19 80 d7 77 69 1f 1d fd ff ff ff 4 0 0 0 0 0 0 0 0 53 6a 4c 50 58 36 5b fe db 6 5a 21 8e be c3 be 41 73 53 42 6a 90 78 bf e8 fd 72 f2 9 d5 d1 29 ff 4d 1b aa f7 96 c4 f2 14 de 6f ec 5f b1 fb e3 1 98 a3 66 7e c9 86 57 47 c cd e6 e1 30 ea 5d e a4 85 41 ec d4 f3 0 1e a2 56 0 e 0 1e 9d 28 0 18 3 10 27 0 0 0 0 0 0 19 76 a9 14 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 88 ac 10 27 0 0 0 0 0 0 19 76 a9 14 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 88 ac 1 7 d1 2a 0 0 0 0 19 76 a9 14 ba 27 f9 9e 0 7c 7f 60 5a 83 5 e3 18 c1 ab de 3c d2 20 ac 88 ac 0 0 0 0 2 0 0 0 1 69 3a 3c 42 a3 c8 1 17 56 7 fc 18 32 93 4e ed 6f 14 87 aa 4c a5 d4 9 98 a9 1c 43 7b 60 2e 4f 2 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 ac a6 16 b3 19 f5 14 e2 ef 3e a9 a4 93 ee 69 29 b8 5c 62 f7 e9 22 2 cc 11 c9 be 79 17 da 39 a1 e8 82 f 0 0 0 0 0 16 0 14 82 75 b6 56 b8 29 c8 e3 e6 f6 2d 29 56 5b fb 11 7b a4 92 8a 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 2 0 0 0 1 e5 23 71 c1 22 93 cd 99 d4 de f1 42 7f 87 f5 84 db 54 c6 ac ee c2 85 b0 a2 c bb c1 6d 7c 84 17 0 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 ba 0 3d 30 ff 7a 47 2f 12 66 9e 84 5f 7a 34 f0 a7 e3 59 19 be d9 65 19 75 6e a2 e0 39 89 f3 49 b 3d f 0 0 0 0 0 16 0 14 b 3a ba 8c 14 a5 45 67 cb 39 e 37 7e e2 ef 36 96 e0 b4 ad 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 2 0 0 0 2 34 de 6e fe 95 52 9d ef d8 49 f2 1 95 eb e9 3d e5 93 34 29 11 f4 ab e9 b6 30 9e cc d9 b4 18 58 1 0 0 0 0 fe ff ff ff 87 dd 0 e3 a6 e6 17 fb e2 64 5f 13 65 69 d9 39 69 5e 9 6 48 37 34 34 cc 7c 50 dc 90 8f 97 1d 0 0 0 0 0 fe ff ff ff 3 d3 97 f 0 0 0 0 0 16 0 14 f3 31 f4 e5 8b 7d 2c e4 7f 72 3f e4 9b 70 74 ef 10 28 87 a9 0 0 0 0 0 0 0 0 22 6a 20 b1 72 88 19 3f 7b af 8d 3 e5 99 df f8 2a b7 bf d8 c3 83 e7 3f 3e b8 6c 86 bd 77 f8 21 be cf 2b 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 2 0 0 0 1 b2 8d 5a ae 3c f4 3e e6 36 c6 7b 60 d6 a 61 2f 30 62 dc 90 8b ba ef 6b 54 55 e8 e6 fe c2 57 2b 2 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 c3 35 3b 74 a6 a2 c2 e8 e6 41 51 9a 8d 78 e8 87 e 2b 7c fd 76 36 c2 16 db 29 fa 7a 45 30 5c d6 9b 5c f 0 0 0 0 0 16 0 14 f0 8c 6b e0 8c 9 1f 69 4d 7e df a7 62 a8 c1 e7 2a a3 5c 11 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 2 0 0 0 2 4e 6 5d 0 98 9b a7 fd 87 de 92 a3 c9 40 23 43 51 43 69 81 1f 4b 0 ee 88 e5 d2 db 94 53 c0 a 1 0 0 0 0 fe ff ff ff f9 73 c6 af 6e 12 c6 33 99 1d 63 36 9 34 19 2d ab b3 7c 11 7e 4a 6 8b 30 a3 e5 0 a8 29 3b eb 0 0 0 0 0 fe ff ff ff 3 6 99 f 0 0 0 0 0 16 0 14 40 3a 69 96 cd 99 ba b1 ba c2 d6 37 4e af 3a 1 e2 13 fc e 0 0 0 0 0 0 0 0 22 6a 20 d6 37 f7 1c 19 30 6 8c d0 9 58 b8 f0 ae 58 a4 58 a7 15 a2 53 77 ee 6d 30 40 74 da 27 4f 15 d8 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 2 0 0 0 1 1c cf a4 a7 21 a1 da 5d c5 a0 e6 8b 4b c2 c0 81 b7 8 c6 ad 95 68 66 1f d0 be a9 c9 94 12 56 6a 1 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 a2 f3 57 b6 fe d7 62 b ad 33 3d 28 ee b cc 8c 18 15 60 32 50 14 27 e8 9e a3 f 5b d6 f2 cd 26 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 f6 7b f 0 0 0 0 0 16 0 14 8c 3 8a 3e fb 7e 4 d5 d2 59 cc ab 9e 5b dd 1c c4 ad 1d a9 0 0 0 0 2 0 0 0 1 1b ec a8 40 f0 4d 49 2c f3 5f 46 77 54 23 93 f 25 2e 3b 3 40 df 1e 88 19 f2 7 97 c8 a1 d4 c7 0 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 81 3d 7b 2a a1 a1 93 3 a9 b2 ce 7a ac 8c b4 be 3a 88 73 69 7d 8c e4 8 6e 33 f 14 95 59 1c 5f f1 3d f 0 0 0 0 0 16 0 14 44 8e 22 a8 40 43 45 25 73 f2 3f e4 92 e a2 d0 ae d 93 e 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 2 0 0 0 1 af 5c 60 93 16 59 db 16 85 92 87 a8 6d 74 2d c7 45 af fc a1 7 c4 7c 7e e5 f9 98 25 60 da a7 72 0 0 0 0 0 ff ff ff ff 2 b3 1 0 0 0 0 0 0 16 0 14 a5 b4 6 33 e0 5e 2e dd e8 38 4b fc e4 0 ad e0 c8 d8 c2 f9 5 0 0 0 0 0 0 0 16 0 14 3f 17 a0 ef 9 f4 88 9e 58 24 dd 4b 37 dd 9c c5 b5 0 89 ea 0 0 0 0 2 0 0 0 1 7f 4d 85 df 4c c8 74 3 f f3 77 ee 14 2f 62 2e c5 40 45 83 ca f0 15 da 2c 6c 76 dd 42 62 82 45 1 0 0 0 6a 47 30 44 2 20 33 90 23 c1 3f 41 71 69 44 33 4e ef 65 e6 22 d2 17 a4 d3 d 19 d8 88 b8 e8 c1 4 60 6f 8b 95 b4 2 20 39 c2 68 85 5 f3 20 3e 31 4c f7 c7 16 e2 5e d6 1a be 6c 11 a4 9f 9b e f3 5c a1 da ba 93 0 a6 1 21 3 7e d5 8c 91 47 20 77 2c 59 f7 a1 e7 e7 6f ba e f9 5d 7c 56 67 11 97 98 58 63 1 51 9b 9a d2 cf ff ff ff ff 2 0 0 0 0 0 0 0 0 36 6a 34 69 6f 6e 3a 32 2e 51 6d 63 71 42 57 37 48 52 58 5a 4e 52 58 48 44 33 69 53 66 4c 38 50 68 73 6f 37 77 51 66 6d 31 65 77 54 45 70 74 36 41 68 4c 34 31 58 48 f5 be 3a 8 0 0 0 0 19 76 a9 14 76 28 4 6f 6e c4 79 c0 31 d0 3a 47 b6 a0 3 c4 de db 1c ad 88 ac 0 0 0 0 2 0 0 0 1 39 69 49 e e 5c dc 36 d 72 13 62 65 a 47 6f ab 5f 54 ba 12 ed f0 7d 2d 95 e2 f8 bd f1 b5 39 1 0 0 0 6a 47 30 44 2 20 4e b1 44 1c ac dd 19 c4 ca c3 d6 4c 68 8c de 2a 3a 5e 7f e8 6d b2 f 23 25 c3 4d a9 8b 7d 35 e9 2 20 57 5e b1 86 6 96 85 ec 5a 55 fe 55 73 c9 85 a7 81 c3 52 ad 5 f4 23 8d f 5a c0 66 78 d7 80 1f 1 21 3 7e 2c 9a c5 3c 25 da cf 3b 42 a6 a3 a6 11 6 2a dc 49 1c 54 a7 16 86 1b f4 cd fd d 7 7e ea f4 ff ff ff ff 2 0 0 0 0 0 0 0 0 36 6a 34 69 6f 6e 3a 32 2e 51 6d 5a 78 6d 32 76 59 38 63 55 43 68 7a 37 45 51 79 67 78 79 37 6d 55 70 53 43 52 39 77 35 50 4c 56 36 79 62 6f 57 33 42 32 4a 45 6b 79 65 b0 f8 1 0 0 0 0 19 76 a9 14 39 5e b6 41 55 35 1b 47 da d5 1b c8 da 36 75 b1 23 1b 18 d4 88 ac 0 0 0 0 2 0 0 0 1 3d a3 fd ec ef bf 99 8c 6a d7 fa e 93 c7 2c 76 8c e1 34 32 c6 f9 72 4d 84 f1 5 fa d8 7f 8a c9 1 0 0 0 6b 48 30 45 2 21 0 bc 3a 9b 8d 2e f1 24 5c 29 5f b6 6 3d ec 70 8d be 55 c4 aa 7e 4e 8a 8b fc 4e 88 da ad 91 86 5d 2 20 3c fd 68 a5 42 84 df 92 46 25 b0 26 e4 af b3 46 6c fe cd 81 5c e9 d5 4d f5 b3 d9 aa 90 94 ea af 1 21 3 7e d5 8c 91 47 20 77 2c 59 f7 a1 e7 e7 6f ba e f9 5d 7c 56 67 11 97 98 58 63 1 51 9b 9a d2 cf ff ff ff ff 2 0 0 0 0 0 0 0 0 36 6a 34 69 6f 6e 3a 32 2e 51 6d 4e 73 32 62 58 32 68 32 65 48 38 54 4c 6a 56 4c 64 57 42 78 71 67 6d 57 4b 58 79 35 63 44 34 75 47 78 58 4c 41 77 71 38 6f 71 6b 37 45 bb 3a 8 0 0 0 0 19 76 a9 14 76 28 4 6f 6e c4 79 c0 31 d0 3a 47 b6 a0 3 c4 de db 1c ad 88 ac 0 0 0 0 2 0 0 0 1 89 56 3b ab c8 34 c0 91 9d a1 51 8b ce b3 1e e5 ae 39 c3 58 7f 32 ae 59 89 bd e2 c4 95 92 46 97 1 0 0 0 17 16 0 14 2e 25 f9 fa d f6 ef 91 c5 c2 d7 55 a5 6a 10 d8 4c ca 54 f8 ff ff ff ff 1 24 b8 0 0 0 0 0 0 17 a9 14 a9 d6 e0 e8 ae 28 28 e8 9a 10 91 5e c7 6d df 3a 7d 4c 7d f7 87 0 0 0 0 2 0 0 0 1 c2 60 25 4e ff 1 be 7e d1 ba 8a 1d 43 ed 6d eb 28 46 88 81 c5 fd b 8 73 60 e4 de 4d 85 e9 70 1 0 0 0 17 16 0 14 16 3d 2f be a2 ce 20 65 ee e9 9c 5b 22 29 d9 75 b e0 87 65 ff ff ff ff 2 97 d 0 0 0 0 0 0 16 0 14 5 77 46 86 9b fd 47 c7 e7 db ad 19 a2 16 40 c1 ff 65 ba 43 25 85 11 0 0 0 0 0 17 a9 14 f5 69 21 28 96 47 fc 15 ac 29 c5 8 d0 47 20 a5 6e 39 97 15 87 0 0 0 0 2 0 0 0 1 88 20 db a3 99 85 87 90 22 7d 8e b9 b3 96 bd 55 bb c5 90 37 89 d0 5d 9c 3 11 5e 2b 38 13 3d c6 1 0 0 0 17 16 0 14 74 52 77 18 41 5f b4 15 9b f 36 44 b 2c e6 eb b1 fb 6b 6c ff ff ff ff 2 9e d 0 0 0 0 0 0 16 0 14 83 d7 56 c7 74 6d 60 c3 cc b7 5d cf 12 9e 5e 31 f8 1d d4 a6 6c 84 1c 0 0 0 0 0 17 a9 14 6c 43 60 cc e8 8b 56 39 e6 1e 4a 5d 3a 78 b9 f3 4f 0 1c b9 87 0 0 0 0 1 0 0 0 1 c9 97 bf 5 ac 15 bd d4 ad bd 31 45 19 aa 74 2c 74 f5 c3 6d 5e 20 3c 1e 42 d6 f4 8e e7 3c cf ff 0 0 0 0 fc 0 47 30 44 2 20 43 60 90 f9 25 93 43 61 5e 14 bd f6 18 75 d4 59 9e 18 e8 da 46 89 4c e0 65 5 43 18 db 1f 90 22 2 20 7b 90 a7 e0 f7 aa 23 b3 68 3f 8a 8f 1 63 14 6 56 40 b5 4b 37 d2 24 a4 d7 51 e a0 5d 81 dd de 1 47 30 44 2 20 7d ab 1f f 49 cc 9a 46 73 80 72 c4 2c 7e f1 43 d5 c6 74 81 bb b6 82 5f 4b 36 da 8d d0 b9 3b 58 2 20 73 6 ec 66 9e 60 15 d6 94 1b b8 e5 95 1e de df f5 fe 7a a3 b6 3c ff e 81 54 da 4e 9e a1 bb e4 1 4c 69 52 21 3 79 9d 94 2a ef 13 81 fa 67 14 f6 28 8c e9 58 4d ae 80 6f 88 76 dd a1 5b f6 8f 5e 8f 92 85 c9 85 21 2 69 17 db 6c 55 9b 3d 87 de f5 64 7d d0 1d d4 47 63 69 5b 3b b9 74 f e8 f8 f4 cf 79 13 7d 48 31 21 2 64 f7 1 8f ea 6 77 a1 97 12 4a 58 63 de 69 f 40 20 4c f3 1d 98 80 8e 18 3f 60 f2 10 5f ec 8f 53 ae ff ff ff ff 2 68 1e 0 0 0 0 0 0 17 a9 14 24 dd f f8 5c 23 b8 b3 f5 50 50 db d4 28 82 80 b6 10 70 8b 87 a8 39 0 0 0 0 0 0 17 a9 14 c2 e ee 7f c 18 82 e2 7d 70 99 34 45 29 93 35 8c 25 df d0 87 56 a2 1e 0 1 0 0 0 2 d4 f3 f1 64 f0 88 d4 d7 8b ba 4f ef 40 e4 11 fa fa 77 85 87 12 e0 c dd d0 92 c3 e7 5c 16 e9 21 0 0 0 0 23 22 0 20 f7 b6 36 25 3e b0 11 70 28 36 6 a8 e7 7f f3 f4 67 10 34 38 29 33 20 1f 44 6f 68 56 84 1b 7b 72 ff ff ff ff 21 36 d0 93 52 a 51 e9 17 92 e8 30 3 be 44 ba ab 17 b8 31 6c c2 8e 9d ea b d1 93 9 59 83 4a 0 0 0 0 23 22 0 20 29 59 3e 31 68 ce bb 68 63 5f 76 f5 8f 17 23 f3 a1 b0 86 60 d4 f 26 b 0 a5 83 8 24 c1 4f 41 ff ff ff ff 2 20 9d 2d 0 0 0 0 0 17 a9 14 eb 17 99 17 d5 da 6b c5 17 cf 3f 84 e1 df c8 d8 47 61 84 79 87 c0 c6 2d 0 0 0 0 0 17 a9 14 d5 40 3a e5 77 e2 55 14 e6 1d ad ff 18 4c de a3 97 47 cb a7 87 56 a2 1e 0 1 0 0 0 1 ad 3a 48 9c 2d 8a 2c 2b 33 45 c1 43 76 9c 63 d c7 ec fc c1 49 6e 4b 36 b1 fa f3 c6 80 99 84 e 1 0 0 0 23 22 0 20 8b 3f 71 bf 2d 60 de c1 26 48 4b 2d d3 79 7c 8a 6e 69 b2 da af 99 28 7 59 3 6c 51 8d 7b 8 6 ff ff ff ff 2 f3 d2 0 0 0 0 0 0 16 0 14 1 25 f6 5a 16 14 e6 6f f8 93 20 61 f5 35 3 74 1c a4 a9 f5 92 a8 19 0 0 0 0 0 17 a9 14 e4 b 42 db 2e 31 b4 c9 1e ee cf dc 46 24 ee e3 75 55 ee 76 87 56 a2 1e 0 1 0 0 0 1 d4 d5 f8 af 5f e2 74 90 49 2c d5 c7 d5 cc 72 a5 cb d 9f 8f b0 4e 8d 36 6d c9 7b ff c6 f2 ba 1d 1 0 0 0 23 22 0 20 99 4f d7 9a e0 61 1e 74 52 5c d2 72 b0 5c fc d5 dd 9f 21 ea a e9 94 a5 b5 c3 60 71 a4 27 69 19 ff ff ff ff 2 3e 6e 0 0 0 0 0 0 17 a9 14 f7 73 29 25 d4 d8 80 41 bb 71 1e 9a 1f d2 28 ab 49 b4 a9 75 87 3a 38 19 0 0 0 0 0 17 a9 14 b7 94 cc 2e a 62 91 a3 6e dc 61 9e 1a a 22 db 53 2c e 1a 87 56 a2 1e 0 1 0 0 0 1 7a 3c 0 9c 47 ec 5a fd 98 ed c0 c8 82 65 8 7c 68 6 6c 17 a6 9 62 91 8b 21 2 b6 5f 91 7d f 1 0 0 0 23 22 0 20 17 e5 8d 2a d5 29 91 ea c8 68 52 c2 67 ce 88 9d 0 fb e5 40 d7 2d c8 1c b2 ba c5 75 92 2a b8 75 ff ff ff ff 2 66 40 0 0 0 0 0 0 19 76 a9 14 8 24 eb 1c 85 16 ed 7d e3 32 4b 76 5c 5 bf 29 29 ed bc 6f 88 ac b5 f5 18 0 0 0 0 0 17 a9 14 51 f3 d8 47 fa aa 24 3f 32 35 81 a5 ba 39 88 56 7d 4d a3 a5 87 56 a2 1e 0 1 0 0 0 1 d 20 aa b5 e3 29 3 a7 e9 bb 2a c3 60 78 6a c1 fe 5b 7 9a 6a 38 18 b6 5c 99 a9 28 f0 5 47 c7 1 0 0 0 23 22 0 20 7 ce fd e3 53 3d 4b 5d dd 7 c7 12 69 ab 32 70 99 15 4 a0 44 40 dc a1 1e cb 5a b8 89 16 6f 6 ff ff ff ff 2 b4 32 0 0 0 0 0 0 16 0 14 1 25 f6 5a 16 14 e6 6f f8 93 20 61 f5 35 3 74 1c a4 a9 f5 c8 3 77 1 0 0 0 0 17 a9 14 60 bd ff 82 3f 78 8b 88 de eb 5b dd 21 9a ee 36 95 c5 db 7e 87 56 a2 1e 0 1 0 0 0 1 e6 c7 52 3f 14 c 51 4 bd 7f ac 77 56 b4 d0 e 85 89 2a 80 2 dd 72 6a 85 f0 89 41 9 eb d0 bc 1 0 0 0 23 22 0 20 e3 eb 5b 2d 24 32 c2 14 35 72 5f a2 c1 72 8d 35 69 9b 1a 42 9d b7 10 e5 a0 45 9a d1 13 e3 ed 14 ff ff ff ff 2 9b 32 0 0 0 0 0 0 16 0 14 1 25 f6 5a 16 14 e6 6f f8 93 20 61 f5 35 3 74 1c a4 a9 f5 16 cf 76 1 0 0 0 0 17 a9 14 74 12 8e c9 38 c 8b cc d3 af 7f 62 51 4f 37 a1 c5 64 19 e0 87 56 a2 1e 0 1 0 0 0 1 9 17 62 87 2b 1a b2 fc 3a ce cf 4b 40 21 cd 7a f3 a5 36 0 5c 58 4 17 43 30 ae 11 e8 49 e3 a0 0 0 0 0 0 ff ff ff ff 1 bc 2 0 0 0 0 0 0 16 0 14 3b e a5 1b 25 fb bc c3 4e b3 8d 3 56 b1 1 d1 8 e5 d8 1b 0 0 0 0 2 0 0 0 1 20 f6 3b bc 5b d0 dc c5 e3 97 84 f9 88 f7 60 52 4d 9d de 6a 62 1e bd 34 15 ce 4 35 82 b0 b1 fa 1 0 0 0 17 16 0 14 89 6a b0 92 28 83 9a fa ce fa 3a 99 71 4a aa 8 e6 c1 8c 49 ff ff ff ff 1 e0 b7 0 0 0 0 0 0 17 a9 14 a9 d6 e0 e8 ae 28 28 e8 9a 10 91 5e c7 6d df 3a 7d 4c 7d f7 87 0 0 0 0 2 0 0 0 1 bf c5 9e 4b 43 1a 5f d9 a3 98 7f 5 8 c6 3d 10 aa c6 82 4 3 7d 29 ad fc 46 6b f2 d4 c6 5e bb 1 0 0 0 0 fe ff ff ff 2 b3 77 0 0 0 0 0 0 16 0 14 8 e3 e5 6a 8e 39 b9 a0 49 77 86 1e 7e 3c af 2d 22 a5 a0 69 aa dc 32 0 0 0 0 0 16 0 14 c9 c5 fa c7 48 9d fa c2 fe 87 81 9b 11 6a 79 e1 43 1e 3f 87 0 0 0 0 2 0 0 0 1 b7 b1 6a d7 c0 41 64 29 e3 ae 8f 2c d2 a7 ff 9c e 6e d1 bd 92 ee 9 5 f 84 91 a8 8a 2d 84 3 1 0 0 0 0 fe ff ff ff 2 19 64 32 0 0 0 0 0 16 0 14 30 ba 34 3d 92 5f 13 35 74 95 7 a4 13 2f 3f 63 3a f7 4d 74 b3 77 0 0 0 0 0 0 16 0 14 18 40 e9 d5 d 1f f1 f4 61 ce a ff 9 c1 b9 f d2 d4 f9 81 0 0 0 0 2 0 0 0 1 a2 7e 26 c4 14 2b 9d 58 2b 9a ae 4 30 f9 c2 f2 75 70 79 fa ee c7 6a 70 ce cb cd 20 a8 56 d8 9e 1 0 0 0 0 fd ff ff ff 2 10 27 0 0 0 0 0 0 16 0 14 9b 78 38 4e 38 82 1c bb bc 7f af 46 ea c1 12 b0 c5 c2 1b 30 2c 65 0 0 0 0 0 0 16 0 14 6c 72 56 6b 44 6c 22 a1 a8 88 ec 46 4c a5 83 f8 bf 82 1a 64 56 a2 1e 0 1 0 0 0 1 e7 f4 e5 f5 c3 5 97 3c cb 1b cd d7 3d 99 a5 f4 ed b4 76 9b a7 f8 9f 4d 65 ee 51 b3 c6 a6 fe ac 0 0 0 0 0 ff ff ff ff 2 32 23 13 0 0 0 0 0 16 0 14 7e 65 d4 59 ef fd 58 7b 3c 2f b 1c 42 45 d 65 cc 2f c2 e4 0 0 0 0 0 0 0 0 53 6a 4c 50 0 19 db ec 0 2 71 f2 31 d 3 9 15 35 ea 87 89 d1 ef f9 af ff db 9c ce e 7e bd 78 64 10 56 24 80 42 cc 83 2a 50 76 a3 bc d 7f aa 4d f8 bf 2d bc 18 e3 60 e4 8a af 4 b de 24 0 8 96 31 c8 27 de 93 5 ad 5b c9 21 2a 4c e7 6 ae bc 74 0 0 0 0 1 0 0 0 1 4d 20 6c 58 2b e7 b8 9 af 2b a5 2e 3b 5f 5e 30 df 63 4f f8 6 a2 b3 c0 cb ca 2c 2b f5 10 3c dd 1 0 0 0 0 ff ff ff ff 2 49 5a 7 0 0 0 0 0 16 0 14 80 4a c4 54 d2 e9 d9 de d2 96 1a dd e 7f b3 74 53 15 a3 d8 0 0 0 0 0 0 0 0 53 6a 4c 50 0 19 db d8 0 2 96 f0 9e f1 66 23 87 a4 7a e5 f6 ad bd 78 64 10 56 24 80 42 cc b2 43 c7 c8 5f 6b 87 80 41 5c b1 63 38 85 5a 9 46 94 a1 62 57 c c2 b0 8d 60 e4 88 99 4 b 67 11 0 7 8c 50 d4 27 de 93 5 ad 5b c9 21 2a 4c e7 6 ae bc 74 0 0 0 0 1 0 0 0 1 ed 5d 8e 19 26 16 78 e9 5c 3d 41 9b 3f b1 66 5a db 12 8b 85 ae d7 f4 aa 6d 95 8e 58 72 12 fe b7 1 0 0 0 0 ff ff ff ff 2 7a d3 1d 0 0 0 0 0 16 0 14 80 4a c4 54 d2 e9 d9 de d2 96 1a dd e 7f b3 74 53 15 a3 d8 0 0 0 0 0 0 0 0 53 6a 4c 50 0 19 db ec 0 2 71 f2 31 d 3 9 15 35 ea 87 89 d1 ef f9 af ff db 9c ce e 7e bd 78 64 10 56 24 80 42 cc 83 2a 50 76 a3 bc d 7f aa 4d f8 bf 2d bc 18 e3 60 e4 8a af 4 b de 24 0 8 96 31 c8 27 de 93 5 ad 5b c9 21 2a 4c e7 6 ae bc 74 0 0 0 0 1 0 0 0 1 e3 dd 96 e5 f9 c3 a2 26 ef 40 9f 19 8c ba 8f f5 6c 2c 37 a3 aa 62 11 b e1 ff e9 3d 74 1 d8 2c 0 0 0 0 0 ff ff ff ff 2 0 0 0 0 0 0 0 0 53 6a 4c 50 0 19 db d8 0 2 96 f0 9e f1 66 23 87 a4 7a e5 f6 ad bd 78 64 10 56 24 80 42 cc b2 43 c7 c8 5f 6b 87 80 41 5c b1 63 38 85 5a 9 46 94 a1 62 57 c c2 b0 8d 60 e4 88 99 4 b 67 11 0 7 8c 50 d4 27 de 93 5 ad 5b c9 21 2a 4c e7 6 ae bc 74 4c 24 13 0 0 0 0 0 16 0 14 7e 65 d4 59 ef fd 58 7b 3c 2f b 1c 42 45 d 65 cc 2f c2 e4 0 0 0 0 2 0 0 0 3 df 2f 63 3e b2 d7 df f2 fe a5 e3 f7 fb cf e8 8f 95 3d 1e f9 1e a4 43 86 dd eb 43 7d 8b f5 98 26 0 0 0 0 0 fd ff ff ff 44 11 4f a6 89 30 17 dd b9 cc 81 e0 ac 57 7d 4 93 5e 47 a3 b3 d6 c3 cf 45 33 e9 9e ff bb 16 d9 0 0 0 0 0 fd ff ff ff 72 f3 49 c4 d6 31 f8 2a 94 e6 20 80 96 fd 6b 6c d1 bf be f6 44 b0 ba 1e 2 84 18 df 43 9d 2b e8 1 0 0 0 0 fd ff ff ff 2 90 d0 3 0 0 0 0 0 16 0 14 f5 b 9a a 49 a1 8f cc 2d 87 6d f3 27 3d 4a 3c 32 2a 52 66 50 e9 1b 0 0 0 0 0 16 0 14 8a b0 1b f7 7e 10 ab 8b 3c de 9 6f b3 e7 ca 70 d8 a5 8a 30 f7 a1 1e 0 1 0 0 0 1 78 7c 8d ba 89 62 e5 b7 1c d 2e 2c 17 a9 e6 15 4c 8d 50 62 eb 51 82 56 cc 5b 6e 5d f1 a2 7b ff 0 0 0 0 17 16 0 14 b8 5b 5a 85 d9 9d 9b 92 bb c6 42 6c bf 95 a 23 42 c 98 43 ff ff ff ff 2 be 58 8b 9 0 0 0 0 17 a9 14 20 10 ba 26 78 2c 89 dd a3 90 73 1 db e3 fe 56 a7 c2 c4 50 87 19 a6 0 0 0 0 0 0 17 a9 14 27 ea 20 1b c3 84 d5 66 60 40 9f 5 97 cc dd d1 56 53 89 e8 87 0 0 0 0 1 0 0 0 3 c4 6f 12 39 b9 ae f2 df 94 22 d2 f3 5 fe 6e 46 7 f2 4c 36 4 4d b2 c1 e7 dc 7d 46 43 17 7d 1b 1 0 0 0 6a 47 30 44 2 20 1e 7a a7 a4 14 d1 3c ed cd c4 b3 fa 7d 93 b 26 b1 42 9 fb fc 4a 30 b5 9c 14 bf f5 74 6 dc c9 2 20 3b a0 e2 98 c8 bc f d7 2c 33 f0 61 f7 bf af 95 8b 5f 2f 17 b a0 6c 40 36 ad ed 1c ef 9c 1f 80 1 21 2 d5 cc ca e2 61 ca 6e 19 77 e9 89 15 49 40 e9 60 f1 b7 dd 1c b9 1a 24 62 ed a1 b3 85 b5 ac 89 5 ff ff ff ff 29 93 be ac 5c 47 16 6e 6b 8d ca 8e e2 fa 33 ef e6 8 cf 9 aa 81 84 4e 95 a8 64 1 ec 2e 79 23 0 0 0 0 6a 47 30 44 2 20 48 71 e5 c0 87 98 82 6d 5a f4 9a 39 77 17 a1 89 3 3c 12 db 99 46 3b c8 21 b 90 a6 5f e9 55 a5 2 20 2d 3c 79 b5 83 9c ac 64 98 a0 b0 27 ef 26 85 7 27 f6 ee 81 5e df c0 d4 e9 f b9 39 69 ba e4 51 1 21 2 d5 cc ca e2 61 ca 6e 19 77 e9 89 15 49 40 e9 60 f1 b7 dd 1c b9 1a 24 62 ed a1 b3 85 b5 ac 89 5 ff ff ff ff 4 ce 4b f6 84 23 44 55 67 f1 7f bd a5 1c 23 d d4 7c de d4 6d e4 f3 75 44 54 23 c6 c6 79 9b d9 0 0 0 0 6b 48 30 45 2 21 0 99 ea c3 2f 1d 47 6a 8e 34 25 63 42 1a 7 fe f4 af d4 b6 6f 79 9e b0 cc c6 90 a2 5e bd b1 af 82 2 20 3e d3 a9 13 ef ed b 2e a0 f8 a8 9b 4 e7 3e 6a 8d c2 6f 48 d1 db 8d 98 96 bf 15 df 1b 2b 96 50 1 21 2 d5 cc ca e2 61 ca 6e 19 77 e9 89 15 49 40 e9 60 f1 b7 dd 1c b9 1a 24 62 ed a1 b3 85 b5 ac 89 5 ff ff ff ff 2 50 f4 0 0 0 0 0 0 19 76 a9 14 48 ec 3e 1a 87 9d d9 ea eb bf d4 cd 29 71 6d 44 27 da 58 7a 88 ac b 38 30 0 0 0 0 0 19 76 a9 14 d8 d6 2f a0 c9 d2 4a 70 55 c0 75 df 82 9d 75 52 65 20 76 4a 88 ac 0 0 0 0 2 0 0 0 1 1a 21 23 ef 16 b4 5 6e bf 50 7 fa 4 a8 53 c3 1f 60 b1 e0 80 36 73 8b 8b 12 e0 86 4a 60 27 3a 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 a d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 db 61 f5 6 61 eb ae e5 31 73 e9 a3 4a 9 df 83 39 d9 6b df 70 51 f6 a7 9a 62 d0 12 1c e4 44 b5 0 0 0 0 17 16 0 14 a1 be f7 48 ce 3 33 32 50 19 30 5d a1 c b5 7 a7 11 86 76 ff ff ff ff 2 f 32 5 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 44 4 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 4d e6 6d 70 56 0 69 6b 2e fc 8f 36 d5 50 2d b 4b e8 f7 dd 21 b7 e6 c8 5 5e 81 2 a9 48 f1 7b 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 1c d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 ff bd 7b 9d 9e 8 9f f8 7c 2a eb ea 5c 2d 1b 17 90 ad df 15 5f d1 c2 d1 da df d8 d1 ec ee de a8 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 2e d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 cc 3b ea 2a ac cb 9b c2 5e 17 1c 9 e8 27 77 e0 f5 f2 3c b8 c6 d5 c0 24 44 fe f0 92 b4 e0 2b 65 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 1d d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 29 20 d0 2e 38 45 ec f6 d6 ef b 6 a7 76 1c 94 42 8 eb a6 34 3c 33 4f bd 2 d4 ea fa 69 ed a6 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 1e d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 2a 38 74 9d e3 57 1e 14 aa bf a5 b1 95 e9 4 16 2c 35 9e 4f 72 4 9a c7 32 68 e6 e3 3a 48 4e c9 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 d d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 5e 76 4d 37 71 65 94 3c 79 a0 8c 70 f4 ce c2 d2 ba 9d 69 c4 9c 79 1 91 e1 b2 c0 a8 0 c0 aa cb 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 1a d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 1 0 0 0 1 84 68 25 5 c9 b6 d7 8b 55 1d f2 76 59 14 27 b4 e8 c3 fb 72 d0 d8 66 c5 cc 6d 98 e6 cc 8a 1 1d 1 0 0 0 6a 47 30 44 2 20 17 5d 43 43 e3 8 13 60 51 63 66 96 1a f7 ad 36 50 6c fe 5 8 cf 9b ba 17 17 75 9c ac 4d 29 a9 2 20 67 7e c9 13 86 46 17 3 69 1 d 4b f2 15 83 19 5 ae c9 33 49 a2 d6 95 5 41 1b 22 0 64 dd 19 1 21 2 44 84 27 a 98 88 8f 52 e6 c6 35 3a c 35 b1 4 fd 82 1 35 cc 62 3 5d c1 f0 38 bd e2 56 b3 16 ff ff ff ff 2 0 0 0 0 0 0 0 0 42 6a 40 33 61 37 35 35 61 33 34 38 33 35 65 38 62 33 37 33 63 34 30 32 39 66 31 36 62 37 35 30 65 61 38 37 65 33 32 62 66 64 65 62 66 63 63 64 35 33 30 32 62 35 31 61 34 39 66 64 36 30 38 34 33 64 37 f8 f8 e 0 0 0 0 0 19 76 a9 14 37 b1 1d b d0 9a 5b 21 24 60 ff 26 5d 85 69 85 3a 4e 73 5d 88 ac 0 0 0 0 1 0 0 0 1 2c bd 48 3 a5 50 8b 75 8f 4e b2 ef 95 13 8c 4d ad 8f b8 b8 aa 50 76 4b 10 c4 8e 31 1e 81 d1 6e 0 0 0 0 0 ff ff ff ff 2 1d 5c 0 0 0 0 0 0 16 0 14 7b 90 dc 26 ef e4 a 6c 7d e8 37 a2 3c 38 23 7f 3d e0 fa 6e d4 a9 84 1 0 0 0 0 16 0 14 11 a8 82 78 fc 87 c1 69 63 27 93 22 e9 34 87 1c 3d ab a8 e3 0 0 0 0 1 0 0 0 1 f0 bb b0 3d 27 62 43 51 c2 cc ff bd bf cc 6d 98 a6 e5 d 59 bb 97 6e 9c 86 de f5 af 16 d7 1f e 0 0 0 0 0 ff ff ff ff 2 b7 dd 43 94 1 0 0 0 16 0 14 1f c8 24 dc da e9 c7 81 d 9f ca 5a 8b b4 fd ef 72 46 7a 3b 1b 5c 0 0 0 0 0 0 16 0 14 4c e7 dd e2 81 d1 a7 e8 db 94 c9 b8 57 2f 12 3 9b c3 6b aa 0 0 0 0 2 0 0 0 1 34 78 33 60 dc ac 80 7 31 89 70 ba 53 20 c7 99 80 a0 bb 22 c3 b6 57 a7 cc 8d 42 81 41 ee 71 a8 1 0 0 0 0 0 0 0 0 2 20 4e 0 0 0 0 0 0 22 0 20 da a7 81 3c 28 db 39 19 d7 30 39 2c f 13 41 6a 9 3f 65 26 fd b8 3d ef 6b f b1 77 55 3b 7b 1e 9e 42 3a 0 0 0 0 0 16 0 14 ee 72 97 ac be 8c 9b b 92 55 2e c8 f5 b e a3 d6 a8 c0 ac 0 0 0 0 1 0 0 0 7 89 1b 11 31 60 65 c f1 95 f1 46 ab f4 ca 13 70 c7 9c e3 84 22 6d 8c 5f 40 57 8b f4 fe e4 93 61 0 0 0 0 23 22 0 20 5e d3 58 47 5a 54 9d 11 43 4c 9e c9 f4 44 c8 c7 24 94 95 69 f3 be 4a d5 10 c7 68 53 cb 9c f b0 ff ff ff ff 6a 10 84 73 be 3a 7a 63 a7 ce 8d dd 5f 87 31 40 ac 48 25 be 47 97 4b 28 68 23 8f 77 76 88 4b 8b 0 0 0 0 23 22 0 20 5e d3 58 47 5a 54 9d 11 43 4c 9e c9 f4 44 c8 c7 24 94 95 69 f3 be 4a d5 10 c7 68 53 cb 9c f b0 ff ff ff ff 7e c 81 15 e2 5f cb f7 c6 61 dd 85 72 a8 7f 81 b4 cc 89 27 9a b5 af 8a 50 bc e1 d2 e4 f2 15 93 0 0 0 0 23 22 0 20 5e d3 58 47 5a 54 9d 11 43 4c 9e c9 f4 44 c8 c7 24 94 95 69 f3 be 4a d5 10 c7 68 53 cb 9c f b0 ff ff ff ff 63 55 be 95 95 c 7a 43 5 c6 4e 63 e4 87 d3 43 ee c3 1c e7 37 3b 53 18 77 54 3e 63 f0 48 46 99 0 0 0 0 23 22 0 20 5e d3 58 47 5a 54 9d 11 43 4c 9e c9 f4 44 c8 c7 24 94 95 69 f3 be 4a d5 10 c7 68 53 cb 9c f b0 ff ff ff ff 74 6 59 4c d4 51 f0 1d 11 7f 4b ce e8 31 8c 63 3b c7 2b cf 53 86 26 24 2a 60 97 19 5d 76 19 b8 0 0 0 0 23 22 0 20 5e d3 58 47 5a 54 9d 11 43 4c 9e c9 f4 44 c8 c7 24 94 95 69 f3 be 4a d5 10 c7 68 53 cb 9c f b0 ff ff ff ff f2 7 d 83 d5 d5 4a 8f 86 98 dd 7a 8a ba 69 45 93 7f b3 da a8 99 b5 43 47 87 f2 1a 2 31 ea cc 0 0 0 0 23 22 0 20 5e d3 58 47 5a 54 9d 11 43 4c 9e c9 f4 44 c8 c7 24 94 95 69 f3 be 4a d5 10 c7 68 53 cb 9c f b0 ff ff ff ff 95 19 62 cf 3b f6 bc fb 18 ef 8a bd fc 75 c9 d3 11 8e a2 67 98 b5 36 2f 7f a4 e0 25 c0 aa 3a e0 0 0 0 0 0 ff ff ff ff 2 a0 86 1 0 0 0 0 0 17 a9 14 2b 88 29 c8 e5 72 ae 72 c1 f3 b0 7e c 41 e9 c1 9e 46 ad b2 87 31 2b a 0 0 0 0 0 16 0 14 1c 7a a 3f 12 fa b9 fc 55 63 dd e 46 d f2 47 eb 25 fc f7 56 a2 1e 0 1 0 0 0 1 84 a9 74 bf 2b 91 7c 4c 9 ef c0 8c 3b b4 10 45 40 fd 8a 75 32 ab bb 5 d7 45 e5 de 29 ec 55 7c 0 0 0 0 0 ff ff ff ff 2 a0 86 1 0 0 0 0 0 17 a9 14 2b 88 29 c8 e5 72 ae 72 c1 f3 b0 7e c 41 e9 c1 9e 46 ad b2 87 53 57 16 0 0 0 0 0 16 0 14 40 50 b6 ba ae 60 80 9a 4 25 e3 ef c0 ca 53 ee 92 9b 8f 53 56 a2 1e 0 1 0 0 0 4 1d 22 ee be 46 f4 1b ae 51 e0 18 42 f7 42 d9 41 e5 24 49 c5 49 b3 45 98 29 cd d5 a6 e2 3c 62 34 2 0 0 0 23 22 0 20 26 ad 96 76 6 93 c3 c6 bf fa 19 2a 47 c8 a0 7c b3 f4 b3 4e 36 ce 7c 7a 50 6c fc c0 65 9b fe ac ff ff ff ff 1d 22 ee be 46 f4 1b ae 51 e0 18 42 f7 42 d9 41 e5 24 49 c5 49 b3 45 98 29 cd d5 a6 e2 3c 62 34 3 0 0 0 23 22 0 20 26 ad 96 76 6 93 c3 c6 bf fa 19 2a 47 c8 a0 7c b3 f4 b3 4e 36 ce 7c 7a 50 6c fc c0 65 9b fe ac ff ff ff ff 1d 22 ee be 46 f4 1b ae 51 e0 18 42 f7 42 d9 41 e5 24 49 c5 49 b3 45 98 29 cd d5 a6 e2 3c 62 34 4 0 0 0 23 22 0 20 26 ad 96 76 6 93 c3 c6 bf fa 19 2a 47 c8 a0 7c b3 f4 b3 4e 36 ce 7c 7a 50 6c fc c0 65 9b fe ac ff ff ff ff 1d 22 ee be 46 f4 1b ae 51 e0 18 42 f7 42 d9 41 e5 24 49 c5 49 b3 45 98 29 cd d5 a6 e2 3c 62 34 5 0 0 0 23 22 0 20 26 ad 96 76 6 93 c3 c6 bf fa 19 2a 47 c8 a0 7c b3 f4 b3 4e 36 ce 7c 7a 50 6c fc c0 65 9b fe ac ff ff ff ff 5 c7 c 0 0 0 0 0 0 17 a9 14 20 52 9d 7c 15 d6 b4 d2 16 59 e5 8e b6 b0 3d e8 68 11 54 da 87 ae 36 0 0 0 0 0 0 17 a9 14 45 f7 88 da 62 38 1a 6e 32 33 64 18 2c 63 40 85 b8 43 c7 8b 87 b0 36 0 0 0 0 0 0 17 a9 14 45 f7 88 da 62 38 1a 6e 32 33 64 18 2c 63 40 85 b8 43 c7 8b 87 b0 36 0 0 0 0 0 0 17 a9 14 45 f7 88 da 62 38 1a 6e 32 33 64 18 2c 63 40 85 b8 43 c7 8b 87 b0 36 0 0 0 0 0 0 17 a9 14 45 f7 88 da 62 38 1a 6e 32 33 64 18 2c 63 40 85 b8 43 c7 8b 87 56 a2 1e 0 1 0 0 0 1 dc d0 6c f 51 29 89 2a 74 8f 9e ff 20 4f 27 1c b2 b3 33 5c bb 3e 4d 7 9d 53 5c 6e c2 53 94 71 0 0 0 0 6b 48 30 45 2 21 0 fd 2c d0 5c 3d 99 95 f6 53 70 d1 6b 66 33 94 96 de e7 90 11 77 8 32 bc 5c 30 fc e7 c3 70 fb 62 2 20 79 a5 ca 77 10 49 10 b9 92 9d fe da db 71 78 6a 11 f7 6f 11 b4 c2 aa 48 8d 83 65 dc a8 ad 99 c5 1 21 3 47 36 d3 33 7d 42 56 84 73 23 d2 f5 88 a2 c2 18 66 83 5a 5f fd 43 d5 e5 74 da 3c ef 7e d7 bf e0 ff ff ff ff 2 ec f7 e 0 0 0 0 0 19 76 a9 14 8d 4d 2 ac 8a d3 59 73 d6 77 66 3f d8 a0 94 b6 8 99 39 b4 88 ac 0 0 0 0 0 0 0 0 42 6a 40 64 35 62 31 64 34 35 37 32 62 65 64 31 39 63 32 39 66 62 37 30 65 33 66 64 61 34 33 38 64 62 36 65 34 63 61 62 38 30 33 65 62 36 36 37 62 33 33 64 31 34 65 36 65 38 31 32 62 63 64 38 39 32 37 0 0 0 0 1 0 0 0 1 e7 8 d4 a0 c9 ec ef f3 80 30 9 23 58 1d 96 76 8e 8c 22 8b 9c 5e 23 8f 38 82 88 ab 5e c0 f1 4d 1 0 0 0 6b 48 30 45 2 21 0 f3 34 d2 69 f4 44 d1 ae f8 bc f7 56 e2 f0 f8 1c 16 6a 89 cd 45 bc 1d bd 1f f8 27 ed 67 51 3b f8 2 20 3c 7e 5d a7 b3 28 19 f8 65 bd 8f 2e 7e 76 ad a9 24 e2 50 72 6 69 d8 be 7f 69 bb ce 7b 4a 8a 19 1 21 2 4 86 27 2a 7a cf a1 ff 3d e8 e1 91 2a 5f 53 8b 2a 9a bb fe fa bd 2 90 2b fd b2 b6 82 a6 6b a0 ff ff ff ff 2 0 0 0 0 0 0 0 0 42 6a 40 35 63 38 33 66 32 32 66 30 32 30 32 33 34 35 30 62 30 30 62 39 30 32 38 65 62 64 38 62 31 62 31 65 33 30 62 62 38 61 30 65 38 64 66 65 39 63 31 61 37 32 34 62 33 63 65 31 62 30 37 62 31 39 39 3a 54 9c 0 0 0 0 0 19 76 a9 14 ba e7 f1 da 2f c1 f 76 98 1a 2 6a 72 71 d9 dc 50 9 71 3b 88 ac 0 0 0 0 1 0 0 0 1 79 4f 8 ec 7e 96 a9 5a a4 7d 42 48 85 b2 f3 79 63 e8 3e 9d dc 40 ce a3 4c 63 1f 2f df 2 0 86 0 0 0 0 0 ff ff ff ff 2 76 57 10 0 0 0 0 0 16 0 14 44 ff 95 b5 4 86 38 57 9a e3 39 4 fb 58 f8 57 4d 10 aa 38 b0 0 9 0 0 0 0 0 16 0 14 f6 0 19 e8 38 4f 63 10 e8 7f d0 3a 5 92 70 2b c2 ad 51 af 0 0 0 0 2 0 0 0 1 43 63 5 ce f0 f4 19 fe b3 7a 81 16 27 86 e2 89 b9 8 88 9c d4 45 43 23 29 f2 f6 4 7b 8c 6a b9 1 0 0 0 0 fe ff ff ff 2 a0 86 1 0 0 0 0 0 22 0 20 de 4c 61 f7 b7 53 84 3f dd 83 12 1a 96 85 dd 15 94 83 82 c2 9a 58 d3 74 cb 1b c6 e9 de 43 32 3f b3 bd 40 0 0 0 0 0 16 0 14 82 bc 8e 8 d5 ae 52 81 da 3b aa 19 da 5d f3 80 22 9e d1 5f 56 a2 1e 0 2 0 0 0 1 66 42 92 61 ba 4 21 35 d7 85 dd 2f ae fb 6c 98 6a 52 26 78 7a 9e b2 4f ae 38 9 3f 97 26 47 7f 1 0 0 0 17 16 0 14 48 60 46 40 68 5a f4 9 8b 6c 1c 6 e0 db 2b 58 51 c5 ca 5b fe ff ff ff 2 a0 86 1 0 0 0 0 0 16 0 14 f9 7 dd 4e 53 61 4d 6e cb bd f1 c7 e4 c1 95 13 c6 eb 5b 29 8f 3c 89 0 0 0 0 0 16 0 14 a ab f5 d0 35 53 a9 a5 7b 9f 75 8c 55 c5 d1 58 3f 97 e 9a 56 a2 1e 0 1 0 0 0 1 ec 2d e3 74 87 8 1d e d3 11 db ab 49 85 85 da 29 ce 44 70 65 be 43 42 47 9c 8f bc 44 b7 c5 85 0 0 0 0 6b 48 30 45 2 21 0 fc 34 dd 9e 93 22 2a e1 ca f6 97 f1 4a 7 a1 6c 40 2b 34 f8 a a7 78 6a 14 49 b2 41 89 85 f9 61 2 20 5c a2 a3 97 4b 83 2f 5a 80 a1 a8 de ce f6 d0 9b af 1c 8b b 94 d7 57 48 c9 39 fc ac b9 ba 55 61 1 21 3 d9 a 3e 9 39 ba 72 25 59 7c f9 1a 85 48 4e e2 c 65 43 83 46 c4 ba e6 22 6a 71 ae f7 89 f3 ca ff ff ff ff 2 3b ec 3c 0 0 0 0 0 19 76 a9 14 21 3d 2a 95 ee 42 2d 2b de 74 8d d0 f2 6d f8 e0 e0 46 97 aa 88 ac 1c 94 23 0 0 0 0 0 19 76 a9 14 9f 4e 6a b6 55 56 39 24 51 ea 33 1e 49 b0 4d 8e b a9 8f ab 88 ac 0 0 0 0 2 0 0 0 1 44 11 4f a6 89 30 17 dd b9 cc 81 e0 ac 57 7d 4 93 5e 47 a3 b3 d6 c3 cf 45 33 e9 9e ff bb 16 d9 1 0 0 0 0 fe ff ff ff 2 49 43 e9 0 0 0 0 0 16 0 14 44 8c f1 dc 96 f7 90 b a0 11 a4 a1 79 56 34 6 48 2a 74 46 a0 86 1 0 0 0 0 0 22 0 20 de 4d f9 4f 4 a2 9b 4b fa d6 2f b2 af a5 de 99 76 ae 4a 1 e2 a5 af 6a 75 fc 30 a9 bf 95 3b e7 56 a2 1e 0 2 0 0 0 c 5b c6 3a 25 9c e d 9e 2a b0 c3 70 3b 9c dd 47 a1 17 c 52 98 91 d0 e8 13 60 30 e2 55 e0 b3 90 0 0 0 0 17 16 0 14 1d b8 c1 cd 4a 4e 6c b3 58 8 81 e9 2f df b5 76 37 f4 32 15 fe ff ff ff 65 70 b3 6f ed e0 29 98 c3 c9 33 df a9 ca de 9f 1b 8f b9 5d 8c a8 e8 af a1 e0 f3 8 f0 7e 96 d3 0 0 0 0 17 16 0 14 22 50 e a5 e3 75 a9 ec 25 66 4b df aa a3 b5 e e2 89 39 29 fe ff ff ff 8b d6 63 32 e1 f4 b c3 c2 fd c7 ed 47 67 dc 12 ec 59 32 7e 2 cd af 17 7a 1a 29 c0 8d 67 c2 b6 1 0 0 0 17 16 0 14 a0 c9 29 14 4a 2 6e 39 58 14 5b 50 28 91 5 d0 68 77 72 e8 fe ff ff ff 16 57 bd 97 71 1c e5 9e 8a e6 2d a4 ee 8c 8e 5b bf 3f 59 82 a7 c e2 c3 16 38 b5 46 44 5e 1a a7 1 0 0 0 17 16 0 14 a0 c9 29 14 4a 2 6e 39 58 14 5b 50 28 91 5 d0 68 77 72 e8 fe ff ff ff b8 aa 74 da fa 10 89 37 83 6e 19 20 ba c1 e5 6a aa 98 74 4d 2a 93 e2 80 c8 be 72 d3 1e d5 a2 de 0 0 0 0 17 16 0 14 a0 c9 29 14 4a 2 6e 39 58 14 5b 50 28 91 5 d0 68 77 72 e8 fe ff ff ff 1d 61 59 3d 9 fa 13 b3 29 d2 6c 72 94 60 6e a3 94 33 cb 25 c0 58 fe c3 39 8c 5c 51 c0 e9 31 be 0 0 0 0 17 16 0 14 9f d6 d9 a0 dc 62 59 81 f5 9 ac 79 f2 ca 39 f1 df e0 62 fb fe ff ff ff 1b f0 48 36 3e c0 7 ab 62 9b 11 b7 c2 39 d9 8b fe fe 7f 74 47 1a b8 3f 24 86 98 c5 bb 2a 2f 64 0 0 0 0 17 16 0 14 3b de 14 c3 78 ca 29 b9 d0 93 80 96 67 a4 69 d6 a a3 87 ac fe ff ff ff 9b 93 8 a4 88 55 2f c6 85 41 f5 2a d1 42 32 69 76 ac 52 a2 75 6a c1 84 89 b4 d7 4a 8b e6 53 da 0 0 0 0 17 16 0 14 a0 c9 29 14 4a 2 6e 39 58 14 5b 50 28 91 5 d0 68 77 72 e8 fe ff ff ff ac 65 63 54 ee f4 d9 2 45 bc 2d a8 6b 9e ae bb 8b 9d a2 d7 a1 c4 4 b4 61 95 bc f9 fc 45 d1 bd 0 0 0 0 17 16 0 14 43 81 fe 7a a9 5a fd 6 15 76 40 61 57 b7 cd 6a 58 e4 16 cf fe ff ff ff 40 93 fd e3 62 60 21 27 e3 22 f7 bc 47 58 a4 73 2d 18 8f 7c 27 6b 4 e6 b2 8a ea cb 47 ec 3a f6 0 0 0 0 17 16 0 14 d1 3 c9 a5 54 95 74 46 9f e1 8f 74 73 a6 32 d4 2f 21 5a b1 fe ff ff ff d5 8f fe 3 f8 18 90 84 29 27 74 ee b6 7a c ef 74 2a 94 e7 5b 95 a6 3a af db 22 f2 d6 f7 aa 8b 0 0 0 0 17 16 0 14 a0 c9 29 14 4a 2 6e 39 58 14 5b 50 28 91 5 d0 68 77 72 e8 fe ff ff ff c0 74 2d aa bc 21 68 12 1f 77 81 59 aa 6b ce f9 bf 6d a2 c2 9a 4e 52 92 2b 50 30 47 d aa c0 52 1 0 0 0 17 16 0 14 a0 c9 29 14 4a 2 6e 39 58 14 5b 50 28 91 5 d0 68 77 72 e8 fe ff ff ff 3 10 27 0 0 0 0 0 0 16 0 14 8d 91 b bb 20 63 e3 29 92 92 37 51 b8 96 95 1a 76 bb b8 1 96 3d f 0 0 0 0 0 16 0 14 c8 4d ba 28 bf fe fb 85 d4 10 ab 95 1e ef ca 3a 79 21 a9 1a 30 75 0 0 0 0 0 0 17 a9 14 ec 26 6b d5 3f b3 14 c1 4 5a 1a 76 73 cf 3d 9f 22 47 be d4 87 56 a2 1e 0 2 0 0 0 1 72 f3 49 c4 d6 31 f8 2a 94 e6 20 80 96 fd 6b 6c d1 bf be f6 44 b0 ba 1e 2 84 18 df 43 9d 2b e8 0 0 0 0 0 fe ff ff ff 2 10 27 0 0 0 0 0 0 16 0 14 99 d6 2a 27 5c 10 60 a1 a8 fb 7a 7d 82 59 42 4c c8 a0 50 8a 20 e4 4d 3f 1 0 0 0 16 0 14 7c c0 6a 80 2d be 65 2 75 33 9d 96 80 b2 a6 c2 c7 4a 49 43 56 a2 1e 0 2 0 0 0 1 b0 8e db ec 61 3e 4 e3 b4 c9 e5 16 46 5b 9c df 60 29 6e 99 21 ae 16 f0 4b 8a 12 eb 5e 46 74 6f 0 0 0 0 0 fe ff ff ff 2 a0 86 1 0 0 0 0 0 22 0 20 de 4d ff 87 4f b 97 28 84 6 f 7 cc 3a f4 3a b8 b9 96 1c b7 97 97 a1 75 cc f7 df 7a 69 ea 80 ec 9b 12 1 0 0 0 0 16 0 14 de 2e 95 7 19 f6 64 42 b9 5d e0 9e c0 dc bb d cd 34 76 26 56 a2 1e 0 2 0 0 0 1 9c 59 fc 85 d5 a8 c6 bc 7e b4 a5 b5 1 5d 81 c3 2c 79 61 be 8e 54 ac 42 99 52 89 80 19 ec 98 8a 0 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 37 fb 29 7a 65 83 e8 54 71 6a 0 49 31 eb dc c 5 ec a9 f4 ea 92 c9 2a d3 7 3b 3f 8b 99 60 5c 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 9 7f f 0 0 0 0 0 16 0 14 f0 31 e8 8c 9a 7a 5b 65 4c 35 66 35 45 ca 23 f1 8b bc 10 c8 0 0 0 0 1 0 0 0 1 62 e ba 7c 10 db 97 bc d4 30 67 c0 3d e d0 9f 55 84 5f d4 8 a4 e f0 a1 65 fa 40 9a 58 5a ee 0 0 0 0 0 ff ff ff ff 2 f2 30 f5 0 0 0 0 0 16 0 14 54 c3 fd d2 9c 3 b7 1f 19 11 68 47 78 9 c8 c5 f3 76 1e 43 39 fe a5 0 0 0 0 0 16 0 14 d1 d5 61 60 68 16 e8 cd 40 87 42 f9 26 77 4e 47 15 8c 70 82 0 0 0 0 2 0 0 0 1 e8 38 de f7 5c 6f 8c f1 57 64 6e 41 f6 6f d1 b 22 ca f1 3a b2 7d 8f 97 40 74 bf a7 cc a2 14 9c 1 0 0 0 17 16 0 14 e0 f0 b4 e8 29 89 71 78 a6 c4 93 3b 3 20 49 e7 74 95 38 e7 fe ff ff ff 2 a0 86 1 0 0 0 0 0 17 a9 14 97 84 75 dc 6a d1 ba 89 51 11 89 ec 34 e0 1e 79 d9 bb f1 68 87 4 b6 0 1 0 0 0 0 17 a9 14 bd 73 64 5e 5b 5a db dc 1 6a 19 9d 9 b4 1e b7 9f 9e a1 32 87 55 a2 1e 0 2 0 0 0 1 1c 82 71 81 77 60 82 39 d6 3e 5d 4b bb e3 cc 30 ec e4 5f a9 41 4c 20 96 ea bb d4 3e c f5 8b f0 0 0 0 0 0 fe ff ff ff 2 7f dc bf 0 0 0 0 0 17 a9 14 d2 a9 40 e8 9 66 62 77 b 2f 4 c6 94 bc 62 a9 41 f5 2d d0 87 a0 86 1 0 0 0 0 0 17 a9 14 54 40 32 a8 38 81 bd e4 4f 9e a0 f2 f2 45 c 84 23 f9 91 eb 87 56 a2 1e 0 2 0 0 0 1 d4 b1 25 35 35 e3 74 3c a6 c6 6b 46 c3 5e d6 63 9d 21 da 19 7f 15 62 55 59 1c 77 ca f6 f7 38 6a 1 0 0 0 0 fe ff ff ff 2 1e 56 0 0 0 0 0 0 19 76 a9 14 74 f7 f4 e4 83 9e ec 90 ff 1 6a 19 aa 81 6d 40 f5 da b 5b 88 ac cd 12 8a e8 8 0 0 0 16 0 14 80 c0 c1 ad 7e 12 d 98 63 ec 57 b5 87 2d 74 2a f 40 df 2d 56 a2 1e 0 2 0 0 0 1 10 cd bc 30 58 f1 bb 7b 7b c1 fa 6a e0 f4 d0 5a 15 e8 59 6b 7d 54 c4 cc 94 4f e2 f0 6f 5a d1 38 0 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 c3 bb cb ad cd 79 68 76 60 ca de d8 55 85 7c 56 34 65 1d 6a 8e 8a 6e d5 9e e2 b2 dd 14 b0 11 c3 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 4 54 f 0 0 0 0 0 16 0 14 b2 4d e a2 cd a6 69 e5 a1 1f 6c aa ee b 3a 76 4a 29 4f 55 0 0 0 0 2 0 0 0 1 dd 3b 12 bd a5 13 bf be 3 c2 a7 8e 8 4f 9f d6 83 70 c7 d8 d0 33 47 22 22 a6 10 b ae 41 7a 1c 1 0 0 0 17 16 0 14 d8 8e d1 98 81 77 df 99 8d df ce f2 8f 53 f0 52 d 40 1e 9e fe ff ff ff 2 a0 86 1 0 0 0 0 0 17 a9 14 68 7c 88 3e 59 12 9e 77 a4 11 68 a6 78 82 bb ac f 43 e6 88 87 c0 9f 1b 1 0 0 0 0 17 a9 14 20 d9 42 e7 c2 34 7c 70 dc fb f 66 6b 36 b3 3 3b 49 e 26 87 f5 a1 1e 0 2 0 0 0 1 50 1b 5e f7 6 ee 7d 9e c7 6c 51 1e db 63 18 5e ed 1e c0 40 e1 91 91 90 96 a9 e 32 f7 ce 66 ab 1 0 0 0 0 fe ff ff ff 2 72 8d 4d 3f 1 0 0 0 16 0 14 fe 4a 1c 95 3 e0 ca 97 a 6d f6 7f d1 cf 63 66 59 12 d1 bf 1e 56 0 0 0 0 0 0 19 76 a9 14 35 99 45 5f fb ae 83 0 17 80 e2 73 b1 a7 f6 58 bd 46 f1 9b 88 ac 56 a2 1e 0 2 0 0 0 1 d0 fe 19 e4 ea 1c e2 45 12 d7 20 3b 5e 96 29 9c ca e4 6 2e 9f ec c8 a3 7d 64 85 70 92 1b b9 fa 1 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 84 7d fd eb 21 66 90 bb 45 db 43 aa b9 ac c ea 8 7e 55 fe 89 8d 3e ef 9b a6 e1 56 9a 2b 9a 8f 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 db 57 f 0 0 0 0 0 16 0 14 b9 c7 17 f2 69 8d ee aa 2b 6e a8 34 3 2b d5 a9 ab 64 13 d4 0 0 0 0 2 0 0 0 1 1b 37 69 f 9a 83 30 8c de 11 5 e8 b4 55 d0 a7 66 e4 5b 8 1f e7 28 f7 21 af 5 61 c0 31 ea 50 2 0 0 0 0 fe ff ff ff 3 45 46 f 0 0 0 0 0 16 0 14 d8 34 82 18 bb 24 49 d2 f4 9e 7b 78 d1 51 db f1 fa 18 35 a5 0 0 0 0 0 0 0 0 22 6a 20 77 41 3d f2 6e de 84 9a 81 37 ab 64 62 96 8c ef a5 54 d4 41 61 e7 88 d8 db 40 d6 8b 36 bb a2 1e 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 1 0 0 0 1 50 42 48 4a 39 2e 4e ae 48 24 61 ee 5 8b ff 18 57 b1 b9 7d 5a af dc e6 81 99 ee 5b 41 8e 59 e2 1 0 0 0 0 ff ff ff ff 2 f2 30 f5 0 0 0 0 0 16 0 14 14 42 cd e1 78 47 7c 7e 52 a3 23 1e 64 65 6f e2 ec 69 f8 c4 18 ed 2e 1 0 0 0 0 16 0 14 c2 17 1b 6a 10 21 51 a6 2e 8f bd 91 8a 63 bb 43 b1 66 16 3c 0 0 0 0 2 0 0 0 2 8a 3 8a 36 ed 2a ff 6b b0 e0 70 b5 85 1 55 7d cc 2f 17 39 d3 ad 64 bc a0 12 55 af 37 de 27 80 0 0 0 0 0 fe ff ff ff 8a 3 8a 36 ed 2a ff 6b b0 e0 70 b5 85 1 55 7d cc 2f 17 39 d3 ad 64 bc a0 12 55 af 37 de 27 80 1 0 0 0 0 fe ff ff ff 2 7c e4 11 0 0 0 0 0 16 0 14 19 7b 5 d7 b2 42 39 8 69 cd c5 b7 b7 41 c4 e6 26 78 87 f5 e0 93 4 0 0 0 0 0 17 a9 14 e6 b3 f5 8d 33 cd f a4 e8 80 a1 91 fa bb 79 38 66 4a f8 20 87 56 a2 1e 0";
+
 	@Test
 	public void testBlock1() {
-		// message size 17806
-		String msg = "4 0 40 20 b4 2a 79 60 b8 a 7e 50 d3 13 5d 17 54 9e d8 2d b5 40 bb b7 38 e3 e4 15 1 0 0 0 0 0 0 0 4f 7 53 bb 53 a5 8b da 6a 9f 32 61 5d d5 90 d 7c d8 9f 14 d 4c 58 92 26 57 d7 62 1a 6 a1 87 3f 8b e4 60 31 52 4b 19 39 2e 5 bb 6e 1 0 0 0 1 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 ff ff ff ff 52 3 57 a2 1e 3a 20 54 68 69 73 20 62 6c 6f 63 6b 20 77 61 73 20 6d 69 6e 65 64 20 77 69 74 68 20 61 20 63 61 72 62 6f 6e 20 6e 65 67 61 74 69 76 65 20 70 6f 77 65 72 20 73 6f 75 72 63 65 20 12 9 68 7a 20 9 9 20 9 2 98 49 0 a bc cb 1 0 0 ff ff ff ff 2 32 1e 9f 0 0 0 0 0 17 a9 14 13 20 e6 54 2e 21 46 ea 48 67 0 f4 9 1a a7 93 e7 36 7 88 87 0 0 0 0 0 0 0 0 26 6a 24 aa 21 a9 ed f3 d0 4f e1 70 42 b5 9b 74 5a e1 4c ab b2 ec 75 73 d3 5e 20 4f 8e 9c 70 d1 45 88 40 71 dd 67 90 0 0 0 0 1 0 0 0 1 64 92 13 62 3 af b0 22 e8 67 57 3b b9 ca 22 f4 d1 7e f 6 f5 64 5a 1e b9 dd ba 57 eb 55 c9 66 1 0 0 0 0 ff ff ff ff 2 1f 11 0 0 0 0 0 0 19 76 a9 14 e9 30 de 29 5f 4e 93 6c 9 39 d9 5b 9e 12 e6 5f ba f6 a ab 88 ac cd cd 2d 23 0 0 0 0 16 0 14 ac fd b5 95 4c da 26 ab e1 c6 72 60 1c fb a4 d7 e5 9b 79 4b 0 0 0 0 1 0 0 0 1 71 f6 a5 fc 5f 38 5a 3c 1 36 b4 fc 67 2a 5d 62 26 5d fb 36 d2 65 d2 36 24 57 a4 0 64 ba 67 fb 1 0 0 0 0 ff ff ff ff 2 10 27 0 0 0 0 0 0 19 76 a9 14 9e ae fd 30 fd 3b 67 a2 a3 a9 5d 70 6b ac 85 8b 75 9b 93 4c 88 ac 60 78 93 11 0 0 0 0 16 0 14 31 cf e2 24 87 1d 9 ba 75 44 4c ef 55 c0 12 12 59 61 62 67 0 0 0 0 2 0 0 0 1 ff 7d df 54 54 1f 4b 12 41 ce 10 62 4b 2d b2 4 5b 2c 69 88 fb 12 5d 68 77 24 6d c1 b7 e1 e1 36 0 0 0 0 0 ff ff ff ff 1 60 ea 0 0 0 0 0 0 19 76 a9 14 34 4a f 48 ca 15 e c2 b9 3 81 76 60 b9 b6 8b 13 a6 70 26 88 ac 0 0 0 0 2 0 0 0 1 ec 7 68 6d 53 0 7f 8e 55 7b 30 26 4a b5 4f d5 a2 9b 37 59 28 dc 1a d 52 dd fd f1 ab b4 41 1b 0 0 0 0 0 fe ff ff ff 2 c7 eb 19 1c 1 0 0 0 16 0 14 62 75 ef af 40 51 5a bb 3b 81 aa 27 ae 5d 34 8d de 2 79 61 92 71 f 0 0 0 0 0 16 0 14 1e 6b 73 d7 e5 7e 0 5d b9 9d 6d 9c c2 ba 5d db 55 94 f0 40 56 a2 1e 0 2 0 0 0 1 b8 7 d2 4f ab c 8c 20 60 22 1d d5 e2 c3 a0 4d 32 f1 c5 34 92 3b bf fc 58 e2 b9 6c 9b e0 31 b1 0 0 0 0 0 fe ff ff ff 2 7b e8 10 0 0 0 0 0 16 0 14 84 c8 50 9f a 62 c0 50 86 2f 28 c 57 d6 d5 0 58 66 f3 4f 3a cb 8 1c 1 0 0 0 16 0 14 17 1b 4f 44 a9 ca 2d 92 31 78 ea 8c 8f 9c 78 13 1b db 91 fb 56 a2 1e 0 2 0 0 0 1 a0 a9 4b 3a da 99 8d eb dd a4 28 29 92 ad c6 36 db 2f 4 4d 3f bb f6 2e 9f 3b 70 cc e1 12 e9 7e 0 0 0 0 0 fe ff ff ff 2 2a f1 2c 0 0 0 0 0 16 0 14 37 30 d 38 fe 1 3c 6e 87 fc 1b 57 10 27 92 cb 3c a5 46 79 2e dd b2 45 1 0 0 0 16 0 14 33 e6 ba 62 73 9d 5a a5 4c ab 8 5f 56 c8 59 ad 4f 7d 3e 60 56 a2 1e 0 2 0 0 0 1 61 35 f8 a2 84 dc 6e f8 1 74 72 7f b1 be 10 bb 58 94 86 d bb b4 1f 8a 5b 60 a4 b0 37 41 61 64 1 0 0 0 0 fe ff ff ff 2 51 42 9f 45 1 0 0 0 16 0 14 18 99 3b f9 df d8 4 8 64 be 3b 9 58 1b f2 b7 ab 5 4f 90 cb 62 13 0 0 0 0 0 16 0 14 fa a 80 5 70 9a 53 30 6d 68 5e 99 2d f5 6c 89 7c a7 4e c3 56 a2 1e 0 2 0 0 0 1 5a 81 5c 27 1b b9 bf 59 aa d2 91 df 61 6e 74 b3 27 cf 71 82 b3 1c 49 b ea bb 11 79 8e e 42 c 0 0 0 0 0 fe ff ff ff 2 8b 89 26 0 0 0 0 0 16 0 14 d5 44 b9 ec 6e 37 3d ba e6 10 f0 ed fb 7c fa 9e 90 18 e d5 b4 80 78 45 1 0 0 0 16 0 14 77 27 4e c6 3c f 98 c7 32 f2 31 d8 71 76 7 78 1f 11 81 85 56 a2 1e 0 2 0 0 0 1 2f 28 27 8c e5 5d 8f b1 ae 42 1 f9 34 c8 a3 ae 1b 37 fb 3d ad 4f 91 a9 ac 86 4b db f4 23 a4 4e 0 0 0 0 0 fe ff ff ff 2 eb fc 1c 0 0 0 0 0 16 0 14 7c 0 85 1d 69 ca 4a a7 b0 5f bb 4b 3b 10 63 dd 16 f5 ec b2 f4 b 70 5e 1 0 0 0 16 0 14 c7 57 5 47 7d 72 d0 71 2b ea 8d 3d b6 a fb 8a 7a 48 b4 39 56 a2 1e 0 2 0 0 0 1 2e 6 7f 6f d2 3f 50 80 ff 9d 2b 45 83 bf 72 ab 26 6e e5 f7 21 b0 73 d1 70 1c e3 da b7 1 b3 df 1 0 0 0 0 fe ff ff ff 2 c2 5f ef 1b 1 0 0 0 16 0 14 68 d0 e0 1e e4 c9 e5 a4 59 c0 7c e0 97 e4 31 78 6e dd f6 8e 66 33 19 0 0 0 0 0 16 0 14 f2 e1 d8 15 ad 0 91 81 9e 93 b3 51 2d 1a 42 1b a9 82 e6 36 56 a2 1e 0 2 0 0 0 1 f6 81 25 86 c6 e1 20 3 4f 49 0 4a 9 48 8f 38 f9 43 ac a a5 3 c3 8f 86 49 12 10 18 7 aa 75 0 0 0 0 0 fe ff ff ff 2 2 c0 34 1f 0 0 0 0 16 0 14 8e c6 b0 64 9f 6f 43 be 4d d2 d 7c c0 b7 20 88 1d 56 36 fd e6 a1 1a 0 0 0 0 0 16 0 14 16 0 3d 41 21 78 e a9 ed 84 4c f0 6c 64 33 11 37 e6 dd ab 56 a2 1e 0 2 0 0 0 1 ef 13 40 d0 71 4f ed 1e 2f 29 2a ec 86 a6 18 7e 3 ab 75 53 48 e2 67 3 12 6a 1c d3 55 76 f9 be 0 0 0 0 0 fe ff ff ff 2 c2 a7 13 0 0 0 0 0 16 0 14 8b a2 ed 24 af 6e b b0 a8 a6 68 c9 f1 9d 65 18 ba ab 6a 8e 2e e0 20 1f 0 0 0 0 16 0 14 0 b9 d0 65 b6 a2 3c 21 4d 35 90 9e 4d a9 f0 7e 60 c1 77 e3 56 a2 1e 0 2 0 0 0 1 6 95 8d 59 e1 f3 55 1b b 13 ae 10 8e de d5 f9 91 d2 3c 6e 38 f7 3f ca bd 76 d1 b7 64 6 22 5 1 0 0 0 0 fe ff ff ff 2 1c 62 12 0 0 0 0 0 16 0 14 26 9a 99 40 2d 6 30 8 1d a f3 24 7 ad d6 d6 40 e9 a5 35 71 35 77 96 0 0 0 0 16 0 14 eb f1 83 79 b5 33 64 38 d1 4b 42 8f 47 2c 79 80 7b a8 e9 a0 56 a2 1e 0 2 0 0 0 1 fc ab 21 a5 da f0 15 56 ad 25 35 aa 3f 6f cd 93 ce 14 a6 9b 46 f7 ec 80 8f cc 39 5e f2 d 78 af 1 0 0 0 0 fe ff ff ff 2 e e5 63 96 0 0 0 0 16 0 14 9c f4 8e d2 23 8f f 52 da a8 57 fd 61 11 ab 60 11 b6 1f e0 51 18 13 0 0 0 0 0 16 0 14 1c e9 3a 7c d5 8e 1c ca 1f 37 a6 78 9d 72 3e 6b cb 7 9b 85 56 a2 1e 0 2 0 0 0 1 df 2f 63 3e b2 d7 df f2 fe a5 e3 f7 fb cf e8 8f 95 3d 1e f9 1e a4 43 86 dd eb 43 7d 8b f5 98 26 1 0 0 0 0 fe ff ff ff 2 cd 7c 1d 0 0 0 0 0 16 0 14 d4 4f 7b 56 2f da 49 8 58 e8 2b 9a 4c 50 54 d9 f3 37 a2 7c e1 16 4e 94 1 0 0 0 16 0 14 7c cd 28 d 65 e5 9e c0 89 72 69 6d 6f a1 d0 c4 13 a6 f7 b0 56 a2 1e 0 2 0 0 0 1 4a 2a 14 b0 6c 20 a8 a 24 b3 2b 29 2 ff 44 9 f9 2f 48 e9 65 1 a4 3d 63 1c 7a fd 27 fc fb f6 1 0 0 0 0 fe ff ff ff 2 7e db 1b 0 0 0 0 0 16 0 14 c d1 d7 77 ef 73 d2 c9 1e e3 38 b8 90 1d 67 e6 34 8 d4 cb 51 3 32 94 1 0 0 0 16 0 14 70 c8 67 43 1e 85 28 ed 63 be 93 64 40 15 10 4d f4 f2 b8 72 56 a2 1e 0 2 0 0 0 1 44 60 e2 8d 54 f5 77 39 d8 f8 13 39 96 c5 9b 31 d8 5b c4 cf 3d d5 4f a3 61 ce 52 db 5e 6b f5 4 0 0 0 0 0 fe ff ff ff 2 5a b6 b9 f6 0 0 0 0 16 0 14 97 70 16 c5 c7 7c 60 88 e6 83 4b 97 12 c d1 2e a8 45 7c ae e 4c 18 0 0 0 0 0 16 0 14 ab a1 5f b e1 a 7a 84 ca 29 f3 1e fc 13 40 82 5b 22 1e ae 56 a2 1e 0 2 0 0 0 1 33 82 84 c3 c9 2d 36 77 2 8b cd 9 d3 44 47 57 84 60 93 24 d3 f6 76 46 20 f5 e1 5f 18 e 2f 8 0 0 0 0 0 fe ff ff ff 2 69 13 1c 0 0 0 0 0 16 0 14 0 e1 f5 af de 8b 40 f5 bc ce 9e 7f 67 e7 b3 6 63 7e e7 ec ba 58 bd 59 0 0 0 0 16 0 14 fe 3a b3 d3 8e 65 a5 cc 36 22 9d 33 22 44 18 12 ef b6 29 72 56 a2 1e 0 2 0 0 0 1 49 3 98 74 18 96 25 9c d7 82 58 25 b6 78 ac 22 58 86 8 79 cf 66 f0 ae c2 19 7c 53 6c 73 a5 d2 0 0 0 0 0 fe ff ff ff 2 10 db 1d 0 0 0 0 0 16 0 14 b2 b8 c8 67 66 d e2 7e c8 85 d4 cf 48 43 64 14 e5 5 b2 33 ec d1 45 96 0 0 0 0 16 0 14 fe e1 82 aa 38 37 6f f8 50 2c ff 31 b3 3d 23 f1 9 56 7 d3 56 a2 1e 0 2 0 0 0 1 ea a9 e1 5e fe 16 27 b4 66 74 f4 8e 97 4d fa 23 6c 49 0 55 2a cd aa e6 7c 57 33 e d8 95 17 81 1 0 0 0 0 fe ff ff ff 2 6a 79 12 0 0 0 0 0 16 0 14 c6 f bd ee 15 1 d9 1a 53 ba 42 83 18 91 8d 88 fc b6 95 3e 70 20 33 96 0 0 0 0 16 0 14 8 69 37 77 9f 7d b2 b8 75 1e 4 b9 64 6c 55 66 a3 98 bb 85 56 a2 1e 0 2 0 0 0 1 7e d7 d6 94 98 ed 4c cc 9d 9b a8 14 5f d7 71 ac d8 48 b9 75 73 52 3d e1 59 d3 8b 2d c3 d2 d4 20 0 0 0 0 0 fe ff ff ff 2 93 59 16 0 0 0 0 0 19 76 a9 14 c9 8c 47 12 54 46 c4 c 85 a6 11 ad f4 94 9f c4 d1 18 3f d2 88 ac 1e 23 a3 f6 0 0 0 0 17 a9 14 55 fc 37 fb c9 a9 dc f8 31 27 df d6 5 5d d3 a6 f 27 f9 26 87 56 a2 1e 0 2 0 0 0 1 dd ea a5 ea 8b 3 ee 33 82 33 26 36 87 aa 50 c5 2f 24 a2 6e e6 14 91 e6 5d 6c f4 ff 74 79 9f fe 1 0 0 0 0 fe ff ff ff 2 7c 82 1a 0 0 0 0 0 19 76 a9 14 76 b6 c5 25 53 d9 e4 11 c1 d6 57 73 ee f5 d f3 f2 e3 40 db 88 ac 95 9c a2 59 0 0 0 0 17 a9 14 e8 7 71 56 b0 f8 7b 43 ff 17 85 45 8e 5e 5 e7 8e ec 98 10 87 56 a2 1e 0 2 0 0 0 1 c6 10 ff 8 13 88 6c a5 e8 a9 21 9b f4 f6 6c 32 d8 32 6f 8 8b ac b0 89 8e 48 44 bf b0 7 61 5f 1 0 0 0 17 16 0 14 f2 13 7d 13 7c f6 74 ec 6 31 e2 f2 c4 b1 17 d1 a0 2d ee 4c fe ff ff ff 2 63 36 14 0 0 0 0 0 16 0 14 fb 9 18 84 35 ca c9 ed 9d 83 33 39 73 e0 58 f3 b7 64 a5 23 fb 24 8e 59 0 0 0 0 16 0 14 ee b4 e 2e a8 89 7f 82 63 4e c0 2 a6 e6 f3 59 a7 ac 88 55 56 a2 1e 0 2 0 0 0 1 e 8 fa ff 8b 8e 84 64 c9 82 bd 7d 21 7 6b 1a d7 59 d5 44 61 5b 4e 27 69 78 25 9f 74 d2 f 17 1 0 0 0 0 fe ff ff ff 2 f9 a0 1a 0 0 0 0 0 16 0 14 4 4 63 95 80 ff dc 34 2b f5 ef a7 ac d3 c3 b6 9c 84 44 7 f0 4b 73 59 0 0 0 0 16 0 14 bb 36 60 e7 ee b2 73 dc 16 b0 1d fb 48 ea 2d ae 35 8f 64 69 56 a2 1e 0 2 0 0 0 1 8e fc 67 88 22 14 a5 ab b8 c1 11 b0 2f 37 d5 f2 2b 99 da 25 10 66 d5 75 11 73 9e ec e5 e0 73 71 0 0 0 0 0 fe ff ff ff 2 e5 86 1a 0 0 0 0 0 19 76 a9 14 55 35 bf f2 ea 28 89 3d 57 75 7c ad a1 8f 9b 27 67 91 3a 48 88 ac 16 d3 16 c7 0 0 0 0 17 a9 14 26 bd 91 4a 3e 75 5 b3 0 98 25 49 fd bf df 24 31 e4 99 74 87 56 a2 1e 0 2 0 0 0 1 43 59 48 c 89 36 e2 5a 58 a9 91 8 6c 1a 23 a7 c6 92 71 b8 9 be 25 5f 4 c8 37 fb 53 58 e1 de 1 0 0 0 0 fe ff ff ff 2 f6 d7 52 5e 1 0 0 0 17 a9 14 a2 b9 dd 75 c9 fd 4b 64 e4 b5 13 8a bf 2a 3e f8 49 e1 45 76 87 55 fa 1c 0 0 0 0 0 19 76 a9 14 9c da f6 38 68 68 ef 12 5 d8 b ac fa fd 9 12 bd 4d 36 48 88 ac 56 a2 1e 0 2 0 0 0 1 54 59 8a 63 79 df 52 62 4f 17 15 9f 68 d5 8c 50 f3 12 e4 1a 8d 9c a0 aa 66 c1 0 e6 32 53 db cf 1 0 0 0 0 fe ff ff ff 2 a1 bb 13 0 0 0 0 0 19 76 a9 14 1d e2 35 7c da 3a 9 9a e8 67 3c 7 d1 f5 81 a9 35 f6 63 92 88 ac 7 e 1e 94 1 0 0 0 17 a9 14 5e 15 54 be 1c d0 21 2d b3 5e 90 4a 64 a3 fd c5 6e d5 4e 72 87 56 a2 1e 0 2 0 0 0 1 38 30 44 e4 fe 31 6e c5 74 79 58 34 ef da 35 bf 5d e6 e0 b6 4b f9 24 81 24 8f 92 df f6 e5 8b a9 1 0 0 0 0 fe ff ff ff 2 49 1c 13 0 0 0 0 0 19 76 a9 14 f8 ea b 88 83 ab 51 68 bb 10 f 55 5a 57 6f 17 6e 1b c2 b3 88 ac fe f5 5f 59 0 0 0 0 17 a9 14 dc 95 f1 fb a3 d2 c4 1c 5b eb 85 8f ff f9 ba 2f c4 e1 53 ff 87 56 a2 1e 0 2 0 0 0 1 4a 4f dc aa bd 2d c5 57 f7 96 78 9a 1f c5 e5 59 6a 13 a1 35 9 49 30 17 e6 d7 9f a6 d5 85 a8 56 1 0 0 0 17 16 0 14 c1 b8 ea b0 a3 55 86 63 66 8b bc 2e 44 fc f 7d e5 e6 8 dc fe ff ff ff 2 52 24 fa c6 0 0 0 0 16 0 14 6 6a 20 0 74 b4 61 a7 d5 f9 af db 49 ce 47 ce ce 53 9b 25 8d 6d 1c 0 0 0 0 0 16 0 14 66 1a d9 7d 74 d6 a1 61 6f 36 92 3a 2c 95 c8 4d e6 c5 cb f5 56 a2 1e 0 2 0 0 0 1 a3 25 ca de e1 9c b3 17 94 89 1f 69 13 41 a3 c5 b0 57 6f df 3e 79 83 b9 dc 62 e4 d8 3f e6 e6 b0 0 0 0 0 0 fe ff ff ff 2 a3 26 dc c6 0 0 0 0 16 0 14 6a 47 11 a 24 e4 94 84 6a 90 f6 d8 3a dc c7 b d7 43 23 1f 9d c5 1d 0 0 0 0 0 16 0 14 27 ad 58 90 54 31 74 c2 f 4a 2d 7c 31 16 87 7 f9 c4 70 ed 6 a2 1e 0 2 0 0 0 1 47 81 7f 8c d0 98 c9 f7 11 5 82 49 fc d b7 50 2 a2 f7 31 38 27 ec 8c c9 fb ba f4 44 49 95 cf 1 0 0 0 0 fe ff ff ff 2 d9 72 10 1f 0 0 0 0 17 a9 14 1c 28 ab 3e 56 90 84 aa 58 dd 17 e0 c4 f1 13 13 cd 7 42 7 87 78 34 10 0 0 0 0 0 17 a9 14 54 40 32 a8 38 81 bd e4 4f 9e a0 f2 f2 45 c 84 23 f9 91 eb 87 56 a2 1e 0 2 0 0 0 1 64 d2 c2 6f dd 63 6c 5c e9 18 47 9b b0 ed 6b 9f cd 1a 4 53 96 83 d7 2c 7e 2c 8b 5f c5 87 d7 39 0 0 0 0 17 16 0 14 bf 89 e 9d 58 8 e0 ea 4b 47 96 a6 e8 16 71 6f ed 15 eb 6b fe ff ff ff 2 d3 43 0 1f 0 0 0 0 16 0 14 67 5b 45 f9 79 86 f0 97 d8 95 22 72 8c 8a 84 2d 2e 91 21 58 cf ed f 0 0 0 0 0 16 0 14 f 61 31 8d 2d cb 2b 59 e0 91 55 36 9b 5e 4d 3e ed a2 6a 99 56 a2 1e 0 2 0 0 0 1 1b f5 8e 29 cd 5e 2e a d 37 da 89 e8 d8 14 5d 2f e7 7a f3 96 58 ad 45 b 35 20 bf 3e b9 bf 69 0 0 0 0 0 fe ff ff ff 2 de 64 f 0 0 0 0 0 16 0 14 1e e0 9b e6 49 4f 15 e4 41 2c 5d 84 6b 93 a7 3f bc ce 7b bb e3 a6 f0 1e 0 0 0 0 16 0 14 19 b ff fb ea a2 9d 20 f1 ad be bc a1 60 c9 bf 36 43 3b 49 2 a2 1e 0 2 0 0 0 1 c8 ce 2d 4e 6a 4c 5d f4 75 6e f4 7a 84 45 39 86 44 76 52 a4 e5 4a d1 2a 97 9c da 9e aa d6 30 68 1 0 0 0 0 fe ff ff ff 2 c6 5d 1b 0 0 0 0 0 17 a9 14 f4 fb 7e 66 3a 78 5c bd 1 bd 33 a5 93 41 89 0 a 92 2e 6c 87 8f a5 89 7c 1 0 0 0 17 a9 14 94 cd 23 3e e 1e 71 73 5b 34 81 68 ee 9e 2f 1b 96 24 ab f3 87 56 a2 1e 0 2 0 0 0 1 50 c 37 e 81 ee 79 d9 fb 44 60 bd c5 1e 84 97 8f 95 99 93 f4 26 73 0 a2 b1 ee 30 46 83 c7 11 1 0 0 0 17 16 0 14 3b 57 57 71 5d 6e cd 88 88 15 5b 84 e1 63 bb 4f 2f a4 38 5f fe ff ff ff 2 82 ba 25 0 0 0 0 0 16 0 14 ba 5e 11 10 14 e2 b9 3b 23 93 e 78 6b 1f de 85 22 0 5d 3a d6 a9 63 7c 1 0 0 0 16 0 14 5f 6d 6a 47 5b 5f fa c2 e4 ab fb 2e 42 62 b9 73 52 6c 19 4b 56 a2 1e 0 2 0 0 0 1 f 24 b7 bb bd fa fc ae d6 3a 87 ff 24 69 3 57 ad b0 eb 65 b8 23 a2 97 6f 25 48 a2 cb 75 44 9c 1 0 0 0 0 fe ff ff ff 2 10 8c 51 7c 1 0 0 0 16 0 14 d0 f1 ac c5 1a 62 f0 38 d6 1c 98 5d e1 6e ab c 55 35 bf 7a b4 e5 11 0 0 0 0 0 16 0 14 51 17 f1 9a 9b b b5 55 b4 56 63 3b f5 91 7f 87 57 5a 62 e5 56 a2 1e 0 2 0 0 0 1 2e 36 6d a8 c 8c b9 38 3d 45 5a 64 b0 4a 2a 43 52 4 a2 da 60 72 c5 73 ed 9 1 63 a8 3b 7d 41 1 0 0 0 17 16 0 14 d0 db 14 ad c 3d 5e 25 84 1 5a ce 1e 49 92 ad cb c0 12 9d fe ff ff ff 2 88 49 17 0 0 0 0 0 16 0 14 4a b5 ac 70 21 ce 51 f3 1 4c 2d f4 cf 3a 28 9 f7 fc 92 99 5f 98 8b f6 0 0 0 0 16 0 14 e8 6c 3e 3a 39 f cc aa 7 d6 a4 da db 97 8e 44 b4 f9 c7 50 56 a2 1e 0 2 0 0 0 1 4c c db 6 61 4e b4 ce 12 af 6d b9 d b6 8c 7f 42 63 b7 f9 16 70 fd 84 17 69 62 9f 29 3a 5e f9 0 0 0 0 17 16 0 14 65 77 25 ce ad 6c 53 c9 d3 3e c5 1d 55 c2 20 85 f1 d4 ed 2b fe ff ff ff 2 40 48 39 5e 1 0 0 0 16 0 14 e 6d 32 42 4c a8 96 27 0 cb bb 56 ad 62 61 91 a d6 f2 48 7f 4e 19 0 0 0 0 0 16 0 14 30 59 27 9f d1 c4 9f d1 52 c2 78 b2 55 33 f7 81 36 fb 63 de 56 a2 1e 0 1 0 0 0 1 3b b0 d 49 75 cc e 13 4f 9f 3 55 d0 ad 7c b7 ae eb f3 a3 65 ae 20 e9 d2 f2 da 1f 2 0 fc 8c 3 0 0 0 6a 47 30 44 2 20 35 f cc 4a 8 1 61 71 5e a0 12 5d 56 38 b8 ad 45 c9 13 48 d1 d3 32 c5 59 4b 36 ff 5 36 fd 14 2 20 36 7 f9 2c 72 88 df 9e 87 36 73 ce 7e 6f 41 96 46 21 af 10 6a 67 ca 2 5f 3c f9 53 3d 39 34 ef 1 21 3 74 35 c1 94 e9 b0 1b 3d 7f 7a 28 2 d6 68 4a 3a f6 8d 5 bb f4 ec 8f 17 2 19 80 d7 77 69 1f 1d fd ff ff ff 4 0 0 0 0 0 0 0 0 53 6a 4c 50 58 36 5b fe db 6 5a 21 8e be c3 be 41 73 53 42 6a 90 78 bf e8 fd 72 f2 9 d5 d1 29 ff 4d 1b aa f7 96 c4 f2 14 de 6f ec 5f b1 fb e3 1 98 a3 66 7e c9 86 57 47 c cd e6 e1 30 ea 5d e a4 85 41 ec d4 f3 0 1e a2 56 0 e 0 1e 9d 28 0 18 3 10 27 0 0 0 0 0 0 19 76 a9 14 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 88 ac 10 27 0 0 0 0 0 0 19 76 a9 14 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 0 88 ac 1 7 d1 2a 0 0 0 0 19 76 a9 14 ba 27 f9 9e 0 7c 7f 60 5a 83 5 e3 18 c1 ab de 3c d2 20 ac 88 ac 0 0 0 0 2 0 0 0 1 69 3a 3c 42 a3 c8 1 17 56 7 fc 18 32 93 4e ed 6f 14 87 aa 4c a5 d4 9 98 a9 1c 43 7b 60 2e 4f 2 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 ac a6 16 b3 19 f5 14 e2 ef 3e a9 a4 93 ee 69 29 b8 5c 62 f7 e9 22 2 cc 11 c9 be 79 17 da 39 a1 e8 82 f 0 0 0 0 0 16 0 14 82 75 b6 56 b8 29 c8 e3 e6 f6 2d 29 56 5b fb 11 7b a4 92 8a 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 2 0 0 0 1 e5 23 71 c1 22 93 cd 99 d4 de f1 42 7f 87 f5 84 db 54 c6 ac ee c2 85 b0 a2 c bb c1 6d 7c 84 17 0 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 ba 0 3d 30 ff 7a 47 2f 12 66 9e 84 5f 7a 34 f0 a7 e3 59 19 be d9 65 19 75 6e a2 e0 39 89 f3 49 b 3d f 0 0 0 0 0 16 0 14 b 3a ba 8c 14 a5 45 67 cb 39 e 37 7e e2 ef 36 96 e0 b4 ad 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 2 0 0 0 2 34 de 6e fe 95 52 9d ef d8 49 f2 1 95 eb e9 3d e5 93 34 29 11 f4 ab e9 b6 30 9e cc d9 b4 18 58 1 0 0 0 0 fe ff ff ff 87 dd 0 e3 a6 e6 17 fb e2 64 5f 13 65 69 d9 39 69 5e 9 6 48 37 34 34 cc 7c 50 dc 90 8f 97 1d 0 0 0 0 0 fe ff ff ff 3 d3 97 f 0 0 0 0 0 16 0 14 f3 31 f4 e5 8b 7d 2c e4 7f 72 3f e4 9b 70 74 ef 10 28 87 a9 0 0 0 0 0 0 0 0 22 6a 20 b1 72 88 19 3f 7b af 8d 3 e5 99 df f8 2a b7 bf d8 c3 83 e7 3f 3e b8 6c 86 bd 77 f8 21 be cf 2b 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 2 0 0 0 1 b2 8d 5a ae 3c f4 3e e6 36 c6 7b 60 d6 a 61 2f 30 62 dc 90 8b ba ef 6b 54 55 e8 e6 fe c2 57 2b 2 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 c3 35 3b 74 a6 a2 c2 e8 e6 41 51 9a 8d 78 e8 87 e 2b 7c fd 76 36 c2 16 db 29 fa 7a 45 30 5c d6 9b 5c f 0 0 0 0 0 16 0 14 f0 8c 6b e0 8c 9 1f 69 4d 7e df a7 62 a8 c1 e7 2a a3 5c 11 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 2 0 0 0 2 4e 6 5d 0 98 9b a7 fd 87 de 92 a3 c9 40 23 43 51 43 69 81 1f 4b 0 ee 88 e5 d2 db 94 53 c0 a 1 0 0 0 0 fe ff ff ff f9 73 c6 af 6e 12 c6 33 99 1d 63 36 9 34 19 2d ab b3 7c 11 7e 4a 6 8b 30 a3 e5 0 a8 29 3b eb 0 0 0 0 0 fe ff ff ff 3 6 99 f 0 0 0 0 0 16 0 14 40 3a 69 96 cd 99 ba b1 ba c2 d6 37 4e af 3a 1 e2 13 fc e 0 0 0 0 0 0 0 0 22 6a 20 d6 37 f7 1c 19 30 6 8c d0 9 58 b8 f0 ae 58 a4 58 a7 15 a2 53 77 ee 6d 30 40 74 da 27 4f 15 d8 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 2 0 0 0 1 1c cf a4 a7 21 a1 da 5d c5 a0 e6 8b 4b c2 c0 81 b7 8 c6 ad 95 68 66 1f d0 be a9 c9 94 12 56 6a 1 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 a2 f3 57 b6 fe d7 62 b ad 33 3d 28 ee b cc 8c 18 15 60 32 50 14 27 e8 9e a3 f 5b d6 f2 cd 26 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 f6 7b f 0 0 0 0 0 16 0 14 8c 3 8a 3e fb 7e 4 d5 d2 59 cc ab 9e 5b dd 1c c4 ad 1d a9 0 0 0 0 2 0 0 0 1 1b ec a8 40 f0 4d 49 2c f3 5f 46 77 54 23 93 f 25 2e 3b 3 40 df 1e 88 19 f2 7 97 c8 a1 d4 c7 0 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 81 3d 7b 2a a1 a1 93 3 a9 b2 ce 7a ac 8c b4 be 3a 88 73 69 7d 8c e4 8 6e 33 f 14 95 59 1c 5f f1 3d f 0 0 0 0 0 16 0 14 44 8e 22 a8 40 43 45 25 73 f2 3f e4 92 e a2 d0 ae d 93 e 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 2 0 0 0 1 af 5c 60 93 16 59 db 16 85 92 87 a8 6d 74 2d c7 45 af fc a1 7 c4 7c 7e e5 f9 98 25 60 da a7 72 0 0 0 0 0 ff ff ff ff 2 b3 1 0 0 0 0 0 0 16 0 14 a5 b4 6 33 e0 5e 2e dd e8 38 4b fc e4 0 ad e0 c8 d8 c2 f9 5 0 0 0 0 0 0 0 16 0 14 3f 17 a0 ef 9 f4 88 9e 58 24 dd 4b 37 dd 9c c5 b5 0 89 ea 0 0 0 0 2 0 0 0 1 7f 4d 85 df 4c c8 74 3 f f3 77 ee 14 2f 62 2e c5 40 45 83 ca f0 15 da 2c 6c 76 dd 42 62 82 45 1 0 0 0 6a 47 30 44 2 20 33 90 23 c1 3f 41 71 69 44 33 4e ef 65 e6 22 d2 17 a4 d3 d 19 d8 88 b8 e8 c1 4 60 6f 8b 95 b4 2 20 39 c2 68 85 5 f3 20 3e 31 4c f7 c7 16 e2 5e d6 1a be 6c 11 a4 9f 9b e f3 5c a1 da ba 93 0 a6 1 21 3 7e d5 8c 91 47 20 77 2c 59 f7 a1 e7 e7 6f ba e f9 5d 7c 56 67 11 97 98 58 63 1 51 9b 9a d2 cf ff ff ff ff 2 0 0 0 0 0 0 0 0 36 6a 34 69 6f 6e 3a 32 2e 51 6d 63 71 42 57 37 48 52 58 5a 4e 52 58 48 44 33 69 53 66 4c 38 50 68 73 6f 37 77 51 66 6d 31 65 77 54 45 70 74 36 41 68 4c 34 31 58 48 f5 be 3a 8 0 0 0 0 19 76 a9 14 76 28 4 6f 6e c4 79 c0 31 d0 3a 47 b6 a0 3 c4 de db 1c ad 88 ac 0 0 0 0 2 0 0 0 1 39 69 49 e e 5c dc 36 d 72 13 62 65 a 47 6f ab 5f 54 ba 12 ed f0 7d 2d 95 e2 f8 bd f1 b5 39 1 0 0 0 6a 47 30 44 2 20 4e b1 44 1c ac dd 19 c4 ca c3 d6 4c 68 8c de 2a 3a 5e 7f e8 6d b2 f 23 25 c3 4d a9 8b 7d 35 e9 2 20 57 5e b1 86 6 96 85 ec 5a 55 fe 55 73 c9 85 a7 81 c3 52 ad 5 f4 23 8d f 5a c0 66 78 d7 80 1f 1 21 3 7e 2c 9a c5 3c 25 da cf 3b 42 a6 a3 a6 11 6 2a dc 49 1c 54 a7 16 86 1b f4 cd fd d 7 7e ea f4 ff ff ff ff 2 0 0 0 0 0 0 0 0 36 6a 34 69 6f 6e 3a 32 2e 51 6d 5a 78 6d 32 76 59 38 63 55 43 68 7a 37 45 51 79 67 78 79 37 6d 55 70 53 43 52 39 77 35 50 4c 56 36 79 62 6f 57 33 42 32 4a 45 6b 79 65 b0 f8 1 0 0 0 0 19 76 a9 14 39 5e b6 41 55 35 1b 47 da d5 1b c8 da 36 75 b1 23 1b 18 d4 88 ac 0 0 0 0 2 0 0 0 1 3d a3 fd ec ef bf 99 8c 6a d7 fa e 93 c7 2c 76 8c e1 34 32 c6 f9 72 4d 84 f1 5 fa d8 7f 8a c9 1 0 0 0 6b 48 30 45 2 21 0 bc 3a 9b 8d 2e f1 24 5c 29 5f b6 6 3d ec 70 8d be 55 c4 aa 7e 4e 8a 8b fc 4e 88 da ad 91 86 5d 2 20 3c fd 68 a5 42 84 df 92 46 25 b0 26 e4 af b3 46 6c fe cd 81 5c e9 d5 4d f5 b3 d9 aa 90 94 ea af 1 21 3 7e d5 8c 91 47 20 77 2c 59 f7 a1 e7 e7 6f ba e f9 5d 7c 56 67 11 97 98 58 63 1 51 9b 9a d2 cf ff ff ff ff 2 0 0 0 0 0 0 0 0 36 6a 34 69 6f 6e 3a 32 2e 51 6d 4e 73 32 62 58 32 68 32 65 48 38 54 4c 6a 56 4c 64 57 42 78 71 67 6d 57 4b 58 79 35 63 44 34 75 47 78 58 4c 41 77 71 38 6f 71 6b 37 45 bb 3a 8 0 0 0 0 19 76 a9 14 76 28 4 6f 6e c4 79 c0 31 d0 3a 47 b6 a0 3 c4 de db 1c ad 88 ac 0 0 0 0 2 0 0 0 1 89 56 3b ab c8 34 c0 91 9d a1 51 8b ce b3 1e e5 ae 39 c3 58 7f 32 ae 59 89 bd e2 c4 95 92 46 97 1 0 0 0 17 16 0 14 2e 25 f9 fa d f6 ef 91 c5 c2 d7 55 a5 6a 10 d8 4c ca 54 f8 ff ff ff ff 1 24 b8 0 0 0 0 0 0 17 a9 14 a9 d6 e0 e8 ae 28 28 e8 9a 10 91 5e c7 6d df 3a 7d 4c 7d f7 87 0 0 0 0 2 0 0 0 1 c2 60 25 4e ff 1 be 7e d1 ba 8a 1d 43 ed 6d eb 28 46 88 81 c5 fd b 8 73 60 e4 de 4d 85 e9 70 1 0 0 0 17 16 0 14 16 3d 2f be a2 ce 20 65 ee e9 9c 5b 22 29 d9 75 b e0 87 65 ff ff ff ff 2 97 d 0 0 0 0 0 0 16 0 14 5 77 46 86 9b fd 47 c7 e7 db ad 19 a2 16 40 c1 ff 65 ba 43 25 85 11 0 0 0 0 0 17 a9 14 f5 69 21 28 96 47 fc 15 ac 29 c5 8 d0 47 20 a5 6e 39 97 15 87 0 0 0 0 2 0 0 0 1 88 20 db a3 99 85 87 90 22 7d 8e b9 b3 96 bd 55 bb c5 90 37 89 d0 5d 9c 3 11 5e 2b 38 13 3d c6 1 0 0 0 17 16 0 14 74 52 77 18 41 5f b4 15 9b f 36 44 b 2c e6 eb b1 fb 6b 6c ff ff ff ff 2 9e d 0 0 0 0 0 0 16 0 14 83 d7 56 c7 74 6d 60 c3 cc b7 5d cf 12 9e 5e 31 f8 1d d4 a6 6c 84 1c 0 0 0 0 0 17 a9 14 6c 43 60 cc e8 8b 56 39 e6 1e 4a 5d 3a 78 b9 f3 4f 0 1c b9 87 0 0 0 0 1 0 0 0 1 c9 97 bf 5 ac 15 bd d4 ad bd 31 45 19 aa 74 2c 74 f5 c3 6d 5e 20 3c 1e 42 d6 f4 8e e7 3c cf ff 0 0 0 0 fc 0 47 30 44 2 20 43 60 90 f9 25 93 43 61 5e 14 bd f6 18 75 d4 59 9e 18 e8 da 46 89 4c e0 65 5 43 18 db 1f 90 22 2 20 7b 90 a7 e0 f7 aa 23 b3 68 3f 8a 8f 1 63 14 6 56 40 b5 4b 37 d2 24 a4 d7 51 e a0 5d 81 dd de 1 47 30 44 2 20 7d ab 1f f 49 cc 9a 46 73 80 72 c4 2c 7e f1 43 d5 c6 74 81 bb b6 82 5f 4b 36 da 8d d0 b9 3b 58 2 20 73 6 ec 66 9e 60 15 d6 94 1b b8 e5 95 1e de df f5 fe 7a a3 b6 3c ff e 81 54 da 4e 9e a1 bb e4 1 4c 69 52 21 3 79 9d 94 2a ef 13 81 fa 67 14 f6 28 8c e9 58 4d ae 80 6f 88 76 dd a1 5b f6 8f 5e 8f 92 85 c9 85 21 2 69 17 db 6c 55 9b 3d 87 de f5 64 7d d0 1d d4 47 63 69 5b 3b b9 74 f e8 f8 f4 cf 79 13 7d 48 31 21 2 64 f7 1 8f ea 6 77 a1 97 12 4a 58 63 de 69 f 40 20 4c f3 1d 98 80 8e 18 3f 60 f2 10 5f ec 8f 53 ae ff ff ff ff 2 68 1e 0 0 0 0 0 0 17 a9 14 24 dd f f8 5c 23 b8 b3 f5 50 50 db d4 28 82 80 b6 10 70 8b 87 a8 39 0 0 0 0 0 0 17 a9 14 c2 e ee 7f c 18 82 e2 7d 70 99 34 45 29 93 35 8c 25 df d0 87 56 a2 1e 0 1 0 0 0 2 d4 f3 f1 64 f0 88 d4 d7 8b ba 4f ef 40 e4 11 fa fa 77 85 87 12 e0 c dd d0 92 c3 e7 5c 16 e9 21 0 0 0 0 23 22 0 20 f7 b6 36 25 3e b0 11 70 28 36 6 a8 e7 7f f3 f4 67 10 34 38 29 33 20 1f 44 6f 68 56 84 1b 7b 72 ff ff ff ff 21 36 d0 93 52 a 51 e9 17 92 e8 30 3 be 44 ba ab 17 b8 31 6c c2 8e 9d ea b d1 93 9 59 83 4a 0 0 0 0 23 22 0 20 29 59 3e 31 68 ce bb 68 63 5f 76 f5 8f 17 23 f3 a1 b0 86 60 d4 f 26 b 0 a5 83 8 24 c1 4f 41 ff ff ff ff 2 20 9d 2d 0 0 0 0 0 17 a9 14 eb 17 99 17 d5 da 6b c5 17 cf 3f 84 e1 df c8 d8 47 61 84 79 87 c0 c6 2d 0 0 0 0 0 17 a9 14 d5 40 3a e5 77 e2 55 14 e6 1d ad ff 18 4c de a3 97 47 cb a7 87 56 a2 1e 0 1 0 0 0 1 ad 3a 48 9c 2d 8a 2c 2b 33 45 c1 43 76 9c 63 d c7 ec fc c1 49 6e 4b 36 b1 fa f3 c6 80 99 84 e 1 0 0 0 23 22 0 20 8b 3f 71 bf 2d 60 de c1 26 48 4b 2d d3 79 7c 8a 6e 69 b2 da af 99 28 7 59 3 6c 51 8d 7b 8 6 ff ff ff ff 2 f3 d2 0 0 0 0 0 0 16 0 14 1 25 f6 5a 16 14 e6 6f f8 93 20 61 f5 35 3 74 1c a4 a9 f5 92 a8 19 0 0 0 0 0 17 a9 14 e4 b 42 db 2e 31 b4 c9 1e ee cf dc 46 24 ee e3 75 55 ee 76 87 56 a2 1e 0 1 0 0 0 1 d4 d5 f8 af 5f e2 74 90 49 2c d5 c7 d5 cc 72 a5 cb d 9f 8f b0 4e 8d 36 6d c9 7b ff c6 f2 ba 1d 1 0 0 0 23 22 0 20 99 4f d7 9a e0 61 1e 74 52 5c d2 72 b0 5c fc d5 dd 9f 21 ea a e9 94 a5 b5 c3 60 71 a4 27 69 19 ff ff ff ff 2 3e 6e 0 0 0 0 0 0 17 a9 14 f7 73 29 25 d4 d8 80 41 bb 71 1e 9a 1f d2 28 ab 49 b4 a9 75 87 3a 38 19 0 0 0 0 0 17 a9 14 b7 94 cc 2e a 62 91 a3 6e dc 61 9e 1a a 22 db 53 2c e 1a 87 56 a2 1e 0 1 0 0 0 1 7a 3c 0 9c 47 ec 5a fd 98 ed c0 c8 82 65 8 7c 68 6 6c 17 a6 9 62 91 8b 21 2 b6 5f 91 7d f 1 0 0 0 23 22 0 20 17 e5 8d 2a d5 29 91 ea c8 68 52 c2 67 ce 88 9d 0 fb e5 40 d7 2d c8 1c b2 ba c5 75 92 2a b8 75 ff ff ff ff 2 66 40 0 0 0 0 0 0 19 76 a9 14 8 24 eb 1c 85 16 ed 7d e3 32 4b 76 5c 5 bf 29 29 ed bc 6f 88 ac b5 f5 18 0 0 0 0 0 17 a9 14 51 f3 d8 47 fa aa 24 3f 32 35 81 a5 ba 39 88 56 7d 4d a3 a5 87 56 a2 1e 0 1 0 0 0 1 d 20 aa b5 e3 29 3 a7 e9 bb 2a c3 60 78 6a c1 fe 5b 7 9a 6a 38 18 b6 5c 99 a9 28 f0 5 47 c7 1 0 0 0 23 22 0 20 7 ce fd e3 53 3d 4b 5d dd 7 c7 12 69 ab 32 70 99 15 4 a0 44 40 dc a1 1e cb 5a b8 89 16 6f 6 ff ff ff ff 2 b4 32 0 0 0 0 0 0 16 0 14 1 25 f6 5a 16 14 e6 6f f8 93 20 61 f5 35 3 74 1c a4 a9 f5 c8 3 77 1 0 0 0 0 17 a9 14 60 bd ff 82 3f 78 8b 88 de eb 5b dd 21 9a ee 36 95 c5 db 7e 87 56 a2 1e 0 1 0 0 0 1 e6 c7 52 3f 14 c 51 4 bd 7f ac 77 56 b4 d0 e 85 89 2a 80 2 dd 72 6a 85 f0 89 41 9 eb d0 bc 1 0 0 0 23 22 0 20 e3 eb 5b 2d 24 32 c2 14 35 72 5f a2 c1 72 8d 35 69 9b 1a 42 9d b7 10 e5 a0 45 9a d1 13 e3 ed 14 ff ff ff ff 2 9b 32 0 0 0 0 0 0 16 0 14 1 25 f6 5a 16 14 e6 6f f8 93 20 61 f5 35 3 74 1c a4 a9 f5 16 cf 76 1 0 0 0 0 17 a9 14 74 12 8e c9 38 c 8b cc d3 af 7f 62 51 4f 37 a1 c5 64 19 e0 87 56 a2 1e 0 1 0 0 0 1 9 17 62 87 2b 1a b2 fc 3a ce cf 4b 40 21 cd 7a f3 a5 36 0 5c 58 4 17 43 30 ae 11 e8 49 e3 a0 0 0 0 0 0 ff ff ff ff 1 bc 2 0 0 0 0 0 0 16 0 14 3b e a5 1b 25 fb bc c3 4e b3 8d 3 56 b1 1 d1 8 e5 d8 1b 0 0 0 0 2 0 0 0 1 20 f6 3b bc 5b d0 dc c5 e3 97 84 f9 88 f7 60 52 4d 9d de 6a 62 1e bd 34 15 ce 4 35 82 b0 b1 fa 1 0 0 0 17 16 0 14 89 6a b0 92 28 83 9a fa ce fa 3a 99 71 4a aa 8 e6 c1 8c 49 ff ff ff ff 1 e0 b7 0 0 0 0 0 0 17 a9 14 a9 d6 e0 e8 ae 28 28 e8 9a 10 91 5e c7 6d df 3a 7d 4c 7d f7 87 0 0 0 0 2 0 0 0 1 bf c5 9e 4b 43 1a 5f d9 a3 98 7f 5 8 c6 3d 10 aa c6 82 4 3 7d 29 ad fc 46 6b f2 d4 c6 5e bb 1 0 0 0 0 fe ff ff ff 2 b3 77 0 0 0 0 0 0 16 0 14 8 e3 e5 6a 8e 39 b9 a0 49 77 86 1e 7e 3c af 2d 22 a5 a0 69 aa dc 32 0 0 0 0 0 16 0 14 c9 c5 fa c7 48 9d fa c2 fe 87 81 9b 11 6a 79 e1 43 1e 3f 87 0 0 0 0 2 0 0 0 1 b7 b1 6a d7 c0 41 64 29 e3 ae 8f 2c d2 a7 ff 9c e 6e d1 bd 92 ee 9 5 f 84 91 a8 8a 2d 84 3 1 0 0 0 0 fe ff ff ff 2 19 64 32 0 0 0 0 0 16 0 14 30 ba 34 3d 92 5f 13 35 74 95 7 a4 13 2f 3f 63 3a f7 4d 74 b3 77 0 0 0 0 0 0 16 0 14 18 40 e9 d5 d 1f f1 f4 61 ce a ff 9 c1 b9 f d2 d4 f9 81 0 0 0 0 2 0 0 0 1 a2 7e 26 c4 14 2b 9d 58 2b 9a ae 4 30 f9 c2 f2 75 70 79 fa ee c7 6a 70 ce cb cd 20 a8 56 d8 9e 1 0 0 0 0 fd ff ff ff 2 10 27 0 0 0 0 0 0 16 0 14 9b 78 38 4e 38 82 1c bb bc 7f af 46 ea c1 12 b0 c5 c2 1b 30 2c 65 0 0 0 0 0 0 16 0 14 6c 72 56 6b 44 6c 22 a1 a8 88 ec 46 4c a5 83 f8 bf 82 1a 64 56 a2 1e 0 1 0 0 0 1 e7 f4 e5 f5 c3 5 97 3c cb 1b cd d7 3d 99 a5 f4 ed b4 76 9b a7 f8 9f 4d 65 ee 51 b3 c6 a6 fe ac 0 0 0 0 0 ff ff ff ff 2 32 23 13 0 0 0 0 0 16 0 14 7e 65 d4 59 ef fd 58 7b 3c 2f b 1c 42 45 d 65 cc 2f c2 e4 0 0 0 0 0 0 0 0 53 6a 4c 50 0 19 db ec 0 2 71 f2 31 d 3 9 15 35 ea 87 89 d1 ef f9 af ff db 9c ce e 7e bd 78 64 10 56 24 80 42 cc 83 2a 50 76 a3 bc d 7f aa 4d f8 bf 2d bc 18 e3 60 e4 8a af 4 b de 24 0 8 96 31 c8 27 de 93 5 ad 5b c9 21 2a 4c e7 6 ae bc 74 0 0 0 0 1 0 0 0 1 4d 20 6c 58 2b e7 b8 9 af 2b a5 2e 3b 5f 5e 30 df 63 4f f8 6 a2 b3 c0 cb ca 2c 2b f5 10 3c dd 1 0 0 0 0 ff ff ff ff 2 49 5a 7 0 0 0 0 0 16 0 14 80 4a c4 54 d2 e9 d9 de d2 96 1a dd e 7f b3 74 53 15 a3 d8 0 0 0 0 0 0 0 0 53 6a 4c 50 0 19 db d8 0 2 96 f0 9e f1 66 23 87 a4 7a e5 f6 ad bd 78 64 10 56 24 80 42 cc b2 43 c7 c8 5f 6b 87 80 41 5c b1 63 38 85 5a 9 46 94 a1 62 57 c c2 b0 8d 60 e4 88 99 4 b 67 11 0 7 8c 50 d4 27 de 93 5 ad 5b c9 21 2a 4c e7 6 ae bc 74 0 0 0 0 1 0 0 0 1 ed 5d 8e 19 26 16 78 e9 5c 3d 41 9b 3f b1 66 5a db 12 8b 85 ae d7 f4 aa 6d 95 8e 58 72 12 fe b7 1 0 0 0 0 ff ff ff ff 2 7a d3 1d 0 0 0 0 0 16 0 14 80 4a c4 54 d2 e9 d9 de d2 96 1a dd e 7f b3 74 53 15 a3 d8 0 0 0 0 0 0 0 0 53 6a 4c 50 0 19 db ec 0 2 71 f2 31 d 3 9 15 35 ea 87 89 d1 ef f9 af ff db 9c ce e 7e bd 78 64 10 56 24 80 42 cc 83 2a 50 76 a3 bc d 7f aa 4d f8 bf 2d bc 18 e3 60 e4 8a af 4 b de 24 0 8 96 31 c8 27 de 93 5 ad 5b c9 21 2a 4c e7 6 ae bc 74 0 0 0 0 1 0 0 0 1 e3 dd 96 e5 f9 c3 a2 26 ef 40 9f 19 8c ba 8f f5 6c 2c 37 a3 aa 62 11 b e1 ff e9 3d 74 1 d8 2c 0 0 0 0 0 ff ff ff ff 2 0 0 0 0 0 0 0 0 53 6a 4c 50 0 19 db d8 0 2 96 f0 9e f1 66 23 87 a4 7a e5 f6 ad bd 78 64 10 56 24 80 42 cc b2 43 c7 c8 5f 6b 87 80 41 5c b1 63 38 85 5a 9 46 94 a1 62 57 c c2 b0 8d 60 e4 88 99 4 b 67 11 0 7 8c 50 d4 27 de 93 5 ad 5b c9 21 2a 4c e7 6 ae bc 74 4c 24 13 0 0 0 0 0 16 0 14 7e 65 d4 59 ef fd 58 7b 3c 2f b 1c 42 45 d 65 cc 2f c2 e4 0 0 0 0 2 0 0 0 3 df 2f 63 3e b2 d7 df f2 fe a5 e3 f7 fb cf e8 8f 95 3d 1e f9 1e a4 43 86 dd eb 43 7d 8b f5 98 26 0 0 0 0 0 fd ff ff ff 44 11 4f a6 89 30 17 dd b9 cc 81 e0 ac 57 7d 4 93 5e 47 a3 b3 d6 c3 cf 45 33 e9 9e ff bb 16 d9 0 0 0 0 0 fd ff ff ff 72 f3 49 c4 d6 31 f8 2a 94 e6 20 80 96 fd 6b 6c d1 bf be f6 44 b0 ba 1e 2 84 18 df 43 9d 2b e8 1 0 0 0 0 fd ff ff ff 2 90 d0 3 0 0 0 0 0 16 0 14 f5 b 9a a 49 a1 8f cc 2d 87 6d f3 27 3d 4a 3c 32 2a 52 66 50 e9 1b 0 0 0 0 0 16 0 14 8a b0 1b f7 7e 10 ab 8b 3c de 9 6f b3 e7 ca 70 d8 a5 8a 30 f7 a1 1e 0 1 0 0 0 1 78 7c 8d ba 89 62 e5 b7 1c d 2e 2c 17 a9 e6 15 4c 8d 50 62 eb 51 82 56 cc 5b 6e 5d f1 a2 7b ff 0 0 0 0 17 16 0 14 b8 5b 5a 85 d9 9d 9b 92 bb c6 42 6c bf 95 a 23 42 c 98 43 ff ff ff ff 2 be 58 8b 9 0 0 0 0 17 a9 14 20 10 ba 26 78 2c 89 dd a3 90 73 1 db e3 fe 56 a7 c2 c4 50 87 19 a6 0 0 0 0 0 0 17 a9 14 27 ea 20 1b c3 84 d5 66 60 40 9f 5 97 cc dd d1 56 53 89 e8 87 0 0 0 0 1 0 0 0 3 c4 6f 12 39 b9 ae f2 df 94 22 d2 f3 5 fe 6e 46 7 f2 4c 36 4 4d b2 c1 e7 dc 7d 46 43 17 7d 1b 1 0 0 0 6a 47 30 44 2 20 1e 7a a7 a4 14 d1 3c ed cd c4 b3 fa 7d 93 b 26 b1 42 9 fb fc 4a 30 b5 9c 14 bf f5 74 6 dc c9 2 20 3b a0 e2 98 c8 bc f d7 2c 33 f0 61 f7 bf af 95 8b 5f 2f 17 b a0 6c 40 36 ad ed 1c ef 9c 1f 80 1 21 2 d5 cc ca e2 61 ca 6e 19 77 e9 89 15 49 40 e9 60 f1 b7 dd 1c b9 1a 24 62 ed a1 b3 85 b5 ac 89 5 ff ff ff ff 29 93 be ac 5c 47 16 6e 6b 8d ca 8e e2 fa 33 ef e6 8 cf 9 aa 81 84 4e 95 a8 64 1 ec 2e 79 23 0 0 0 0 6a 47 30 44 2 20 48 71 e5 c0 87 98 82 6d 5a f4 9a 39 77 17 a1 89 3 3c 12 db 99 46 3b c8 21 b 90 a6 5f e9 55 a5 2 20 2d 3c 79 b5 83 9c ac 64 98 a0 b0 27 ef 26 85 7 27 f6 ee 81 5e df c0 d4 e9 f b9 39 69 ba e4 51 1 21 2 d5 cc ca e2 61 ca 6e 19 77 e9 89 15 49 40 e9 60 f1 b7 dd 1c b9 1a 24 62 ed a1 b3 85 b5 ac 89 5 ff ff ff ff 4 ce 4b f6 84 23 44 55 67 f1 7f bd a5 1c 23 d d4 7c de d4 6d e4 f3 75 44 54 23 c6 c6 79 9b d9 0 0 0 0 6b 48 30 45 2 21 0 99 ea c3 2f 1d 47 6a 8e 34 25 63 42 1a 7 fe f4 af d4 b6 6f 79 9e b0 cc c6 90 a2 5e bd b1 af 82 2 20 3e d3 a9 13 ef ed b 2e a0 f8 a8 9b 4 e7 3e 6a 8d c2 6f 48 d1 db 8d 98 96 bf 15 df 1b 2b 96 50 1 21 2 d5 cc ca e2 61 ca 6e 19 77 e9 89 15 49 40 e9 60 f1 b7 dd 1c b9 1a 24 62 ed a1 b3 85 b5 ac 89 5 ff ff ff ff 2 50 f4 0 0 0 0 0 0 19 76 a9 14 48 ec 3e 1a 87 9d d9 ea eb bf d4 cd 29 71 6d 44 27 da 58 7a 88 ac b 38 30 0 0 0 0 0 19 76 a9 14 d8 d6 2f a0 c9 d2 4a 70 55 c0 75 df 82 9d 75 52 65 20 76 4a 88 ac 0 0 0 0 2 0 0 0 1 1a 21 23 ef 16 b4 5 6e bf 50 7 fa 4 a8 53 c3 1f 60 b1 e0 80 36 73 8b 8b 12 e0 86 4a 60 27 3a 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 a d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 db 61 f5 6 61 eb ae e5 31 73 e9 a3 4a 9 df 83 39 d9 6b df 70 51 f6 a7 9a 62 d0 12 1c e4 44 b5 0 0 0 0 17 16 0 14 a1 be f7 48 ce 3 33 32 50 19 30 5d a1 c b5 7 a7 11 86 76 ff ff ff ff 2 f 32 5 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 44 4 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 4d e6 6d 70 56 0 69 6b 2e fc 8f 36 d5 50 2d b 4b e8 f7 dd 21 b7 e6 c8 5 5e 81 2 a9 48 f1 7b 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 1c d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 ff bd 7b 9d 9e 8 9f f8 7c 2a eb ea 5c 2d 1b 17 90 ad df 15 5f d1 c2 d1 da df d8 d1 ec ee de a8 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 2e d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 cc 3b ea 2a ac cb 9b c2 5e 17 1c 9 e8 27 77 e0 f5 f2 3c b8 c6 d5 c0 24 44 fe f0 92 b4 e0 2b 65 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 1d d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 29 20 d0 2e 38 45 ec f6 d6 ef b 6 a7 76 1c 94 42 8 eb a6 34 3c 33 4f bd 2 d4 ea fa 69 ed a6 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 1e d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 2a 38 74 9d e3 57 1e 14 aa bf a5 b1 95 e9 4 16 2c 35 9e 4f 72 4 9a c7 32 68 e6 e3 3a 48 4e c9 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 d d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 2 0 0 0 1 5e 76 4d 37 71 65 94 3c 79 a0 8c 70 f4 ce c2 d2 ba 9d 69 c4 9c 79 1 91 e1 b2 c0 a8 0 c0 aa cb 0 0 0 0 17 16 0 14 7f 64 3e d5 2a 60 5d 53 59 45 6d f8 56 53 51 ae df 9d 14 91 ff ff ff ff 2 2b 6 1 0 0 0 0 0 17 a9 14 b9 33 20 82 70 e8 7 70 cf c0 b1 a9 1a fc cd f0 7 20 ab 25 87 1a d 0 0 0 0 0 0 17 a9 14 d8 45 41 78 de 7e 61 48 a 54 d2 98 c9 68 86 59 6 d3 3c 32 87 0 0 0 0 1 0 0 0 1 84 68 25 5 c9 b6 d7 8b 55 1d f2 76 59 14 27 b4 e8 c3 fb 72 d0 d8 66 c5 cc 6d 98 e6 cc 8a 1 1d 1 0 0 0 6a 47 30 44 2 20 17 5d 43 43 e3 8 13 60 51 63 66 96 1a f7 ad 36 50 6c fe 5 8 cf 9b ba 17 17 75 9c ac 4d 29 a9 2 20 67 7e c9 13 86 46 17 3 69 1 d 4b f2 15 83 19 5 ae c9 33 49 a2 d6 95 5 41 1b 22 0 64 dd 19 1 21 2 44 84 27 a 98 88 8f 52 e6 c6 35 3a c 35 b1 4 fd 82 1 35 cc 62 3 5d c1 f0 38 bd e2 56 b3 16 ff ff ff ff 2 0 0 0 0 0 0 0 0 42 6a 40 33 61 37 35 35 61 33 34 38 33 35 65 38 62 33 37 33 63 34 30 32 39 66 31 36 62 37 35 30 65 61 38 37 65 33 32 62 66 64 65 62 66 63 63 64 35 33 30 32 62 35 31 61 34 39 66 64 36 30 38 34 33 64 37 f8 f8 e 0 0 0 0 0 19 76 a9 14 37 b1 1d b d0 9a 5b 21 24 60 ff 26 5d 85 69 85 3a 4e 73 5d 88 ac 0 0 0 0 1 0 0 0 1 2c bd 48 3 a5 50 8b 75 8f 4e b2 ef 95 13 8c 4d ad 8f b8 b8 aa 50 76 4b 10 c4 8e 31 1e 81 d1 6e 0 0 0 0 0 ff ff ff ff 2 1d 5c 0 0 0 0 0 0 16 0 14 7b 90 dc 26 ef e4 a 6c 7d e8 37 a2 3c 38 23 7f 3d e0 fa 6e d4 a9 84 1 0 0 0 0 16 0 14 11 a8 82 78 fc 87 c1 69 63 27 93 22 e9 34 87 1c 3d ab a8 e3 0 0 0 0 1 0 0 0 1 f0 bb b0 3d 27 62 43 51 c2 cc ff bd bf cc 6d 98 a6 e5 d 59 bb 97 6e 9c 86 de f5 af 16 d7 1f e 0 0 0 0 0 ff ff ff ff 2 b7 dd 43 94 1 0 0 0 16 0 14 1f c8 24 dc da e9 c7 81 d 9f ca 5a 8b b4 fd ef 72 46 7a 3b 1b 5c 0 0 0 0 0 0 16 0 14 4c e7 dd e2 81 d1 a7 e8 db 94 c9 b8 57 2f 12 3 9b c3 6b aa 0 0 0 0 2 0 0 0 1 34 78 33 60 dc ac 80 7 31 89 70 ba 53 20 c7 99 80 a0 bb 22 c3 b6 57 a7 cc 8d 42 81 41 ee 71 a8 1 0 0 0 0 0 0 0 0 2 20 4e 0 0 0 0 0 0 22 0 20 da a7 81 3c 28 db 39 19 d7 30 39 2c f 13 41 6a 9 3f 65 26 fd b8 3d ef 6b f b1 77 55 3b 7b 1e 9e 42 3a 0 0 0 0 0 16 0 14 ee 72 97 ac be 8c 9b b 92 55 2e c8 f5 b e a3 d6 a8 c0 ac 0 0 0 0 1 0 0 0 7 89 1b 11 31 60 65 c f1 95 f1 46 ab f4 ca 13 70 c7 9c e3 84 22 6d 8c 5f 40 57 8b f4 fe e4 93 61 0 0 0 0 23 22 0 20 5e d3 58 47 5a 54 9d 11 43 4c 9e c9 f4 44 c8 c7 24 94 95 69 f3 be 4a d5 10 c7 68 53 cb 9c f b0 ff ff ff ff 6a 10 84 73 be 3a 7a 63 a7 ce 8d dd 5f 87 31 40 ac 48 25 be 47 97 4b 28 68 23 8f 77 76 88 4b 8b 0 0 0 0 23 22 0 20 5e d3 58 47 5a 54 9d 11 43 4c 9e c9 f4 44 c8 c7 24 94 95 69 f3 be 4a d5 10 c7 68 53 cb 9c f b0 ff ff ff ff 7e c 81 15 e2 5f cb f7 c6 61 dd 85 72 a8 7f 81 b4 cc 89 27 9a b5 af 8a 50 bc e1 d2 e4 f2 15 93 0 0 0 0 23 22 0 20 5e d3 58 47 5a 54 9d 11 43 4c 9e c9 f4 44 c8 c7 24 94 95 69 f3 be 4a d5 10 c7 68 53 cb 9c f b0 ff ff ff ff 63 55 be 95 95 c 7a 43 5 c6 4e 63 e4 87 d3 43 ee c3 1c e7 37 3b 53 18 77 54 3e 63 f0 48 46 99 0 0 0 0 23 22 0 20 5e d3 58 47 5a 54 9d 11 43 4c 9e c9 f4 44 c8 c7 24 94 95 69 f3 be 4a d5 10 c7 68 53 cb 9c f b0 ff ff ff ff 74 6 59 4c d4 51 f0 1d 11 7f 4b ce e8 31 8c 63 3b c7 2b cf 53 86 26 24 2a 60 97 19 5d 76 19 b8 0 0 0 0 23 22 0 20 5e d3 58 47 5a 54 9d 11 43 4c 9e c9 f4 44 c8 c7 24 94 95 69 f3 be 4a d5 10 c7 68 53 cb 9c f b0 ff ff ff ff f2 7 d 83 d5 d5 4a 8f 86 98 dd 7a 8a ba 69 45 93 7f b3 da a8 99 b5 43 47 87 f2 1a 2 31 ea cc 0 0 0 0 23 22 0 20 5e d3 58 47 5a 54 9d 11 43 4c 9e c9 f4 44 c8 c7 24 94 95 69 f3 be 4a d5 10 c7 68 53 cb 9c f b0 ff ff ff ff 95 19 62 cf 3b f6 bc fb 18 ef 8a bd fc 75 c9 d3 11 8e a2 67 98 b5 36 2f 7f a4 e0 25 c0 aa 3a e0 0 0 0 0 0 ff ff ff ff 2 a0 86 1 0 0 0 0 0 17 a9 14 2b 88 29 c8 e5 72 ae 72 c1 f3 b0 7e c 41 e9 c1 9e 46 ad b2 87 31 2b a 0 0 0 0 0 16 0 14 1c 7a a 3f 12 fa b9 fc 55 63 dd e 46 d f2 47 eb 25 fc f7 56 a2 1e 0 1 0 0 0 1 84 a9 74 bf 2b 91 7c 4c 9 ef c0 8c 3b b4 10 45 40 fd 8a 75 32 ab bb 5 d7 45 e5 de 29 ec 55 7c 0 0 0 0 0 ff ff ff ff 2 a0 86 1 0 0 0 0 0 17 a9 14 2b 88 29 c8 e5 72 ae 72 c1 f3 b0 7e c 41 e9 c1 9e 46 ad b2 87 53 57 16 0 0 0 0 0 16 0 14 40 50 b6 ba ae 60 80 9a 4 25 e3 ef c0 ca 53 ee 92 9b 8f 53 56 a2 1e 0 1 0 0 0 4 1d 22 ee be 46 f4 1b ae 51 e0 18 42 f7 42 d9 41 e5 24 49 c5 49 b3 45 98 29 cd d5 a6 e2 3c 62 34 2 0 0 0 23 22 0 20 26 ad 96 76 6 93 c3 c6 bf fa 19 2a 47 c8 a0 7c b3 f4 b3 4e 36 ce 7c 7a 50 6c fc c0 65 9b fe ac ff ff ff ff 1d 22 ee be 46 f4 1b ae 51 e0 18 42 f7 42 d9 41 e5 24 49 c5 49 b3 45 98 29 cd d5 a6 e2 3c 62 34 3 0 0 0 23 22 0 20 26 ad 96 76 6 93 c3 c6 bf fa 19 2a 47 c8 a0 7c b3 f4 b3 4e 36 ce 7c 7a 50 6c fc c0 65 9b fe ac ff ff ff ff 1d 22 ee be 46 f4 1b ae 51 e0 18 42 f7 42 d9 41 e5 24 49 c5 49 b3 45 98 29 cd d5 a6 e2 3c 62 34 4 0 0 0 23 22 0 20 26 ad 96 76 6 93 c3 c6 bf fa 19 2a 47 c8 a0 7c b3 f4 b3 4e 36 ce 7c 7a 50 6c fc c0 65 9b fe ac ff ff ff ff 1d 22 ee be 46 f4 1b ae 51 e0 18 42 f7 42 d9 41 e5 24 49 c5 49 b3 45 98 29 cd d5 a6 e2 3c 62 34 5 0 0 0 23 22 0 20 26 ad 96 76 6 93 c3 c6 bf fa 19 2a 47 c8 a0 7c b3 f4 b3 4e 36 ce 7c 7a 50 6c fc c0 65 9b fe ac ff ff ff ff 5 c7 c 0 0 0 0 0 0 17 a9 14 20 52 9d 7c 15 d6 b4 d2 16 59 e5 8e b6 b0 3d e8 68 11 54 da 87 ae 36 0 0 0 0 0 0 17 a9 14 45 f7 88 da 62 38 1a 6e 32 33 64 18 2c 63 40 85 b8 43 c7 8b 87 b0 36 0 0 0 0 0 0 17 a9 14 45 f7 88 da 62 38 1a 6e 32 33 64 18 2c 63 40 85 b8 43 c7 8b 87 b0 36 0 0 0 0 0 0 17 a9 14 45 f7 88 da 62 38 1a 6e 32 33 64 18 2c 63 40 85 b8 43 c7 8b 87 b0 36 0 0 0 0 0 0 17 a9 14 45 f7 88 da 62 38 1a 6e 32 33 64 18 2c 63 40 85 b8 43 c7 8b 87 56 a2 1e 0 1 0 0 0 1 dc d0 6c f 51 29 89 2a 74 8f 9e ff 20 4f 27 1c b2 b3 33 5c bb 3e 4d 7 9d 53 5c 6e c2 53 94 71 0 0 0 0 6b 48 30 45 2 21 0 fd 2c d0 5c 3d 99 95 f6 53 70 d1 6b 66 33 94 96 de e7 90 11 77 8 32 bc 5c 30 fc e7 c3 70 fb 62 2 20 79 a5 ca 77 10 49 10 b9 92 9d fe da db 71 78 6a 11 f7 6f 11 b4 c2 aa 48 8d 83 65 dc a8 ad 99 c5 1 21 3 47 36 d3 33 7d 42 56 84 73 23 d2 f5 88 a2 c2 18 66 83 5a 5f fd 43 d5 e5 74 da 3c ef 7e d7 bf e0 ff ff ff ff 2 ec f7 e 0 0 0 0 0 19 76 a9 14 8d 4d 2 ac 8a d3 59 73 d6 77 66 3f d8 a0 94 b6 8 99 39 b4 88 ac 0 0 0 0 0 0 0 0 42 6a 40 64 35 62 31 64 34 35 37 32 62 65 64 31 39 63 32 39 66 62 37 30 65 33 66 64 61 34 33 38 64 62 36 65 34 63 61 62 38 30 33 65 62 36 36 37 62 33 33 64 31 34 65 36 65 38 31 32 62 63 64 38 39 32 37 0 0 0 0 1 0 0 0 1 e7 8 d4 a0 c9 ec ef f3 80 30 9 23 58 1d 96 76 8e 8c 22 8b 9c 5e 23 8f 38 82 88 ab 5e c0 f1 4d 1 0 0 0 6b 48 30 45 2 21 0 f3 34 d2 69 f4 44 d1 ae f8 bc f7 56 e2 f0 f8 1c 16 6a 89 cd 45 bc 1d bd 1f f8 27 ed 67 51 3b f8 2 20 3c 7e 5d a7 b3 28 19 f8 65 bd 8f 2e 7e 76 ad a9 24 e2 50 72 6 69 d8 be 7f 69 bb ce 7b 4a 8a 19 1 21 2 4 86 27 2a 7a cf a1 ff 3d e8 e1 91 2a 5f 53 8b 2a 9a bb fe fa bd 2 90 2b fd b2 b6 82 a6 6b a0 ff ff ff ff 2 0 0 0 0 0 0 0 0 42 6a 40 35 63 38 33 66 32 32 66 30 32 30 32 33 34 35 30 62 30 30 62 39 30 32 38 65 62 64 38 62 31 62 31 65 33 30 62 62 38 61 30 65 38 64 66 65 39 63 31 61 37 32 34 62 33 63 65 31 62 30 37 62 31 39 39 3a 54 9c 0 0 0 0 0 19 76 a9 14 ba e7 f1 da 2f c1 f 76 98 1a 2 6a 72 71 d9 dc 50 9 71 3b 88 ac 0 0 0 0 1 0 0 0 1 79 4f 8 ec 7e 96 a9 5a a4 7d 42 48 85 b2 f3 79 63 e8 3e 9d dc 40 ce a3 4c 63 1f 2f df 2 0 86 0 0 0 0 0 ff ff ff ff 2 76 57 10 0 0 0 0 0 16 0 14 44 ff 95 b5 4 86 38 57 9a e3 39 4 fb 58 f8 57 4d 10 aa 38 b0 0 9 0 0 0 0 0 16 0 14 f6 0 19 e8 38 4f 63 10 e8 7f d0 3a 5 92 70 2b c2 ad 51 af 0 0 0 0 2 0 0 0 1 43 63 5 ce f0 f4 19 fe b3 7a 81 16 27 86 e2 89 b9 8 88 9c d4 45 43 23 29 f2 f6 4 7b 8c 6a b9 1 0 0 0 0 fe ff ff ff 2 a0 86 1 0 0 0 0 0 22 0 20 de 4c 61 f7 b7 53 84 3f dd 83 12 1a 96 85 dd 15 94 83 82 c2 9a 58 d3 74 cb 1b c6 e9 de 43 32 3f b3 bd 40 0 0 0 0 0 16 0 14 82 bc 8e 8 d5 ae 52 81 da 3b aa 19 da 5d f3 80 22 9e d1 5f 56 a2 1e 0 2 0 0 0 1 66 42 92 61 ba 4 21 35 d7 85 dd 2f ae fb 6c 98 6a 52 26 78 7a 9e b2 4f ae 38 9 3f 97 26 47 7f 1 0 0 0 17 16 0 14 48 60 46 40 68 5a f4 9 8b 6c 1c 6 e0 db 2b 58 51 c5 ca 5b fe ff ff ff 2 a0 86 1 0 0 0 0 0 16 0 14 f9 7 dd 4e 53 61 4d 6e cb bd f1 c7 e4 c1 95 13 c6 eb 5b 29 8f 3c 89 0 0 0 0 0 16 0 14 a ab f5 d0 35 53 a9 a5 7b 9f 75 8c 55 c5 d1 58 3f 97 e 9a 56 a2 1e 0 1 0 0 0 1 ec 2d e3 74 87 8 1d e d3 11 db ab 49 85 85 da 29 ce 44 70 65 be 43 42 47 9c 8f bc 44 b7 c5 85 0 0 0 0 6b 48 30 45 2 21 0 fc 34 dd 9e 93 22 2a e1 ca f6 97 f1 4a 7 a1 6c 40 2b 34 f8 a a7 78 6a 14 49 b2 41 89 85 f9 61 2 20 5c a2 a3 97 4b 83 2f 5a 80 a1 a8 de ce f6 d0 9b af 1c 8b b 94 d7 57 48 c9 39 fc ac b9 ba 55 61 1 21 3 d9 a 3e 9 39 ba 72 25 59 7c f9 1a 85 48 4e e2 c 65 43 83 46 c4 ba e6 22 6a 71 ae f7 89 f3 ca ff ff ff ff 2 3b ec 3c 0 0 0 0 0 19 76 a9 14 21 3d 2a 95 ee 42 2d 2b de 74 8d d0 f2 6d f8 e0 e0 46 97 aa 88 ac 1c 94 23 0 0 0 0 0 19 76 a9 14 9f 4e 6a b6 55 56 39 24 51 ea 33 1e 49 b0 4d 8e b a9 8f ab 88 ac 0 0 0 0 2 0 0 0 1 44 11 4f a6 89 30 17 dd b9 cc 81 e0 ac 57 7d 4 93 5e 47 a3 b3 d6 c3 cf 45 33 e9 9e ff bb 16 d9 1 0 0 0 0 fe ff ff ff 2 49 43 e9 0 0 0 0 0 16 0 14 44 8c f1 dc 96 f7 90 b a0 11 a4 a1 79 56 34 6 48 2a 74 46 a0 86 1 0 0 0 0 0 22 0 20 de 4d f9 4f 4 a2 9b 4b fa d6 2f b2 af a5 de 99 76 ae 4a 1 e2 a5 af 6a 75 fc 30 a9 bf 95 3b e7 56 a2 1e 0 2 0 0 0 c 5b c6 3a 25 9c e d 9e 2a b0 c3 70 3b 9c dd 47 a1 17 c 52 98 91 d0 e8 13 60 30 e2 55 e0 b3 90 0 0 0 0 17 16 0 14 1d b8 c1 cd 4a 4e 6c b3 58 8 81 e9 2f df b5 76 37 f4 32 15 fe ff ff ff 65 70 b3 6f ed e0 29 98 c3 c9 33 df a9 ca de 9f 1b 8f b9 5d 8c a8 e8 af a1 e0 f3 8 f0 7e 96 d3 0 0 0 0 17 16 0 14 22 50 e a5 e3 75 a9 ec 25 66 4b df aa a3 b5 e e2 89 39 29 fe ff ff ff 8b d6 63 32 e1 f4 b c3 c2 fd c7 ed 47 67 dc 12 ec 59 32 7e 2 cd af 17 7a 1a 29 c0 8d 67 c2 b6 1 0 0 0 17 16 0 14 a0 c9 29 14 4a 2 6e 39 58 14 5b 50 28 91 5 d0 68 77 72 e8 fe ff ff ff 16 57 bd 97 71 1c e5 9e 8a e6 2d a4 ee 8c 8e 5b bf 3f 59 82 a7 c e2 c3 16 38 b5 46 44 5e 1a a7 1 0 0 0 17 16 0 14 a0 c9 29 14 4a 2 6e 39 58 14 5b 50 28 91 5 d0 68 77 72 e8 fe ff ff ff b8 aa 74 da fa 10 89 37 83 6e 19 20 ba c1 e5 6a aa 98 74 4d 2a 93 e2 80 c8 be 72 d3 1e d5 a2 de 0 0 0 0 17 16 0 14 a0 c9 29 14 4a 2 6e 39 58 14 5b 50 28 91 5 d0 68 77 72 e8 fe ff ff ff 1d 61 59 3d 9 fa 13 b3 29 d2 6c 72 94 60 6e a3 94 33 cb 25 c0 58 fe c3 39 8c 5c 51 c0 e9 31 be 0 0 0 0 17 16 0 14 9f d6 d9 a0 dc 62 59 81 f5 9 ac 79 f2 ca 39 f1 df e0 62 fb fe ff ff ff 1b f0 48 36 3e c0 7 ab 62 9b 11 b7 c2 39 d9 8b fe fe 7f 74 47 1a b8 3f 24 86 98 c5 bb 2a 2f 64 0 0 0 0 17 16 0 14 3b de 14 c3 78 ca 29 b9 d0 93 80 96 67 a4 69 d6 a a3 87 ac fe ff ff ff 9b 93 8 a4 88 55 2f c6 85 41 f5 2a d1 42 32 69 76 ac 52 a2 75 6a c1 84 89 b4 d7 4a 8b e6 53 da 0 0 0 0 17 16 0 14 a0 c9 29 14 4a 2 6e 39 58 14 5b 50 28 91 5 d0 68 77 72 e8 fe ff ff ff ac 65 63 54 ee f4 d9 2 45 bc 2d a8 6b 9e ae bb 8b 9d a2 d7 a1 c4 4 b4 61 95 bc f9 fc 45 d1 bd 0 0 0 0 17 16 0 14 43 81 fe 7a a9 5a fd 6 15 76 40 61 57 b7 cd 6a 58 e4 16 cf fe ff ff ff 40 93 fd e3 62 60 21 27 e3 22 f7 bc 47 58 a4 73 2d 18 8f 7c 27 6b 4 e6 b2 8a ea cb 47 ec 3a f6 0 0 0 0 17 16 0 14 d1 3 c9 a5 54 95 74 46 9f e1 8f 74 73 a6 32 d4 2f 21 5a b1 fe ff ff ff d5 8f fe 3 f8 18 90 84 29 27 74 ee b6 7a c ef 74 2a 94 e7 5b 95 a6 3a af db 22 f2 d6 f7 aa 8b 0 0 0 0 17 16 0 14 a0 c9 29 14 4a 2 6e 39 58 14 5b 50 28 91 5 d0 68 77 72 e8 fe ff ff ff c0 74 2d aa bc 21 68 12 1f 77 81 59 aa 6b ce f9 bf 6d a2 c2 9a 4e 52 92 2b 50 30 47 d aa c0 52 1 0 0 0 17 16 0 14 a0 c9 29 14 4a 2 6e 39 58 14 5b 50 28 91 5 d0 68 77 72 e8 fe ff ff ff 3 10 27 0 0 0 0 0 0 16 0 14 8d 91 b bb 20 63 e3 29 92 92 37 51 b8 96 95 1a 76 bb b8 1 96 3d f 0 0 0 0 0 16 0 14 c8 4d ba 28 bf fe fb 85 d4 10 ab 95 1e ef ca 3a 79 21 a9 1a 30 75 0 0 0 0 0 0 17 a9 14 ec 26 6b d5 3f b3 14 c1 4 5a 1a 76 73 cf 3d 9f 22 47 be d4 87 56 a2 1e 0 2 0 0 0 1 72 f3 49 c4 d6 31 f8 2a 94 e6 20 80 96 fd 6b 6c d1 bf be f6 44 b0 ba 1e 2 84 18 df 43 9d 2b e8 0 0 0 0 0 fe ff ff ff 2 10 27 0 0 0 0 0 0 16 0 14 99 d6 2a 27 5c 10 60 a1 a8 fb 7a 7d 82 59 42 4c c8 a0 50 8a 20 e4 4d 3f 1 0 0 0 16 0 14 7c c0 6a 80 2d be 65 2 75 33 9d 96 80 b2 a6 c2 c7 4a 49 43 56 a2 1e 0 2 0 0 0 1 b0 8e db ec 61 3e 4 e3 b4 c9 e5 16 46 5b 9c df 60 29 6e 99 21 ae 16 f0 4b 8a 12 eb 5e 46 74 6f 0 0 0 0 0 fe ff ff ff 2 a0 86 1 0 0 0 0 0 22 0 20 de 4d ff 87 4f b 97 28 84 6 f 7 cc 3a f4 3a b8 b9 96 1c b7 97 97 a1 75 cc f7 df 7a 69 ea 80 ec 9b 12 1 0 0 0 0 16 0 14 de 2e 95 7 19 f6 64 42 b9 5d e0 9e c0 dc bb d cd 34 76 26 56 a2 1e 0 2 0 0 0 1 9c 59 fc 85 d5 a8 c6 bc 7e b4 a5 b5 1 5d 81 c3 2c 79 61 be 8e 54 ac 42 99 52 89 80 19 ec 98 8a 0 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 37 fb 29 7a 65 83 e8 54 71 6a 0 49 31 eb dc c 5 ec a9 f4 ea 92 c9 2a d3 7 3b 3f 8b 99 60 5c 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 9 7f f 0 0 0 0 0 16 0 14 f0 31 e8 8c 9a 7a 5b 65 4c 35 66 35 45 ca 23 f1 8b bc 10 c8 0 0 0 0 1 0 0 0 1 62 e ba 7c 10 db 97 bc d4 30 67 c0 3d e d0 9f 55 84 5f d4 8 a4 e f0 a1 65 fa 40 9a 58 5a ee 0 0 0 0 0 ff ff ff ff 2 f2 30 f5 0 0 0 0 0 16 0 14 54 c3 fd d2 9c 3 b7 1f 19 11 68 47 78 9 c8 c5 f3 76 1e 43 39 fe a5 0 0 0 0 0 16 0 14 d1 d5 61 60 68 16 e8 cd 40 87 42 f9 26 77 4e 47 15 8c 70 82 0 0 0 0 2 0 0 0 1 e8 38 de f7 5c 6f 8c f1 57 64 6e 41 f6 6f d1 b 22 ca f1 3a b2 7d 8f 97 40 74 bf a7 cc a2 14 9c 1 0 0 0 17 16 0 14 e0 f0 b4 e8 29 89 71 78 a6 c4 93 3b 3 20 49 e7 74 95 38 e7 fe ff ff ff 2 a0 86 1 0 0 0 0 0 17 a9 14 97 84 75 dc 6a d1 ba 89 51 11 89 ec 34 e0 1e 79 d9 bb f1 68 87 4 b6 0 1 0 0 0 0 17 a9 14 bd 73 64 5e 5b 5a db dc 1 6a 19 9d 9 b4 1e b7 9f 9e a1 32 87 55 a2 1e 0 2 0 0 0 1 1c 82 71 81 77 60 82 39 d6 3e 5d 4b bb e3 cc 30 ec e4 5f a9 41 4c 20 96 ea bb d4 3e c f5 8b f0 0 0 0 0 0 fe ff ff ff 2 7f dc bf 0 0 0 0 0 17 a9 14 d2 a9 40 e8 9 66 62 77 b 2f 4 c6 94 bc 62 a9 41 f5 2d d0 87 a0 86 1 0 0 0 0 0 17 a9 14 54 40 32 a8 38 81 bd e4 4f 9e a0 f2 f2 45 c 84 23 f9 91 eb 87 56 a2 1e 0 2 0 0 0 1 d4 b1 25 35 35 e3 74 3c a6 c6 6b 46 c3 5e d6 63 9d 21 da 19 7f 15 62 55 59 1c 77 ca f6 f7 38 6a 1 0 0 0 0 fe ff ff ff 2 1e 56 0 0 0 0 0 0 19 76 a9 14 74 f7 f4 e4 83 9e ec 90 ff 1 6a 19 aa 81 6d 40 f5 da b 5b 88 ac cd 12 8a e8 8 0 0 0 16 0 14 80 c0 c1 ad 7e 12 d 98 63 ec 57 b5 87 2d 74 2a f 40 df 2d 56 a2 1e 0 2 0 0 0 1 10 cd bc 30 58 f1 bb 7b 7b c1 fa 6a e0 f4 d0 5a 15 e8 59 6b 7d 54 c4 cc 94 4f e2 f0 6f 5a d1 38 0 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 c3 bb cb ad cd 79 68 76 60 ca de d8 55 85 7c 56 34 65 1d 6a 8e 8a 6e d5 9e e2 b2 dd 14 b0 11 c3 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 4 54 f 0 0 0 0 0 16 0 14 b2 4d e a2 cd a6 69 e5 a1 1f 6c aa ee b 3a 76 4a 29 4f 55 0 0 0 0 2 0 0 0 1 dd 3b 12 bd a5 13 bf be 3 c2 a7 8e 8 4f 9f d6 83 70 c7 d8 d0 33 47 22 22 a6 10 b ae 41 7a 1c 1 0 0 0 17 16 0 14 d8 8e d1 98 81 77 df 99 8d df ce f2 8f 53 f0 52 d 40 1e 9e fe ff ff ff 2 a0 86 1 0 0 0 0 0 17 a9 14 68 7c 88 3e 59 12 9e 77 a4 11 68 a6 78 82 bb ac f 43 e6 88 87 c0 9f 1b 1 0 0 0 0 17 a9 14 20 d9 42 e7 c2 34 7c 70 dc fb f 66 6b 36 b3 3 3b 49 e 26 87 f5 a1 1e 0 2 0 0 0 1 50 1b 5e f7 6 ee 7d 9e c7 6c 51 1e db 63 18 5e ed 1e c0 40 e1 91 91 90 96 a9 e 32 f7 ce 66 ab 1 0 0 0 0 fe ff ff ff 2 72 8d 4d 3f 1 0 0 0 16 0 14 fe 4a 1c 95 3 e0 ca 97 a 6d f6 7f d1 cf 63 66 59 12 d1 bf 1e 56 0 0 0 0 0 0 19 76 a9 14 35 99 45 5f fb ae 83 0 17 80 e2 73 b1 a7 f6 58 bd 46 f1 9b 88 ac 56 a2 1e 0 2 0 0 0 1 d0 fe 19 e4 ea 1c e2 45 12 d7 20 3b 5e 96 29 9c ca e4 6 2e 9f ec c8 a3 7d 64 85 70 92 1b b9 fa 1 0 0 0 0 fe ff ff ff 3 0 0 0 0 0 0 0 0 22 6a 20 84 7d fd eb 21 66 90 bb 45 db 43 aa b9 ac c ea 8 7e 55 fe 89 8d 3e ef 9b a6 e1 56 9a 2b 9a 8f 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 db 57 f 0 0 0 0 0 16 0 14 b9 c7 17 f2 69 8d ee aa 2b 6e a8 34 3 2b d5 a9 ab 64 13 d4 0 0 0 0 2 0 0 0 1 1b 37 69 f 9a 83 30 8c de 11 5 e8 b4 55 d0 a7 66 e4 5b 8 1f e7 28 f7 21 af 5 61 c0 31 ea 50 2 0 0 0 0 fe ff ff ff 3 45 46 f 0 0 0 0 0 16 0 14 d8 34 82 18 bb 24 49 d2 f4 9e 7b 78 d1 51 db f1 fa 18 35 a5 0 0 0 0 0 0 0 0 22 6a 20 77 41 3d f2 6e de 84 9a 81 37 ab 64 62 96 8c ef a5 54 d4 41 61 e7 88 d8 db 40 d6 8b 36 bb a2 1e 81 4 0 0 0 0 0 0 16 0 14 a1 20 8f b6 b1 20 d9 a2 d8 c9 17 40 4d 9d d7 48 fe 53 c7 b2 0 0 0 0 1 0 0 0 1 50 42 48 4a 39 2e 4e ae 48 24 61 ee 5 8b ff 18 57 b1 b9 7d 5a af dc e6 81 99 ee 5b 41 8e 59 e2 1 0 0 0 0 ff ff ff ff 2 f2 30 f5 0 0 0 0 0 16 0 14 14 42 cd e1 78 47 7c 7e 52 a3 23 1e 64 65 6f e2 ec 69 f8 c4 18 ed 2e 1 0 0 0 0 16 0 14 c2 17 1b 6a 10 21 51 a6 2e 8f bd 91 8a 63 bb 43 b1 66 16 3c 0 0 0 0 2 0 0 0 2 8a 3 8a 36 ed 2a ff 6b b0 e0 70 b5 85 1 55 7d cc 2f 17 39 d3 ad 64 bc a0 12 55 af 37 de 27 80 0 0 0 0 0 fe ff ff ff 8a 3 8a 36 ed 2a ff 6b b0 e0 70 b5 85 1 55 7d cc 2f 17 39 d3 ad 64 bc a0 12 55 af 37 de 27 80 1 0 0 0 0 fe ff ff ff 2 7c e4 11 0 0 0 0 0 16 0 14 19 7b 5 d7 b2 42 39 8 69 cd c5 b7 b7 41 c4 e6 26 78 87 f5 e0 93 4 0 0 0 0 0 17 a9 14 e6 b3 f5 8d 33 cd f a4 e8 80 a1 91 fa bb 79 38 66 4a f8 20 87 56 a2 1e 0";
-		String[] arr = msg.split(" ");
-		byte[] aaa = new byte[arr.length];
-
-		int x = 0;
-		for (String string : arr) {
-			int decimal = Integer.parseInt(string, 16);
-			aaa[x++] = (byte) decimal;
-		}
+		byte[] aaa = parseBytes(BLOCK1);
 		System.out.println("BLOCK: " + ByteUtil.byteArrayToStr(aaa));
 
 		BitcoinBuffer buffer = new BitcoinBuffer(aaa);
@@ -37,6 +42,7 @@ public class BlockMessageTest {
 
 		assertEquals("0000000000000027b3f5f330ea2930861cf52a5cd25ecbdc08ed29bad2dd1da3",
 					 block.getHashAsStr());
+		assertSame(block.getHash(), block.getHash());
 		assertEquals(0x20400004, block.getVersion());
 		assertEquals("000000000000000115e4e338b7bb40b52dd89e54175d13d3507e0ab860792ab4",
 					 block.getPrevBlock().getHashAsStr());
@@ -48,4 +54,138 @@ public class BlockMessageTest {
 		assertEquals(110, block.getTxList().size());
 		assertEquals(17806, buffer.getPosition());
 	}
+
+	@Test
+	public void testVisitor() {
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(parseBytes(BLOCK1)));
+		assertEquals(110, block.getTxCount());
+
+		List<String> events = new ArrayList<>();
+		long[] totals = new long[3]; // inputs, outputs, value
+		block.accept(new BlockVisitor() {
+			@Override
+			public void onHeader(AbstractBlockMessage header, int txCount) {
+				events.add("header " + txCount);
+			}
+
+			@Override
+			public void onTx(TxView tx, int index) {
+				events.add(new TxMessage(tx).getHash());
+			}
+
+			@Override
+			public void onTxIn(TxView tx, int index) {
+				totals[0]++;
+			}
+
+			@Override
+			public void onTxOut(TxView tx, int index) {
+				totals[1]++;
+				totals[2] += tx.getOutputValue(index);
+			}
+
+			@Override
+			public void onEnd() {
+				events.add("end");
+			}
+		});
+
+		List<TxMessage> txList = block.getTxList();
+		assertEquals(112, events.size());
+		assertEquals("header 110", events.get(0));
+		assertEquals("end", events.get(111));
+
+		long inputs = 0, outputs = 0, value = 0;
+		for (int x = 0; x < txList.size(); x++) {
+			TxMessage tx = txList.get(x);
+			assertEquals(tx.getHash(), events.get(x + 1));
+			inputs += tx.getTxInList().size();
+			outputs += tx.getTxOutList().size();
+			for (TxOut out : tx.getTxOutList()) {
+				value += out.getValue();
+			}
+		}
+		assertEquals(inputs, totals[0]);
+		assertEquals(outputs, totals[1]);
+		assertEquals(value, totals[2]);
+		assertSame(txList, block.getTxList());
+	}
+
+	@Test
+	public void testTxIds() {
+		byte[] data = parseBytes(BLOCK1);
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(data));
+		TxIdTable txIds = block.getTxIds();
+		assertEquals(110, txIds.size());
+
+		List<TxMessage> txList = block.getTxList();
+		for (int x = 0; x < txList.size(); x++) {
+			assertEquals(txList.get(x).getTxId(), txIds.get(x));
+		}
+		assertEquals(37, txIds.indexOf(txList.get(37).getTxId()));
+
+		// same table when hashed by other threads in batches
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			byte[] large = repeatTxs(data, 7); // 770 transactions, 4 batches
+			BlockMessage inline = new BlockMessage();
+			inline.loadFromBuffer(new BitcoinBuffer(large));
+			BlockMessage batched = new BlockMessage(executor);
+			batched.loadFromBuffer(new BitcoinBuffer(large));
+			assertEquals(770, batched.getTxIds().size());
+			assertArrayEquals(inline.getTxIds().getBytes(), batched.getTxIds().getBytes());
+			assertEquals(txList.get(3).getTxId(), batched.getTxIds().get(110 * 6 + 3));
+		} finally {
+			executor.shutdown();
+		}
+
+		// computed from the list when it is not backed by a payload
+		BlockMessage copy = new BlockMessage();
+		copy.setTxList(txList);
+		assertArrayEquals(txIds.getBytes(), copy.getTxIds().getBytes());
+	}
+
+	/**
+	 * Builds a block with the transactions of another one repeated.
+	 */
+	private static byte[] repeatTxs(byte[] block, int times) {
+		int txStart = 80 + 1; // header + tx count (110)
+		int txLength = block.length - txStart;
+		int count = block[80] * times;
+		byte[] result = new byte[80 + 3 + txLength * times];
+		System.arraycopy(block, 0, result, 0, 80);
+		result[80] = (byte) 0xfd;
+		result[81] = (byte) count;
+		result[82] = (byte) (count >>> 8);
+		for (int x = 0; x < times; x++) {
+			System.arraycopy(block, txStart, result, 83 + x * txLength, txLength);
+		}
+		return result;
+	}
+
+	@Test
+	public void testForgedTxCount() {
+		// a count that would fit in the payload as bytes but not as transactions
+		BitcoinBuffer buf = new BitcoinBuffer(200_000);
+		buf.putBytes(parseBytes(BLOCK1), 0, BlockHeader.SIZE);
+		buf.putVarInt(100_000);
+		buf.putBytes(new byte[100_000]);
+		try {
+			new BlockMessage().loadFromBuffer(new BitcoinBuffer(buf.toArrayExactSize()));
+			fail();
+		} catch (BitcoinListenerException e) {
+			assertEquals("Invalid number of transactions: 100000", e.getMessage());
+		}
+	}
+
+	public static byte[] parseBytes(String msg) {
+		String[] arr = msg.split(" ");
+		byte[] bytes = new byte[arr.length];
+		for (int x = 0; x < arr.length; x++) {
+			bytes[x] = (byte) Integer.parseInt(arr[x], 16);
+		}
+		return bytes;
+	}
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.messages;
+
+import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.BitcoinListenerException;
+import bitcoinlistener.datatypes.SHA256Hash;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class CmpctBlockMessageTest {
+
+	@Test
+	public void testSerialization() {
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1)));
+
+		CmpctBlockMessage compact = new CmpctBlockMessage(block, 0x1122334455667788L);
+		CmpctBlockMessage loaded = new CmpctBlockMessage();
+		loaded.loadFromBuffer(new BitcoinBuffer(compact.getBytes()));
+
+		assertEquals(block.getHash(), loaded.getHash());
+		assertEquals(0x1122334455667788L, loaded.getShortIdNonce());
+		assertEquals(block.getTxCount(), loaded.getTxCount());
+		assertArrayEquals(new int[] { 0 }, loaded.getPrefilledIndexes());
+		assertEquals(block.getTxIds().get(0), loaded.getPrefilledTxs().get(0).getTxId());
+		assertArrayEquals(compact.getShortIds(), loaded.getShortIds());
+
+		// 6 bytes, keyed by the header and the nonce
+		SHA256Hash txId = block.getTxIds().get(1);
+		assertEquals(loaded.getShortIds()[0], loaded.getShortId(txId));
+		assertEquals(0, loaded.getShortId(txId) >>> 48);
+		assertNotEquals(loaded.getShortId(txId),
+						new CmpctBlockMessage(block, 1).getShortId(txId));
+	}
+
+	@Test(expected = BitcoinListenerException.class)
+	public void testInvalidPrefilledIndex() {
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1)));
+		byte[] bytes = new CmpctBlockMessage(block, 0).getBytes();
+
+		// the index of the coinbase (after the header, nonce, short ids and the count)
+		int pos = 80 + 8 + 1 + CmpctBlockMessage.SHORT_ID_SIZE * (block.getTxCount() - 1) + 1;
+		bytes[pos] = (byte) block.getTxCount();
+		new CmpctBlockMessage().loadFromBuffer(new BitcoinBuffer(bytes));
+	}
+
+	@Test
+	public void testGetBlockTxn() {
+		SHA256Hash hash = SHA256Hash.fromHex(
+				"000000000000000000034d8ba4ad4ba7c8ba7ac1ac2bb1a8bb42ea0c3b7e5b3a");
+		GetBlockTxnMessage msg = new GetBlockTxnMessage(hash, new int[] { 0, 1, 5, 200 });
+		GetBlockTxnMessage loaded = new GetBlockTxnMessage();
+		loaded.loadFromBuffer(new BitcoinBuffer(msg.getBytes()));
+		assertEquals(hash, loaded.getBlockHash());
+		assertArrayEquals(new int[] { 0, 1, 5, 200 }, loaded.getIndexes());
+		// differential: 0, 0, 3, 194 (one byte each)
+		assertEquals(32 + 1 + 4, msg.getBytes().length);
+	}
+}
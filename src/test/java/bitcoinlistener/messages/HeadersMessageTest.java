@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.messages;
+
+import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.BitcoinListenerException;
+import bitcoinlistener.datatypes.BlockHeader;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class HeadersMessageTest {
+
+	@Test
+	public void testSerialization() {
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1)));
+
+		HeadersMessage headers = new HeadersMessage(Arrays.asList(block.getHeader(),
+																  block.getHeader()));
+		byte[] bytes = headers.getBytes();
+		assertEquals(1 + 2 * (BlockHeader.SIZE + 1), bytes.length);
+
+		HeadersMessage loaded = new HeadersMessage();
+		loaded.loadFromBuffer(new BitcoinBuffer(bytes));
+		assertEquals(2, loaded.getHeaders().size());
+		BlockHeader header = loaded.getHeaders().get(0);
+		assertEquals(block.getHash(), header.getHash());
+		assertEquals(block.getMerkleRoot(), header.getMerkleRoot());
+		assertEquals(block.getNonce(), header.getNonce());
+		assertArrayEquals(block.getHeader().getBytes(), header.getBytes());
+	}
+
+	@Test
+	public void testHeaderBuiltFromFields() {
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1)));
+
+		BlockHeader header = new BlockHeader();
+		header.setVersion(block.getVersion());
+		header.setPrevBlock(block.getPrevBlock());
+		header.setMerkleRoot(block.getMerkleRoot());
+		header.setTimestamp(block.getTimestamp());
+		header.setBits(block.getBits());
+		header.setNonce(block.getNonce());
+		assertEquals(block.getHash(), header.getHash());
+
+		header.setNonce(block.getNonce() + 1);
+		assertNotEquals(block.getHash(), header.getHash());
+	}
+
+	@Test(expected = BitcoinListenerException.class)
+	public void testHeaderWithTransactions() {
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1)));
+		byte[] bytes = new HeadersMessage(Arrays.asList(block.getHeader())).getBytes();
+		bytes[bytes.length - 1] = 1;
+		new HeadersMessage().loadFromBuffer(new BitcoinBuffer(bytes));
+	}
+}
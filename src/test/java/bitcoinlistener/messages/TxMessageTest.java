@@ -18,22 +18,19 @@ import bitcoinlistener.datatypes.TxIn;
 import bitcoinlistener.datatypes.TxOut;
 import bitcoinlistener.util.ByteUtil;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
 public class TxMessageTest {
+
+	private static final String TX1 = "0x1 0x0 0x0 0x0 0x1 0x7 0x8d 0x59 0x9 0x41 0xcc 0x46 0xb5 0xf7 0x89 0xf0 0xd 0x50 0x0 0x86 0xaa 0xc 0x34 0x40 0xbd 0x75 0x8 0x52 0x17 0xf4 0x9c 0x15 0x8f 0x7d 0x24 0xb5 0x95 0x3 0x0 0x0 0x0 0x6b 0x48 0x30 0x45 0x2 0x21 0x0 0x9d 0x57 0xb2 0x5d 0xf7 0x2a 0xf9 0x85 0x82 0x1c 0xff 0xc1 0x5a 0xde 0x36 0xb7 0x2b 0xad 0x38 0x55 0xcc 0x4b 0xa7 0xb3 0x4a 0x3d 0xa3 0x6d 0x48 0x64 0xdc 0x64 0x2 0x20 0x3 0x93 0xe3 0xed 0x36 0xd3 0x89 0xf2 0x4b 0xc7 0xa3 0xfb 0xe9 0x9a 0x53 0x61 0x44 0x53 0x1f 0xd5 0x64 0x91 0xec 0xf9 0x79 0xdb 0xc9 0x9a 0xcd 0xf6 0x25 0x4f 0x1 0x21 0x2 0xf3 0x9a 0x63 0x6b 0x5d 0xb4 0x27 0xe5 0x65 0x3b 0x4b 0xd1 0x21 0xbe 0x31 0x1a 0x20 0x1d 0xb8 0xb8 0x11 0xd2 0x7e 0x4f 0x68 0x82 0x47 0x38 0xd4 0x95 0x12 0x55 0xfd 0xff 0xff 0xff 0x4 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x53 0x6a 0x4c 0x50 0x58 0x33 0x5b 0xc7 0x8d 0xb6 0xa8 0xad 0x86 0x55 0x10 0x54 0xf5 0x67 0xf 0x59 0x46 0x9a 0xf 0x29 0xdb 0xc4 0x1e 0x84 0xdf 0x4a 0x83 0xfa 0x4d 0xca 0xb5 0x14 0x58 0xb2 0x12 0x73 0x2c 0xd6 0x86 0xf3 0x67 0xa2 0xbc 0x70 0x12 0xc4 0xb3 0x9d 0x1c 0xca 0x6b 0x2c 0x94 0x44 0xa6 0x88 0x67 0x62 0x8 0x6e 0x14 0xb2 0xb7 0x4 0x4e 0x43 0x2f 0x0 0x1d 0x14 0xd8 0x0 0x13 0x0 0x1d 0x8 0xbc 0x0 0x65 0x1 0x10 0x27 0x0 0x0 0x0 0x0 0x0 0x0 0x19 0x76 0xa9 0x14 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x88 0xac 0x10 0x27 0x0 0x0 0x0 0x0 0x0 0x0 0x19 0x76 0xa9 0x14 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x88 0xac 0xd1 0x79 0x60 0x1 0x0 0x0 0x0 0x0 0x19 0x76 0xa9 0x14 0x1 0xb7 0x92 0x58 0x5c 0x31 0xf 0x4 0x30 0x1c 0x73 0x3a 0x97 0x51 0x55 0x5e 0x1f 0x26 0xb4 0x1d 0x88 0xac 0x0 0x0 0x0 0x0";
 	
 	@Test
 	public void testTx1() {
-		String msg = "0x1 0x0 0x0 0x0 0x1 0x7 0x8d 0x59 0x9 0x41 0xcc 0x46 0xb5 0xf7 0x89 0xf0 0xd 0x50 0x0 0x86 0xaa 0xc 0x34 0x40 0xbd 0x75 0x8 0x52 0x17 0xf4 0x9c 0x15 0x8f 0x7d 0x24 0xb5 0x95 0x3 0x0 0x0 0x0 0x6b 0x48 0x30 0x45 0x2 0x21 0x0 0x9d 0x57 0xb2 0x5d 0xf7 0x2a 0xf9 0x85 0x82 0x1c 0xff 0xc1 0x5a 0xde 0x36 0xb7 0x2b 0xad 0x38 0x55 0xcc 0x4b 0xa7 0xb3 0x4a 0x3d 0xa3 0x6d 0x48 0x64 0xdc 0x64 0x2 0x20 0x3 0x93 0xe3 0xed 0x36 0xd3 0x89 0xf2 0x4b 0xc7 0xa3 0xfb 0xe9 0x9a 0x53 0x61 0x44 0x53 0x1f 0xd5 0x64 0x91 0xec 0xf9 0x79 0xdb 0xc9 0x9a 0xcd 0xf6 0x25 0x4f 0x1 0x21 0x2 0xf3 0x9a 0x63 0x6b 0x5d 0xb4 0x27 0xe5 0x65 0x3b 0x4b 0xd1 0x21 0xbe 0x31 0x1a 0x20 0x1d 0xb8 0xb8 0x11 0xd2 0x7e 0x4f 0x68 0x82 0x47 0x38 0xd4 0x95 0x12 0x55 0xfd 0xff 0xff 0xff 0x4 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x53 0x6a 0x4c 0x50 0x58 0x33 0x5b 0xc7 0x8d 0xb6 0xa8 0xad 0x86 0x55 0x10 0x54 0xf5 0x67 0xf 0x59 0x46 0x9a 0xf 0x29 0xdb 0xc4 0x1e 0x84 0xdf 0x4a 0x83 0xfa 0x4d 0xca 0xb5 0x14 0x58 0xb2 0x12 0x73 0x2c 0xd6 0x86 0xf3 0x67 0xa2 0xbc 0x70 0x12 0xc4 0xb3 0x9d 0x1c 0xca 0x6b 0x2c 0x94 0x44 0xa6 0x88 0x67 0x62 0x8 0x6e 0x14 0xb2 0xb7 0x4 0x4e 0x43 0x2f 0x0 0x1d 0x14 0xd8 0x0 0x13 0x0 0x1d 0x8 0xbc 0x0 0x65 0x1 0x10 0x27 0x0 0x0 0x0 0x0 0x0 0x0 0x19 0x76 0xa9 0x14 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x88 0xac 0x10 0x27 0x0 0x0 0x0 0x0 0x0 0x0 0x19 0x76 0xa9 0x14 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x0 0x88 0xac 0xd1 0x79 0x60 0x1 0x0 0x0 0x0 0x0 0x19 0x76 0xa9 0x14 0x1 0xb7 0x92 0x58 0x5c 0x31 0xf 0x4 0x30 0x1c 0x73 0x3a 0x97 0x51 0x55 0x5e 0x1f 0x26 0xb4 0x1d 0x88 0xac 0x0 0x0 0x0 0x0";
-		msg = msg.replaceAll("0x", "").trim();
-		String[] arr = msg.split(" ");
-		byte[] aaa = new byte[arr.length];
+		byte[] aaa = parseBytes(TX1);
 		System.out.println("SIZE TX: " + aaa.length);
-		
-		
-		int x = 0;
-		for (String string : arr) {
-			int decimal = Integer.parseInt(string,16);
-			aaa[x++] = (byte) decimal;
-		}
 		System.out.println(Arrays.toString(aaa));
 		System.out.println("TRANSACTION: " + ByteUtil.byteArrayToStr(aaa));
 		
@@ -54,4 +51,65 @@ public class TxMessageTest {
 		System.out.println("SERIALIZED: " + ByteUtil.bytesToHex(rr));
 
 	}
+
+	@Test
+	public void testView() {
+		byte[] tx = parseBytes(TX1);
+		// transaction in the middle of a larger array, as inside a block
+		byte[] data = new byte[tx.length + 10];
+		System.arraycopy(tx, 0, data, 5, tx.length);
+
+		BitcoinBuffer buffer = new BitcoinBuffer(data);
+		buffer.setPosition(5);
+		TxMessage msg = new TxMessage();
+		msg.loadFromBuffer(buffer);
+		assertEquals(5 + tx.length, buffer.getPosition());
+
+		TxView view = msg.getView();
+		assertSame(data, view.getData());
+		assertEquals(5, view.getOffset());
+		assertEquals(tx.length, view.getLength());
+		assertEquals(1, view.getVersion());
+		assertEquals(0, view.getLockTime());
+		assertEquals(1, view.getInputCount());
+		assertEquals(4, view.getOutputCount());
+		assertArrayEquals(tx, msg.getBytes());
+
+		TxIn in = msg.getTxInList().get(0);
+		assertEquals(in.getPreviousOutput().getIndex(), view.getInputPrevIndex(0));
+		assertEquals(in.getSequence(), view.getInputSequence(0));
+		assertArrayEquals(in.getSignatureScript(),
+				ByteUtil.slice(data, view.getInputScriptOffset(0), view.getInputScriptLength(0)));
+		assertEquals(in.getPreviousOutput().getHash(), view.getInputPrevHash(0));
+		assertTrue(view.getInputPrevHash(0).equals(data, view.getInputPrevHashOffset(0)));
+
+		List<TxOut> outs = msg.getTxOutList();
+		for (int x = 0; x < outs.size(); x++) {
+			assertEquals(outs.get(x).getValue(), view.getOutputValue(x));
+			assertArrayEquals(outs.get(x).getPkScript(), ByteUtil.slice(data,
+					view.getOutputScriptOffset(x), view.getOutputScriptLength(x)));
+		}
+		assertEquals(10000, view.getOutputValue(1));
+
+		// serialized again from the decoded objects
+		assertArrayEquals(tx, msg.getBytes());
+		assertEquals(msg.getHash(), parse(tx).getHash());
+		assertSame(msg.getTxId(), msg.getTxId());
+		assertEquals(msg.getHash(), msg.getTxId().getHashAsStr());
+	}
+
+	private static TxMessage parse(byte[] data) {
+		TxMessage tx = new TxMessage();
+		tx.loadFromBuffer(new BitcoinBuffer(data));
+		return tx;
+	}
+
+	private static byte[] parseBytes(String msg) {
+		String[] arr = msg.replaceAll("0x", "").trim().split(" ");
+		byte[] bytes = new byte[arr.length];
+		for (int x = 0; x < arr.length; x++) {
+			bytes[x] = (byte) Integer.parseInt(arr[x], 16);
+		}
+		return bytes;
+	}
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ByteUtilTest {
+
+	private static final byte[] DATA = {0x00, 0x01, 0x7f, (byte) 0x80, (byte) 0xab, (byte) 0xff};
+
+	@Test
+	public void testToHex() {
+		assertEquals("00017f80abff", ByteUtil.byteArrayToStr(DATA));
+		assertEquals("00017f80abff", ByteUtil.bytesToHex(DATA));
+		assertEquals("7f80ab", ByteUtil.toHex(DATA, 2, 3, false));
+		assertEquals("ab807f", ByteUtil.toHex(DATA, 2, 3, true));
+		assertEquals("", ByteUtil.toHex(DATA, 6, 0, true));
+
+		char[] chars = new char[8];
+		ByteUtil.encodeHex(DATA, 4, 2, true, chars, 2);
+		assertEquals("\0\0ffab\0\0", new String(chars));
+	}
+
+	@Test
+	public void testFromHex() {
+		assertArrayEquals(DATA, ByteUtil.hexStringToByteArray("00017f80abff"));
+		assertArrayEquals(DATA, ByteUtil.fromHex("00017F80ABFF", false));
+		assertArrayEquals(ByteUtil.getInvertedArray(DATA), ByteUtil.fromHex("00017f80abff", true));
+
+		byte[] dest = new byte[4];
+		ByteUtil.decodeHex("xx7f80", 2, 4, true, dest, 1);
+		assertArrayEquals(new byte[] {0, (byte) 0x80, 0x7f, 0}, dest);
+	}
+
+	@Test
+	public void testRoundTrip() {
+		// the same as the previous implementation based on String.format
+		byte[] data = new byte[1000];
+		new Random(1).nextBytes(data);
+		StringBuilder expected = new StringBuilder();
+		for (byte b : data) {
+			expected.append(String.format("%02x", b));
+		}
+		assertEquals(expected.toString(), ByteUtil.byteArrayToStr(data));
+		assertArrayEquals(data, ByteUtil.hexStringToByteArray(expected.toString()));
+	}
+
+	@Test
+	public void testInvalidHex() {
+		assertInvalid("abc");
+		assertInvalid("0g");
+		assertInvalid("é01");
+	}
+
+	private static void assertInvalid(String hex) {
+		try {
+			ByteUtil.fromHex(hex, false);
+			fail("Accepted: " + hex);
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+}
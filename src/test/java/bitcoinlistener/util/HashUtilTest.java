@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.util;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class HashUtilTest {
+
+	private static final byte[] HELLO = "hello".getBytes(StandardCharsets.US_ASCII);
+	private static final String HELLO_SHA256 =
+			"2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+	private static final String HELLO_DOUBLE_SHA256 =
+			"9595c9df90075148eb06860365df33584b75bff782a510c6cd4883a419833d50";
+
+	@Test
+	public void testSha256() {
+		assertEquals(HELLO_SHA256, ByteUtil.byteArrayToStr(HashUtil.sha256(HELLO)));
+		assertEquals(HELLO_SHA256, ByteUtil.byteArrayToStr(
+				HashUtil.sha256("he".getBytes(), "llo".getBytes())));
+	}
+
+	@Test
+	public void testDoubleSha256Range() {
+		byte[] data = "xxhelloyy".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(HELLO_DOUBLE_SHA256,
+					 ByteUtil.byteArrayToStr(HashUtil.doubleSha256(data, 2, 5)));
+
+		byte[] out = new byte[40];
+		HashUtil.doubleSha256(data, 2, 5, out, 8);
+		assertEquals(HELLO_DOUBLE_SHA256, ByteUtil.byteArrayToStr(ByteUtil.slice(out, 8, 32)));
+	}
+
+	@Test
+	public void testDoubleSha256TwoParts() {
+		byte[] left = HashUtil.sha256(HELLO);
+		byte[] right = HashUtil.sha256(left);
+		byte[] both = new byte[64];
+		System.arraycopy(left, 0, both, 0, 32);
+		System.arraycopy(right, 0, both, 32, 32);
+		byte[] expected = HashUtil.sha256(HashUtil.sha256(both));
+
+		assertArrayEquals(expected, HashUtil.doubleSha256(left, right));
+
+		// merkle nodes are hashed in place, over the left child
+		HashUtil.doubleSha256(both, 0, 32, both, 32, 32, both, 0);
+		assertArrayEquals(expected, ByteUtil.slice(both, 0, 32));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testOutputTooSmall() {
+		HashUtil.doubleSha256(HELLO, 0, HELLO.length, new byte[40], 10);
+	}
+
+	@Test
+	public void testDigestUsableAfterError() {
+		try {
+			HashUtil.doubleSha256(HELLO, 0, HELLO.length, new byte[16], 0);
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		assertEquals(HELLO_SHA256, ByteUtil.byteArrayToStr(HashUtil.sha256(HELLO)));
+	}
+}
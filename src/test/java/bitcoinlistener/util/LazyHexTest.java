@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LazyHexTest {
+
+	private static final byte[] DATA = {0x00, 0x01, (byte) 0xab, (byte) 0xff, 0x10};
+
+	@Test
+	public void testRange() {
+		assertEquals("0001abff10", LazyHex.of(DATA).toString());
+		assertEquals("abff", LazyHex.of(DATA, 2, 2).toString());
+		assertEquals("", LazyHex.of(DATA, 5, 0).toString());
+	}
+
+	@Test
+	public void testTruncated() {
+		assertEquals("0001ab... (5 bytes)", LazyHex.of(DATA, 0, 5, 3).toString());
+		assertEquals("01abff10", LazyHex.of(DATA, 1, 4, 4).toString());
+		assertEquals("... (5 bytes)", LazyHex.of(DATA, 0, 5, 0).toString());
+	}
+
+	@Test
+	public void testFormattedOnDemand() {
+		byte[] data = {0x01};
+		LazyHex hex = LazyHex.of(data);
+		data[0] = 0x02; // nothing is copied until the message is written
+		assertEquals("02", hex.toString());
+	}
+}
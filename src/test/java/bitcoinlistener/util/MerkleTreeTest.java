@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.util;
+
+import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.datatypes.SHA256Hash;
+import bitcoinlistener.messages.BlockMessage;
+import bitcoinlistener.messages.BlockMessageTest;
+import bitcoinlistener.messages.TxIdTable;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MerkleTreeTest {
+
+	@Test
+	public void testBranches() {
+		BlockMessage block = loadBlock();
+		TxIdTable txIds = block.getTxIds();
+		MerkleTree tree = txIds.buildMerkleTree();
+
+		assertEquals(110, tree.getLeafCount());
+		assertEquals(7, tree.getHeight());
+		assertEquals(block.getMerkleRoot(), tree.getMerkleRoot());
+
+		for (int x = 0; x < txIds.size(); x++) {
+			MerkleBranch branch = tree.getBranch(x);
+			assertEquals(x, branch.getIndex());
+			assertEquals(7, branch.getSize());
+			assertEquals(txIds.get(x), branch.getTxId());
+			assertEquals(block.getMerkleRoot(), branch.computeMerkleRoot());
+		}
+	}
+
+	@Test
+	public void testPartialMerkleTree() {
+		BlockMessage block = loadBlock();
+		TxIdTable txIds = block.getTxIds();
+		List<SHA256Hash> wanted = Arrays.asList(txIds.get(0), txIds.get(37), txIds.get(109));
+
+		PartialMerkleTree pmt = txIds.buildPartialMerkleTree(wanted);
+		assertEquals(110, pmt.getTotalTransactions());
+		pmt.build();
+		assertEquals(block.getMerkleRoot(), pmt.getMerkleRoot());
+		assertEquals(wanted, pmt.getMatchedTxIds());
+
+		// nothing matched: only the root
+		PartialMerkleTree none = txIds.buildMerkleTree().getPartialMerkleTree(new boolean[110]);
+		assertEquals(1, none.getHashes().size());
+		assertEquals(1, none.getFlags().length);
+		none.build();
+		assertEquals(block.getMerkleRoot(), none.getMerkleRoot());
+		assertTrue(none.getMatchedTxIds().isEmpty());
+	}
+
+	@Test
+	public void testLargeTree() {
+		byte[] leaves = new byte[4001 * 32];
+		new Random(1).nextBytes(leaves);
+		boolean[] matches = new boolean[4001];
+		for (int x = 0; x < matches.length; x += 3) {
+			matches[x] = true;
+		}
+
+		long start = System.nanoTime();
+		MerkleTree tree = new MerkleTree(leaves, 4001);
+		PartialMerkleTree pmt = tree.getPartialMerkleTree(matches);
+		System.out.println("Merkle tree and partial tree (4001 txs, 1334 matched): " +
+						   (System.nanoTime() - start) / 1000 + " us");
+
+		pmt.build();
+		assertEquals(tree.getMerkleRoot(), pmt.getMerkleRoot());
+		assertEquals(1334, pmt.getMatchedTxIds().size());
+		assertEquals(tree.getBranch(3999).getTxId(), pmt.getMatchedTxIds().get(1333));
+		assertEquals(tree.getMerkleRoot(), tree.getBranch(4000).computeMerkleRoot());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWrongMatchCount() {
+		new MerkleTree(new byte[64], 2).getPartialMerkleTree(new boolean[3]);
+	}
+
+	private static BlockMessage loadBlock() {
+		BlockMessage block = new BlockMessage();
+		block.loadFromBuffer(new BitcoinBuffer(BlockMessageTest.parseBytes(BlockMessageTest.BLOCK1)));
+		return block;
+	}
+}
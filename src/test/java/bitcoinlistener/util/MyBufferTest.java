@@ -8,14 +8,17 @@
 
 package bitcoinlistener.util;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import java.math.BigInteger;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 
 import org.junit.Test;
 
 import bitcoinlistener.BitcoinBuffer;
+import bitcoinlistener.BitcoinListenerException;
 
 public class MyBufferTest {
 
@@ -98,4 +101,84 @@ public class MyBufferTest {
 		assertEquals(exp, b.getBoolean());
 	}
 
+	@Test
+	public void testVarIntBoundaries() {
+		long[] values = { 0, 1, 0xFC, 0xFD, 0xFFFF, 0x10000, 0xFFFFFFFFL, 0x100000000L,
+						  Long.MAX_VALUE };
+		int[] sizes = { 1, 1, 1, 3, 3, 5, 5, 9, 9 };
+		for (int x = 0; x < values.length; x++) {
+			BitcoinBuffer b = new BitcoinBuffer(1);
+			b.putVarInt(values[x]);
+			assertEquals(sizes[x], b.getPosition());
+
+			b.setPosition(0);
+			assertEquals(values[x], b.getVarIntAsLong());
+			assertEquals(sizes[x], b.getPosition());
+		}
+	}
+
+	@Test
+	public void testVarIntIndependentOfEndianness() {
+		BitcoinBuffer b = new BitcoinBuffer(10);
+		b.setEndianness(ByteOrder.BIG_ENDIAN);
+		b.putVarInt(0x1234);
+		assertArrayEquals(new byte[] { (byte) 0xFD, 0x34, 0x12 }, b.toArrayExactSize());
+		b.setPosition(0);
+		assertEquals(0x1234, b.getVarIntAsLong());
+	}
+
+	@Test(expected = BitcoinListenerException.class)
+	public void testVarIntNonCanonical() {
+		// 0xFC must be encoded in a single byte
+		new BitcoinBuffer(new byte[] { (byte) 0xFD, (byte) 0xFC, 0x00 }).getVarIntAsLong();
+	}
+
+	@Test(expected = BitcoinListenerException.class)
+	public void testVarIntNonCanonical64() {
+		new BitcoinBuffer(new byte[] { (byte) 0xFF, 1, 0, 0, 0, 0, 0, 0, 0 }).getVarIntAsLong();
+	}
+
+	@Test(expected = BitcoinListenerException.class)
+	public void testVarIntTooLarge() {
+		new BitcoinBuffer(new byte[] { (byte) 0xFF, 0, 0, 0, 0, 0, 0, 0, (byte) 0x80 })
+				.getVarIntAsLong();
+	}
+
+	@Test(expected = BitcoinListenerException.class)
+	public void testVarIntLengthExceedsRemaining() {
+		// claims 0x1000 bytes but only 2 follow
+		new BitcoinBuffer(new byte[] { (byte) 0xFD, 0x00, 0x10, 1, 2 }).getVarIntAsLength();
+	}
+
+	@Test
+	public void testLittleEndianAccessors() {
+		for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+			BitcoinBuffer b = new BitcoinBuffer(1);
+			b.setEndianness(order);
+			b.putInt32LE(-2);
+			b.putUint32LE(0xFFFFFFF0L);
+			b.putInt64LE(Long.MIN_VALUE + 5);
+			b.putUint16BE(8333);
+
+			byte[] arr = b.toArrayExactSize();
+			assertArrayEquals(new byte[] { (byte) 0xFE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF },
+							  Arrays.copyOfRange(arr, 0, 4));
+			assertArrayEquals(new byte[] { 0x20, (byte) 0x8D }, Arrays.copyOfRange(arr, 16, 18));
+
+			b.setPosition(0);
+			assertEquals(-2, b.getInt32LE());
+			assertEquals(0xFFFFFFF0L, b.getUint32LE());
+			assertEquals(Long.MIN_VALUE + 5, b.getUint64LE());
+			assertEquals(8333, b.getUint16BE());
+			assertEquals(order, b.getEndianness());
+		}
+	}
+
+	@Test
+	public void testUint64AboveLongMax() {
+		BitcoinBuffer b = new BitcoinBuffer(new byte[] { 1, 0, 0, 0, 0, 0, 0, (byte) 0x80 });
+		b.setEndianness(ByteOrder.LITTLE_ENDIAN);
+		assertEquals(BigInteger.ONE.shiftLeft(63).add(BigInteger.ONE), b.getUint64());
+	}
+
 }
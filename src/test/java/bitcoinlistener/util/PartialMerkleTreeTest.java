@@ -11,12 +11,15 @@ package bitcoinlistener.util;
 import bitcoinlistener.datatypes.SHA256Hash;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class PartialMerkleTreeTest {
 
@@ -102,19 +105,122 @@ public class PartialMerkleTreeTest {
 	}
 
 
+	@Test
+	public void testLargeBlock() {
+		// 4000 transactions, one in three matched
+		Random rnd = new Random(1);
+		List<byte[]> txIds = new ArrayList<>();
+		boolean[] matches = new boolean[4000];
+		for (int x = 0; x < matches.length; x++) {
+			byte[] txId = new byte[32];
+			rnd.nextBytes(txId);
+			txIds.add(txId);
+			matches[x] = (x % 3 == 0);
+		}
+		List<SHA256Hash> hashes = new ArrayList<>();
+		List<Boolean> flags = new ArrayList<>();
+		int height = 12; // 2^12 >= 4000
+		byte[] root = traverseAndBuild(height, 0, txIds, matches, hashes, flags);
+
+		PartialMerkleTree pmt = new PartialMerkleTree(hashes, txIds.size(), flags);
+		long start = System.nanoTime();
+		pmt.build();
+		System.out.println("Partial merkle tree (4000 txs, " + hashes.size() + " hashes): " +
+						   (System.nanoTime() - start) / 1000 + " us");
+
+		assertEquals(ByteUtil.byteArrayToStr(ByteUtil.getInvertedArray(root)),
+					 pmt.getMerkleRoot().getHashAsStr());
+		assertEquals(1334, pmt.getMatchedTxIds().size());
+		assertEquals(ByteUtil.byteArrayToStr(ByteUtil.getInvertedArray(txIds.get(3))),
+					 pmt.getMatchedTxIds().get(1).getHashAsStr());
+	}
+
+	@Test
+	public void testValidationErrors() {
+		List<String> hashes = Arrays.asList(
+				"3612262624047ee87660be1a707519a443b1c1ce3d248cbfc6c15870f6c5daa2",
+				"019f5b01d4195ecbc9398fbf3c3b1fa9bb3183301d7a1fb3bd174fcfa40a2b65");
+		// unused hash
+		assertBuildFails("invalid", new Integer[] {0}, hashes, 2);
+		// flag set after the traversal
+		assertBuildFails("remaining flags", new Integer[] {1, 0, 0, 1}, hashes, 2);
+		// traversal needs more flags (flags come in whole bytes)
+		assertBuildFails("not enough flags", new Integer[] {}, hashes, 2);
+		// traversal needs more hashes
+		assertBuildFails("not enough hashes", new Integer[] {1, 0, 0}, hashes.subList(0, 1), 2);
+		// identical children
+		assertBuildFails("Invalid merkle tree. Left = Right", new Integer[] {1, 0, 0},
+						 Arrays.asList(hashes.get(0), hashes.get(0)), 2);
+	}
+
+	private static void assertBuildFails(String message, Integer[] flagList, List<String> hashesList,
+										 int totalTransactions) {
+		try {
+			testMerkleRoot("", flagList, hashesList, totalTransactions);
+			fail("Expected: " + message);
+		} catch (RuntimeException e) {
+			assertEquals(message, e.getMessage());
+		}
+	}
+
+	/**
+	 * Builds the partial merkle tree of the matched transactions (BIP 37).
+	 *
+	 * @return hash of the node
+	 */
+	private static byte[] traverseAndBuild(int height, int pos, List<byte[]> txIds,
+										   boolean[] matches, List<SHA256Hash> hashes,
+										   List<Boolean> flags) {
+		boolean parentOfMatch = false;
+		for (int p = pos << height; p < (pos + 1) << height && p < txIds.size(); p++) {
+			parentOfMatch |= matches[p];
+		}
+		flags.add(parentOfMatch);
+		int flagIndex = flags.size() - 1;
+		if (height == 0 || !parentOfMatch) {
+			byte[] hash = calcHash(height, pos, txIds);
+			hashes.add(SHA256Hash.fromBytes(hash));
+			return hash;
+		}
+		byte[] left = traverseAndBuild(height - 1, pos * 2, txIds, matches, hashes, flags);
+		byte[] right = left;
+		if (pos * 2 + 1 < width(height - 1, txIds.size())) {
+			right = traverseAndBuild(height - 1, pos * 2 + 1, txIds, matches, hashes, flags);
+		}
+		assertTrue(flags.get(flagIndex));
+		return HashUtil.doubleSha256(left, right);
+	}
+
+	private static byte[] calcHash(int height, int pos, List<byte[]> txIds) {
+		if (height == 0) {
+			return txIds.get(pos);
+		}
+		byte[] left = calcHash(height - 1, pos * 2, txIds);
+		byte[] right = left;
+		if (pos * 2 + 1 < width(height - 1, txIds.size())) {
+			right = calcHash(height - 1, pos * 2 + 1, txIds);
+		}
+		return HashUtil.doubleSha256(left, right);
+	}
+
+	private static int width(int height, int total) {
+		return (total + (1 << height) - 1) >> height;
+	}
+
 	private static PartialMerkleTree testMerkleRoot(String merkleRootExpected, Integer[] flagList,
 													List<String> hashesList,
 													int totalTransactions) {
 		List<Boolean> flags = Arrays.asList(flagList).stream().map(x -> x == 1).collect(
 				Collectors.toList());
 		List<SHA256Hash> hashes = hashesList.stream().map(
-				x -> new SHA256Hash(ByteUtil.hexStringToByteArray(x))).collect(
+				x -> SHA256Hash.fromBytes(ByteUtil.hexStringToByteArray(x))).collect(
 				Collectors.toList());
 
 		PartialMerkleTree m = new PartialMerkleTree(hashes, totalTransactions, flags);
 		m.build();
 
-		assertEquals(merkleRootExpected, m.getMerkleRoot().getInverted().getHashAsStr());
+		// expected root in internal byte order
+		assertEquals(merkleRootExpected, ByteUtil.byteArrayToStr(m.getMerkleRoot().getBytes()));
 		return m;
 	}
 }
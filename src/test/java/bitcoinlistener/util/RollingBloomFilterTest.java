@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.util;
+
+import bitcoinlistener.datatypes.SHA256Hash;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RollingBloomFilterTest {
+
+	@Test
+	public void testRemembersLastEntries() {
+		RollingBloomFilter filter = new RollingBloomFilter(1000, 0.0001);
+		SHA256Hash[] hashes = randomHashes(10000, 1);
+		int added = 0;
+		for (SHA256Hash hash : hashes) {
+			if (filter.add(hash)) {
+				added++;
+			}
+		}
+		// the nonce is random: a few false positives are possible
+		assertTrue("added: " + added, added > 9990);
+		for (int x = hashes.length - 1000; x < hashes.length; x++) {
+			assertTrue(filter.contains(hashes[x]));
+		}
+		assertEquals(added, filter.getMisses());
+		assertEquals(10000 - added + 1000, filter.getHits());
+
+		// the oldest ones were discarded (apart from false positives)
+		int found = 0;
+		for (int x = 0; x < 1000; x++) {
+			if (filter.contains(hashes[x])) {
+				found++;
+			}
+		}
+		assertTrue(found < 5);
+	}
+
+	@Test
+	public void testFalsePositiveRate() {
+		RollingBloomFilter filter = new RollingBloomFilter(2000, 0.001);
+		for (SHA256Hash hash : randomHashes(5000, 2)) {
+			filter.insert(hash);
+		}
+		int found = 0;
+		for (SHA256Hash hash : randomHashes(100000, 3)) {
+			if (filter.contains(hash)) {
+				found++;
+			}
+		}
+		// 0.1% expected
+		assertTrue("false positives: " + found, found < 200);
+		assertEquals(100000, filter.getHits() + filter.getMisses());
+	}
+
+	@Test
+	public void testFixedSize() {
+		RollingBloomFilter filter = new RollingBloomFilter(20000, 0.00001);
+		// three generations of 10000 entries at 1/300000
+		assertTrue(filter.getSizeInBytes() > 3 * 10000 * 3);
+		assertTrue(filter.getSizeInBytes() < 3 * 10000 * 4);
+
+		SHA256Hash hash = SHA256Hash.fromHex(
+				"6fe28c0ab6f1b372c1a6a246ae63f74f931e8365e15a089c68d6190000000000");
+		filter.insert(hash);
+		assertTrue(filter.contains(hash));
+		filter.clear();
+		assertFalse(filter.contains(hash));
+	}
+
+	private static SHA256Hash[] randomHashes(int n, long seed) {
+		Random random = new Random(seed);
+		SHA256Hash[] hashes = new SHA256Hash[n];
+		byte[] bytes = new byte[SHA256Hash.LENGTH];
+		for (int x = 0; x < n; x++) {
+			random.nextBytes(bytes);
+			hashes[x] = SHA256Hash.fromBytes(bytes);
+		}
+		return hashes;
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021, Henrique Teófilo
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+
+package bitcoinlistener.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SipHashTest {
+
+	/** Key 00 01 02 ... 0f of the reference vectors */
+	private static final long K0 = 0x0706050403020100L;
+	private static final long K1 = 0x0f0e0d0c0b0a0908L;
+
+	@Test
+	public void testReferenceVectors() {
+		byte[] data = new byte[64];
+		for (int x = 0; x < data.length; x++) {
+			data[x] = (byte) x;
+		}
+		assertEquals(0x726fdb47dd0e0e31L, SipHash.hash24(K0, K1, data, 0, 0));
+		assertEquals(0x74f839c593dc67fdL, SipHash.hash24(K0, K1, data, 0, 1));
+		assertEquals(0x93f5f5799a932462L, SipHash.hash24(K0, K1, data, 0, 8));
+		assertEquals(0xa129ca6149be45e5L, SipHash.hash24(K0, K1, data, 0, 15));
+	}
+
+	@Test
+	public void testOffset() {
+		byte[] data = new byte[40];
+		for (int x = 0; x < 32; x++) {
+			data[x + 8] = (byte) (x * 7);
+		}
+		byte[] copy = new byte[32];
+		System.arraycopy(data, 8, copy, 0, 32);
+		assertEquals(SipHash.hash24(K0, K1, copy, 0, 32), SipHash.hash24(K0, K1, data, 8, 32));
+	}
+}